@@ -18,8 +18,8 @@ import org.junit.runners.Suite;
 import org.junit.runners.Suite.SuiteClasses;
 
 @RunWith(Suite.class)
-@SuiteClasses({ ConnectionTests.class, GeometryNodeTests.class, GeometryConversionTests.class,
-		OrthogonalProjectionStrategyTests.class, NodeUtilsTests.class, FXCanvasExTests.class, TraverseTests.class})
+@SuiteClasses({ ConnectionTests.class, DynamicAnchorTests.class, GeometryNodeTests.class, GeometryConversionTests.class, LevelOfDetailTests.class,
+		OrthogonalProjectionStrategyTests.class, OrthogonalVisibilityGraphTests.class, NodeUtilsTests.class, FXCanvasExTests.class, TraverseTests.class})
 public class AllTests {
 
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2014, 2017 itemis AG and others.
+ * Copyright (c) 2014, 2026 itemis AG and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -14,6 +14,9 @@
 package org.eclipse.gef.fx.tests;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 
 import java.util.Arrays;
 import java.util.List;
@@ -22,10 +25,15 @@ import org.eclipse.gef.fx.anchors.IAnchor;
 import org.eclipse.gef.fx.anchors.StaticAnchor;
 import org.eclipse.gef.fx.nodes.Connection;
 import org.eclipse.gef.fx.nodes.GeometryNode;
+import org.eclipse.gef.fx.nodes.PolyBezierInterpolator;
 import org.eclipse.gef.geometry.planar.ICurve;
 import org.eclipse.gef.geometry.planar.Point;
+import org.eclipse.gef.geometry.planar.PolyBezier;
+import org.eclipse.gef.geometry.planar.Polyline;
 import org.junit.Test;
 
+import javafx.scene.shape.Polygon;
+
 public class ConnectionTests {
 
 	@Test
@@ -97,6 +105,101 @@ public class ConnectionTests {
 		assertEquals(2, connection.getControlPoints().size());
 	}
 
+	@Test
+	public void deferredRefresh() {
+		Connection connection = new Connection();
+		connection.setDeferredRefresh(true);
+		connection.resetRefreshCounters();
+
+		// changes are coalesced into a single refresh
+		connection.setStartPoint(new Point(10, 10));
+		connection.addControlPoint(0, new Point(50, 10));
+		connection.setEndPoint(new Point(100, 100));
+		assertEquals(3, connection.getRefreshRequestCount());
+		assertEquals(0, connection.getRefreshCount());
+		assertEquals(new Point(10, 10), connection.getStartPoint());
+		assertEquals(1, connection.getRefreshCount());
+		assertEquals(1, connection.getRoutingCount());
+		assertEquals(1, connection.getInterpolationCount());
+		assertEquals(new Point(50, 10), connection.getControlPoint(0));
+		assertEquals(new Point(100, 100), connection.getEndPoint());
+		assertEquals(1, connection.getRefreshCount());
+
+		// disabling deferred refresh performs a pending refresh
+		connection.setEndPoint(new Point(200, 100));
+		connection.setDeferredRefresh(false);
+		assertEquals(2, connection.getRefreshCount());
+		connection.setEndPoint(new Point(200, 200));
+		assertEquals(3, connection.getRefreshCount());
+	}
+
+	@Test
+	public void reducedDetail() {
+		Connection connection = new Connection();
+		connection.setInterpolator(new PolyBezierInterpolator());
+		connection.setStartPoint(new Point(10, 10));
+		connection.addControlPoint(0, new Point(50, 80));
+		connection.setEndPoint(new Point(100, 100));
+		Polygon decoration = new Polygon(0, 0, 10, 5, 0, 10);
+		connection.setEndDecoration(decoration);
+		GeometryNode<?> curve = (GeometryNode<?>) connection.getCurve();
+		assertTrue(curve.getGeometry() instanceof PolyBezier);
+		assertTrue(connection.getChildren().contains(decoration));
+
+		// straight lines without decorations
+		connection.setReducedDetail(true);
+		assertTrue(curve.getGeometry() instanceof Polyline);
+		assertEquals(3, ((Polyline) curve.getGeometry()).getPoints().length);
+		assertFalse(connection.getChildren().contains(decoration));
+		assertNull(curve.getClip());
+		assertEquals(new Point(50, 80), connection.getControlPoint(0));
+
+		connection.setReducedDetail(false);
+		assertTrue(curve.getGeometry() instanceof PolyBezier);
+		assertTrue(connection.getChildren().contains(decoration));
+	}
+
+	@Test
+	public void refreshSkipsRoutingForUnchangedPoints() {
+		Connection connection = new Connection();
+		connection.setStartPoint(new Point(10, 10));
+		connection.setEndPoint(new Point(100, 100));
+		Polygon decoration = new Polygon(0, 0, 10, 5, 0, 10);
+		connection.setEndDecoration(decoration);
+		assertTrue(connection.getChildren().contains(decoration));
+		connection.resetRefreshCounters();
+
+		// a change of the decoration only requires an interpolation
+		decoration.getPoints().setAll(0d, 0d, 20d, 5d, 0d, 10d);
+		assertEquals(1, connection.getRefreshCount());
+		assertEquals(0, connection.getRoutingCount());
+		assertEquals(1, connection.getInterpolationCount());
+		assertEquals(new Point(100, 100), connection.getEndPoint());
+	}
+
+	@Test
+	public void invalidateRouting() {
+		Connection connection = new Connection();
+		connection.setStartPoint(new Point(10, 10));
+		connection.setEndPoint(new Point(100, 100));
+		connection.resetRefreshCounters();
+
+		// the router is consulted even though the points did not change
+		connection.invalidateRouting();
+		assertEquals(1, connection.getRefreshCount());
+		assertEquals(1, connection.getRoutingCount());
+		assertEquals(0, connection.getInterpolationCount());
+		assertEquals(new Point(100, 100), connection.getEndPoint());
+
+		// invalidations are coalesced when the refresh is deferred
+		connection.setDeferredRefresh(true);
+		connection.invalidateRouting();
+		connection.invalidateRouting();
+		assertEquals(1, connection.getRoutingCount());
+		assertEquals(new Point(10, 10), connection.getStartPoint());
+		assertEquals(2, connection.getRoutingCount());
+	}
+
 	@Test
 	public void exchangeCurve() {
 		// setup connection with start, control, end points
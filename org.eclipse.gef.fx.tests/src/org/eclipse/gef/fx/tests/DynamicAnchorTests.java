@@ -0,0 +1,90 @@
+/*******************************************************************************
+ * Copyright (c) 2026 itemis AG and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     itemis AG - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.fx.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.gef.fx.anchors.AbstractAnchor.UpdateMode;
+import org.eclipse.gef.fx.anchors.AnchorKey;
+import org.eclipse.gef.fx.anchors.DynamicAnchor;
+import org.eclipse.gef.fx.anchors.DynamicAnchor.AnchorageReferenceGeometry;
+import org.eclipse.gef.fx.anchors.DynamicAnchor.AnchoredReferencePoint;
+import org.eclipse.gef.fx.anchors.ProjectionStrategy;
+import org.eclipse.gef.geometry.planar.Point;
+import org.eclipse.gef.geometry.planar.Rectangle;
+import org.junit.Test;
+
+import javafx.collections.MapChangeListener;
+
+public class DynamicAnchorTests {
+
+	private DynamicAnchor createAnchor() {
+		javafx.scene.shape.Rectangle anchorage = new javafx.scene.shape.Rectangle(
+				0, 0, 50, 50);
+		DynamicAnchor anchor = new DynamicAnchor(anchorage,
+				new ProjectionStrategy());
+		AnchorageReferenceGeometry geometry = anchor
+				.getComputationParameter(AnchorageReferenceGeometry.class);
+		geometry.unbind();
+		geometry.set(new Rectangle(0, 0, 50, 50));
+		return anchor;
+	}
+
+	@Test
+	public void deferredUpdateModeOffApplicationThread() {
+		DynamicAnchor anchor = createAnchor();
+		anchor.setUpdateMode(UpdateMode.DEFERRED_PARALLEL);
+		AnchorKey key = new AnchorKey(
+				new javafx.scene.shape.Rectangle(100, 0, 50, 50), "role");
+		anchor.attach(key);
+		assertNotNull(anchor.getPosition(key));
+
+		// positions are only deferred on the JavaFX application thread
+		AtomicInteger changes = new AtomicInteger();
+		anchor.getPositionsUnmodifiable()
+				.addListener((MapChangeListener<AnchorKey, Point>) change -> changes
+						.incrementAndGet());
+		AnchoredReferencePoint referencePoint = anchor
+				.getComputationParameter(key, AnchoredReferencePoint.class);
+		referencePoint.set(new Point(125, 10));
+		referencePoint.set(new Point(125, 25));
+		assertFalse(anchor.isPositionInvalid(key));
+		assertEquals(new Point(50, 25), anchor.getPosition(key));
+		assertEquals(2, changes.get());
+	}
+
+	@Test
+	public void immediateUpdateMode() {
+		DynamicAnchor anchor = createAnchor();
+		assertEquals(UpdateMode.IMMEDIATE, anchor.getUpdateMode());
+		AnchorKey key = new AnchorKey(
+				new javafx.scene.shape.Rectangle(100, 0, 50, 50), "role");
+		anchor.attach(key);
+		AnchoredReferencePoint referencePoint = anchor
+				.getComputationParameter(key, AnchoredReferencePoint.class);
+		referencePoint.set(new Point(125, 25));
+		assertFalse(anchor.isPositionInvalid(key));
+		assertEquals(new Point(50, 25), anchor.getPosition(key));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void invalidUpdateMode() {
+		createAnchor().setUpdateMode(null);
+	}
+
+}
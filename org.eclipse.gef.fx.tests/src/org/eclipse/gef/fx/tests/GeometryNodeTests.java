@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2016, 2019 itemis AG and others.
+ * Copyright (c) 2016, 2026 itemis AG and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -16,10 +16,12 @@ package org.eclipse.gef.fx.tests;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
 import org.eclipse.gef.fx.nodes.GeometryNode;
 import org.eclipse.gef.geometry.convert.fx.FX2Geometry;
 import org.eclipse.gef.geometry.convert.fx.Geometry2FX;
+import org.eclipse.gef.geometry.planar.Ellipse;
 import org.eclipse.gef.geometry.planar.IGeometry;
 import org.eclipse.gef.geometry.planar.Line;
 import org.eclipse.gef.geometry.planar.Polyline;
@@ -28,7 +30,11 @@ import org.eclipse.gef.geometry.planar.RoundedRectangle;
 import org.junit.Test;
 
 import javafx.geometry.Bounds;
+import javafx.scene.shape.CubicCurveTo;
+import javafx.scene.shape.LineTo;
+import javafx.scene.shape.MoveTo;
 import javafx.scene.paint.Color;
+import javafx.scene.shape.PathElement;
 import javafx.scene.shape.StrokeLineCap;
 import javafx.scene.shape.StrokeType;
 
@@ -99,6 +105,40 @@ public class GeometryNodeTests {
 		assertEquals(40, n.getGeometry().getBounds().getY(), 0);
 	}
 
+	private static boolean containsCurves(GeometryNode<?> node) {
+		for (PathElement element : node.getPath().getElements()) {
+			if (element instanceof CubicCurveTo) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	@Test
+	public void reducedDetail() {
+		GeometryNode<Ellipse> n = new GeometryNode<>(
+				new Ellipse(0, 0, 100, 50));
+		Bounds layoutBounds = n.getLayoutBounds();
+		assertTrue(containsCurves(n));
+
+		// the bounds of the geometry are rendered instead of the geometry
+		n.setReducedDetail(true);
+		assertFalse(containsCurves(n));
+		assertEquals(5, n.getPath().getElements().size());
+		assertEquals(new Ellipse(0, 0, 100, 50), n.getGeometry());
+		assertEquals(layoutBounds, n.getLayoutBounds());
+
+		// changes of the geometry are reflected
+		n.setGeometry(new Ellipse(0, 0, 200, 100));
+		assertFalse(containsCurves(n));
+		MoveTo start = (MoveTo) n.getPath().getElements().get(0);
+		LineTo corner = (LineTo) n.getPath().getElements().get(1);
+		assertEquals(200, corner.getX() - start.getX(), 0);
+
+		n.setReducedDetail(false);
+		assertTrue(containsCurves(n));
+	}
+
 	/**
 	 * Ensures setting/resizing the geometry will resize the visuals
 	 */
@@ -0,0 +1,67 @@
+/*******************************************************************************
+ * Copyright (c) 2026 itemis AG and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     itemis AG - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.fx.tests;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.eclipse.gef.fx.nodes.GeometryNode;
+import org.eclipse.gef.fx.nodes.LevelOfDetail;
+import org.eclipse.gef.geometry.planar.Rectangle;
+import org.junit.Test;
+
+public class LevelOfDetailTests {
+
+	@Test
+	public void hysteresis() {
+		LevelOfDetail lod = new LevelOfDetail(0.4, 0.5);
+		assertFalse(lod.isReducedDetail());
+
+		// the detail is only reduced below the lower threshold
+		lod.setScale(0.45);
+		assertFalse(lod.isReducedDetail());
+		lod.setScale(0.3);
+		assertTrue(lod.isReducedDetail());
+
+		// the detail is only restored above the upper threshold
+		lod.setScale(0.45);
+		assertTrue(lod.isReducedDetail());
+		lod.setScale(0.6);
+		assertFalse(lod.isReducedDetail());
+	}
+
+	@Test
+	public void initialScale() {
+		// the initial scale (1) is below the lower threshold
+		assertTrue(new LevelOfDetail(2, 3).isReducedDetail());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void invalidThresholds() {
+		new LevelOfDetail(0.5, 0.4);
+	}
+
+	@Test
+	public void reducedDetailBinding() {
+		LevelOfDetail lod = new LevelOfDetail();
+		GeometryNode<Rectangle> node = new GeometryNode<>(
+				new Rectangle(0, 0, 10, 10));
+		node.reducedDetailProperty().bind(lod.reducedDetailProperty());
+		lod.setScale(0.1);
+		assertTrue(node.isReducedDetail());
+		lod.setScale(1);
+		assertFalse(node.isReducedDetail());
+	}
+
+}
@@ -13,6 +13,11 @@
 package org.eclipse.gef.fx.tests;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 
 import org.eclipse.gef.fx.anchors.AnchorKey;
 import org.eclipse.gef.fx.anchors.DynamicAnchor;
@@ -20,6 +25,9 @@ import org.eclipse.gef.fx.anchors.OrthogonalProjectionStrategy;
 import org.eclipse.gef.fx.anchors.DynamicAnchor.AnchorageReferenceGeometry;
 import org.eclipse.gef.fx.anchors.DynamicAnchor.AnchoredReferencePoint;
 import org.eclipse.gef.fx.anchors.DynamicAnchor.PreferredOrientation;
+import org.eclipse.gef.fx.anchors.IComputationStrategy.Parameter;
+import org.eclipse.gef.fx.anchors.ProjectionStrategy;
+import org.eclipse.gef.geometry.planar.ICurve;
 import org.eclipse.gef.geometry.planar.Point;
 import org.eclipse.gef.geometry.planar.Polygon;
 import org.eclipse.gef.geometry.planar.Rectangle;
@@ -29,6 +37,60 @@ import javafx.geometry.Orientation;
 
 public class OrthogonalProjectionStrategyTests {
 
+	/**
+	 * An {@link OrthogonalProjectionStrategy} that overrides the deprecated
+	 * projection hook, which is based on a list of outlines.
+	 */
+	private static class ListProjectionStrategy
+			extends OrthogonalProjectionStrategy {
+		private List<ICurve> outlines;
+
+		public ListProjectionStrategy() {
+			super(true);
+		}
+
+		@Override
+		@SuppressWarnings("deprecation")
+		protected Point computeProjectionInScene(
+				List<ICurve> anchorageOutlinesInScene,
+				Point anchoredReferencePointInScene,
+				Set<Parameter<?>> parameters) {
+			outlines = anchorageOutlinesInScene;
+			// project onto the start point of the first outline
+			return anchorageOutlinesInScene.get(0).getP1();
+		}
+	}
+
+	@Test
+	public void overriddenListProjectionIsCalled() {
+		javafx.scene.shape.Rectangle anchorage = new javafx.scene.shape.Rectangle(
+				0, 0, 50, 50);
+		javafx.scene.shape.Rectangle anchored = new javafx.scene.shape.Rectangle(
+				100, 0, 50, 50);
+		Set<Parameter<?>> parameters = new HashSet<>();
+		parameters.add(new AnchorageReferenceGeometry(
+				new Polygon(10, 20, 50, 20, 50, 50, 10, 50)));
+		parameters.add(new AnchoredReferencePoint(new Point(125, 25)));
+		parameters.add(new PreferredOrientation(Orientation.HORIZONTAL));
+
+		ListProjectionStrategy strategy = new ListProjectionStrategy();
+		assertEquals(new Point(10, 20), strategy
+				.computePositionInScene(anchorage, anchored, parameters));
+		assertEquals(1, strategy.outlines.size());
+		assertFalse(strategy.isConcurrentComputationSupported());
+
+		// subclasses of the subclass dispatch to the overridden hook, too
+		strategy = new ListProjectionStrategy() {
+		};
+		assertEquals(new Point(10, 20), strategy
+				.computePositionInScene(anchorage, anchored, parameters));
+		assertEquals(1, strategy.outlines.size());
+
+		// the strategy without an overridden hook is not affected
+		assertEquals(new Point(50, 25), new OrthogonalProjectionStrategy()
+				.computePositionInScene(anchorage, anchored, parameters));
+	}
+
 	@Test
 	public void projectionOnRectangleWithoutOrientationPreference() {
 		javafx.scene.shape.Rectangle anchorage = new javafx.scene.shape.Rectangle(0, 0, 50, 50);
@@ -78,7 +140,32 @@ public class OrthogonalProjectionStrategyTests {
 		a.getComputationParameter(anchorKey, AnchoredReferencePoint.class).set(new Point(125, 12.5));
 		assertEquals(new Point(37.5, 12.5), a.getPosition(anchorKey));
 	}
-	
-	
+
+	@Test
+	public void projectionUpdatedOnAnchorageChanges() {
+		javafx.scene.shape.Rectangle anchorage = new javafx.scene.shape.Rectangle(
+				0, 0, 50, 50);
+		javafx.scene.shape.Rectangle anchored = new javafx.scene.shape.Rectangle(
+				100, 0, 50, 50);
+		ProjectionStrategy strategy = new OrthogonalProjectionStrategy();
+		AnchorageReferenceGeometry geometry = new AnchorageReferenceGeometry(
+				new Rectangle(0, 0, 50, 50));
+		Set<Parameter<?>> parameters = new HashSet<>();
+		parameters.add(geometry);
+		parameters.add(new AnchoredReferencePoint(new Point(125, 25)));
+		parameters.add(new PreferredOrientation(Orientation.HORIZONTAL));
+		assertEquals(new Point(50, 25), strategy
+				.computePositionInScene(anchorage, anchored, parameters));
+
+		// transformation of the anchorage
+		anchorage.setTranslateX(10);
+		assertEquals(new Point(60, 25), strategy
+				.computePositionInScene(anchorage, anchored, parameters));
+
+		// replacement of the anchorage reference geometry
+		geometry.set(new Rectangle(0, 0, 70, 50));
+		assertEquals(new Point(80, 25), strategy
+				.computePositionInScene(anchorage, anchored, parameters));
+	}
 
 }
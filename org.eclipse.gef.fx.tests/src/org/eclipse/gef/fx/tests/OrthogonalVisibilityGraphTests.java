@@ -0,0 +1,213 @@
+/*******************************************************************************
+ * Copyright (c) 2026 itemis AG and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     itemis AG - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.fx.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.gef.fx.anchors.DynamicAnchor;
+import org.eclipse.gef.fx.nodes.Connection;
+import org.eclipse.gef.fx.nodes.OrthogonalRouter;
+import org.eclipse.gef.fx.nodes.OrthogonalVisibilityGraph;
+import org.eclipse.gef.fx.utils.NodeUtils;
+import org.eclipse.gef.geometry.planar.Point;
+import org.eclipse.gef.geometry.planar.Rectangle;
+import org.junit.Test;
+
+import javafx.scene.Group;
+import javafx.scene.Node;
+
+public class OrthogonalVisibilityGraphTests {
+
+	private static void assertAvoids(List<Point> path, Rectangle obstacle) {
+		for (int i = 0; i < path.size() - 1; i++) {
+			Point p = path.get(i);
+			Point q = path.get(i + 1);
+			assertTrue("Segment " + p + " -> " + q + " is not orthogonal.",
+					p.x == q.x || p.y == q.y);
+			boolean intersects = Math.min(p.x, q.x) < obstacle.getX()
+					+ obstacle.getWidth() && Math.max(p.x, q.x) > obstacle.getX()
+					&& Math.min(p.y, q.y) < obstacle.getY() + obstacle.getHeight()
+					&& Math.max(p.y, q.y) > obstacle.getY();
+			assertFalse("Segment " + p + " -> " + q + " intersects " + obstacle
+					+ ".", intersects);
+		}
+	}
+
+	private static List<Point> toPath(Point start, List<Point> bendPoints,
+			Point end) {
+		List<Point> path = new ArrayList<>();
+		path.add(start);
+		path.addAll(bendPoints);
+		path.add(end);
+		return path;
+	}
+
+	@Test
+	public void incrementalUpdate() {
+		OrthogonalVisibilityGraph graph = new OrthogonalVisibilityGraph();
+		javafx.scene.shape.Rectangle obstacle = new javafx.scene.shape.Rectangle(
+				100, 0, 100, 100);
+		graph.addObstacle(obstacle);
+		Point start = new Point(0, 50);
+		Point end = new Point(300, 50);
+		assertFalse(graph.route(start, null, end, null).isEmpty());
+
+		// moving the obstacle out of the way is detected
+		obstacle.setTranslateY(200);
+		assertTrue(graph.route(start, null, end, null).isEmpty());
+
+		// moving it back, too
+		obstacle.setTranslateY(0);
+		List<Point> route = graph.route(start, null, end, null);
+		assertAvoids(toPath(start, route, end),
+				new Rectangle(100, 0, 100, 100));
+
+		// removed obstacles are ignored
+		assertTrue(graph.removeObstacle(obstacle));
+		assertFalse(graph.removeObstacle(obstacle));
+		assertTrue(graph.getObstacles().isEmpty());
+		assertTrue(graph.route(start, null, end, null).isEmpty());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void invalidMargin() {
+		new OrthogonalVisibilityGraph(-1, 0);
+	}
+
+	@Test
+	public void routeAroundObstacles() {
+		OrthogonalVisibilityGraph graph = new OrthogonalVisibilityGraph(10,
+				30);
+		List<Rectangle> obstacles = new ArrayList<>();
+		for (int i = 0; i < 10; i++) {
+			for (int j = 0; j < 10; j++) {
+				Rectangle r = new Rectangle(100 * i + 20, 100 * j + 20, 60, 60);
+				obstacles.add(r);
+				graph.addObstacle(new javafx.scene.shape.Rectangle(r.getX(),
+						r.getY(), r.getWidth(), r.getHeight()));
+			}
+		}
+		Point start = new Point(50, 0);
+		Point end = new Point(950, 1000);
+		List<Point> route = graph.route(start, null, end, null);
+		assertNotNull(route);
+		List<Point> path = toPath(start, route, end);
+		for (Rectangle obstacle : obstacles) {
+			assertAvoids(path, obstacle);
+		}
+		// bends are penalized, i.e. the route follows a single corridor
+		assertEquals(2, route.size());
+	}
+
+	@Test
+	public void routeBetweenNodes() {
+		OrthogonalVisibilityGraph graph = new OrthogonalVisibilityGraph(10,
+				30);
+		javafx.scene.shape.Rectangle source = new javafx.scene.shape.Rectangle(
+				0, 0, 50, 50);
+		javafx.scene.shape.Rectangle target = new javafx.scene.shape.Rectangle(
+				200, 0, 50, 50);
+		javafx.scene.shape.Rectangle obstacle = new javafx.scene.shape.Rectangle(
+				100, -20, 40, 90);
+		graph.addObstacle(source);
+		graph.addObstacle(target);
+		graph.addObstacle(obstacle);
+
+		Point start = new Point(50, 25);
+		Point end = new Point(200, 25);
+		List<Point> route = graph.route(start, source, end, target);
+		List<Point> path = toPath(start, route, end);
+		assertAvoids(path, new Rectangle(100, -20, 40, 90));
+		// the route leaves and enters the nodes horizontally
+		assertEquals(start.y, route.get(0).y, 0);
+		assertTrue(route.get(0).x > 50);
+		assertEquals(end.y, route.get(route.size() - 1).y, 0);
+		assertTrue(route.get(route.size() - 1).x < 200);
+	}
+
+	@Test
+	public void rerouteWhenObstacleMoves() {
+		OrthogonalVisibilityGraph graph = new OrthogonalVisibilityGraph();
+		javafx.scene.shape.Rectangle source = new javafx.scene.shape.Rectangle(
+				0, 0, 50, 50);
+		javafx.scene.shape.Rectangle target = new javafx.scene.shape.Rectangle(
+				300, 0, 50, 50);
+		// initially located below the direct route
+		javafx.scene.shape.Rectangle obstacle = new javafx.scene.shape.Rectangle(
+				125, 200, 100, 150);
+		Connection connection = new Connection();
+		Group root = new Group(source, target, obstacle, connection);
+		for (Node node : root.getChildren()) {
+			if (node != connection) {
+				graph.addObstacle(node);
+			}
+		}
+		connection.setRouter(new OrthogonalRouter(graph));
+		connection.setStartAnchor(new DynamicAnchor(source));
+		connection.setEndAnchor(new DynamicAnchor(target));
+		assertEquals(2, connection.getPointsUnmodifiable().size());
+
+		// move the obstacle onto the route
+		obstacle.setTranslateY(-250);
+		List<Point> path = new ArrayList<>();
+		for (Point p : connection.getPointsUnmodifiable()) {
+			path.add(NodeUtils.localToScene(connection, p));
+		}
+		assertTrue(path.size() > 2);
+		assertAvoids(path, new Rectangle(125, -50, 100, 150));
+
+		// move the obstacle away again
+		obstacle.setTranslateY(0);
+		assertEquals(2, connection.getPointsUnmodifiable().size());
+	}
+
+	@Test
+	public void routerAvoidsObstacles() {
+		OrthogonalVisibilityGraph graph = new OrthogonalVisibilityGraph();
+		javafx.scene.shape.Rectangle source = new javafx.scene.shape.Rectangle(
+				0, 0, 50, 50);
+		javafx.scene.shape.Rectangle target = new javafx.scene.shape.Rectangle(
+				300, 0, 50, 50);
+		javafx.scene.shape.Rectangle obstacle = new javafx.scene.shape.Rectangle(
+				125, -50, 100, 150);
+		Connection connection = new Connection();
+		Group root = new Group(source, target, obstacle, connection);
+		for (Node node : root.getChildren()) {
+			if (node != connection) {
+				graph.addObstacle(node);
+			}
+		}
+		connection.setRouter(new OrthogonalRouter(graph));
+		connection.setStartAnchor(new DynamicAnchor(source));
+		connection.setEndAnchor(new DynamicAnchor(target));
+
+		List<Point> path = new ArrayList<>();
+		for (Point p : connection.getPointsUnmodifiable()) {
+			path.add(NodeUtils.localToScene(connection, p));
+		}
+		assertTrue(path.size() > 2);
+		assertAvoids(path, new Rectangle(125, -50, 100, 150));
+
+		// without the graph, the connection crosses the obstacle
+		connection.setRouter(new OrthogonalRouter());
+		assertEquals(2, connection.getPointsUnmodifiable().size());
+	}
+
+}
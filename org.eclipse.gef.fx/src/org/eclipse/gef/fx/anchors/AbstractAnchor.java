@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2014, 2017 itemis AG and others.
+ * Copyright (c) 2014, 2026 itemis AG and others.
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
  * http://www.eclipse.org/legal/epl-2.0.
@@ -13,10 +13,14 @@
  *******************************************************************************/
 package org.eclipse.gef.fx.anchors;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Supplier;
 
 import org.eclipse.gef.common.adapt.IAdaptable;
 import org.eclipse.gef.common.beans.property.ReadOnlyMapWrapperEx;
@@ -27,6 +31,7 @@ import org.eclipse.gef.geometry.planar.Point;
 import com.google.common.collect.HashMultimap;
 import com.google.common.collect.SetMultimap;
 
+import javafx.application.Platform;
 import javafx.beans.property.ReadOnlyMapProperty;
 import javafx.beans.property.ReadOnlyMapWrapper;
 import javafx.beans.property.ReadOnlyObjectProperty;
@@ -58,6 +63,15 @@ import javafx.scene.transform.Transform;
  * {@link AnchorKey}s, it may request that an {@link IAdaptable} info gets
  * passed into {@link #attach(AnchorKey)} and {@link #detach(AnchorKey)}, and
  * may overwrite both methods to get access to it.
+ * <p>
+ * By default, positions are recomputed immediately upon each change. If an
+ * {@link UpdateMode} other than {@link UpdateMode#IMMEDIATE} is set (see
+ * {@link #setUpdateMode(UpdateMode)}), positions are only invalidated upon
+ * changes, and are recomputed once per JavaFX pulse for all invalidated
+ * {@link AnchorKey}s, so that a sequence of changes (e.g. while dragging an
+ * anchorage) results in a single recomputation per {@link AnchorKey}. Changes
+ * that are not performed on the JavaFX application thread are always applied
+ * immediately.
  *
  * @author anyssen
  * @author mwienand
@@ -65,12 +79,40 @@ import javafx.scene.transform.Transform;
  */
 public abstract class AbstractAnchor implements IAnchor {
 
+	/**
+	 * The {@link UpdateMode} determines when the positions of an
+	 * {@link AbstractAnchor} are recomputed.
+	 */
+	public enum UpdateMode {
+
+		/**
+		 * Positions are recomputed immediately upon each change.
+		 */
+		IMMEDIATE,
+
+		/**
+		 * Positions are invalidated upon changes and recomputed once per JavaFX
+		 * pulse, or when {@link AbstractAnchor#validatePositions()} is called.
+		 */
+		DEFERRED,
+
+		/**
+		 * Same as {@link #DEFERRED}, but the positions that are recomputed
+		 * within a pulse may be computed concurrently on worker threads, in case
+		 * {@link AbstractAnchor#isConcurrentComputationSupported()} returns
+		 * <code>true</code>.
+		 */
+		DEFERRED_PARALLEL
+	}
+
 	private ReadOnlyObjectWrapper<Node> anchorageProperty = new ReadOnlyObjectWrapper<>();
 	private SetMultimap<Node, AnchorKey> keysByNode = HashMultimap.create();
 
 	private ObservableMap<AnchorKey, Point> positions = FXCollections
 			.observableHashMap();
 	private ObservableMap<AnchorKey, Point> positionsUnmodifiable;
+	private UpdateMode updateMode = UpdateMode.IMMEDIATE;
+	private Set<AnchorKey> invalidKeys = new LinkedHashSet<>();
 	private ReadOnlyMapWrapper<AnchorKey, Point> positionsUnmodifiableProperty;
 
 	// TODO: push this down to dynamic anchor (as its only needed there)
@@ -251,6 +293,7 @@ public abstract class AbstractAnchor implements IAnchor {
 		// remove from positions map so that a change event is fired when it is
 		// attached again
 		positions.remove(key);
+		invalidKeys.remove(key);
 
 		// remove from keysByNode to indicate it is detached
 		keysByNode.remove(anchored, key);
@@ -315,12 +358,49 @@ public abstract class AbstractAnchor implements IAnchor {
 		return positionsUnmodifiable;
 	}
 
+	/**
+	 * Returns the {@link UpdateMode} of this {@link AbstractAnchor}.
+	 *
+	 * @return The {@link UpdateMode} of this {@link AbstractAnchor}.
+	 */
+	public UpdateMode getUpdateMode() {
+		return updateMode;
+	}
+
 	@Override
 	public boolean isAttached(AnchorKey key) {
 		return keysByNode.containsKey(key.getAnchored())
 				&& keysByNode.get(key.getAnchored()).contains(key);
 	}
 
+	/**
+	 * Returns <code>true</code> if the {@link Supplier}s that are returned by
+	 * {@link #prepareConcurrentComputation(AnchorKey)} may be evaluated
+	 * concurrently from worker threads. Otherwise returns <code>false</code>,
+	 * which is the default.
+	 *
+	 * @return <code>true</code> if positions may be computed concurrently,
+	 *         otherwise <code>false</code>.
+	 */
+	protected boolean isConcurrentComputationSupported() {
+		return false;
+	}
+
+	/**
+	 * Returns <code>true</code> if the position of the given {@link AnchorKey}
+	 * was invalidated and is not yet recomputed. Otherwise returns
+	 * <code>false</code>. Positions can only be invalid if an
+	 * {@link UpdateMode} other than {@link UpdateMode#IMMEDIATE} is used.
+	 *
+	 * @param key
+	 *            The {@link AnchorKey} to test.
+	 * @return <code>true</code> if the position of the given {@link AnchorKey}
+	 *         is invalid, otherwise <code>false</code>.
+	 */
+	public boolean isPositionInvalid(AnchorKey key) {
+		return invalidKeys.contains(key);
+	}
+
 	@Override
 	public ReadOnlyMapProperty<AnchorKey, Point> positionsUnmodifiableProperty() {
 		if (positionsUnmodifiableProperty == null) {
@@ -330,6 +410,28 @@ public abstract class AbstractAnchor implements IAnchor {
 		return positionsUnmodifiableProperty.getReadOnlyProperty();
 	}
 
+	/**
+	 * Prepares the concurrent computation of the position for the given
+	 * {@link AnchorKey}. Called on the JavaFX application thread, so that all
+	 * state of the scene graph that is needed for the computation (e.g.
+	 * transformations, geometries, or bound parameter values) can be captured.
+	 * The returned {@link Supplier} computes the position (in local
+	 * coordinates of the anchored {@link Node}) based on the captured state and
+	 * may be evaluated on a worker thread.
+	 * <p>
+	 * By default, the position is computed immediately, using
+	 * {@link #computePosition(AnchorKey)}.
+	 *
+	 * @param key
+	 *            The {@link AnchorKey} whose position is to be computed.
+	 * @return A {@link Supplier} that computes the position for the given
+	 *         {@link AnchorKey}.
+	 */
+	protected Supplier<Point> prepareConcurrentComputation(AnchorKey key) {
+		Point position = computePosition(key);
+		return () -> position;
+	}
+
 	/**
 	 * Registers a {@link VisualChangeListener} for the given anchored
 	 * {@link Node}.
@@ -373,6 +475,37 @@ public abstract class AbstractAnchor implements IAnchor {
 		anchorageProperty.set(anchorage);
 	}
 
+	/**
+	 * Sets the {@link UpdateMode} of this {@link AbstractAnchor} to the given
+	 * value. When switching to {@link UpdateMode#IMMEDIATE}, all invalid
+	 * positions are recomputed.
+	 *
+	 * @param updateMode
+	 *            The new {@link UpdateMode}.
+	 */
+	public void setUpdateMode(UpdateMode updateMode) {
+		if (updateMode == null) {
+			throw new IllegalArgumentException(
+					"The given UpdateMode may not be null.");
+		}
+		this.updateMode = updateMode;
+		if (updateMode == UpdateMode.IMMEDIATE) {
+			validatePositions();
+		}
+	}
+
+	/**
+	 * Removes all invalid {@link AnchorKey}s from this {@link AbstractAnchor}
+	 * and returns them.
+	 *
+	 * @return The {@link AnchorKey}s whose positions were invalid.
+	 */
+	List<AnchorKey> takeInvalidKeys() {
+		List<AnchorKey> keys = new ArrayList<>(invalidKeys);
+		invalidKeys.clear();
+		return keys;
+	}
+
 	/**
 	 * Unregisters the {@link VisualChangeListener}s for the given anchored
 	 * {@link Node}.
@@ -413,6 +546,11 @@ public abstract class AbstractAnchor implements IAnchor {
 	 * putting the new position into the
 	 * {@link #positionsUnmodifiableProperty()}</li>
 	 * </ol>
+	 * If an {@link UpdateMode} other than {@link UpdateMode#IMMEDIATE} is used
+	 * and a position was already computed for the given {@link AnchorKey}, the
+	 * position is only invalidated, and recomputed within the current or next
+	 * pulse. This is only done on the JavaFX application thread, so that the
+	 * position is recomputed immediately when called from another thread.
 	 *
 	 * @param key
 	 *            The {@link AnchorKey} for which the position is updated.
@@ -423,9 +561,34 @@ public abstract class AbstractAnchor implements IAnchor {
 			return;
 		}
 
-		// compute new position to see if it has changed
+		// defer the computation if a position is already available
+		if (updateMode != UpdateMode.IMMEDIATE && positions.containsKey(key)
+				&& Platform.isFxApplicationThread()) {
+			invalidKeys.add(key);
+			DeferredPositionUpdater.schedule(this, key);
+			return;
+		}
+
+		updatePosition(key, computePosition(key));
+	}
+
+	/**
+	 * Puts the given new position for the given {@link AnchorKey} into the
+	 * {@link #positionsUnmodifiableProperty()} if it is valid and differs from
+	 * the current position.
+	 *
+	 * @param key
+	 *            The {@link AnchorKey} for which the position is updated.
+	 * @param newPosition
+	 *            The newly computed position.
+	 */
+	void updatePosition(AnchorKey key, Point newPosition) {
+		// the key might have been detached in the meantime
+		if (!isAttached(key)) {
+			return;
+		}
+
 		Point oldPosition = getPosition(key);
-		Point newPosition = computePosition(key);
 
 		// System.out.print("[" + key.getId() + "] old = " + oldPosition
 		// + ", new = " + newPosition);
@@ -463,4 +626,27 @@ public abstract class AbstractAnchor implements IAnchor {
 			}
 		}
 	}
+
+	/**
+	 * Recomputes the invalid positions of all {@link AbstractAnchor}s that use
+	 * a deferred {@link UpdateMode}. This is done automatically at the start of
+	 * each pulse, and by {@link org.eclipse.gef.fx.nodes.Connection}s during
+	 * the layout pass, so that positions that are invalidated while applying
+	 * CSS or performing layout are recomputed within the same pulse. Has to be
+	 * called on the JavaFX application thread.
+	 */
+	public static void validateDeferredPositions() {
+		DeferredPositionUpdater.flush();
+	}
+
+	/**
+	 * Recomputes the positions of all {@link AnchorKey}s that were invalidated
+	 * (see {@link #isPositionInvalid(AnchorKey)}). This is done automatically
+	 * once per pulse, but may be called to obtain valid positions immediately.
+	 */
+	public void validatePositions() {
+		for (AnchorKey key : takeInvalidKeys()) {
+			updatePosition(key, computePosition(key));
+		}
+	}
 }
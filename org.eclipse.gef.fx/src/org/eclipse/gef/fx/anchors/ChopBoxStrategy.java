@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2016 itemis AG and others.
+ * Copyright (c) 2016, 2026 itemis AG and others.
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
  * http://www.eclipse.org/legal/epl-2.0.
@@ -39,6 +39,26 @@ import javafx.scene.Node;
  */
 public class ChopBoxStrategy extends ProjectionStrategy {
 
+	/**
+	 * Constructs a new {@link ChopBoxStrategy}.
+	 */
+	public ChopBoxStrategy() {
+		this(false);
+	}
+
+	/**
+	 * Constructs a new {@link ChopBoxStrategy}.
+	 *
+	 * @param listProjection
+	 *            <code>true</code> to call the deprecated
+	 *            {@link #computeProjectionInScene(List, Point, Set)},
+	 *            otherwise <code>false</code>.
+	 * @see ProjectionStrategy#ProjectionStrategy(boolean)
+	 */
+	protected ChopBoxStrategy(boolean listProjection) {
+		super(listProjection);
+	}
+
 	/**
 	 * Computes the anchorage reference position within the coordinate system of
 	 * the given {@link IGeometry}. Will return the center of a {@link IShape}
@@ -185,4 +205,13 @@ public class ChopBoxStrategy extends ProjectionStrategy {
 
 		return super.computePositionInScene(anchorage, anchored, parameters);
 	}
+
+	/**
+	 * Returns <code>false</code>, as the anchorage reference point is
+	 * computed based on the (live) transformation of the anchorage.
+	 */
+	@Override
+	public boolean isConcurrentComputationSupported() {
+		return false;
+	}
 }
\ No newline at end of file
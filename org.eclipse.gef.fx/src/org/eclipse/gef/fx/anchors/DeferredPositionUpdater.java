@@ -0,0 +1,159 @@
+/*******************************************************************************
+ * Copyright (c) 2026 itemis AG and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     itemis AG - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.fx.anchors;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import org.eclipse.gef.fx.anchors.AbstractAnchor.UpdateMode;
+import org.eclipse.gef.geometry.planar.Point;
+
+import javafx.animation.AnimationTimer;
+import javafx.application.Platform;
+import javafx.scene.Node;
+import javafx.scene.Parent;
+
+/**
+ * The {@link DeferredPositionUpdater} recomputes the invalid positions of
+ * {@link AbstractAnchor}s that use a deferred {@link UpdateMode} once per
+ * JavaFX pulse. The positions are recomputed by an {@link AnimationTimer} at
+ * the start of a pulse (which is only running while positions are invalid),
+ * and by the {@link org.eclipse.gef.fx.nodes.Connection}s during the layout
+ * pass (see {@link AbstractAnchor#validateDeferredPositions()}), so that
+ * positions that are invalidated while applying CSS or performing layout are
+ * recomputed before the scene is rendered. Therefore, the parent of the
+ * anchored {@link Node} is requested to perform a layout whenever a position
+ * gets invalid.
+ * <p>
+ * The positions of {@link AbstractAnchor}s that use
+ * {@link UpdateMode#DEFERRED_PARALLEL} are computed concurrently (in case the
+ * anchor supports it and the batch is large enough to outweigh the overhead).
+ * All state of the scene graph that is needed for the computations (e.g.
+ * transformations and anchorage outlines) is captured on the JavaFX
+ * application thread (see
+ * {@link AbstractAnchor#prepareConcurrentComputation(AnchorKey)}), so that
+ * only the geometric computations are performed on worker threads. The
+ * computed positions are always applied on the JavaFX application thread, so
+ * that change notifications (and thus the refresh of connections) are not
+ * affected.
+ */
+final class DeferredPositionUpdater {
+
+	// the minimum number of positions to compute concurrently
+	private static final int MIN_PARALLEL_BATCH_SIZE = 64;
+
+	// the maximum number of passes per flush, as updating positions may
+	// invalidate other positions
+	private static final int MAX_PASSES = 8;
+
+	private static final Set<AbstractAnchor> invalidAnchors = new LinkedHashSet<>();
+
+	private static AnimationTimer timer;
+
+	private static void computeConcurrently(List<AbstractAnchor> anchors) {
+		List<AbstractAnchor> owners = new ArrayList<>();
+		List<AnchorKey> keys = new ArrayList<>();
+		List<Supplier<Point>> computations = new ArrayList<>();
+		for (AbstractAnchor anchor : anchors) {
+			for (AnchorKey key : anchor.takeInvalidKeys()) {
+				owners.add(anchor);
+				keys.add(key);
+				computations.add(anchor.prepareConcurrentComputation(key));
+			}
+		}
+
+		Point[] positions = new Point[keys.size()];
+		IntStream indices = IntStream.range(0, positions.length);
+		if (positions.length >= MIN_PARALLEL_BATCH_SIZE) {
+			indices = indices.parallel();
+		}
+		indices.forEach(i -> positions[i] = computations.get(i).get());
+
+		for (int i = 0; i < positions.length; i++) {
+			owners.get(i).updatePosition(keys.get(i), positions[i]);
+		}
+	}
+
+	/**
+	 * Recomputes the invalid positions of all scheduled
+	 * {@link AbstractAnchor}s.
+	 *
+	 * @throws IllegalStateException
+	 *             if not called on the JavaFX application thread.
+	 */
+	static void flush() {
+		if (!Platform.isFxApplicationThread()) {
+			throw new IllegalStateException(
+					"Deferred positions may only be validated on the JavaFX application thread.");
+		}
+		for (int pass = 0; pass < MAX_PASSES
+				&& !invalidAnchors.isEmpty(); pass++) {
+			List<AbstractAnchor> anchors = new ArrayList<>(invalidAnchors);
+			invalidAnchors.clear();
+			List<AbstractAnchor> concurrentAnchors = new ArrayList<>();
+			for (AbstractAnchor anchor : anchors) {
+				if (anchor.getUpdateMode() == UpdateMode.DEFERRED_PARALLEL
+						&& anchor.isConcurrentComputationSupported()) {
+					concurrentAnchors.add(anchor);
+				} else {
+					anchor.validatePositions();
+				}
+			}
+			computeConcurrently(concurrentAnchors);
+		}
+		if (invalidAnchors.isEmpty() && timer != null) {
+			timer.stop();
+		}
+	}
+
+	/**
+	 * Schedules the recomputation of the invalid position of the given
+	 * {@link AnchorKey} of the given {@link AbstractAnchor} for the current or
+	 * next pulse.
+	 *
+	 * @param anchor
+	 *            The {@link AbstractAnchor} that has invalid positions.
+	 * @param key
+	 *            The {@link AnchorKey} whose position is invalid.
+	 * @throws IllegalStateException
+	 *             if not called on the JavaFX application thread.
+	 */
+	static void schedule(AbstractAnchor anchor, AnchorKey key) {
+		if (!Platform.isFxApplicationThread()) {
+			throw new IllegalStateException(
+					"Deferred positions may only be scheduled on the JavaFX application thread.");
+		}
+		invalidAnchors.add(anchor);
+		// ensure the position is recomputed in case it is invalidated during
+		// the layout pass
+		Parent parent = key.getAnchored().getParent();
+		if (parent != null) {
+			parent.requestLayout();
+		}
+		if (timer == null) {
+			timer = new AnimationTimer() {
+				@Override
+				public void handle(long now) {
+					flush();
+				}
+			};
+		}
+		timer.start();
+	}
+
+}
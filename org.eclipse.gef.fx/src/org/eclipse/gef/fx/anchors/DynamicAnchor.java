@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2014, 2017 itemis AG and others.
+ * Copyright (c) 2014, 2026 itemis AG and others.
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
  * http://www.eclipse.org/legal/epl-2.0.
@@ -18,6 +18,7 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Supplier;
 
 import org.eclipse.gef.common.beans.property.ReadOnlySetMultimapProperty;
 import org.eclipse.gef.common.beans.property.ReadOnlySetMultimapWrapper;
@@ -30,6 +31,7 @@ import org.eclipse.gef.fx.anchors.IComputationStrategy.Parameter.Kind;
 import org.eclipse.gef.fx.utils.NodeUtils;
 import org.eclipse.gef.geometry.convert.fx.FX2Geometry;
 import org.eclipse.gef.geometry.convert.fx.Geometry2FX;
+import org.eclipse.gef.geometry.planar.AffineTransform;
 import org.eclipse.gef.geometry.planar.IGeometry;
 import org.eclipse.gef.geometry.planar.Point;
 import org.eclipse.gef.geometry.planar.Rectangle;
@@ -363,19 +365,8 @@ public class DynamicAnchor extends AbstractAnchor {
 	protected Point computePosition(AnchorKey key) {
 		// check for availability of (anchorage) parameters
 		Set<IComputationStrategy.Parameter<?>> parameters = getParameters(key);
-		for (Class<? extends Parameter<?>> parameterType : computationStrategy
-				.getRequiredParameters()) {
-			Parameter<?> p = Parameter.get(parameters, parameterType);
-			// check that parameter values are provided
-			if (p == null || (p.get() == null && !p.isOptional())) {
-				// as long as all required parameters are not provided, we
-				// cannot compute a position.
-				// System.out.println("Skipping computation of position for key
-				// "
-				// + key + " because mandatory parameter " + p
-				// + " has no value.");
-				return null;
-			}
+		if (!hasRequiredParameters(parameters)) {
+			return null;
 		}
 
 		// only invoke strategy if all required parameters are provided
@@ -499,6 +490,26 @@ public class DynamicAnchor extends AbstractAnchor {
 		return parameters;
 	}
 
+	private boolean hasRequiredParameters(Set<Parameter<?>> parameters) {
+		for (Class<? extends Parameter<?>> parameterType : computationStrategy
+				.getRequiredParameters()) {
+			Parameter<?> p = Parameter.get(parameters, parameterType);
+			// check that parameter values are provided
+			if (p == null || (p.get() == null && !p.isOptional())) {
+				// as long as all required parameters are not provided, we
+				// cannot compute a position.
+				return false;
+			}
+		}
+		return true;
+	}
+
+	@Override
+	protected boolean isConcurrentComputationSupported() {
+		return computationStrategy != null
+				&& computationStrategy.isConcurrentComputationSupported();
+	}
+
 	private void initAnchorageParameters() {
 		for (Class<? extends Parameter<?>> paramType : computationStrategy
 				.getRequiredParameters()) {
@@ -548,6 +559,28 @@ public class DynamicAnchor extends AbstractAnchor {
 		}
 	}
 
+	@Override
+	protected Supplier<Point> prepareConcurrentComputation(AnchorKey key) {
+		// evaluate (bound) parameter values
+		Set<Parameter<?>> parameters = getParameters(key);
+		if (!hasRequiredParameters(parameters)) {
+			return () -> null;
+		}
+		for (Parameter<?> parameter : parameters) {
+			parameter.get();
+		}
+
+		// capture the state of the scene graph, so that only the computation
+		// of the strategy and the transformation to local coordinates are
+		// deferred
+		Supplier<Point> positionInScene = computationStrategy
+				.prepareComputationInScene(getAnchorage(), key.getAnchored(),
+						parameters);
+		AffineTransform sceneToLocalTx = NodeUtils
+				.getSceneToLocalTx(key.getAnchored());
+		return () -> sceneToLocalTx.getTransformed(positionInScene.get());
+	}
+
 	/**
 	 * Sets the given {@link IComputationStrategy} to be used by this
 	 * {@link IAnchor}.
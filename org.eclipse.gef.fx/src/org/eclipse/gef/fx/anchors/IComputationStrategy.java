@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2016 itemis AG and others.
+ * Copyright (c) 2016, 2026 itemis AG and others.
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
  * http://www.eclipse.org/legal/epl-2.0.
@@ -16,6 +16,7 @@ package org.eclipse.gef.fx.anchors;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.function.Supplier;
 
 import org.eclipse.gef.geometry.planar.Point;
 
@@ -254,4 +255,48 @@ public interface IComputationStrategy {
 	 */
 	public Set<Class<? extends Parameter<?>>> getRequiredParameters();
 
+	/**
+	 * Returns <code>true</code> if the {@link Supplier}s that are returned by
+	 * {@link #prepareComputationInScene(Node, Node, Set)} may be evaluated
+	 * concurrently from worker threads, i.e. if they only operate on the state
+	 * that was captured on the JavaFX application thread. Otherwise returns
+	 * <code>false</code>, which is the default.
+	 *
+	 * @return <code>true</code> if positions may be computed concurrently,
+	 *         otherwise <code>false</code>.
+	 */
+	public default boolean isConcurrentComputationSupported() {
+		return false;
+	}
+
+	/**
+	 * Prepares the computation of an anchor position on the JavaFX application
+	 * thread, based on the given anchorage visual, anchored visual, and
+	 * parameters. All state that is needed for the computation (e.g.
+	 * transformations or geometries in scene coordinates) has to be captured
+	 * here, so that the returned {@link Supplier} does not access the scene
+	 * graph. In case {@link #isConcurrentComputationSupported()} returns
+	 * <code>true</code>, the returned {@link Supplier} may be evaluated on a
+	 * worker thread.
+	 * <p>
+	 * By default, the position is computed immediately, using
+	 * {@link #computePositionInScene(Node, Node, Set)}.
+	 *
+	 * @param anchorage
+	 *            The anchorage visual.
+	 * @param anchored
+	 *            The anchored visual.
+	 * @param parameters
+	 *            The available computation parameters, whose values have
+	 *            already been evaluated.
+	 * @return A {@link Supplier} that computes the anchor position in scene
+	 *         coordinates.
+	 */
+	public default Supplier<Point> prepareComputationInScene(Node anchorage,
+			Node anchored, Set<Parameter<?>> parameters) {
+		Point positionInScene = computePositionInScene(anchorage, anchored,
+				parameters);
+		return () -> positionInScene;
+	}
+
 }
\ No newline at end of file
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2016 itemis AG and others.
+ * Copyright (c) 2016, 2026 itemis AG and others.
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
  * http://www.eclipse.org/legal/epl-2.0.
@@ -13,19 +13,25 @@
  *******************************************************************************/
 package org.eclipse.gef.fx.anchors;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.function.Supplier;
 
 import org.eclipse.gef.fx.anchors.DynamicAnchor.AnchorageReferenceGeometry;
 import org.eclipse.gef.fx.anchors.DynamicAnchor.AnchoredReferencePoint;
 import org.eclipse.gef.fx.utils.NodeUtils;
+import org.eclipse.gef.geometry.planar.AffineTransform;
 import org.eclipse.gef.geometry.planar.ICurve;
 import org.eclipse.gef.geometry.planar.IGeometry;
 import org.eclipse.gef.geometry.planar.IShape;
 import org.eclipse.gef.geometry.planar.Path;
 import org.eclipse.gef.geometry.planar.Point;
+import org.eclipse.gef.geometry.planar.ProjectionIndex;
 
 import javafx.scene.Node;
 
@@ -44,39 +50,75 @@ import javafx.scene.Node;
  * outlines.</li>
  * <li>Return the nearest projection to the anchored reference point.</li>
  * </ol>
+ * <p>
+ * The anchorage outlines (in scene) are cached per anchorage together with a
+ * {@link ProjectionIndex}, which accelerates the projection. They are only
+ * recomputed when the anchorage reference geometry is replaced or the
+ * local-to-scene transformation of the anchorage changes. As the cached
+ * {@link ProjectionIndex} and the anchored reference point are determined on
+ * the JavaFX application thread (see
+ * {@link #prepareComputationInScene(Node, Node, Set)}), the projection itself
+ * may be computed in parallel (see
+ * {@link #isConcurrentComputationSupported()}), which subclasses inherit unless
+ * they opt out.
  *
  * @author anyssen
  * @author mwienand
  */
 public class ProjectionStrategy implements IComputationStrategy {
 
-	@Override
-	public Point computePositionInScene(Node anchorage, Node anchored,
-			Set<Parameter<?>> parameters) {
-		// retrieve required computation parameters
-		IGeometry anchorageReferenceGeometryInLocal = Parameter
-				.get(parameters, AnchorageReferenceGeometry.class).get();
-		Point anchoredReferencePointInLocal = Parameter
-				.get(parameters, AnchoredReferencePoint.class).get();
+	/**
+	 * The anchorage outlines in scene coordinates, which are cached per
+	 * anchorage, together with the anchorage reference geometry and the
+	 * local-to-scene transformation they were computed for.
+	 */
+	private static final class AnchorageOutlines {
+		private final IGeometry geometryInLocal;
+		private final AffineTransform localToSceneTx;
+		private final ProjectionIndex index;
 
-		// determine anchorage geometry in scene
-		IGeometry anchorageGeometryInScene = NodeUtils.localToScene(anchorage,
-				anchorageReferenceGeometryInLocal);
+		private AnchorageOutlines(IGeometry geometryInLocal,
+				AffineTransform localToSceneTx, ProjectionIndex index) {
+			this.geometryInLocal = geometryInLocal;
+			this.localToSceneTx = localToSceneTx;
+			this.index = index;
+		}
+	}
 
-		// determine anchorage outlines in scene
-		List<ICurve> anchorageOutlinesInScene = getOutlineSegments(
-				anchorageGeometryInScene);
+	private final Map<Node, AnchorageOutlines> anchorageOutlines = new WeakHashMap<>();
 
-		// transform anchored reference point to scene
-		Point anchoredReferencePointInScene = NodeUtils.localToScene(anchored,
-				anchoredReferencePointInLocal);
+	private final boolean listProjection;
 
-		// compute nearest projection of the anchored reference point on the
-		// anchorage outlines
-		return computeProjectionInScene(anchorageOutlinesInScene,
-				anchoredReferencePointInScene, parameters);
+	/**
+	 * Constructs a new {@link ProjectionStrategy}, which projects onto the
+	 * anchorage outlines using
+	 * {@link #computeProjectionInScene(ProjectionIndex, Point, Set)}.
+	 */
+	public ProjectionStrategy() {
+		this(false);
+	}
+
+	/**
+	 * Constructs a new {@link ProjectionStrategy}. Subclasses that override
+	 * the deprecated {@link #computeProjectionInScene(List, Point, Set)} have
+	 * to pass in <code>true</code>, so that it is called (instead of
+	 * {@link #computeProjectionInScene(ProjectionIndex, Point, Set)}) by
+	 * {@link #computePositionInScene(Node, Node, Set)}.
+	 *
+	 * @param listProjection
+	 *            <code>true</code> to call the deprecated
+	 *            {@link #computeProjectionInScene(List, Point, Set)},
+	 *            otherwise <code>false</code>.
+	 */
+	protected ProjectionStrategy(boolean listProjection) {
+		this.listProjection = listProjection;
 	}
 
+	@Override
+	public Point computePositionInScene(Node anchorage, Node anchored,
+			Set<Parameter<?>> parameters) {
+		return prepareComputationInScene(anchorage, anchored, parameters).get();
+	}
 	/**
 	 * Computes the anchorage reference position in scene coordinates, based on
 	 * the given anchorage outlines and the given anchored reference point.
@@ -90,16 +132,86 @@ public class ProjectionStrategy implements IComputationStrategy {
 	 * @param parameters
 	 *            The parameters available for the computation.
 	 * @return The anchorage reference position.
+	 *
+	 * @deprecated Override
+	 *             {@link #computeProjectionInScene(ProjectionIndex, Point, Set)}
+	 *             instead, which can make use of the cached
+	 *             {@link ProjectionIndex}. This method is only called by
+	 *             {@link #computePositionInScene(Node, Node, Set)} (instead of
+	 *             the former) if the strategy was constructed using
+	 *             {@link #ProjectionStrategy(boolean)}.
 	 */
+	@Deprecated
 	protected Point computeProjectionInScene(
 			List<ICurve> anchorageOutlinesInScene,
 			Point anchoredReferencePointInScene, Set<Parameter<?>> parameters) {
-		Point[] projections = new Point[anchorageOutlinesInScene.size()];
-		for (int i = 0; i < anchorageOutlinesInScene.size(); i++) {
-			ICurve c = anchorageOutlinesInScene.get(i);
-			projections[i] = c.getProjection(anchoredReferencePointInScene);
+		return computeProjectionInScene(
+				new ProjectionIndex(anchorageOutlinesInScene
+						.toArray(new ICurve[anchorageOutlinesInScene.size()])),
+				anchoredReferencePointInScene, parameters);
+	}
+
+	/**
+	 * Computes the anchorage reference position in scene coordinates, based on
+	 * the given {@link ProjectionIndex} for the anchorage outlines and the
+	 * given anchored reference point.
+	 *
+	 * @param anchorageOutlinesInScene
+	 *            A {@link ProjectionIndex} for the {@link ICurve}s that
+	 *            describe the outline of the anchorage.
+	 * @param anchoredReferencePointInScene
+	 *            The reference {@link Point} of the anchored for which the
+	 *            anchorage reference {@link Point} is to be determined.
+	 * @param parameters
+	 *            The parameters available for the computation.
+	 * @return The anchorage reference position.
+	 */
+	protected Point computeProjectionInScene(
+			ProjectionIndex anchorageOutlinesInScene,
+			Point anchoredReferencePointInScene, Set<Parameter<?>> parameters) {
+		return anchorageOutlinesInScene
+				.getProjection(anchoredReferencePointInScene);
+	}
+
+	/**
+	 * Returns a {@link ProjectionIndex} for the outlines of the given
+	 * anchorage reference geometry in scene coordinates. The
+	 * {@link ProjectionIndex} is cached per anchorage and only recomputed if
+	 * the anchorage reference geometry was replaced by another instance or the
+	 * local-to-scene transformation of the anchorage changed. Therefore, the
+	 * anchorage reference geometry may not be changed in-place.
+	 *
+	 * @param anchorage
+	 *            The anchorage {@link Node}.
+	 * @param anchorageReferenceGeometryInLocal
+	 *            The anchorage reference geometry within the local coordinate
+	 *            system of the anchorage.
+	 * @return A {@link ProjectionIndex} for the anchorage outlines in scene.
+	 */
+	protected ProjectionIndex getAnchorageOutlinesInScene(Node anchorage,
+			IGeometry anchorageReferenceGeometryInLocal) {
+		AffineTransform localToSceneTx = NodeUtils.getLocalToSceneTx(anchorage);
+		AnchorageOutlines cached = anchorageOutlines.get(anchorage);
+		if (cached != null
+				&& cached.geometryInLocal == anchorageReferenceGeometryInLocal
+				&& cached.localToSceneTx.equals(localToSceneTx)) {
+			return cached.index;
 		}
-		return Point.nearest(anchoredReferencePointInScene, projections);
+
+		// determine anchorage geometry in scene
+		IGeometry anchorageGeometryInScene = NodeUtils.localToScene(anchorage,
+				anchorageReferenceGeometryInLocal);
+
+		// determine anchorage outlines in scene
+		List<ICurve> anchorageOutlinesInScene = getOutlineSegments(
+				anchorageGeometryInScene);
+		ProjectionIndex index = new ProjectionIndex(anchorageOutlinesInScene
+				.toArray(new ICurve[anchorageOutlinesInScene.size()]));
+
+		anchorageOutlines.put(anchorage,
+				new AnchorageOutlines(anchorageReferenceGeometryInLocal,
+						localToSceneTx, index));
+		return index;
 	}
 
 	/**
@@ -132,4 +244,55 @@ public class ProjectionStrategy implements IComputationStrategy {
 		parameters.add(AnchoredReferencePoint.class);
 		return parameters;
 	}
-}
\ No newline at end of file
+
+	/**
+	 * Returns <code>true</code>, as only the projection onto the (immutable)
+	 * {@link ProjectionIndex} is computed concurrently, unless the deprecated
+	 * {@link #computeProjectionInScene(List, Point, Set)} is used (see
+	 * {@link #ProjectionStrategy(boolean)}). Subclasses whose computations are
+	 * not thread-safe have to override this method to return
+	 * <code>false</code>.
+	 */
+	@Override
+	public boolean isConcurrentComputationSupported() {
+		return !listProjection;
+	}
+
+	/**
+	 * Determines the (cached) anchorage outlines and the anchored reference
+	 * point in scene coordinates, and returns a {@link Supplier} that projects
+	 * the latter onto the former, using
+	 * {@link #computeProjectionInScene(ProjectionIndex, Point, Set)}, which may
+	 * thus be called from a worker thread. Subclasses that override
+	 * {@link #computePositionInScene(Node, Node, Set)} have to override this
+	 * method as well, or opt out of concurrent computations.
+	 */
+	@Override
+	public Supplier<Point> prepareComputationInScene(Node anchorage,
+			Node anchored, Set<Parameter<?>> parameters) {
+		// retrieve required computation parameters
+		IGeometry anchorageReferenceGeometryInLocal = Parameter
+				.get(parameters, AnchorageReferenceGeometry.class).get();
+		Point anchoredReferencePointInLocal = Parameter
+				.get(parameters, AnchoredReferencePoint.class).get();
+
+		// determine (cached) anchorage outlines in scene
+		ProjectionIndex anchorageOutlinesInScene = getAnchorageOutlinesInScene(
+				anchorage, anchorageReferenceGeometryInLocal);
+
+		// transform anchored reference point to scene
+		Point anchoredReferencePointInScene = NodeUtils.localToScene(anchored,
+				anchoredReferencePointInLocal);
+
+		// compute nearest projection of the anchored reference point on the
+		// anchorage outlines
+		if (listProjection) {
+			List<ICurve> outlines = Arrays
+					.asList(anchorageOutlinesInScene.getOutlines());
+			return () -> computeProjectionInScene(outlines,
+					anchoredReferencePointInScene, parameters);
+		}
+		return () -> computeProjectionInScene(anchorageOutlinesInScene,
+				anchoredReferencePointInScene, parameters);
+	}
+}
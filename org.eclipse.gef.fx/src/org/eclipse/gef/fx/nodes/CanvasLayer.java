@@ -0,0 +1,710 @@
+/*******************************************************************************
+ * Copyright (c) 2026 itemis AG and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     itemis AG - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.fx.nodes;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.eclipse.gef.geometry.convert.fx.FX2Geometry;
+import org.eclipse.gef.geometry.planar.ICurve;
+import org.eclipse.gef.geometry.planar.IGeometry;
+import org.eclipse.gef.geometry.planar.IShape;
+import org.eclipse.gef.geometry.planar.LooseQuadTree;
+import org.eclipse.gef.geometry.planar.Path;
+import org.eclipse.gef.geometry.planar.Path.Segment;
+import org.eclipse.gef.geometry.planar.Point;
+import org.eclipse.gef.geometry.planar.Rectangle;
+import org.eclipse.gef.geometry.planar.SpatialIndex;
+
+import javafx.beans.InvalidationListener;
+import javafx.beans.property.BooleanProperty;
+import javafx.beans.property.SimpleBooleanProperty;
+import javafx.event.EventHandler;
+import javafx.geometry.BoundingBox;
+import javafx.geometry.Bounds;
+import javafx.geometry.Point2D;
+import javafx.scene.Group;
+import javafx.scene.Node;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.input.MouseEvent;
+import javafx.scene.layout.Region;
+import javafx.scene.paint.Paint;
+import javafx.scene.shape.FillRule;
+import javafx.scene.transform.NonInvertibleTransformException;
+import javafx.scene.transform.Transform;
+import javafx.scene.transform.Translate;
+
+/**
+ * The {@link CanvasLayer} renders a large number of static, non-interactive
+ * {@link Item}s to a single {@link Canvas}, instead of representing each of
+ * them by an individual {@link Node}. It is provided by
+ * {@link InfiniteCanvas#getCanvasLayer()} and is rendered below the
+ * {@link InfiniteCanvas#getContentGroup() content group}. The geometries of
+ * the {@link Item}s are interpreted within the local coordinate system of the
+ * {@link InfiniteCanvas#getContentGroup() content group}, i.e. they are
+ * scrolled and transformed together with the contents.
+ * <p>
+ * The {@link Canvas} only covers the visible area of the
+ * {@link InfiniteCanvas}, and it is repainted (at most once per pulse) when
+ * the {@link Item}s, the scroll offset, or the content transformation change.
+ * The {@link Item}s are maintained within a spatial index, so that only the
+ * visible {@link Item}s are painted. The bounds of the {@link Item}s are
+ * included within the {@link InfiniteCanvas#getContentBounds() content bounds}
+ * of the {@link InfiniteCanvas}, so that they can be scrolled to.
+ * <p>
+ * Individual {@link Item}s can be {@link #promote(Item) promoted} to live
+ * {@link Node}s, e.g. when they are selected, so that they can be interacted
+ * with. The live {@link Node}s are created by the
+ * {@link #setNodeFactory(Function) node factory} and rendered in place of the
+ * promoted {@link Item}s. If {@link #hoverPromotionProperty() hover promotion}
+ * is enabled (which is the default), the {@link Item} under the mouse is
+ * promoted automatically, and demoted again when the mouse leaves it.
+ * <p>
+ * Please note that, analogous to {@link GeometryNode}, changes to the
+ * {@link IGeometry} of an {@link Item} are not recognized. In order to change
+ * an {@link Item}, it has to be removed and a new {@link Item} has to be
+ * added.
+ */
+public class CanvasLayer extends Group {
+
+	/**
+	 * An {@link Item} combines an {@link IGeometry} with the visual properties
+	 * that are used to paint it.
+	 */
+	public static class Item {
+
+		private final IGeometry geometry;
+		private final Paint fill;
+		private final Paint stroke;
+		private final double strokeWidth;
+		private Path path;
+
+		/**
+		 * Constructs a new {@link Item} for the given {@link IGeometry} and
+		 * visual properties.
+		 *
+		 * @param geometry
+		 *            The {@link IGeometry} to paint.
+		 * @param fill
+		 *            The {@link Paint} that is used to fill the
+		 *            {@link IGeometry}, or <code>null</code>.
+		 * @param stroke
+		 *            The {@link Paint} that is used to stroke the
+		 *            {@link IGeometry}, or <code>null</code>.
+		 * @param strokeWidth
+		 *            The stroke width.
+		 */
+		public Item(IGeometry geometry, Paint fill, Paint stroke,
+				double strokeWidth) {
+			if (geometry == null) {
+				throw new IllegalArgumentException("geometry may not be null.");
+			}
+			if (strokeWidth < 0) {
+				throw new IllegalArgumentException(
+						"strokeWidth may not be negative.");
+			}
+			this.geometry = geometry;
+			this.fill = fill;
+			this.stroke = stroke;
+			this.strokeWidth = strokeWidth;
+		}
+
+		/**
+		 * Returns the bounds of this {@link Item}, including the stroke.
+		 *
+		 * @return The bounds of this {@link Item}.
+		 */
+		public Rectangle getBounds() {
+			Rectangle bounds = geometry.getBounds();
+			if (stroke != null) {
+				bounds.expand(strokeWidth / 2, strokeWidth / 2);
+			}
+			return bounds;
+		}
+
+		/**
+		 * Returns the {@link Paint} that is used to fill the
+		 * {@link IGeometry}, or <code>null</code>.
+		 *
+		 * @return The fill of this {@link Item}.
+		 */
+		public Paint getFill() {
+			return fill;
+		}
+
+		/**
+		 * Returns the {@link IGeometry} that is painted for this {@link Item}.
+		 *
+		 * @return The {@link IGeometry} of this {@link Item}.
+		 */
+		public IGeometry getGeometry() {
+			return geometry;
+		}
+
+		private Path getPath() {
+			// the path is computed lazily and cached, as it is needed for
+			// each repaint
+			if (path == null) {
+				path = geometry.toPath();
+			}
+			return path;
+		}
+
+		/**
+		 * Returns the {@link Paint} that is used to stroke the
+		 * {@link IGeometry}, or <code>null</code>.
+		 *
+		 * @return The stroke of this {@link Item}.
+		 */
+		public Paint getStroke() {
+			return stroke;
+		}
+
+		/**
+		 * Returns the stroke width.
+		 *
+		 * @return The stroke width of this {@link Item}.
+		 */
+		public double getStrokeWidth() {
+			return strokeWidth;
+		}
+
+		/**
+		 * Returns <code>true</code> if the given {@link Point} lies on the
+		 * painted area of this {@link Item}, i.e. within its fill or on its
+		 * stroke (extended by the given tolerance).
+		 *
+		 * @param point
+		 *            The {@link Point} to test.
+		 * @param tolerance
+		 *            The distance by which the stroke is extended.
+		 * @return <code>true</code> if the given {@link Point} hits this
+		 *         {@link Item}, otherwise <code>false</code>.
+		 */
+		boolean hits(Point point, double tolerance) {
+			if (fill != null && geometry.contains(point)) {
+				return true;
+			}
+			if (stroke == null) {
+				return false;
+			}
+			ICurve outline = geometry instanceof ICurve ? (ICurve) geometry
+					: geometry instanceof IShape
+							? ((IShape) geometry).getOutline() : null;
+			if (outline == null) {
+				return geometry.contains(point);
+			}
+			Point projection = outline.getProjection(point);
+			return projection != null && projection
+					.getDistance(point) <= strokeWidth / 2 + tolerance;
+		}
+	}
+
+	private final Region viewport;
+	private final Node content;
+	private final Canvas canvas = new Canvas();
+	private final Group promotedGroup = new Group();
+
+	// the items in paint order, mapped to their sequence number
+	private final Map<Item, Long> items = new LinkedHashMap<>();
+	private final SpatialIndex<Item> index = new LooseQuadTree<>();
+	private long sequence;
+
+	private final Runnable boundsInvalidationHandler;
+	// union of the item bounds (min-x, min-y, max-x, max-y)
+	private final double[] itemBounds = new double[4];
+	private boolean itemBoundsInvalid = true;
+
+	private final Map<Item, Node> promotedNodes = new HashMap<>();
+	private Function<? super Item, ? extends Node> nodeFactory = CanvasLayer::createNode;
+	private final BooleanProperty hoverPromotionProperty = new SimpleBooleanProperty(
+			true);
+	private Item hoveredItem;
+
+	private boolean repaintInvalid = true;
+	private final InvalidationListener repaintListener = observable -> invalidate();
+	private final EventHandler<MouseEvent> hoverFilter = this::onMouseMoved;
+	private final EventHandler<MouseEvent> exitHandler = event -> updateHoveredItem(
+			null);
+
+	/**
+	 * Constructs a new {@link CanvasLayer} that renders {@link Item}s, whose
+	 * geometries are interpreted within the local coordinate system of the
+	 * given content {@link Node}, within the visible area of the given
+	 * viewport {@link Region}.
+	 *
+	 * @param viewport
+	 *            The {@link Region} that determines the visible area.
+	 * @param content
+	 *            The {@link Node} within whose local coordinate system the
+	 *            {@link Item}s are located.
+	 * @param boundsInvalidationHandler
+	 *            A {@link Runnable} that is executed when the union of the
+	 *            bounds of the {@link Item}s may have changed.
+	 */
+	CanvasLayer(Region viewport, Node content,
+			Runnable boundsInvalidationHandler) {
+		this.viewport = viewport;
+		this.content = content;
+		this.boundsInvalidationHandler = boundsInvalidationHandler;
+		canvas.setMouseTransparent(true);
+		getChildren().addAll(canvas, promotedGroup);
+
+		// repaint when the visible area or the transformations change
+		viewport.widthProperty().addListener(repaintListener);
+		viewport.heightProperty().addListener(repaintListener);
+		viewport.localToSceneTransformProperty().addListener(repaintListener);
+		content.localToSceneTransformProperty().addListener(repaintListener);
+		localToSceneTransformProperty().addListener(repaintListener);
+
+		// promote the item under the mouse
+		hoverPromotionProperty.addListener((observable, oldValue,
+				newValue) -> {
+			if (!newValue) {
+				updateHoveredItem(null);
+			}
+		});
+		viewport.addEventFilter(MouseEvent.MOUSE_MOVED, hoverFilter);
+		viewport.addEventHandler(MouseEvent.MOUSE_EXITED, exitHandler);
+	}
+
+	private static Node createNode(Item item) {
+		GeometryNode<IGeometry> node = new GeometryNode<>(item.getGeometry());
+		node.setFill(item.getFill());
+		node.setStroke(item.getStroke());
+		node.setStrokeWidth(item.getStrokeWidth());
+		return node;
+	}
+
+	/**
+	 * Adds the given {@link Item} to this {@link CanvasLayer}. The
+	 * {@link Item}s are painted in the order in which they are added.
+	 *
+	 * @param item
+	 *            The {@link Item} to add.
+	 */
+	public void addItem(Item item) {
+		if (item == null) {
+			throw new IllegalArgumentException("item may not be null.");
+		}
+		if (items.containsKey(item)) {
+			return;
+		}
+		items.put(item, sequence++);
+		Rectangle bounds = item.getBounds();
+		index.insert(item, bounds);
+		if (!itemBoundsInvalid) {
+			itemBounds[0] = Math.min(itemBounds[0], bounds.getX());
+			itemBounds[1] = Math.min(itemBounds[1], bounds.getY());
+			itemBounds[2] = Math.max(itemBounds[2],
+					bounds.getX() + bounds.getWidth());
+			itemBounds[3] = Math.max(itemBounds[3],
+					bounds.getY() + bounds.getHeight());
+		}
+		invalidate();
+		boundsInvalidationHandler.run();
+	}
+
+	/**
+	 * Adds all given {@link Item}s to this {@link CanvasLayer}.
+	 *
+	 * @param items
+	 *            The {@link Item}s to add.
+	 */
+	public void addItems(Collection<? extends Item> items) {
+		for (Item item : items) {
+			addItem(item);
+		}
+	}
+
+	/**
+	 * Removes the live {@link Node} for the given {@link Item}, so that the
+	 * {@link Item} is painted to the {@link Canvas} again.
+	 *
+	 * @param item
+	 *            The {@link Item} to demote.
+	 */
+	public void demote(Item item) {
+		if (item == hoveredItem) {
+			hoveredItem = null;
+		}
+		Node node = promotedNodes.remove(item);
+		if (node != null) {
+			promotedGroup.getChildren().remove(node);
+			invalidate();
+		}
+	}
+
+	/**
+	 * Returns the {@link Canvas} to which the {@link Item}s are painted.
+	 *
+	 * @return The {@link Canvas} of this {@link CanvasLayer}.
+	 */
+	public Canvas getCanvas() {
+		return canvas;
+	}
+
+	/**
+	 * Returns the topmost {@link Item} that is hit by the given {@link Point},
+	 * or <code>null</code> if no {@link Item} is hit. The {@link Point} is
+	 * interpreted within the coordinate system of the content, and the stroke
+	 * is extended by the distance that corresponds to a single pixel.
+	 *
+	 * @param point
+	 *            The {@link Point} within the coordinate system of the
+	 *            content.
+	 * @return The topmost {@link Item} at the given {@link Point}, or
+	 *         <code>null</code>.
+	 */
+	public Item getItemAt(Point point) {
+		// one pixel within the coordinate system of the content
+		Transform contentToScene = content.getLocalToSceneTransform();
+		double scale = Math.sqrt(Math.abs(contentToScene.getMxx()
+				* contentToScene.getMyy()
+				- contentToScene.getMxy() * contentToScene.getMyx()));
+		double tolerance = scale > 0 ? 1 / scale : 1;
+		Item topmost = null;
+		long topmostSequence = -1;
+		for (Item item : index.queryRange(new Rectangle(point.x - tolerance,
+				point.y - tolerance, 2 * tolerance, 2 * tolerance))) {
+			long itemSequence = items.get(item);
+			if (itemSequence > topmostSequence
+					&& item.hits(point, tolerance)) {
+				topmost = item;
+				topmostSequence = itemSequence;
+			}
+		}
+		return topmost;
+	}
+
+	/**
+	 * Returns the union of the bounds of the {@link Item}s within the
+	 * coordinate system of the content, or <code>null</code> if this
+	 * {@link CanvasLayer} does not contain any {@link Item}s.
+	 *
+	 * @return The union of the bounds of the {@link Item}s, or
+	 *         <code>null</code>.
+	 */
+	Rectangle getItemBounds() {
+		if (items.isEmpty()) {
+			return null;
+		}
+		if (itemBoundsInvalid) {
+			itemBoundsInvalid = false;
+			itemBounds[0] = itemBounds[1] = Double.POSITIVE_INFINITY;
+			itemBounds[2] = itemBounds[3] = Double.NEGATIVE_INFINITY;
+			for (Item item : items.keySet()) {
+				Rectangle bounds = item.getBounds();
+				itemBounds[0] = Math.min(itemBounds[0], bounds.getX());
+				itemBounds[1] = Math.min(itemBounds[1], bounds.getY());
+				itemBounds[2] = Math.max(itemBounds[2],
+						bounds.getX() + bounds.getWidth());
+				itemBounds[3] = Math.max(itemBounds[3],
+						bounds.getY() + bounds.getHeight());
+			}
+		}
+		return new Rectangle(itemBounds[0], itemBounds[1],
+				itemBounds[2] - itemBounds[0], itemBounds[3] - itemBounds[1]);
+	}
+
+	/**
+	 * Returns an unmodifiable list containing the {@link Item}s of this
+	 * {@link CanvasLayer} in paint order.
+	 *
+	 * @return The {@link Item}s of this {@link CanvasLayer}.
+	 */
+	public List<Item> getItems() {
+		return Collections.unmodifiableList(new ArrayList<>(items.keySet()));
+	}
+
+	/**
+	 * Returns the live {@link Node} for the given {@link Item}, or
+	 * <code>null</code> if the {@link Item} is not {@link #promote(Item)
+	 * promoted}.
+	 *
+	 * @param item
+	 *            The {@link Item} for which to return the live {@link Node}.
+	 * @return The live {@link Node} for the given {@link Item}, or
+	 *         <code>null</code>.
+	 */
+	public Node getPromotedNode(Item item) {
+		return promotedNodes.get(item);
+	}
+
+	/**
+	 * Returns the {@link BooleanProperty} that determines if the {@link Item}
+	 * under the mouse is promoted automatically. Hover promotion is enabled
+	 * per default.
+	 *
+	 * @return The {@link BooleanProperty} that determines if the {@link Item}
+	 *         under the mouse is promoted.
+	 */
+	public BooleanProperty hoverPromotionProperty() {
+		return hoverPromotionProperty;
+	}
+
+	private void invalidate() {
+		if (!repaintInvalid) {
+			repaintInvalid = true;
+			requestLayout();
+		}
+	}
+
+	/**
+	 * Returns the value of the {@link #hoverPromotionProperty()}.
+	 *
+	 * @return The value of the {@link #hoverPromotionProperty()}.
+	 */
+	public boolean isHoverPromotion() {
+		return hoverPromotionProperty.get();
+	}
+
+	/**
+	 * Returns <code>true</code> if the given {@link Item} is currently
+	 * represented by a live {@link Node}. Otherwise returns <code>false</code>.
+	 *
+	 * @param item
+	 *            The {@link Item} to test.
+	 * @return <code>true</code> if the given {@link Item} is promoted,
+	 *         otherwise <code>false</code>.
+	 */
+	public boolean isPromoted(Item item) {
+		return promotedNodes.containsKey(item);
+	}
+
+	@Override
+	protected void layoutChildren() {
+		super.layoutChildren();
+		// repaint at most once per pass
+		if (repaintInvalid) {
+			repaint();
+		}
+	}
+
+	private void onMouseMoved(MouseEvent event) {
+		if (!isHoverPromotion()) {
+			return;
+		}
+		Point2D point = content.sceneToLocal(event.getSceneX(),
+				event.getSceneY());
+		updateHoveredItem(point == null ? null
+				: getItemAt(new Point(point.getX(), point.getY())));
+	}
+
+	private void paint(GraphicsContext gc, Item item) {
+		Path path = item.getPath();
+		gc.beginPath();
+		for (Segment segment : path.getSegments()) {
+			Point[] points = segment.getPoints();
+			switch (segment.getType()) {
+			case Segment.MOVE_TO:
+				gc.moveTo(points[0].x, points[0].y);
+				break;
+			case Segment.LINE_TO:
+				gc.lineTo(points[0].x, points[0].y);
+				break;
+			case Segment.QUAD_TO:
+				gc.quadraticCurveTo(points[0].x, points[0].y, points[1].x,
+						points[1].y);
+				break;
+			case Segment.CUBIC_TO:
+				gc.bezierCurveTo(points[0].x, points[0].y, points[1].x,
+						points[1].y, points[2].x, points[2].y);
+				break;
+			case Segment.CLOSE:
+				gc.closePath();
+				break;
+			default:
+				throw new IllegalStateException(
+						"Unknown Path.Segment: <" + segment + ">");
+			}
+		}
+		if (item.getFill() != null) {
+			gc.setFillRule(path.getWindingRule() == Path.WIND_EVEN_ODD
+					? FillRule.EVEN_ODD : FillRule.NON_ZERO);
+			gc.setFill(item.getFill());
+			gc.fill();
+		}
+		if (item.getStroke() != null && item.getStrokeWidth() > 0) {
+			gc.setStroke(item.getStroke());
+			gc.setLineWidth(item.getStrokeWidth());
+			gc.stroke();
+		}
+	}
+
+	/**
+	 * Promotes the given {@link Item} to a live {@link Node}, which is created
+	 * by the {@link #setNodeFactory(Function) node factory} and rendered in
+	 * place of the {@link Item}. If the {@link Item} is already promoted, its
+	 * live {@link Node} is returned.
+	 *
+	 * @param item
+	 *            The {@link Item} to promote.
+	 * @return The live {@link Node} for the given {@link Item}.
+	 */
+	public Node promote(Item item) {
+		if (!items.containsKey(item)) {
+			throw new IllegalArgumentException(
+					"The given item is not contained in this CanvasLayer.");
+		}
+		if (item == hoveredItem) {
+			// keep the item promoted when the mouse leaves it
+			hoveredItem = null;
+		}
+		Node node = promotedNodes.get(item);
+		if (node == null) {
+			node = nodeFactory.apply(item);
+			promotedNodes.put(item, node);
+			promotedGroup.getChildren().add(node);
+			invalidate();
+		}
+		return node;
+	}
+
+	/**
+	 * Removes the given {@link Item} from this {@link CanvasLayer}. If the
+	 * {@link Item} is promoted, its live {@link Node} is removed as well.
+	 *
+	 * @param item
+	 *            The {@link Item} to remove.
+	 * @return <code>true</code> if the {@link Item} was removed, otherwise
+	 *         <code>false</code>.
+	 */
+	public boolean removeItem(Item item) {
+		if (items.remove(item) == null) {
+			return false;
+		}
+		demote(item);
+		index.remove(item);
+		// the union only shrinks if the item touched its boundary
+		Rectangle bounds = item.getBounds();
+		if (bounds.getX() <= itemBounds[0] || bounds.getY() <= itemBounds[1]
+				|| bounds.getX() + bounds.getWidth() >= itemBounds[2]
+				|| bounds.getY() + bounds.getHeight() >= itemBounds[3]) {
+			itemBoundsInvalid = true;
+		}
+		invalidate();
+		boundsInvalidationHandler.run();
+		return true;
+	}
+
+	/**
+	 * Repaints the visible {@link Item}s that are not promoted and aligns the
+	 * {@link Canvas} and the live {@link Node}s with the visible area and the
+	 * content. Retrieving the transformations and the size of the viewport
+	 * revalidates the observed properties.
+	 */
+	private void repaint() {
+		repaintInvalid = false;
+		double width = viewport.getWidth();
+		double height = viewport.getHeight();
+		viewport.getLocalToSceneTransform();
+		Transform contentToScene = content.getLocalToSceneTransform();
+		Transform layerToScene = getLocalToSceneTransform();
+
+		// align the live nodes with the content
+		Transform contentToLayer;
+		try {
+			contentToLayer = layerToScene.createInverse()
+					.createConcatenation(contentToScene);
+		} catch (NonInvertibleTransformException e) {
+			return;
+		}
+		promotedGroup.getTransforms().setAll(contentToLayer);
+
+		// cover the visible area with the canvas
+		Point2D origin = sceneToLocal(viewport.localToScene(0, 0));
+		canvas.relocate(origin.getX(), origin.getY());
+		canvas.setWidth(width);
+		canvas.setHeight(height);
+
+		GraphicsContext gc = canvas.getGraphicsContext2D();
+		gc.setTransform(1, 0, 0, 1, 0, 0);
+		gc.clearRect(0, 0, width, height);
+		Bounds visibleBounds = content.sceneToLocal(
+				viewport.localToScene(new BoundingBox(0, 0, width, height)));
+		if (visibleBounds == null || items.isEmpty()) {
+			return;
+		}
+
+		// paint the visible items in paint order
+		List<Item> visibleItems = index
+				.queryRange(FX2Geometry.toRectangle(visibleBounds));
+		visibleItems.sort((a, b) -> Long.compare(items.get(a), items.get(b)));
+		Transform contentToCanvas = new Translate(-origin.getX(),
+				-origin.getY()).createConcatenation(contentToLayer);
+		gc.setTransform(contentToCanvas.getMxx(), contentToCanvas.getMyx(),
+				contentToCanvas.getMxy(), contentToCanvas.getMyy(),
+				contentToCanvas.getTx(), contentToCanvas.getTy());
+		for (Item item : visibleItems) {
+			if (!promotedNodes.containsKey(item)) {
+				paint(gc, item);
+			}
+		}
+	}
+
+	/**
+	 * Sets the value of the {@link #hoverPromotionProperty()} to the given
+	 * value.
+	 *
+	 * @param hoverPromotion
+	 *            <code>true</code> to promote the {@link Item} under the
+	 *            mouse, otherwise <code>false</code>.
+	 */
+	public void setHoverPromotion(boolean hoverPromotion) {
+		hoverPromotionProperty.set(hoverPromotion);
+	}
+
+	/**
+	 * Sets the {@link Function} that creates the live {@link Node}s for
+	 * {@link #promote(Item) promoted} {@link Item}s. Per default, a
+	 * {@link GeometryNode} is created for the {@link IGeometry} of an
+	 * {@link Item}, using its fill, stroke, and stroke width. The geometry of
+	 * the created {@link Node}s is interpreted within the coordinate system of
+	 * the content.
+	 *
+	 * @param nodeFactory
+	 *            The {@link Function} that creates the live {@link Node}s.
+	 */
+	public void setNodeFactory(
+			Function<? super Item, ? extends Node> nodeFactory) {
+		if (nodeFactory == null) {
+			throw new IllegalArgumentException(
+					"nodeFactory may not be null.");
+		}
+		this.nodeFactory = nodeFactory;
+	}
+
+	private void updateHoveredItem(Item item) {
+		if (item == hoveredItem) {
+			return;
+		}
+		if (hoveredItem != null) {
+			demote(hoveredItem);
+		}
+		if (item != null && !isPromoted(item)) {
+			promote(item);
+			// remember that the item was promoted because of the mouse
+			hoveredItem = item;
+		}
+	}
+
+}
@@ -0,0 +1,284 @@
+/*******************************************************************************
+ * Copyright (c) 2026 itemis AG and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     itemis AG - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.fx.nodes;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.eclipse.gef.geometry.convert.fx.FX2Geometry;
+import org.eclipse.gef.geometry.planar.LooseQuadTree;
+import org.eclipse.gef.geometry.planar.Rectangle;
+import org.eclipse.gef.geometry.planar.SpatialIndex;
+
+import javafx.beans.InvalidationListener;
+import javafx.beans.property.ReadOnlyProperty;
+import javafx.collections.ListChangeListener;
+import javafx.scene.Group;
+import javafx.scene.Node;
+
+/**
+ * The {@link ChildBoundsTracker} maintains the bounds-in-parent of the
+ * children of a {@link Group} incrementally, so that their union can be
+ * provided without letting JavaFX union the bounds of all children whenever a
+ * single child changes.
+ * <p>
+ * The bounds and the visibility of the children are observed. Changed children
+ * are only recorded, and their bounds are retrieved lazily, i.e. when the
+ * union is requested. The union is extended by the bounds of changed children,
+ * and only recomputed (from the recorded bounds) in case a child that
+ * contributed to the boundary of the union changed or was removed.
+ * Additionally, the bounds of the children are maintained within a
+ * {@link SpatialIndex}, so that the children within an area can be found
+ * efficiently.
+ */
+final class ChildBoundsTracker {
+
+	/**
+	 * The recorded bounds of a child, and whether or not they are included
+	 * within the union.
+	 */
+	private static final class Entry {
+		private Rectangle bounds;
+		private boolean included;
+	}
+
+	private final Group group;
+	private final Predicate<Node> included;
+	private final Runnable invalidationHandler;
+	private final SpatialIndex<Node> index = new LooseQuadTree<>();
+	private final Map<Node, Entry> entries = new HashMap<>();
+	private final Set<Node> invalidChildren = new LinkedHashSet<>();
+	private boolean notificationsSuspended;
+
+	// union of the included child bounds (min-x, min-y, max-x, max-y)
+	private final double[] bounds = new double[4];
+	private boolean boundsInvalid = true;
+	private int includedCount;
+
+	private final InvalidationListener childListener = observable -> invalidate(
+			(Node) ((ReadOnlyProperty<?>) observable).getBean());
+	private final ListChangeListener<Node> childrenListener = change -> {
+		while (change.next()) {
+			for (Node child : change.getRemoved()) {
+				remove(child);
+			}
+			for (Node child : change.getAddedSubList()) {
+				add(child);
+			}
+		}
+		notifyInvalidation();
+	};
+
+	/**
+	 * Constructs a new {@link ChildBoundsTracker} for the children of the
+	 * given {@link Group}.
+	 *
+	 * @param group
+	 *            The {@link Group} whose children are tracked.
+	 * @param included
+	 *            A {@link Predicate} that determines if the bounds of a child
+	 *            are included within the union, e.g. depending on its
+	 *            visibility.
+	 * @param invalidationHandler
+	 *            A {@link Runnable} that is executed when the children or
+	 *            their bounds changed.
+	 */
+	ChildBoundsTracker(Group group, Predicate<Node> included,
+			Runnable invalidationHandler) {
+		this.group = group;
+		this.included = included;
+		this.invalidationHandler = invalidationHandler;
+		for (Node child : group.getChildren()) {
+			add(child);
+		}
+		group.getChildren().addListener(childrenListener);
+	}
+
+	private void add(Node child) {
+		if (entries.containsKey(child)) {
+			return;
+		}
+		child.boundsInParentProperty().addListener(childListener);
+		child.visibleProperty().addListener(childListener);
+		Entry entry = new Entry();
+		entry.bounds = FX2Geometry.toRectangle(child.getBoundsInParent());
+		entry.included = included.test(child);
+		entries.put(child, entry);
+		index.insert(child, entry.bounds);
+		if (entry.included) {
+			includedCount++;
+			union(entry.bounds);
+		}
+	}
+
+	/**
+	 * Unregisters all listeners.
+	 */
+	void dispose() {
+		group.getChildren().removeListener(childrenListener);
+		for (Node child : new ArrayList<>(entries.keySet())) {
+			remove(child);
+		}
+	}
+
+	/**
+	 * Returns the union of the bounds-in-parent of the included children, or
+	 * <code>null</code> if no children are included.
+	 *
+	 * @return The union of the bounds of the included children, or
+	 *         <code>null</code>.
+	 */
+	Rectangle getBounds() {
+		validate();
+		if (includedCount == 0) {
+			return null;
+		}
+		if (boundsInvalid) {
+			boundsInvalid = false;
+			bounds[0] = bounds[1] = Double.POSITIVE_INFINITY;
+			bounds[2] = bounds[3] = Double.NEGATIVE_INFINITY;
+			for (Entry entry : entries.values()) {
+				if (entry.included) {
+					union(entry.bounds);
+				}
+			}
+		}
+		return new Rectangle(bounds[0], bounds[1], bounds[2] - bounds[0],
+				bounds[3] - bounds[1]);
+	}
+
+	/**
+	 * Returns the children (included or not) whose bounds touch the given
+	 * range.
+	 *
+	 * @param range
+	 *            The range within the local coordinate system of the
+	 *            {@link Group}.
+	 * @return The children whose bounds touch the given range.
+	 */
+	List<Node> getChildren(Rectangle range) {
+		validate();
+		return index.queryRange(range);
+	}
+
+	/**
+	 * Returns the {@link Group} whose children are tracked.
+	 *
+	 * @return The {@link Group} whose children are tracked.
+	 */
+	Group getGroup() {
+		return group;
+	}
+
+	private void invalidate(Node child) {
+		if (invalidChildren.add(child) && invalidChildren.size() == 1) {
+			notifyInvalidation();
+		}
+	}
+
+	// returns true if the given bounds touch the boundary of the union, i.e.
+	// the union may shrink if they change
+	private boolean isOnBoundary(Rectangle r) {
+		return r.getX() <= bounds[0] || r.getY() <= bounds[1]
+				|| r.getX() + r.getWidth() >= bounds[2]
+				|| r.getY() + r.getHeight() >= bounds[3];
+	}
+
+	private void notifyInvalidation() {
+		if (!notificationsSuspended) {
+			invalidationHandler.run();
+		}
+	}
+
+	private void remove(Node child) {
+		Entry entry = entries.remove(child);
+		if (entry == null) {
+			return;
+		}
+		child.boundsInParentProperty().removeListener(childListener);
+		child.visibleProperty().removeListener(childListener);
+		index.remove(child);
+		invalidChildren.remove(child);
+		if (entry.included) {
+			includedCount--;
+			shrink(entry.bounds);
+		}
+	}
+
+	/**
+	 * Specifies whether or not the invalidation handler is executed upon
+	 * changes. While notifications are suspended, changes are still recorded.
+	 *
+	 * @param notificationsSuspended
+	 *            <code>true</code> to suspend notifications, <code>false</code>
+	 *            to resume them.
+	 */
+	void setNotificationsSuspended(boolean notificationsSuspended) {
+		this.notificationsSuspended = notificationsSuspended;
+	}
+
+	private void shrink(Rectangle r) {
+		if (!boundsInvalid && isOnBoundary(r)) {
+			boundsInvalid = true;
+		}
+	}
+
+	private void union(Rectangle r) {
+		if (boundsInvalid) {
+			return;
+		}
+		bounds[0] = Math.min(bounds[0], r.getX());
+		bounds[1] = Math.min(bounds[1], r.getY());
+		bounds[2] = Math.max(bounds[2], r.getX() + r.getWidth());
+		bounds[3] = Math.max(bounds[3], r.getY() + r.getHeight());
+	}
+
+	/**
+	 * Retrieves the bounds and the visibility of all changed children, which
+	 * revalidates the observed properties.
+	 */
+	void validate() {
+		for (Node child : invalidChildren) {
+			Entry entry = entries.get(child);
+			Rectangle r = FX2Geometry.toRectangle(child.getBoundsInParent());
+			boolean include = included.test(child);
+			// compare exactly, as the union has to be exact as well
+			boolean changed = r.getX() != entry.bounds.getX()
+					|| r.getY() != entry.bounds.getY()
+					|| r.getWidth() != entry.bounds.getWidth()
+					|| r.getHeight() != entry.bounds.getHeight();
+			if (changed) {
+				index.update(child, r);
+			}
+			if (entry.included && (changed || !include)) {
+				shrink(entry.bounds);
+			}
+			if (entry.included != include) {
+				includedCount += include ? 1 : -1;
+			}
+			entry.bounds = r;
+			entry.included = include;
+			if (include) {
+				union(r);
+			}
+		}
+		invalidChildren.clear();
+	}
+
+}
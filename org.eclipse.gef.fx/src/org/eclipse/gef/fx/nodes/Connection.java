@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2014, 2017 itemis AG and others.
+ * Copyright (c) 2014, 2026 itemis AG and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -15,6 +15,7 @@
 package org.eclipse.gef.fx.nodes;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.ConcurrentModificationException;
 import java.util.HashMap;
@@ -33,19 +34,24 @@ import org.eclipse.gef.fx.anchors.IAnchor;
 import org.eclipse.gef.fx.anchors.StaticAnchor;
 import org.eclipse.gef.geometry.convert.fx.FX2Geometry;
 import org.eclipse.gef.geometry.convert.fx.Geometry2FX;
+import org.eclipse.gef.geometry.planar.AffineTransform;
 import org.eclipse.gef.geometry.planar.BezierCurve;
 import org.eclipse.gef.geometry.planar.ICurve;
 import org.eclipse.gef.geometry.planar.Point;
 import org.eclipse.gef.geometry.planar.PolyBezier;
+import org.eclipse.gef.geometry.planar.Polyline;
 
 import com.google.common.collect.Iterators;
 
+import javafx.application.Platform;
+import javafx.beans.property.BooleanProperty;
 import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.ReadOnlyBooleanProperty;
 import javafx.beans.property.ReadOnlyBooleanPropertyBase;
 import javafx.beans.property.ReadOnlyIntegerProperty;
 import javafx.beans.property.ReadOnlyIntegerPropertyBase;
 import javafx.beans.property.ReadOnlyListProperty;
+import javafx.beans.property.SimpleBooleanProperty;
 import javafx.beans.property.SimpleObjectProperty;
 import javafx.beans.value.ChangeListener;
 import javafx.beans.value.ObservableValue;
@@ -77,6 +83,20 @@ import javafx.scene.transform.Transform;
  * {@link Connection} can be controlled via start and end decorations. They will
  * be rendered 'on-top' of the curveProperty shape and the curveProperty shape
  * will be properly clipped at the decorations (so it does not paint through).
+ * <p>
+ * By default, the {@link Connection} is {@link #refresh() refreshed}
+ * immediately upon each change. If {@link #setDeferredRefresh(boolean)
+ * deferred refresh} is enabled, changes only mark the {@link Connection} as
+ * dirty, and the refresh is performed (at most) once per pulse within the
+ * layout pass, or when the points of the {@link Connection} are queried. The
+ * number of requested and performed refreshes can be obtained via
+ * {@link #getRefreshRequestCount()} and {@link #getRefreshCount()}.
+ * <p>
+ * When the {@link #reducedDetailProperty() reduced detail} property is set
+ * (e.g. by a {@link LevelOfDetail} at low zoom levels), the points are
+ * connected by straight lines regardless of the {@link #getInterpolator()
+ * interpolator}, and the decorations are neither rendered nor used for
+ * clipping the curve.
  *
  * @author anyssen
  * @author mwienand
@@ -236,6 +256,29 @@ public class Connection extends Group {
 	 */
 	private static final String CONTROL_POINT_ROLE_PREFIX = "controlpoint-";
 
+	/**
+	 * The {@link IConnectionInterpolator} that is used when the
+	 * {@link #reducedDetailProperty()} is set. It connects the points by
+	 * straight lines and removes the clip that is used for the decorations.
+	 */
+	private static final IConnectionInterpolator REDUCED_DETAIL_INTERPOLATOR = new IConnectionInterpolator() {
+		@Override
+		public void interpolate(Connection connection) {
+			if (!(connection.getCurve() instanceof GeometryNode)) {
+				return;
+			}
+			@SuppressWarnings("unchecked")
+			GeometryNode<ICurve> curveNode = (GeometryNode<ICurve>) connection
+					.getCurve();
+			ICurve newGeometry = new Polyline(connection
+					.getPointsUnmodifiable().toArray(new Point[] {}));
+			if (!newGeometry.equals(curveNode.getGeometry())) {
+				curveNode.setGeometry(newGeometry);
+			}
+			curveNode.setClip(null);
+		}
+	};
+
 	private ObjectProperty<Node> curveProperty = new SimpleObjectProperty<>();
 	private ObjectProperty<Node> startDecorationProperty = null;
 	private ObjectProperty<Node> endDecorationProperty = null;
@@ -243,6 +286,8 @@ public class Connection extends Group {
 			new StraightRouter());
 	private ObjectProperty<IConnectionInterpolator> interpolatorProperty = new SimpleObjectProperty<>(
 			new PolylineInterpolator());
+	private BooleanProperty reducedDetailProperty = new SimpleBooleanProperty(
+			false);
 
 	// XXX: Maintain anchors in a sorted map, so we can use it to determine the
 	// mapping between anchor keys and anchor indexes.
@@ -286,12 +331,9 @@ public class Connection extends Group {
 			@Override
 			public void changed(ObservableValue<? extends Bounds> observable,
 					Bounds oldValue, Bounds newValue) {
-				if (inRefresh) {
-					return;
-				}
 				// refresh decoration clip in case the layout bounds of
 				// the decorations have changed
-				refresh();
+				refreshInterpolation();
 			}
 		};
 
@@ -309,11 +351,28 @@ public class Connection extends Group {
 				newValue.layoutBoundsProperty()
 						.addListener(decorationLayoutBoundsListener);
 			}
-			refresh();
+			refreshInterpolation();
 		}
 	};
 	private boolean inRefresh = false;
 
+	// dirty flags of the refresh pipeline
+	private boolean deferredRefresh = false;
+	private boolean refreshInvalid = false;
+	private boolean routingInvalid = true;
+	private boolean interpolationInvalid = true;
+
+	// the points and anchors at the end of the last refresh, used to skip
+	// routing and interpolation if these inputs did not change
+	private List<Point> refreshedPoints = Collections.emptyList();
+	private List<IAnchor> refreshedAnchors = Collections.emptyList();
+
+	// instrumentation counters
+	private long refreshRequestCount = 0;
+	private long refreshCount = 0;
+	private long routingCount = 0;
+	private long interpolationCount = 0;
+
 	/**
 	 * Constructs a new {@link Connection} whose start and end point are set to
 	 * <code>null</code>.
@@ -346,13 +405,22 @@ public class Connection extends Group {
 					}
 				});
 
+		reducedDetailProperty.addListener(new ChangeListener<Boolean>() {
+			@Override
+			public void changed(ObservableValue<? extends Boolean> observable,
+					Boolean oldValue, Boolean newValue) {
+				// show/hide decorations and switch interpolation
+				refreshInterpolation();
+			}
+		});
+
 		curveProperty.addListener(new ChangeListener<Node>() {
 			private ChangeListener<Transform> transformListener = new ChangeListener<Transform>() {
 				@Override
 				public void changed(
 						ObservableValue<? extends Transform> observable,
 						Transform oldValue, Transform newValue) {
-					refresh();
+					refreshInterpolation();
 				}
 			};
 
@@ -361,7 +429,7 @@ public class Connection extends Group {
 				public void changed(
 						ObservableValue<? extends Bounds> observable,
 						Bounds oldValue, Bounds newValue) {
-					refresh();
+					refreshInterpolation();
 				}
 			};
 
@@ -572,9 +640,10 @@ public class Connection extends Group {
 			@Override
 			public void onChanged(
 					MapChangeListener.Change<? extends AnchorKey, ? extends Point> change) {
-				// if (inRefresh) {
-				// return;
-				// }
+				// changes during refresh are handled by refreshing the points
+				if (inRefresh) {
+					return;
+				}
 				if (change.getKey().equals(anchorKey)) {
 					if (change.wasAdded() && change.wasRemoved()) {
 						Point newPoint = FX2Geometry
@@ -583,7 +652,8 @@ public class Connection extends Group {
 						if (!points.get(getAnchorIndex(anchorKey))
 								.equals(newPoint)) {
 							points.set(getAnchorIndex(anchorKey), newPoint);
-							refresh();
+							// routing is skipped if the points do not change
+							requestRefresh();
 						}
 					}
 				}
@@ -792,6 +862,7 @@ public class Connection extends Group {
 	 *         <code>null</code>.
 	 */
 	public Point getControlPoint(int index) {
+		validateRefresh();
 		int anchorIndex = getAnchorIndex(getControlAnchorKey(index));
 		return anchorIndex < 0 ? null : points.get(anchorIndex);
 	}
@@ -869,6 +940,7 @@ public class Connection extends Group {
 	 *         <code>null</code>.
 	 */
 	public Point getEndPoint() {
+		validateRefresh();
 		int anchorIndex = getAnchorIndex(getEndAnchorKey());
 		return anchorIndex < 0 ? null : points.get(anchorIndex);
 	}
@@ -897,6 +969,18 @@ public class Connection extends Group {
 		return interpolatorProperty.get();
 	}
 
+	/**
+	 * Returns the number of interpolations that were performed by
+	 * {@link #refresh()} since this {@link Connection} was created or the
+	 * counters were reset.
+	 *
+	 * @return The number of interpolations.
+	 * @see #resetRefreshCounters()
+	 */
+	public long getInterpolationCount() {
+		return interpolationCount;
+	}
+
 	/**
 	 * Returns the point at the given index. The start point will be provided
 	 * for <code>index == 0</code>, the end point for the last defined index.
@@ -909,6 +993,7 @@ public class Connection extends Group {
 	 * @see #getPointsUnmodifiable()
 	 */
 	public Point getPoint(int index) {
+		validateRefresh();
 		return points.get(index);
 	}
 
@@ -920,9 +1005,36 @@ public class Connection extends Group {
 	 * @return The {@link Point}s constituting this {@link Connection}.
 	 */
 	public ObservableList<Point> getPointsUnmodifiable() {
+		validateRefresh();
 		return FXCollections.unmodifiableObservableList(points);
 	}
 
+	/**
+	 * Returns the number of refreshes that were performed since this
+	 * {@link Connection} was created or the counters were reset. If
+	 * {@link #isDeferredRefresh() deferred refresh} is enabled, this is at most
+	 * one per pulse.
+	 *
+	 * @return The number of performed refreshes.
+	 * @see #resetRefreshCounters()
+	 */
+	public long getRefreshCount() {
+		return refreshCount;
+	}
+
+	/**
+	 * Returns the number of refreshes that were requested since this
+	 * {@link Connection} was created or the counters were reset. Reentrant
+	 * requests, which are ignored, are not counted. Requests are coalesced if
+	 * {@link #isDeferredRefresh() deferred refresh} is enabled.
+	 *
+	 * @return The number of requested refreshes.
+	 * @see #resetRefreshCounters()
+	 */
+	public long getRefreshRequestCount() {
+		return refreshRequestCount;
+	}
+
 	/**
 	 * Returns the {@link IConnectionRouter} of this {@link Connection}.
 	 *
@@ -932,6 +1044,17 @@ public class Connection extends Group {
 		return routerProperty.get();
 	}
 
+	/**
+	 * Returns the number of routings that were performed by {@link #refresh()}
+	 * since this {@link Connection} was created or the counters were reset.
+	 *
+	 * @return The number of routings.
+	 * @see #resetRefreshCounters()
+	 */
+	public long getRoutingCount() {
+		return routingCount;
+	}
+
 	/**
 	 * Returns the currently assigned start {@link IAnchor anchor}, or
 	 * <code>null</code> if no start {@link IAnchor anchor} is assigned.
@@ -979,6 +1102,7 @@ public class Connection extends Group {
 	 *         <code>null</code>.
 	 */
 	public Point getStartPoint() {
+		validateRefresh();
 		int anchorIndex = getAnchorIndex(getStartAnchorKey());
 		return anchorIndex < 0 ? null : points.get(anchorIndex);
 	}
@@ -998,6 +1122,23 @@ public class Connection extends Group {
 		return null;
 	}
 
+	/**
+	 * Invalidates the routing of this {@link Connection} and requests a
+	 * refresh, so that the {@link #getRouter() router} is consulted again,
+	 * even if neither the points nor the anchors of this {@link Connection}
+	 * changed. Routers (or the data structures they use, e.g. a visibility
+	 * graph) have to call this method when the route of this
+	 * {@link Connection} depends on state that changed, e.g. on obstacles that
+	 * moved. The call is ignored while this {@link Connection} is refreshed.
+	 */
+	public void invalidateRouting() {
+		if (inRefresh) {
+			return;
+		}
+		routingInvalid = true;
+		requestRefresh();
+	}
+
 	/**
 	 * Returns the {@link IConnectionInterpolator} property.
 	 *
@@ -1054,6 +1195,18 @@ public class Connection extends Group {
 		return isConnected(getControlAnchor(index));
 	}
 
+	/**
+	 * Returns <code>true</code> if refreshes are deferred to the next layout
+	 * pass, so that they are performed at most once per pulse. Otherwise
+	 * returns <code>false</code>, which is the default.
+	 *
+	 * @return <code>true</code> if refreshes are deferred, otherwise
+	 *         <code>false</code>.
+	 */
+	public boolean isDeferredRefresh() {
+		return deferredRefresh;
+	}
+
 	/**
 	 * Returns <code>true</code> if the currently assigned
 	 * {@link #getEndAnchor() end anchor} is bound to an anchorage. Otherwise
@@ -1067,6 +1220,15 @@ public class Connection extends Group {
 		return isConnected(getEndAnchor());
 	}
 
+	/**
+	 * Returns the value of the {@link #reducedDetailProperty()}.
+	 *
+	 * @return The value of the {@link #reducedDetailProperty()}.
+	 */
+	public boolean isReducedDetail() {
+		return reducedDetailProperty.get();
+	}
+
 	/**
 	 * Returns <code>true</code> if the currently assigned
 	 * {@link #getStartAnchor() start anchor} is bound to an anchorage.
@@ -1080,6 +1242,19 @@ public class Connection extends Group {
 		return isConnected(getStartAnchor());
 	}
 
+	@Override
+	protected void layoutChildren() {
+		super.layoutChildren();
+		// recompute anchor positions that were invalidated since the start of
+		// the pulse (e.g. by the layout of the anchorages); positions are
+		// only deferred on the JavaFX application thread
+		if (Platform.isFxApplicationThread()) {
+			AbstractAnchor.validateDeferredPositions();
+		}
+		// perform a deferred refresh
+		validateRefresh();
+	}
+
 	@Override
 	public double maxHeight(double width) {
 		return Double.MAX_VALUE;
@@ -1115,6 +1290,20 @@ public class Connection extends Group {
 		return pointsUnmodifiableProperty;
 	}
 
+	/**
+	 * Returns a (writable) property that controls whether this
+	 * {@link Connection} is rendered with reduced detail, i.e. with straight
+	 * lines between its points and without decorations. The property is
+	 * <code>false</code> per default.
+	 *
+	 * @return A property to control whether or not this {@link Connection} is
+	 *         rendered with reduced detail.
+	 * @see LevelOfDetail
+	 */
+	public BooleanProperty reducedDetailProperty() {
+		return reducedDetailProperty;
+	}
+
 	/**
 	 * Re-attaches all {@link AnchorKey}s that are managed by this
 	 * {@link Connection}.
@@ -1185,21 +1374,29 @@ public class Connection extends Group {
 	 * another {@link #refresh()} call. However, when this method is called
 	 * reentrant, it returns immediately.
 	 * <p>
+	 * Calling this method invalidates the routing and interpolation of this
+	 * {@link Connection}. If {@link #isDeferredRefresh() deferred refresh} is
+	 * enabled, the refresh is performed within the next layout pass (or when
+	 * the points of this {@link Connection} are queried). Otherwise, it is
+	 * performed immediately.
+	 * <p>
 	 * The process of refreshing a {@link Connection} is somewhat complicated as
 	 * it involves transforming points according to a transformation change,
 	 * removing volatile anchors, computing new parameters for its anchors,
 	 * inserting volatile anchors, computing a curve geometry, and updating the
 	 * visualization to that geometry. In addition, the position change
 	 * listeners registered at the individual
-	 * {@link AbstractAnchor#positionsUnmodifiableProperty()} need to be
-	 * disabled during {@link #refresh()} to prevent
+	 * {@link AbstractAnchor#positionsUnmodifiableProperty()} ignore all changes
+	 * during {@link #refresh()} to prevent
 	 * {@link ConcurrentModificationException}. The process can be described by
 	 * the following steps:
 	 * <ol>
-	 * <li>The connection unregisters all position change listeners.
 	 * <li>The connection queries all points from its anchors and transforms
 	 * them from curve to connection coordinates (curve-to-connection-transform,
 	 * c2ctx).
+	 * <li>In case neither the points nor the anchors changed since the last
+	 * refresh, and the routing was not invalidated (by {@link #refresh()} or
+	 * {@link #invalidateRouting()}), the routing is skipped.
 	 * <li>The router removes all (previously inserted) volatile anchors.
 	 * <li>=&gt; The connection's points are refreshed in-place, because removal
 	 * of anchors calls {@link #removeAnchor(AnchorKey, IAnchor)}, which updates
@@ -1219,14 +1416,16 @@ public class Connection extends Group {
 	 * <li>The router inserts volatile anchors according to the routing
 	 * strategy.
 	 * <li>The connection refreshes its points manually, because the position
-	 * change listeners are disabled.
+	 * change listeners ignore changes.
+	 * <li>In case neither the points nor the anchors changed since the last
+	 * refresh, and the interpolation was not invalidated, the interpolation is
+	 * skipped.
 	 * <li>The interpolator computes a new curve geometry and applies it to the
 	 * connection.
 	 * <li>=&gt; The c2ctx changes, that's why the parameters are recomputed
 	 * from the bindings, which triggers a recomputation of the anchor
 	 * positions.
 	 * <li>The connection refreshed its points manually again.
-	 * <li>The connection registers all position change listeners.
 	 * </ol>
 	 */
 	protected void refresh() {
@@ -1234,104 +1433,46 @@ public class Connection extends Group {
 		if (inRefresh) {
 			return;
 		}
-		inRefresh = true;
-		// System.out.println("+--- Refresh ---+");
-
-		// unregister PCLs
-		// TODO: Investigate if the fields need to be up-to-date or if the
-		// removal and addition of listeners can happen locally (i.e. without
-		// affecting anchorPCLs etc.)
+		routingInvalid = true;
+		interpolationInvalid = true;
+		requestRefresh();
+	}
 
-		for (AnchorKey ak : anchorsByKeys.keySet()) {
-			unregisterPCL(ak, anchorsByKeys.get(ak));
+	/**
+	 * Invalidates the interpolation of this {@link Connection}, e.g. because
+	 * the decorations or the curve changed, and requests a refresh.
+	 */
+	private void refreshInterpolation() {
+		if (inRefresh) {
+			return;
 		}
+		interpolationInvalid = true;
+		requestRefresh();
+	}
 
-		// clear visuals except for the curveProperty
-		getChildren().retainAll(getCurve());
-
+	/**
+	 * Refreshes the children of this {@link Connection}, so that it contains
+	 * the curve and the decorations (above the curve), if they are not already
+	 * in place. The decorations are omitted when the
+	 * {@link #reducedDetailProperty()} is set.
+	 */
+	private void refreshChildren() {
 		// z-order: place decorations above curve
+		List<Node> children = new ArrayList<>(3);
+		children.add(getCurve());
 		Node startDecoration = getStartDecoration();
-		if (startDecoration != null) {
-			getChildren().add(startDecoration);
+		if (startDecoration != null && !isReducedDetail()) {
+			children.add(startDecoration);
 		}
 		Node endDecoration = getEndDecoration();
-		if (endDecoration != null) {
-			getChildren().add(endDecoration);
+		if (endDecoration != null && !isReducedDetail()) {
+			children.add(endDecoration);
 		}
-
-		// Transform tx = getCurve().getLocalToParentTransform();
-		// System.out.println("| +--- Initial ---+");
-		// System.out.println("| | curve-t: " + tx.getTx() + "," + tx.getTy());
-		// System.out.println("| | points: " + points);
-		// System.out.println("| | anchors: " + anchors);
-
-		// update our anchorsByKeys/points
-		IConnectionRouter router = getRouter();
-		if (router != null) {
-			// we might need to apply a new transform to each of the points
-			// TODO: Do this when the transform changes!
-			refreshPoints();
-
-			// compute parameters and insert volatile anchors
-			router.route(this);
-
-			// since PCLs are disabled (to prevent CME), points need to be
-			// refreshed again
-			// XXX: The Router performs the transformation internally after
-			// updating the parameters and before routing.
-			refreshPoints();
-
-			// tx = getCurve().getLocalToParentTransform();
-			// System.out.println("| +--- Routed ---+");
-			// System.out.println("| | curve-t: " + tx.getTx() + "," +
-			// tx.getTy());
-			// System.out.println("| | points: " + points);
-			// System.out.println("| | anchors: " + anchors);
-		} else {
-			throw new IllegalStateException(
-					"An IConnectionRouter is mandatory for a Connection.");
-		}
-
-		IConnectionInterpolator interpolator = getInterpolator();
-		if (interpolator != null) {
-			// apply new points to the visualization
-			interpolator.interpolate(this);
-			// XXX: Changing the visualization changes the
-			// curve-to-connection-transform, and since the PCLs are disabled,
-			// the points need to be refreshed again, in order to be up-to-date.
-			refreshPoints();
-
-			// tx = getCurve().getLocalToParentTransform();
-			// System.out.println("| +--- Interpolated ---+");
-			// System.out.println("| | curve-t: " + tx.getTx() + "," +
-			// tx.getTy());
-			// System.out.println("| | points: " + points);
-			// System.out.println("| | anchors: " + anchors);
-			// System.out.println();
-		} else {
-			throw new IllegalStateException(
-					"An IConnectionInterpolator is mandatory for a Connection.");
-		}
-
-		// notify properties (which are lazily created)
-		if (anchorsUnmodifiableProperty != null) {
-			anchorsUnmodifiableProperty.fireValueChangedEvent();
+		if (!getChildren().equals(children)) {
+			// clear visuals except for the curveProperty
+			getChildren().retainAll(getCurve());
+			getChildren().addAll(children.subList(1, children.size()));
 		}
-		if (pointsUnmodifiableProperty != null) {
-			pointsUnmodifiableProperty.fireValueChangedEvent();
-		}
-
-		// reregister PCLs
-		// TODO: Investigate if the fields need to be up-to-date or if the
-		// removal and addition of listeners can happen locally (i.e. without
-		// affecting anchorPCLs etc.)
-
-		for (AnchorKey ak : anchorsByKeys.keySet()) {
-			registerPCL(ak, anchorsByKeys.get(ak));
-		}
-
-		// react to events again
-		inRefresh = false;
 	}
 
 	/**
@@ -1345,14 +1486,15 @@ public class Connection extends Group {
 	private boolean refreshPoints() {
 		// walk over all anchors to compute new points,
 		// transforming them using the curve's local to parent
-		// transform
+		// transform, which is only converted once
+		// XXX: Here the same computation is used that
+		// is also used within #createPCL().
+		AffineTransform curveToConnectionTx = FX2Geometry
+				.toAffineTransform(getCurve().getLocalToParentTransform());
 		boolean changed = false;
 		for (int i = 0; i < points.size(); i++) {
 			Point position = getAnchor(i).getPosition(getAnchorKey(i));
-			// XXX: Here the same computation is used that
-			// is also used within #createPCL().
-			Point newPoint = FX2Geometry.toPoint(
-					getCurve().localToParent(Geometry2FX.toFXPoint(position)));
+			Point newPoint = curveToConnectionTx.getTransformed(position);
 			if (!points.get(i).equals(newPoint)) {
 				points.set(i, newPoint);
 				changed = true;
@@ -1361,6 +1503,24 @@ public class Connection extends Group {
 		return changed;
 	}
 
+	/**
+	 * Requests a refresh of this {@link Connection}, which is performed
+	 * immediately, or deferred to the next layout pass in case
+	 * {@link #isDeferredRefresh() deferred refresh} is enabled.
+	 */
+	private void requestRefresh() {
+		if (inRefresh) {
+			return;
+		}
+		refreshRequestCount++;
+		refreshInvalid = true;
+		if (deferredRefresh) {
+			requestLayout();
+		} else {
+			validateRefresh();
+		}
+	}
+
 	private void registerPCL(AnchorKey anchorKey, IAnchor anchor) {
 		if (!anchorsPCL.containsKey(anchorKey)) {
 			MapChangeListener<? super AnchorKey, ? super Point> pcl = createPCL(
@@ -1517,6 +1677,18 @@ public class Connection extends Group {
 		removeAnchor(anchorKey, oldAnchor);
 	}
 
+	/**
+	 * Resets the instrumentation counters of this {@link Connection}, i.e.
+	 * {@link #getRefreshRequestCount()}, {@link #getRefreshCount()},
+	 * {@link #getRoutingCount()}, and {@link #getInterpolationCount()}.
+	 */
+	public void resetRefreshCounters() {
+		refreshRequestCount = 0;
+		refreshCount = 0;
+		routingCount = 0;
+		interpolationCount = 0;
+	}
+
 	/**
 	 * Returns a writable property containing the {@link IConnectionRouter} of
 	 * this connection.
@@ -1713,6 +1885,24 @@ public class Connection extends Group {
 		this.curveProperty.set(curve);
 	}
 
+	/**
+	 * Enables or disables deferred refresh. If enabled, changes only mark this
+	 * {@link Connection} as dirty, and the refresh is performed within the next
+	 * layout pass, i.e. at most once per pulse, or when the points of this
+	 * {@link Connection} are queried. When disabling deferred refresh, a
+	 * pending refresh is performed immediately.
+	 *
+	 * @param deferredRefresh
+	 *            <code>true</code> to defer refreshes, <code>false</code> to
+	 *            refresh immediately.
+	 */
+	public void setDeferredRefresh(boolean deferredRefresh) {
+		this.deferredRefresh = deferredRefresh;
+		if (!deferredRefresh) {
+			validateRefresh();
+		}
+	}
+
 	/**
 	 * Sets the end {@link IAnchor} of this {@link Connection} to the given
 	 * value.
@@ -1827,6 +2017,18 @@ public class Connection extends Group {
 		refresh();
 	}
 
+	/**
+	 * Sets the value of the {@link #reducedDetailProperty()} to the given
+	 * value.
+	 *
+	 * @param reducedDetail
+	 *            <code>true</code> to render this {@link Connection} with
+	 *            reduced detail, otherwise <code>false</code>.
+	 */
+	public void setReducedDetail(boolean reducedDetail) {
+		reducedDetailProperty.set(reducedDetail);
+	}
+
 	/**
 	 * Sets the {@link IConnectionRouter} of this {@link Connection} to the
 	 * given value.
@@ -1928,4 +2130,87 @@ public class Connection extends Group {
 					.removeListener(anchorsPCL.remove(anchorKey));
 		}
 	}
+
+	/**
+	 * Performs a pending refresh, i.e. refreshes the points of this
+	 * {@link Connection} and routes and interpolates it, in case their inputs
+	 * changed or they were invalidated.
+	 */
+	private void validateRefresh() {
+		if (!refreshInvalid || inRefresh) {
+			return;
+		}
+		inRefresh = true;
+		refreshInvalid = false;
+		refreshCount++;
+
+		refreshChildren();
+
+		// update our anchorsByKeys/points
+		IConnectionRouter router = getRouter();
+		if (router == null) {
+			throw new IllegalStateException(
+					"An IConnectionRouter is mandatory for a Connection.");
+		}
+		IConnectionInterpolator interpolator = getInterpolator();
+		if (interpolator == null) {
+			throw new IllegalStateException(
+					"An IConnectionInterpolator is mandatory for a Connection.");
+		}
+		if (isReducedDetail()) {
+			interpolator = REDUCED_DETAIL_INTERPOLATOR;
+		}
+
+		// we might need to apply a new transform to each of the points
+		// TODO: Do this when the transform changes!
+		refreshPoints();
+
+		if (routingInvalid || !points.equals(refreshedPoints)
+				|| !anchors.equals(refreshedAnchors)) {
+			// compute parameters and insert volatile anchors
+			router.route(this);
+			routingCount++;
+
+			// since PCLs ignore changes (to prevent CME), points need to be
+			// refreshed again
+			// XXX: The Router performs the transformation internally after
+			// updating the parameters and before routing.
+			refreshPoints();
+		}
+
+		boolean changed = !points.equals(refreshedPoints)
+				|| !anchors.equals(refreshedAnchors);
+		if (interpolationInvalid || changed) {
+			// apply new points to the visualization
+			interpolator.interpolate(this);
+			interpolationCount++;
+			// XXX: Changing the visualization changes the
+			// curve-to-connection-transform, and since the PCLs ignore
+			// changes, the points need to be refreshed again, in order to be
+			// up-to-date.
+			refreshPoints();
+			changed = changed || !points.equals(refreshedPoints);
+		}
+		routingInvalid = false;
+		interpolationInvalid = false;
+
+		if (changed) {
+			refreshedPoints = new ArrayList<>(points.size());
+			for (Point p : points) {
+				refreshedPoints.add(p.getCopy());
+			}
+			refreshedAnchors = new ArrayList<>(anchors);
+
+			// notify properties (which are lazily created)
+			if (anchorsUnmodifiableProperty != null) {
+				anchorsUnmodifiableProperty.fireValueChangedEvent();
+			}
+			if (pointsUnmodifiableProperty != null) {
+				pointsUnmodifiableProperty.fireValueChangedEvent();
+			}
+		}
+
+		// react to events again
+		inRefresh = false;
+	}
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2013, 2017 itemis AG and others.
+ * Copyright (c) 2013, 2026 itemis AG and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -31,6 +31,7 @@ import javafx.beans.property.BooleanProperty;
 import javafx.beans.property.DoubleProperty;
 import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.Property;
+import javafx.beans.property.SimpleBooleanProperty;
 import javafx.beans.property.SimpleDoubleProperty;
 import javafx.beans.property.SimpleObjectProperty;
 import javafx.beans.value.ChangeListener;
@@ -64,6 +65,12 @@ import javafx.scene.shape.StrokeType;
  * that uses the same {@link IGeometry}, extended by the
  * {@link #clickableAreaWidthProperty() clickable area width}.
  * <p>
+ * When the {@link #reducedDetailProperty() reduced detail} property is set
+ * (e.g. by a {@link LevelOfDetail} at low zoom levels), the geometric shape and
+ * the clickable area are rendered as the bounding rectangle of the
+ * {@link IGeometry}, which is considerably cheaper to render than curved or
+ * complex outlines.
+ * <p>
  * Please note that because {@link IGeometry} does not support change
  * notifications itself, changes to the underlying {@link IGeometry} will not be
  * recognized by the {@link GeometryNode} unless the {@link #geometryProperty()
@@ -85,6 +92,8 @@ public class GeometryNode<T extends IGeometry> extends Region {
 	private Path clickableAreaShape = null;
 	private DoubleProperty clickableAreaWidth = new SimpleDoubleProperty();
 	private ObjectProperty<T> geometryProperty = new SimpleObjectProperty<>();
+	private BooleanProperty reducedDetailProperty = new SimpleBooleanProperty(
+			false);
 
 	private int listeningCount = 0;
 
@@ -196,6 +205,17 @@ public class GeometryNode<T extends IGeometry> extends Region {
 		listeningCount++;
 		geometryProperty.addListener(geometryChangeListener);
 
+		// switch between the geometry and its bounds
+		reducedDetailProperty.addListener(new ChangeListener<Boolean>() {
+			@Override
+			public void changed(ObservableValue<? extends Boolean> observable,
+					Boolean oldValue, Boolean newValue) {
+				if (geometryProperty.get() != null) {
+					updateShapes();
+				}
+			}
+		});
+
 		// stroke width and type affect the layout bounds, so we have to react
 		// to changes
 		strokeWidthProperty().addListener(new ChangeListener<Number>() {
@@ -431,6 +451,11 @@ public class GeometryNode<T extends IGeometry> extends Region {
 	}
 
 	private PathElement[] getPathElements() {
+		if (isReducedDetail()) {
+			return Geometry2Shape.toPathElements(geometryProperty.get()
+					.getBounds().getTranslated(-getLayoutX(), -getLayoutY())
+					.toPath());
+		}
 		@SuppressWarnings("unchecked")
 		IGeometry g = geometryProperty.get() instanceof ITranslatable
 				? ((ITranslatable<? extends IGeometry>) geometryProperty.get())
@@ -539,6 +564,15 @@ public class GeometryNode<T extends IGeometry> extends Region {
 		return geometricShape.getStrokeWidth();
 	}
 
+	/**
+	 * Returns the value of the {@link #reducedDetailProperty()}.
+	 *
+	 * @return The value of the {@link #reducedDetailProperty()}.
+	 */
+	public boolean isReducedDetail() {
+		return reducedDetailProperty.get();
+	}
+
 	@Override
 	public boolean isResizable() {
 		return true;
@@ -554,6 +588,20 @@ public class GeometryNode<T extends IGeometry> extends Region {
 		return geometricShape.isSmooth();
 	}
 
+	/**
+	 * Returns a (writable) property that controls whether this
+	 * {@link GeometryNode} is rendered with reduced detail, i.e. as the
+	 * bounding rectangle of its {@link IGeometry}. The property is
+	 * <code>false</code> per default.
+	 *
+	 * @return A property to control whether or not this {@link GeometryNode}
+	 *         is rendered with reduced detail.
+	 * @see LevelOfDetail
+	 */
+	public BooleanProperty reducedDetailProperty() {
+		return reducedDetailProperty;
+	}
+
 	@Override
 	public void relocate(double x, double y) {
 		// prevent unnecessary updates
@@ -869,6 +917,18 @@ public class GeometryNode<T extends IGeometry> extends Region {
 		this.geometryProperty.setValue(geometry);
 	}
 
+	/**
+	 * Sets the value of the {@link #reducedDetailProperty()} to the given
+	 * value.
+	 *
+	 * @param reducedDetail
+	 *            <code>true</code> to render this {@link GeometryNode} with
+	 *            reduced detail, otherwise <code>false</code>.
+	 */
+	public void setReducedDetail(boolean reducedDetail) {
+		reducedDetailProperty.set(reducedDetail);
+	}
+
 	/**
 	 * Sets the value of the smooth property.
 	 *
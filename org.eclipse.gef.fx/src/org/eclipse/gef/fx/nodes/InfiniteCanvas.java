@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2014, 2017 itemis AG and others.
+ * Copyright (c) 2014, 2026 itemis AG and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -22,19 +22,24 @@ import org.eclipse.gef.geometry.convert.fx.Geometry2FX;
 import org.eclipse.gef.geometry.planar.AffineTransform;
 
 import javafx.animation.FadeTransition;
+import javafx.beans.InvalidationListener;
 import javafx.beans.binding.DoubleBinding;
 import javafx.beans.binding.ObjectBinding;
 import javafx.beans.property.BooleanProperty;
 import javafx.beans.property.DoubleProperty;
 import javafx.beans.property.IntegerProperty;
 import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.ReadOnlyDoubleProperty;
+import javafx.beans.property.ReadOnlyDoubleWrapper;
 import javafx.beans.property.ReadOnlyObjectProperty;
 import javafx.beans.property.ReadOnlyObjectWrapper;
 import javafx.beans.property.SimpleBooleanProperty;
+import javafx.beans.property.SimpleDoubleProperty;
 import javafx.beans.property.SimpleIntegerProperty;
 import javafx.beans.property.SimpleObjectProperty;
 import javafx.beans.value.ChangeListener;
 import javafx.beans.value.ObservableValue;
+import javafx.collections.ObservableList;
 import javafx.event.EventHandler;
 import javafx.geometry.BoundingBox;
 import javafx.geometry.Bounds;
@@ -98,7 +103,9 @@ import javafx.util.Duration;
  * <p>
  * An arbitrary transformation can be applied to the contents that is controlled
  * by the {@link #contentTransformProperty()}. It is unrelated to scrolling,
- * i.e. translating the content does not change the scroll offset.
+ * i.e. translating the content does not change the scroll offset. The scale
+ * factor of the content transformation is provided by the
+ * {@link #contentScaleProperty()}, e.g. to drive a {@link LevelOfDetail}.
  * <p>
  * A background grid is rendered behind the contents per default. It always
  * covers the complete visible area and can be enabled/disabled and customized
@@ -112,6 +119,27 @@ import javafx.util.Duration;
  * <li>The {@link #gridCellHeightProperty()} determines the grid cell height.
  * </ul>
  * <p>
+ * Optionally, the contents can be culled, i.e. the children of the
+ * {@link #getCulledGroup() culled group} that are outside of the visible area
+ * (plus a {@link #cullingMarginProperty() margin}) are hidden, so that JavaFX
+ * does neither render them nor consider them when computing bounds. Culling is
+ * controlled by the {@link #cullContentProperty()}. The bounds of the children
+ * are maintained within a spatial index, so that the
+ * {@link #contentBoundsProperty() content bounds} are still correct, without
+ * touching the hidden children.
+ * <p>
+ * The {@link #contentBoundsProperty() content bounds} are maintained
+ * incrementally from the bounds of the individual children of the
+ * {@link #getContentGroup() content group}, i.e. they are only recomputed from
+ * all children in case a child that determines their extent shrinks or is
+ * removed. The scrollbars are updated at most once per layout pass, i.e. once
+ * per pulse, regardless of the number of changes.
+ * <p>
+ * Large amounts of static, non-interactive content can be rendered to a single
+ * canvas by the {@link #getCanvasLayer() canvas layer}, which is created on
+ * demand and rendered below the {@link #getContentGroup() content group}. Only
+ * the hovered or explicitly promoted elements are represented by live nodes.
+ * <p>
  * Internally, an {@link InfiniteCanvas} consists of four layers:
  *
  * <pre>
@@ -189,6 +217,11 @@ public class InfiniteCanvas extends Region {
 	 */
 	public static final int DEFAULT_GRID_CELL_HEIGHT = 10;
 
+	/**
+	 * The default culling margin.
+	 */
+	public static final double DEFAULT_CULLING_MARGIN = 100;
+
 	// background grid
 	private Region grid;
 	private Affine gridTransform = new Affine();
@@ -222,6 +255,14 @@ public class InfiniteCanvas extends Region {
 	private final BooleanProperty clipContentProperty = new SimpleBooleanProperty(
 			true);
 
+	// content culling
+	private ViewportCuller culler;
+	private final BooleanProperty cullContentProperty = new SimpleBooleanProperty(
+			false);
+	private final DoubleProperty cullingMarginProperty = new SimpleDoubleProperty(
+			DEFAULT_CULLING_MARGIN);
+	private final InvalidationListener requestCullingListener = observable -> requestLayout();
+
 	// scrollbars
 	private Group scrollBarGroup;
 	private ScrollBar horizontalScrollBar;
@@ -233,15 +274,27 @@ public class InfiniteCanvas extends Region {
 
 	// contents
 	private Group contentGroup = new Group();
+	private CanvasLayer canvasLayer;
 	private ReadOnlyObjectWrapper<Affine> contentTransformProperty = new ReadOnlyObjectWrapper<>(
 			new Affine());
+	private ReadOnlyDoubleWrapper contentScaleProperty = new ReadOnlyDoubleWrapper(
+			1);
 
 	// content and scrollable bounds
 	private double[] contentBounds = new double[] { 0d, 0d, 0d, 0d };
 	private double[] scrollableBounds = new double[] { 0d, 0d, 0d, 0d };
+	private ChildBoundsTracker contentBoundsTracker;
+	// set when the content bounds changed, so that the scrollbars are updated
+	// during the next layout pass
+	private boolean scrollBarsInvalid;
 	private ObjectBinding<Bounds> contentBoundsBinding = new ObjectBinding<Bounds>() {
 		@Override
 		protected Bounds computeValue() {
+			if (scrollBarsInvalid) {
+				// the scrollbars are updated later, but the content bounds
+				// have to be correct already
+				contentBounds = computeContentBoundsInLocal();
+			}
 			return new BoundingBox(contentBounds[0], contentBounds[1],
 					contentBounds[2] - contentBounds[0],
 					contentBounds[3] - contentBounds[1]);
@@ -274,14 +327,17 @@ public class InfiniteCanvas extends Region {
 			updateScrollBars();
 		}
 	};
-	// Listener to update the scrollbars in response to Bounds changes (e.g.
-	// scrolled pane bounds and content group bounds).
-	private ChangeListener<Bounds> updateScrollBarsOnBoundsChangeListener = new ChangeListener<Bounds>() {
-		@Override
-		public void changed(ObservableValue<? extends Bounds> observable,
-				Bounds oldBounds, Bounds newBounds) {
-			updateScrollBars();
-		}
+	// Listener to update the scrollbars in response to bounds changes (e.g.
+	// of the scrolled pane and the content group). The bounds are not
+	// retrieved, so that JavaFX does not need to union the bounds of all
+	// children upon each change.
+	private InvalidationListener updateScrollBarsOnBoundsChangeListener = observable -> invalidateContentBounds();
+	// Listener to update the scrollbars in response to transformation changes
+	// (e.g. of the scrolled pane and the content group). Retrieving the value
+	// revalidates the observed property.
+	private InvalidationListener updateScrollBarsOnTransformChangeListener = observable -> {
+		((ObservableValue<?>) observable).getValue();
+		invalidateContentBounds();
 	};
 	// Listener to update the scrollbars in response to ScrollBarPolicy
 	// changes.
@@ -342,8 +398,35 @@ public class InfiniteCanvas extends Region {
 		// add content transformation to content group
 		getContentGroup().getTransforms().add(getContentTransform());
 
+		// provide the scale factor of the content transformation
+		Affine contentTransform = getContentTransform();
+		contentScaleProperty.bind(new DoubleBinding() {
+			{
+				bind(contentTransform.mxxProperty(),
+						contentTransform.mxyProperty(),
+						contentTransform.myxProperty(),
+						contentTransform.myyProperty());
+			}
+
+			@Override
+			protected double computeValue() {
+				// geometric mean of the axis scale factors
+				return Math.sqrt(Math.abs(contentTransform.getMxx()
+						* contentTransform.getMyy()
+						- contentTransform.getMxy()
+								* contentTransform.getMyx()));
+			}
+		});
+
+		// track the bounds of the content group's children (including the
+		// culled ones)
+		contentBoundsTracker = new ChildBoundsTracker(getContentGroup(),
+				child -> child.isVisible() || isCulled(child),
+				this::invalidateContentBounds);
+
 		// register listeners for updating the scrollbars
 		registerUpdateScrollBarsOnBoundsChanges();
+		registerUpdateScrollBarsOnTransformChanges();
 		registerUpdateScrollBarsOnSizeChanges();
 		registerUpdateScrollBarsOnPolicyChanges();
 
@@ -397,6 +480,20 @@ public class InfiniteCanvas extends Region {
 				}
 			}
 		});
+
+		// register for "cullContent" changes to enable/disable content culling
+		cullContentProperty.addListener(new ChangeListener<Boolean>() {
+			@Override
+			public void changed(ObservableValue<? extends Boolean> observable,
+					Boolean oldValue, Boolean newValue) {
+				if (newValue.booleanValue()) {
+					cullContent();
+				} else {
+					uncullContent();
+				}
+			}
+		});
+		cullingMarginProperty.addListener(requestCullingListener);
 	}
 
 	/**
@@ -430,8 +527,7 @@ public class InfiniteCanvas extends Region {
 	 *         coordinate system of this {@link InfiniteCanvas}.
 	 */
 	protected double[] computeContentBoundsInLocal() {
-		Bounds contentBoundsInScrolledPane = getContentGroup()
-				.getBoundsInParent();
+		Bounds contentBoundsInScrolledPane = getContentBoundsInScrolledPane();
 		double minX = contentBoundsInScrolledPane.getMinX();
 		double maxX = contentBoundsInScrolledPane.getMaxX();
 		double minY = contentBoundsInScrolledPane.getMinY();
@@ -470,7 +566,7 @@ public class InfiniteCanvas extends Region {
 	 */
 	protected double[] computeScrollableBoundsInLocal() {
 		double[] cb = Arrays.copyOf(contentBounds, contentBounds.length);
-		Bounds db = getContentGroup().getBoundsInParent();
+		Bounds db = getContentBoundsInScrolledPane();
 
 		// factor in the viewport extending the content bounds
 		if (cb[0] < 0) {
@@ -551,6 +647,20 @@ public class InfiniteCanvas extends Region {
 		return contentBoundsProperty.getReadOnlyProperty();
 	}
 
+	/**
+	 * Returns a (read-only) property that provides the scale factor of the
+	 * {@link #contentTransformProperty() content transformation}, i.e. the
+	 * factor by which areas within the {@link #getContentGroup() content
+	 * group} are scaled (the geometric mean of the horizontal and vertical
+	 * scale factors).
+	 *
+	 * @return The scale factor of the content transformation as
+	 *         {@link ReadOnlyDoubleProperty}.
+	 */
+	public ReadOnlyDoubleProperty contentScaleProperty() {
+		return contentScaleProperty.getReadOnlyProperty();
+	}
+
 	/**
 	 * Returns the viewport transform as a (read-only) property.
 	 *
@@ -691,6 +801,47 @@ public class InfiniteCanvas extends Region {
 				getContentGroup(), getScrolledOverlayGroup());
 	}
 
+	/**
+	 * Enables content culling for this {@link InfiniteCanvas}.
+	 */
+	protected void cullContent() {
+		Group culledGroup = getCulledGroup();
+		culler = new ViewportCuller(culledGroup == getContentGroup()
+				? contentBoundsTracker
+				: new ChildBoundsTracker(culledGroup,
+						child -> child.isVisible() || isCulled(child),
+						this::invalidateContentBounds));
+		culler.getTracker().getGroup().localToSceneTransformProperty()
+				.addListener(requestCullingListener);
+		layoutBoundsProperty().addListener(requestCullingListener);
+		requestLayout();
+	}
+
+	/**
+	 * Returns the {@link BooleanProperty} that determines if this
+	 * {@link InfiniteCanvas} does content culling, i.e. hides the children of
+	 * the {@link #getCulledGroup() culled group} that are outside of the
+	 * visible area (plus the {@link #cullingMarginProperty() culling margin}).
+	 * Content culling is disabled per default.
+	 *
+	 * @return The {@link BooleanProperty} that determines if this
+	 *         {@link InfiniteCanvas} does content culling.
+	 */
+	public BooleanProperty cullContentProperty() {
+		return cullContentProperty;
+	}
+
+	/**
+	 * Returns the {@link DoubleProperty} that determines the distance (in the
+	 * local coordinate system of this {@link InfiniteCanvas}) by which the
+	 * visible area is expanded when determining the children to cull.
+	 *
+	 * @return The {@link DoubleProperty} that determines the culling margin.
+	 */
+	public DoubleProperty cullingMarginProperty() {
+		return cullingMarginProperty;
+	}
+
 	/**
 	 * Adjusts the {@link #horizontalScrollOffsetProperty()}, the
 	 * {@link #verticalScrollOffsetProperty()}, and the
@@ -792,6 +943,30 @@ public class InfiniteCanvas extends Region {
 		setContentTransform(Geometry2FX.toFXAffine(newTransform));
 	}
 
+	/**
+	 * Returns the {@link CanvasLayer} of this {@link InfiniteCanvas}, which
+	 * renders static, non-interactive elements to a single canvas. The
+	 * {@link CanvasLayer} is created and added to the
+	 * {@link #getScrolledPane() scrolled pane} (directly below the
+	 * {@link #getContentGroup() content group}) upon the first call.
+	 *
+	 * @return The {@link CanvasLayer} of this {@link InfiniteCanvas}.
+	 */
+	public CanvasLayer getCanvasLayer() {
+		if (canvasLayer == null) {
+			canvasLayer = new CanvasLayer(this, getContentGroup(),
+					this::invalidateContentBounds);
+			// the canvas layer must not influence the layout
+			canvasLayer.setManaged(false);
+			ObservableList<Node> scrolledLayers = getScrolledPane()
+					.getChildren();
+			int index = scrolledLayers.indexOf(getContentGroup());
+			scrolledLayers.add(index < 0 ? scrolledLayers.size() : index,
+					canvasLayer);
+		}
+		return canvasLayer;
+	}
+
 	/**
 	 * Returns the value of the {@link #contentBoundsProperty()}.
 	 *
@@ -801,6 +976,45 @@ public class InfiniteCanvas extends Region {
 		return contentBoundsProperty.get();
 	}
 
+	/**
+	 * Returns the bounds of the contents within the coordinate system of the
+	 * {@link #getScrolledPane()}. If content culling is enabled, the bounds of
+	 * the culled children are included. The bounds of the items of the
+	 * {@link #getCanvasLayer() canvas layer} are included as well.
+	 */
+	private Bounds getContentBoundsInScrolledPane() {
+		// retrieving the transformations revalidates the observed properties
+		getScrolledPane().getLocalToParentTransform();
+		Group contentGroup = getContentGroup();
+		contentGroup.getLocalToParentTransform();
+		org.eclipse.gef.geometry.planar.Rectangle trackedBounds = contentBoundsTracker
+				.getBounds();
+		Bounds bounds = trackedBounds == null ? contentGroup.getBoundsInParent()
+				: contentGroup
+						.localToParent(Geometry2FX.toFXBounds(trackedBounds));
+		// include the items of the canvas layer
+		if (canvasLayer != null) {
+			org.eclipse.gef.geometry.planar.Rectangle itemBounds = canvasLayer
+					.getItemBounds();
+			if (itemBounds != null) {
+				bounds = union(bounds, contentGroup
+						.localToParent(Geometry2FX.toFXBounds(itemBounds)));
+			}
+		}
+		if (culler == null || culler.getTracker() == contentBoundsTracker) {
+			return bounds;
+		}
+		// include the culled children of a nested culled group
+		org.eclipse.gef.geometry.planar.Rectangle childBounds = culler
+				.getTracker().getBounds();
+		if (childBounds == null) {
+			return bounds;
+		}
+		return union(bounds,
+				getScrolledPane().sceneToLocal(culler.getTracker().getGroup()
+						.localToScene(Geometry2FX.toFXBounds(childBounds))));
+	}
+
 	/**
 	 * Returns the {@link Group} designated for holding the scrolled content.
 	 *
@@ -810,6 +1024,15 @@ public class InfiniteCanvas extends Region {
 		return contentGroup;
 	}
 
+	/**
+	 * Returns the value of the {@link #contentScaleProperty()}.
+	 *
+	 * @return The value of the {@link #contentScaleProperty()}.
+	 */
+	public double getContentScale() {
+		return contentScaleProperty.get();
+	}
+
 	/**
 	 * Returns the transformation that is applied to the
 	 * {@link #getContentGroup() content group}.
@@ -821,6 +1044,28 @@ public class InfiniteCanvas extends Region {
 		return contentTransformProperty.get();
 	}
 
+	/**
+	 * Returns the {@link Group} whose children are culled when content culling
+	 * is {@link #cullContentProperty() enabled}. Per default, the
+	 * {@link #getContentGroup()} is returned. Subclasses may override this
+	 * method to cull the children of a nested {@link Group} instead, e.g. in
+	 * case the content group contains layers.
+	 *
+	 * @return The {@link Group} whose children are culled.
+	 */
+	protected Group getCulledGroup() {
+		return getContentGroup();
+	}
+
+	/**
+	 * Returns the value of the {@link #cullingMarginProperty()}.
+	 *
+	 * @return The value of the {@link #cullingMarginProperty()}.
+	 */
+	public double getCullingMargin() {
+		return cullingMarginProperty.get();
+	}
+
 	/**
 	 * Returns the {@link Region} that is used to paint the background grid.
 	 *
@@ -1035,6 +1280,39 @@ public class InfiniteCanvas extends Region {
 		return clipContentProperty.get();
 	}
 
+	/**
+	 * Returns the value of the {@link #cullContentProperty()}.
+	 *
+	 * @return The value of the {@link #cullContentProperty()}.
+	 */
+	public boolean isCullContent() {
+		return cullContentProperty.get();
+	}
+
+	/**
+	 * Invalidates the content bounds and schedules a scrollbar update for the
+	 * next layout pass.
+	 */
+	private void invalidateContentBounds() {
+		scrollBarsInvalid = true;
+		contentBoundsBinding.invalidate();
+		requestLayout();
+	}
+
+	/**
+	 * Returns <code>true</code> if the given {@link Node} is currently hidden
+	 * because it is a child of the {@link #getCulledGroup() culled group} that
+	 * is outside of the visible area. Otherwise returns <code>false</code>.
+	 *
+	 * @param node
+	 *            The {@link Node} to test.
+	 * @return <code>true</code> if the given {@link Node} is culled, otherwise
+	 *         <code>false</code>.
+	 */
+	public boolean isCulled(Node node) {
+		return culler != null && culler.isCulled(node);
+	}
+
 	/**
 	 * Returns the value of the {@link #showGridProperty()}.
 	 *
@@ -1053,6 +1331,29 @@ public class InfiniteCanvas extends Region {
 		return zoomGridProperty.get();
 	}
 
+	@Override
+	protected void layoutChildren() {
+		super.layoutChildren();
+		if (culler != null) {
+			// cull the children outside of the visible area (in the coordinate
+			// system of the culled group); retrieving the transformation
+			// revalidates the observed property
+			Group group = culler.getTracker().getGroup();
+			group.getLocalToSceneTransform();
+			double margin = getCullingMargin();
+			Bounds viewport = group.sceneToLocal(localToScene(new BoundingBox(
+					-margin, -margin, getWidth() + 2 * margin,
+					getHeight() + 2 * margin)));
+			if (viewport != null) {
+				culler.cull(FX2Geometry.toRectangle(viewport));
+			}
+		}
+		// update the scrollbars at most once per pass
+		if (scrollBarsInvalid) {
+			updateScrollBars();
+		}
+	}
+
 	/**
 	 * Linear interpolation between <i>min</i> and <i>max</i> at the given
 	 * <i>ratio</i>. Returns the interpolated value in the interval
@@ -1148,9 +1449,9 @@ public class InfiniteCanvas extends Region {
 	}
 
 	/**
-	 * Registers listeners on the bounds-in-local property of the
-	 * {@link #getScrolledPane()} and on the bounds-in-parent property of the
-	 * {@link #getContentGroup()} that will call {@link #updateScrollBars()}
+	 * Registers listeners on the bounds-in-parent properties of the
+	 * {@link #getScrolledPane()} and of the {@link #getContentGroup()} that
+	 * will schedule an {@link #updateScrollBars()} for the next layout pass
 	 * when one of the bounds is changed.
 	 */
 	protected void registerUpdateScrollBarsOnBoundsChanges() {
@@ -1183,6 +1484,22 @@ public class InfiniteCanvas extends Region {
 		heightProperty().addListener(updateScrollBarsOnSizeChangeListener);
 	}
 
+	/**
+	 * Registers listeners on the local-to-parent-transform properties of the
+	 * {@link #getScrolledPane()} and of the {@link #getContentGroup()} that
+	 * will schedule an {@link #updateScrollBars()} for the next layout pass
+	 * when one of the transformations is changed. In contrast to the bounds,
+	 * the transformations can be retrieved cheaply, so that every change is
+	 * reported. Changes of the children of the {@link #getContentGroup()} are
+	 * tracked incrementally.
+	 */
+	protected void registerUpdateScrollBarsOnTransformChanges() {
+		getScrolledPane().localToParentTransformProperty()
+				.addListener(updateScrollBarsOnTransformChangeListener);
+		getContentGroup().localToParentTransformProperty()
+				.addListener(updateScrollBarsOnTransformChangeListener);
+	}
+
 	/**
 	 * Repaints the tile image that depends on the grid cell size only. The tile
 	 * image is repeated when repainting the grid.
@@ -1271,6 +1588,26 @@ public class InfiniteCanvas extends Region {
 		clipContentProperty.set(clipContent);
 	}
 
+	/**
+	 * Assigns the given value to the {@link #cullContentProperty()}.
+	 *
+	 * @param cullContent
+	 *            The new value for the {@link #cullContentProperty()}.
+	 */
+	public void setCullContent(boolean cullContent) {
+		cullContentProperty.set(cullContent);
+	}
+
+	/**
+	 * Assigns the given value to the {@link #cullingMarginProperty()}.
+	 *
+	 * @param cullingMargin
+	 *            The new value for the {@link #cullingMarginProperty()}.
+	 */
+	public void setCullingMargin(double cullingMargin) {
+		cullingMarginProperty.set(cullingMargin);
+	}
+
 	/**
 	 * Sets the transformation matrix of the {@link #getContentTransform()
 	 * viewport transform} to the values specified by the given {@link Affine}.
@@ -1284,6 +1621,7 @@ public class InfiniteCanvas extends Region {
 		// Unregister bounds listeners so that transformation changes do not
 		// cause updates. Use flag to be aware if the transformation changed.
 		unregisterUpdateScrollBarsOnBoundsChanges();
+		unregisterUpdateScrollBarsOnTransformChanges();
 		boolean valuesChanged = false;
 		if (viewportTransform.getMxx() != tx.getMxx()) {
 			viewportTransform.setMxx(tx.getMxx());
@@ -1315,6 +1653,7 @@ public class InfiniteCanvas extends Region {
 		}
 		// Register previously unregistered listeners.
 		registerUpdateScrollBarsOnBoundsChanges();
+		registerUpdateScrollBarsOnTransformChanges();
 	}
 
 	/**
@@ -1517,6 +1856,38 @@ public class InfiniteCanvas extends Region {
 		setClip(null);
 	}
 
+	/**
+	 * Disables content culling for this {@link InfiniteCanvas}, showing all
+	 * culled children.
+	 */
+	protected void uncullContent() {
+		ChildBoundsTracker tracker = culler.getTracker();
+		tracker.getGroup().localToSceneTransformProperty()
+				.removeListener(requestCullingListener);
+		layoutBoundsProperty().removeListener(requestCullingListener);
+		culler.dispose();
+		culler = null;
+		if (tracker != contentBoundsTracker) {
+			tracker.dispose();
+		}
+		invalidateContentBounds();
+	}
+
+	// returns the union of the given bounds, ignoring empty bounds
+	private static Bounds union(Bounds bounds, Bounds other) {
+		if (bounds.isEmpty()) {
+			return other;
+		}
+		if (other.isEmpty()) {
+			return bounds;
+		}
+		double minX = Math.min(bounds.getMinX(), other.getMinX());
+		double minY = Math.min(bounds.getMinY(), other.getMinY());
+		return new BoundingBox(minX, minY,
+				Math.max(bounds.getMaxX(), other.getMaxX()) - minX,
+				Math.max(bounds.getMaxY(), other.getMaxY()) - minY);
+	}
+
 	/**
 	 * Unregisters the listeners that were previously registered within
 	 * {@link #registerUpdateScrollBarsOnBoundsChanges()}.
@@ -1528,6 +1899,17 @@ public class InfiniteCanvas extends Region {
 				.removeListener(updateScrollBarsOnBoundsChangeListener);
 	}
 
+	/**
+	 * Unregisters the listeners that were previously registered within
+	 * {@link #registerUpdateScrollBarsOnTransformChanges()}.
+	 */
+	protected void unregisterUpdateScrollBarsOnTransformChanges() {
+		getScrolledPane().localToParentTransformProperty()
+				.removeListener(updateScrollBarsOnTransformChangeListener);
+		getContentGroup().localToParentTransformProperty()
+				.removeListener(updateScrollBarsOnTransformChangeListener);
+	}
+
 	/**
 	 * Disables zooming of the background grid.
 	 *
@@ -1573,6 +1955,7 @@ public class InfiniteCanvas extends Region {
 		if (horizontalScrollBar.isPressed() || verticalScrollBar.isPressed()) {
 			return;
 		}
+		scrollBarsInvalid = false;
 
 		// determine current content bounds
 		double[] oldContentBounds = Arrays.copyOf(contentBounds,
@@ -0,0 +1,170 @@
+/*******************************************************************************
+ * Copyright (c) 2026 itemis AG and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     itemis AG - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.fx.nodes;
+
+import javafx.beans.property.DoubleProperty;
+import javafx.beans.property.ReadOnlyBooleanProperty;
+import javafx.beans.property.ReadOnlyBooleanWrapper;
+import javafx.beans.property.SimpleDoubleProperty;
+
+/**
+ * A {@link LevelOfDetail} decides whether or not visuals should be rendered
+ * with reduced detail, depending on the scale at which they are displayed.
+ * <p>
+ * The {@link #reducedDetailProperty()} switches to <code>true</code> when the
+ * {@link #scaleProperty() scale} drops below the
+ * {@link #getLowerThreshold() lower threshold}, and it switches back to
+ * <code>false</code> when the scale exceeds the {@link #getUpperThreshold()
+ * upper threshold}. In between, the previous value is retained (hysteresis),
+ * so that zooming around a single threshold does not cause the visuals to
+ * flip back and forth.
+ * <p>
+ * The scale is usually bound to the
+ * {@link InfiniteCanvas#contentScaleProperty() content scale} of an
+ * {@link InfiniteCanvas}, and the {@link #reducedDetailProperty()} is usually
+ * bound to the {@link GeometryNode#reducedDetailProperty()} and
+ * {@link Connection#reducedDetailProperty()} of the visuals within its
+ * {@link InfiniteCanvas#getContentGroup() content group}:
+ *
+ * <pre>
+ * LevelOfDetail lod = new LevelOfDetail();
+ * lod.scaleProperty().bind(canvas.contentScaleProperty());
+ * connection.reducedDetailProperty().bind(lod.reducedDetailProperty());
+ * </pre>
+ */
+public class LevelOfDetail {
+
+	/**
+	 * The default lower threshold.
+	 */
+	public static final double DEFAULT_LOWER_THRESHOLD = 0.4;
+
+	/**
+	 * The default upper threshold.
+	 */
+	public static final double DEFAULT_UPPER_THRESHOLD = 0.5;
+
+	private final double lowerThreshold;
+	private final double upperThreshold;
+	private final DoubleProperty scaleProperty = new SimpleDoubleProperty(1);
+	private final ReadOnlyBooleanWrapper reducedDetailProperty = new ReadOnlyBooleanWrapper();
+
+	/**
+	 * Constructs a new {@link LevelOfDetail} using the
+	 * {@link #DEFAULT_LOWER_THRESHOLD} and {@link #DEFAULT_UPPER_THRESHOLD}.
+	 */
+	public LevelOfDetail() {
+		this(DEFAULT_LOWER_THRESHOLD, DEFAULT_UPPER_THRESHOLD);
+	}
+
+	/**
+	 * Constructs a new {@link LevelOfDetail} using the given thresholds.
+	 *
+	 * @param lowerThreshold
+	 *            The scale below which the detail is reduced.
+	 * @param upperThreshold
+	 *            The scale above which the full detail is restored. Must not
+	 *            be less than the lower threshold.
+	 */
+	public LevelOfDetail(double lowerThreshold, double upperThreshold) {
+		if (lowerThreshold < 0) {
+			throw new IllegalArgumentException(
+					"lowerThreshold may not be negative.");
+		}
+		if (upperThreshold < lowerThreshold) {
+			throw new IllegalArgumentException(
+					"upperThreshold may not be less than lowerThreshold.");
+		}
+		this.lowerThreshold = lowerThreshold;
+		this.upperThreshold = upperThreshold;
+		reducedDetailProperty.set(getScale() < lowerThreshold);
+		scaleProperty.addListener((observable, oldValue, newValue) -> {
+			double scale = newValue.doubleValue();
+			if (scale < lowerThreshold) {
+				reducedDetailProperty.set(true);
+			} else if (scale > upperThreshold) {
+				reducedDetailProperty.set(false);
+			}
+		});
+	}
+
+	/**
+	 * Returns the scale below which the detail is reduced.
+	 *
+	 * @return The lower threshold.
+	 */
+	public double getLowerThreshold() {
+		return lowerThreshold;
+	}
+
+	/**
+	 * Returns the value of the {@link #scaleProperty()}.
+	 *
+	 * @return The value of the {@link #scaleProperty()}.
+	 */
+	public double getScale() {
+		return scaleProperty.get();
+	}
+
+	/**
+	 * Returns the scale above which the full detail is restored.
+	 *
+	 * @return The upper threshold.
+	 */
+	public double getUpperThreshold() {
+		return upperThreshold;
+	}
+
+	/**
+	 * Returns the value of the {@link #reducedDetailProperty()}.
+	 *
+	 * @return The value of the {@link #reducedDetailProperty()}.
+	 */
+	public boolean isReducedDetail() {
+		return reducedDetailProperty.get();
+	}
+
+	/**
+	 * Returns a {@link ReadOnlyBooleanProperty} that indicates whether or not
+	 * the detail should be reduced at the current {@link #scaleProperty()
+	 * scale}.
+	 *
+	 * @return The {@link ReadOnlyBooleanProperty} that indicates if the
+	 *         detail should be reduced.
+	 */
+	public ReadOnlyBooleanProperty reducedDetailProperty() {
+		return reducedDetailProperty.getReadOnlyProperty();
+	}
+
+	/**
+	 * Returns the {@link DoubleProperty} that holds the scale at which the
+	 * visuals are displayed. The scale is <code>1</code> per default.
+	 *
+	 * @return The {@link DoubleProperty} that holds the scale.
+	 */
+	public DoubleProperty scaleProperty() {
+		return scaleProperty;
+	}
+
+	/**
+	 * Sets the value of the {@link #scaleProperty()} to the given value.
+	 *
+	 * @param scale
+	 *            The new scale.
+	 */
+	public void setScale(double scale) {
+		scaleProperty.set(scale);
+	}
+
+}
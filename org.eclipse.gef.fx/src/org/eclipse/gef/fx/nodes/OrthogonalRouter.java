@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2016, 2017 itemis AG and others.
+ * Copyright (c) 2016, 2026 itemis AG and others.
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
  * http://www.eclipse.org/legal/epl-2.0.
@@ -13,6 +13,7 @@
  *******************************************************************************/
 package org.eclipse.gef.fx.nodes;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import org.eclipse.gef.fx.anchors.AnchorKey;
@@ -21,6 +22,7 @@ import org.eclipse.gef.fx.anchors.DynamicAnchor.AnchoredReferencePoint;
 import org.eclipse.gef.fx.anchors.DynamicAnchor.PreferredOrientation;
 import org.eclipse.gef.fx.utils.NodeUtils;
 import org.eclipse.gef.geometry.convert.fx.FX2Geometry;
+import org.eclipse.gef.geometry.convert.fx.Geometry2FX;
 import org.eclipse.gef.geometry.euclidean.Vector;
 import org.eclipse.gef.geometry.planar.IGeometry;
 import org.eclipse.gef.geometry.planar.Line;
@@ -37,6 +39,13 @@ import javafx.scene.Node;
  * An {@link IConnectionRouter} that interprets the {@link Connection} control
  * points as way points and adjusts the way points (if necessary) so that the
  * {@link Connection} is routed orthogonally.
+ * <p>
+ * If an {@link OrthogonalVisibilityGraph} is
+ * {@link #setVisibilityGraph(OrthogonalVisibilityGraph) set}, the
+ * {@link OrthogonalRouter} operates in an obstacle-aware mode, in which the
+ * segments between the way points are routed around the obstacles of the
+ * graph. In case no such route can be found, the way points are adjusted as
+ * usual.
  *
  * @author anyssen
  * @author mwienand
@@ -46,6 +55,26 @@ public class OrthogonalRouter extends AbstractRouter {
 
 	private static final double OFFSET = 15;
 
+	private OrthogonalVisibilityGraph visibilityGraph;
+
+	/**
+	 * Constructs a new {@link OrthogonalRouter} that does not avoid obstacles.
+	 */
+	public OrthogonalRouter() {
+	}
+
+	/**
+	 * Constructs a new {@link OrthogonalRouter} that routes around the
+	 * obstacles of the given {@link OrthogonalVisibilityGraph}.
+	 *
+	 * @param visibilityGraph
+	 *            The {@link OrthogonalVisibilityGraph} that provides the
+	 *            obstacle-avoiding routes, or <code>null</code>.
+	 */
+	public OrthogonalRouter(OrthogonalVisibilityGraph visibilityGraph) {
+		this.visibilityGraph = visibilityGraph;
+	}
+
 	/**
 	 * Iterates the connection's points starting at the first candidate index (
 	 * <i>anchorIndex</i> + <i>step</i>) and stepping by the given step. Returns
@@ -195,6 +224,69 @@ public class OrthogonalRouter extends AbstractRouter {
 		return new Polygon[] { top, right, bottom, left };
 	}
 
+	/**
+	 * Returns the {@link OrthogonalVisibilityGraph} that is used to route
+	 * around obstacles, or <code>null</code> if obstacles are not avoided.
+	 *
+	 * @return The {@link OrthogonalVisibilityGraph} of this router, or
+	 *         <code>null</code>.
+	 */
+	public OrthogonalVisibilityGraph getVisibilityGraph() {
+		return visibilityGraph;
+	}
+
+	@Override
+	protected void insertRouterAnchors(Connection connection) {
+		if (visibilityGraph == null) {
+			super.insertRouterAnchors(connection);
+			return;
+		}
+
+		List<Point> pts = new ArrayList<>(connection.getPointsUnmodifiable());
+		for (int i = 0; i < pts.size(); i++) {
+			Point pos = connection.getAnchor(i)
+					.getPosition(connection.getAnchorKey(i));
+			pts.set(i, FX2Geometry.toPoint(connection.getCurve()
+					.localToParent(Geometry2FX.toFXPoint(pos))));
+		}
+
+		// compute obstacle-avoiding routes for all segments (in scene), so
+		// that the connection is routed again when the obstacles change
+		List<Point> ptsInScene = new ArrayList<>(pts.size());
+		for (Point p : pts) {
+			ptsInScene.add(NodeUtils.localToScene(connection, p));
+		}
+		Node source = connection.isStartConnected()
+				? connection.getStartAnchor().getAnchorage() : null;
+		Node target = connection.isEndConnected()
+				? connection.getEndAnchor().getAnchorage() : null;
+		List<List<Point>> routes = visibilityGraph.route(connection,
+				ptsInScene, source, target);
+		if (routes == null) {
+			// fall back to adjusting the way points
+			super.insertRouterAnchors(connection);
+			return;
+		}
+
+		ControlPointManipulator cpm = createControlPointManipulator(connection);
+		for (int i = 0; i < routes.size(); i++) {
+			List<Point> route = routes.get(i);
+			if (route.isEmpty()) {
+				continue;
+			}
+			Point currentPoint = pts.get(i);
+			double[] deltas = new double[2 * route.size()];
+			for (int j = 0; j < route.size(); j++) {
+				Point bendPoint = NodeUtils.sceneToLocal(connection,
+						route.get(j));
+				deltas[2 * j] = bendPoint.x - currentPoint.x;
+				deltas[2 * j + 1] = bendPoint.y - currentPoint.y;
+			}
+			cpm.addRoutingPoints(i + 1, currentPoint, deltas);
+		}
+		cpm.applyChanges();
+	}
+
 	private boolean isBottom(Connection connection, int i, Point currentPoint) {
 		Point2D pointInScene = connection.localToScene(currentPoint.x,
 				currentPoint.y);
@@ -540,6 +632,20 @@ public class OrthogonalRouter extends AbstractRouter {
 		return currentDirection;
 	}
 
+	/**
+	 * Sets the {@link OrthogonalVisibilityGraph} that is used to route around
+	 * obstacles. The same {@link OrthogonalVisibilityGraph} should be shared by
+	 * the routers of all {@link Connection}s within a viewer. Passing
+	 * <code>null</code> disables the obstacle-aware mode.
+	 *
+	 * @param visibilityGraph
+	 *            The {@link OrthogonalVisibilityGraph} to use, or
+	 *            <code>null</code>.
+	 */
+	public void setVisibilityGraph(OrthogonalVisibilityGraph visibilityGraph) {
+		this.visibilityGraph = visibilityGraph;
+	}
+
 	@Override
 	protected void updateComputationParameters(List<Point> points, int index,
 			DynamicAnchor anchor, AnchorKey key) {
@@ -0,0 +1,524 @@
+/*******************************************************************************
+ * Copyright (c) 2026 itemis AG and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     itemis AG - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.fx.nodes;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+import org.eclipse.gef.geometry.convert.fx.FX2Geometry;
+import org.eclipse.gef.geometry.internal.utils.OrthogonalSegmentGraph;
+import org.eclipse.gef.geometry.planar.LooseQuadTree;
+import org.eclipse.gef.geometry.planar.Point;
+import org.eclipse.gef.geometry.planar.Rectangle;
+import org.eclipse.gef.geometry.planar.SpatialIndex;
+
+import javafx.beans.InvalidationListener;
+import javafx.beans.property.ReadOnlyProperty;
+import javafx.scene.Node;
+
+/**
+ * An {@link OrthogonalVisibilityGraph} manages a set of obstacle {@link Node}s
+ * and computes orthogonal routes that avoid these obstacles. It is intended to
+ * be shared by the {@link OrthogonalRouter}s of all {@link Connection}s within
+ * a viewer (see
+ * {@link OrthogonalRouter#setVisibilityGraph(OrthogonalVisibilityGraph)}).
+ * <p>
+ * The bounds of the obstacles (in scene coordinates, expanded by the
+ * {@link #getMargin() margin}) are maintained within a {@link SpatialIndex}.
+ * The graph observes the bounds-in-parent of the obstacles and updates the
+ * index incrementally (and lazily, i.e. before the next route is computed)
+ * for those obstacles that changed. Changes of the transformations of the
+ * ancestors of an obstacle are not observed, i.e. in this case
+ * {@link #updateObstacle(Node)} has to be called explicitly.
+ * <p>
+ * The graph keeps track of the areas that were searched to route the
+ * {@link Connection}s of its {@link OrthogonalRouter}s (see
+ * {@link #route(Connection, List, Node, Node)}). When an obstacle within such
+ * an area is added, moved, or removed, the routing of the respective
+ * {@link Connection} is invalidated (see {@link Connection#invalidateRouting()}
+ * ), so that it is routed again. In this case, the index is updated
+ * immediately.
+ * <p>
+ * The visibility graph is not materialized for all obstacles. Instead, for
+ * each route, the obstacles within a window around the route end points are
+ * retrieved from the index, and the orthogonal visibility graph of these
+ * obstacles is built, from which a route is then computed by an A* search that
+ * penalizes bends (see {@link #getBendPenalty()}). In case no route can be
+ * found within the window, the window is successively enlarged.
+ */
+public class OrthogonalVisibilityGraph {
+
+	// the maximum number of routing window enlargements
+	private static final int MAX_ATTEMPTS = 3;
+
+	private static final double DEFAULT_MARGIN = 15;
+	private static final double DEFAULT_BEND_PENALTY = 30;
+
+	private static boolean isInside(Rectangle r, Point p) {
+		return r.getX() < p.x && p.x < r.getX() + r.getWidth() && r.getY() < p.y
+				&& p.y < r.getY() + r.getHeight();
+	}
+
+	private final double margin;
+	private final double bendPenalty;
+	private final Map<Node, Rectangle> obstacles = new HashMap<>();
+	private final SpatialIndex<Node> index = new LooseQuadTree<>();
+	private final Set<Node> invalidObstacles = new LinkedHashSet<>();
+	private final InvalidationListener boundsListener = observable -> invalidateObstacle(
+			(Node) ((ReadOnlyProperty<?>) observable).getBean());
+	// the areas (in scene) on which the routes of the connections depend; the
+	// connections are held weakly, so that they do not need to be unregistered
+	private final Map<Connection, Rectangle> routeAreas = new WeakHashMap<>();
+
+	/**
+	 * Constructs a new {@link OrthogonalVisibilityGraph} with a margin of
+	 * <code>15</code> and a bend penalty of <code>30</code>.
+	 */
+	public OrthogonalVisibilityGraph() {
+		this(DEFAULT_MARGIN, DEFAULT_BEND_PENALTY);
+	}
+
+	/**
+	 * Constructs a new {@link OrthogonalVisibilityGraph} with the given margin
+	 * and bend penalty.
+	 *
+	 * @param margin
+	 *            The minimum distance between routes and obstacles.
+	 * @param bendPenalty
+	 *            The costs of a bend, in terms of route length.
+	 */
+	public OrthogonalVisibilityGraph(double margin, double bendPenalty) {
+		if (!(margin >= 0)) {
+			throw new IllegalArgumentException(
+					"The margin has to be non-negative, but got " + margin
+							+ ".");
+		}
+		if (!(bendPenalty >= 0)) {
+			throw new IllegalArgumentException(
+					"The bend penalty has to be non-negative, but got "
+							+ bendPenalty + ".");
+		}
+		this.margin = margin;
+		this.bendPenalty = bendPenalty;
+	}
+
+	/**
+	 * Adds the given {@link Node} to the obstacles of this
+	 * {@link OrthogonalVisibilityGraph}. Does nothing if the given {@link Node}
+	 * is already an obstacle.
+	 *
+	 * @param node
+	 *            The {@link Node} to add.
+	 */
+	public void addObstacle(Node node) {
+		if (node == null) {
+			throw new IllegalArgumentException("The node may not be null.");
+		}
+		if (obstacles.containsKey(node)) {
+			return;
+		}
+		node.boundsInParentProperty().addListener(boundsListener);
+		Rectangle bounds = computeBounds(node);
+		obstacles.put(node, bounds);
+		index.insert(node, bounds);
+		invalidateRoutes(Collections.singletonList(bounds));
+	}
+
+	private Rectangle computeBounds(Node node) {
+		// revalidate the observed property, so that further changes are
+		// reported
+		node.getBoundsInParent();
+		return FX2Geometry
+				.toRectangle(node.localToScene(node.getLayoutBounds()))
+				.expand(margin, margin);
+	}
+
+	/**
+	 * Returns the costs of a bend, in terms of route length.
+	 *
+	 * @return The costs of a bend.
+	 */
+	public double getBendPenalty() {
+		return bendPenalty;
+	}
+
+	/**
+	 * Returns the (expanded) bounds of the given {@link Node}, which are used
+	 * to determine the start or end side of a route. If the given {@link Node}
+	 * is not an obstacle, its bounds are computed.
+	 */
+	private Rectangle getBounds(Node node) {
+		Rectangle bounds = obstacles.get(node);
+		return bounds != null ? bounds : computeBounds(node);
+	}
+
+	private int getDirection(Point p, Rectangle r) {
+		double[] distances = new double[] { r.getX() + r.getWidth() - p.x,
+				p.x - r.getX(), r.getY() + r.getHeight() - p.y,
+				p.y - r.getY() };
+		int direction = OrthogonalSegmentGraph.RIGHT;
+		for (int d = OrthogonalSegmentGraph.LEFT; d <= OrthogonalSegmentGraph.UP;
+				d++) {
+			if (distances[d] < distances[direction]) {
+				direction = d;
+			}
+		}
+		return direction;
+	}
+
+	/**
+	 * Returns the minimum distance between routes and obstacles, by which the
+	 * obstacle bounds are expanded.
+	 *
+	 * @return The margin around obstacles.
+	 */
+	public double getMargin() {
+		return margin;
+	}
+
+	/**
+	 * Returns an unmodifiable view on the obstacles of this
+	 * {@link OrthogonalVisibilityGraph}.
+	 *
+	 * @return An unmodifiable view on the obstacles.
+	 */
+	public Set<Node> getObstacles() {
+		return Collections.unmodifiableSet(obstacles.keySet());
+	}
+
+	private Rectangle getObstaclesBounds() {
+		Rectangle bounds = null;
+		for (Rectangle r : obstacles.values()) {
+			bounds = bounds == null ? r.getCopy() : bounds.union(r);
+		}
+		return bounds;
+	}
+
+	/**
+	 * Returns the point on the given side of the given {@link Rectangle} that
+	 * is reached from the given point when heading into the direction of that
+	 * side.
+	 */
+	private Point getSidePoint(Point p, int side, Rectangle r) {
+		switch (side) {
+		case OrthogonalSegmentGraph.RIGHT:
+			return new Point(r.getX() + r.getWidth(), p.y);
+		case OrthogonalSegmentGraph.LEFT:
+			return new Point(r.getX(), p.y);
+		case OrthogonalSegmentGraph.DOWN:
+			return new Point(p.x, r.getY() + r.getHeight());
+		default:
+			return new Point(p.x, r.getY());
+		}
+	}
+
+	private void invalidateObstacle(Node node) {
+		invalidObstacles.add(node);
+		if (!routeAreas.isEmpty()) {
+			// dependent routes have to be invalidated immediately
+			validate();
+		}
+	}
+
+	/**
+	 * Invalidates the routing of the {@link Connection}s whose routes depend
+	 * on any of the given areas. Their dependencies are removed, as they are
+	 * registered again when they are routed.
+	 */
+	private void invalidateRoutes(List<Rectangle> areas) {
+		if (areas.isEmpty() || routeAreas.isEmpty()) {
+			return;
+		}
+		List<Connection> invalid = new ArrayList<>();
+		for (Map.Entry<Connection, Rectangle> entry : routeAreas.entrySet()) {
+			for (Rectangle area : areas) {
+				if (entry.getValue().touches(area)) {
+					invalid.add(entry.getKey());
+					break;
+				}
+			}
+		}
+		// routing may lead to new dependencies, so invalidate afterwards
+		for (Connection connection : invalid) {
+			routeAreas.remove(connection);
+		}
+		for (Connection connection : invalid) {
+			IConnectionRouter router = connection.getRouter();
+			if (router instanceof OrthogonalRouter
+					&& ((OrthogonalRouter) router)
+							.getVisibilityGraph() == this) {
+				connection.invalidateRouting();
+			}
+		}
+	}
+
+	/**
+	 * Removes the given {@link Node} from the obstacles of this
+	 * {@link OrthogonalVisibilityGraph}.
+	 *
+	 * @param node
+	 *            The {@link Node} to remove.
+	 * @return <code>true</code> if the given {@link Node} was an obstacle,
+	 *         otherwise <code>false</code>.
+	 */
+	public boolean removeObstacle(Node node) {
+		Rectangle bounds = obstacles.remove(node);
+		if (bounds == null) {
+			return false;
+		}
+		node.boundsInParentProperty().removeListener(boundsListener);
+		invalidObstacles.remove(node);
+		index.remove(node);
+		invalidateRoutes(Collections.singletonList(bounds));
+		return true;
+	}
+
+	/**
+	 * Computes an orthogonal route from the given start point to the given end
+	 * point (both in scene coordinates) that avoids the obstacles of this
+	 * {@link OrthogonalVisibilityGraph}. The source and target {@link Node}s
+	 * (if given) are the nodes on whose outlines the start and end points are
+	 * located. The route leaves the source (and enters the target) through
+	 * the side of its bounds that is nearest to the respective point. Obstacles
+	 * that contain the start or end point (e.g. containers of the source or
+	 * target) are ignored.
+	 *
+	 * @param start
+	 *            The start {@link Point} in scene coordinates.
+	 * @param source
+	 *            The {@link Node} on which the start point is located, or
+	 *            <code>null</code>.
+	 * @param end
+	 *            The end {@link Point} in scene coordinates.
+	 * @param target
+	 *            The {@link Node} on which the end point is located, or
+	 *            <code>null</code>.
+	 * @return The bend points of the route in scene coordinates (excluding the
+	 *         start and end point), or <code>null</code> if no route could be
+	 *         found.
+	 */
+	public List<Point> route(Point start, Node source, Point end, Node target) {
+		if (start == null || end == null) {
+			throw new IllegalArgumentException(
+					"The start and end point may not be null.");
+		}
+		validate();
+		return route(start, source, end, target, null);
+	}
+
+	/**
+	 * Computes orthogonal routes (see {@link #route(Point, Node, Point, Node)})
+	 * between the consecutive given points (in scene coordinates) of the
+	 * given {@link Connection}. The given source {@link Node} is only
+	 * considered for the first route, and the given target {@link Node} only
+	 * for the last one.
+	 * <p>
+	 * The given {@link Connection} is registered as depending on the areas
+	 * that were searched, so that its routing is invalidated when an obstacle
+	 * within these areas is added, moved, or removed.
+	 *
+	 * @param connection
+	 *            The {@link Connection} that is routed.
+	 * @param points
+	 *            The {@link Point}s to connect in scene coordinates.
+	 * @param source
+	 *            The {@link Node} on which the first point is located, or
+	 *            <code>null</code>.
+	 * @param target
+	 *            The {@link Node} on which the last point is located, or
+	 *            <code>null</code>.
+	 * @return The bend points of the routes in scene coordinates (one list per
+	 *         pair of consecutive points), or <code>null</code> if any route
+	 *         could not be found.
+	 */
+	public List<List<Point>> route(Connection connection, List<Point> points,
+			Node source, Node target) {
+		if (connection == null || points == null) {
+			throw new IllegalArgumentException(
+					"The connection and points may not be null.");
+		}
+		validate();
+		List<Rectangle> windows = new ArrayList<>();
+		List<List<Point>> routes = new ArrayList<>();
+		for (int i = 0; i < points.size() - 1; i++) {
+			List<Point> route = route(points.get(i), i == 0 ? source : null,
+					points.get(i + 1),
+					i == points.size() - 2 ? target : null, windows);
+			if (route == null) {
+				routes = null;
+				break;
+			}
+			routes.add(route);
+		}
+		// register the dependency on the searched areas
+		Rectangle area = null;
+		for (Rectangle window : windows) {
+			area = area == null ? window.getCopy() : area.union(window);
+		}
+		if (area != null) {
+			routeAreas.put(connection, area);
+		} else {
+			routeAreas.remove(connection);
+		}
+		return routes;
+	}
+
+	/**
+	 * Computes an orthogonal route. The windows that are searched are added
+	 * to the given list, unless it is <code>null</code>.
+	 */
+	private List<Point> route(Point start, Node source, Point end, Node target,
+			List<Rectangle> windows) {
+		// determine start and end sides
+		Rectangle sourceBounds = source == null ? null : getBounds(source);
+		if (sourceBounds != null && !isInside(sourceBounds, start)) {
+			sourceBounds = null;
+		}
+		Rectangle targetBounds = target == null ? null : getBounds(target);
+		if (targetBounds != null && !isInside(targetBounds, end)) {
+			targetBounds = null;
+		}
+		if (sourceBounds != null && targetBounds != null
+				&& (isInside(sourceBounds, end)
+						|| isInside(targetBounds, start))) {
+			// overlapping end points cannot be routed
+			return null;
+		}
+
+		Rectangle bounds = new Rectangle(start, end);
+		if (sourceBounds != null) {
+			bounds.union(sourceBounds);
+		}
+		if (targetBounds != null) {
+			bounds.union(targetBounds);
+		}
+		double extent = Math.max(bounds.getWidth(), bounds.getHeight()) / 2
+				+ 4 * margin;
+		Rectangle window = bounds.getExpanded(extent, extent);
+		for (int attempt = 1;; attempt++) {
+			if (windows != null) {
+				windows.add(window);
+			}
+			List<Point> route = route(window, start, source, sourceBounds, end,
+					target, targetBounds);
+			if (route != null) {
+				return route;
+			}
+			// enlarge the window, covering all obstacles in the last attempt
+			Rectangle obstaclesBounds = getObstaclesBounds();
+			if (obstaclesBounds == null || window.contains(obstaclesBounds)) {
+				return null;
+			}
+			extent *= 4;
+			window = bounds.getExpanded(extent, extent);
+			if (attempt == MAX_ATTEMPTS - 1) {
+				window.union(obstaclesBounds);
+			}
+		}
+	}
+
+	private List<Point> route(Rectangle window, Point start, Node source,
+			Rectangle sourceBounds, Point end, Node target,
+			Rectangle targetBounds) {
+		// collect the obstacles within the window, ignoring those that contain
+		// the start or end point
+		List<Rectangle> blocking = new ArrayList<>();
+		for (Node node : index.queryRange(window)) {
+			Rectangle r = obstacles.get(node);
+			if (node == source || node == target
+					|| !isInside(r, start) && !isInside(r, end)) {
+				blocking.add(r);
+			}
+		}
+		if (sourceBounds != null && !obstacles.containsKey(source)) {
+			blocking.add(sourceBounds);
+		}
+		if (targetBounds != null && !obstacles.containsKey(target)) {
+			blocking.add(targetBounds);
+		}
+		double[] left = new double[blocking.size()];
+		double[] top = new double[blocking.size()];
+		double[] right = new double[blocking.size()];
+		double[] bottom = new double[blocking.size()];
+		for (int i = 0; i < blocking.size(); i++) {
+			Rectangle r = blocking.get(i);
+			left[i] = r.getX();
+			top[i] = r.getY();
+			right[i] = r.getX() + r.getWidth();
+			bottom[i] = r.getY() + r.getHeight();
+		}
+
+		// leave the source and enter the target through their nearest sides
+		Point from = start;
+		int startDirection = -1;
+		if (sourceBounds != null) {
+			startDirection = getDirection(start, sourceBounds);
+			from = getSidePoint(start, startDirection, sourceBounds);
+		}
+		Point to = end;
+		int endDirection = -1;
+		if (targetBounds != null) {
+			int side = getDirection(end, targetBounds);
+			endDirection = OrthogonalSegmentGraph.opposite(side);
+			to = getSidePoint(end, side, targetBounds);
+		}
+		return new OrthogonalSegmentGraph(left, top, right, bottom, window,
+				from, to).route(from, startDirection, to, endDirection,
+						bendPenalty);
+	}
+
+	/**
+	 * Updates the bounds of the given obstacle before the next route is
+	 * computed (or immediately, in case routes depend on it). This is only
+	 * necessary if the local-to-scene transformation of the obstacle changed,
+	 * but not its bounds-in-parent.
+	 *
+	 * @param node
+	 *            The obstacle {@link Node} to update.
+	 */
+	public void updateObstacle(Node node) {
+		if (!obstacles.containsKey(node)) {
+			throw new IllegalArgumentException(
+					"The node " + node + " is not an obstacle.");
+		}
+		invalidateObstacle(node);
+	}
+
+	private void validate() {
+		if (invalidObstacles.isEmpty()) {
+			return;
+		}
+		// routing may lead to another validation, so clear beforehand
+		List<Node> invalid = new ArrayList<>(invalidObstacles);
+		invalidObstacles.clear();
+		List<Rectangle> changedAreas = new ArrayList<>();
+		for (Node node : invalid) {
+			Rectangle bounds = computeBounds(node);
+			Rectangle oldBounds = obstacles.get(node);
+			if (!bounds.equals(oldBounds)) {
+				obstacles.put(node, bounds);
+				index.update(node, bounds);
+				changedAreas.add(oldBounds);
+				changedAreas.add(bounds);
+			}
+		}
+		invalidateRoutes(changedAreas);
+	}
+}
@@ -0,0 +1,201 @@
+/*******************************************************************************
+ * Copyright (c) 2026 itemis AG and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     itemis AG - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.fx.nodes;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.gef.geometry.planar.Rectangle;
+
+import javafx.beans.property.ReadOnlyProperty;
+import javafx.beans.value.ChangeListener;
+import javafx.collections.ListChangeListener;
+import javafx.scene.Group;
+import javafx.scene.Node;
+
+/**
+ * The {@link ViewportCuller} hides the children of a {@link Group} that are
+ * outside of a given viewport, so that JavaFX does not need to render them
+ * (and to consider them when computing the bounds of the {@link Group}).
+ * <p>
+ * The children within the viewport are determined using the spatial index of
+ * a {@link ChildBoundsTracker}, which is updated incrementally when children
+ * are added, removed, or changed. Therefore, a culling pass only touches the
+ * children within the viewport and those that were within the viewport during
+ * the previous pass. The {@link ChildBoundsTracker} should include the culled
+ * children (see {@link #isCulled(Node)}) within its union, so that the union
+ * can be provided without touching the hidden children.
+ * <p>
+ * Only the visibility of children that are visible when they leave the
+ * viewport is changed, i.e. children that were hidden by the application
+ * remain hidden. In case the application changes the visibility of a culled
+ * child, the child is no longer considered to be culled, i.e. its visibility
+ * is not restored when it re-enters the viewport (and it is only hidden again
+ * if it is visible when it leaves the viewport). Note that hiding a culled
+ * child does not change its visibility, and can therefore not be detected;
+ * the application has to show it before, or disable culling.
+ */
+final class ViewportCuller {
+
+	private final ChildBoundsTracker tracker;
+	// children that were within the viewport during the last pass
+	private Set<Node> shownChildren = new HashSet<>();
+	// children that were hidden by this culler
+	private final Set<Node> culledChildren = new HashSet<>();
+	// whether the visibility of a child is currently changed by this culler
+	private boolean changingVisibility;
+
+	private final ChangeListener<Boolean> visibleListener = (observable,
+			oldValue, newValue) -> {
+		if (!changingVisibility) {
+			// the application took over the visibility of a culled child
+			Node child = (Node) ((ReadOnlyProperty<?>) observable).getBean();
+			release(child);
+			// check the visibility during the next pass
+			shownChildren.add(child);
+		}
+	};
+
+	private final ListChangeListener<Node> childrenListener = change -> {
+		while (change.next()) {
+			for (Node child : change.getRemoved()) {
+				shownChildren.remove(child);
+				show(child);
+			}
+			// check the visibility during the next pass
+			shownChildren.addAll(change.getAddedSubList());
+		}
+	};
+
+	/**
+	 * Constructs a new {@link ViewportCuller} for the children of the
+	 * {@link Group} that is tracked by the given {@link ChildBoundsTracker}.
+	 *
+	 * @param tracker
+	 *            The {@link ChildBoundsTracker} for the {@link Group} whose
+	 *            children are culled.
+	 */
+	ViewportCuller(ChildBoundsTracker tracker) {
+		this.tracker = tracker;
+		shownChildren.addAll(tracker.getGroup().getChildren());
+		tracker.getGroup().getChildren().addListener(childrenListener);
+	}
+
+	/**
+	 * Hides the children that are outside of the given viewport, and shows
+	 * the previously hidden children that are within the given viewport.
+	 *
+	 * @param viewport
+	 *            The viewport within the local coordinate system of the
+	 *            {@link Group}.
+	 */
+	void cull(Rectangle viewport) {
+		List<Node> inside = tracker.getChildren(viewport);
+		Set<Node> insideSet = new HashSet<>(inside);
+		// changing the visibility must not trigger another pass
+		tracker.setNotificationsSuspended(true);
+		for (Node child : shownChildren) {
+			if (!insideSet.contains(child) && child.isVisible()
+					&& !culledChildren.contains(child)) {
+				hide(child);
+			}
+		}
+		for (Node child : inside) {
+			show(child);
+		}
+		tracker.validate();
+		tracker.setNotificationsSuspended(false);
+		shownChildren = insideSet;
+	}
+
+	/**
+	 * Shows all children that were hidden by this {@link ViewportCuller} and
+	 * unregisters all listeners.
+	 */
+	void dispose() {
+		tracker.getGroup().getChildren().removeListener(childrenListener);
+		for (Node child : new ArrayList<>(culledChildren)) {
+			show(child);
+		}
+		shownChildren.clear();
+	}
+
+	/**
+	 * Returns the {@link ChildBoundsTracker} that is used by this
+	 * {@link ViewportCuller}.
+	 *
+	 * @return The {@link ChildBoundsTracker} that is used by this
+	 *         {@link ViewportCuller}.
+	 */
+	ChildBoundsTracker getTracker() {
+		return tracker;
+	}
+
+	/**
+	 * Hides the given child and observes its visibility, so that changes of
+	 * the application can be detected.
+	 */
+	private void hide(Node child) {
+		changingVisibility = true;
+		try {
+			child.setVisible(false);
+		} finally {
+			changingVisibility = false;
+		}
+		culledChildren.add(child);
+		child.visibleProperty().addListener(visibleListener);
+	}
+
+	/**
+	 * Returns <code>true</code> if the given child was hidden by this
+	 * {@link ViewportCuller}.
+	 *
+	 * @param child
+	 *            The child {@link Node} to test.
+	 * @return <code>true</code> if the given child is culled, otherwise
+	 *         <code>false</code>.
+	 */
+	boolean isCulled(Node child) {
+		return culledChildren.contains(child);
+	}
+
+	/**
+	 * Stops observing the visibility of the given culled child, without
+	 * changing it. Returns <code>false</code> if the child is not culled.
+	 */
+	private boolean release(Node child) {
+		if (!culledChildren.remove(child)) {
+			return false;
+		}
+		child.visibleProperty().removeListener(visibleListener);
+		return true;
+	}
+
+	/**
+	 * Shows the given child if it was hidden by this culler.
+	 */
+	private void show(Node child) {
+		if (release(child)) {
+			changingVisibility = true;
+			try {
+				child.setVisible(true);
+			} finally {
+				changingVisibility = false;
+			}
+		}
+	}
+
+}
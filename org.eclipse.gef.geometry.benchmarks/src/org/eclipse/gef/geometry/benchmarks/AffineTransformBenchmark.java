@@ -0,0 +1,132 @@
+/*******************************************************************************
+ * Copyright (c) 2026 itemis AG and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     itemis AG - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.geometry.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.gef.geometry.planar.AffineTransform;
+import org.eclipse.gef.geometry.planar.Point;
+import org.eclipse.gef.geometry.planar.Polygon;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the application of an {@link AffineTransform} (a combination of
+ * rotation, scaling, shearing, and translation) to random {@link Point}s,
+ * either as {@link Point} objects, as an array of coordinates, or as a
+ * {@link Polygon}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = { "-Xms1g", "-Xmx1g",
+		"-Djava.awt.headless=true" })
+public class AffineTransformBenchmark {
+
+	/**
+	 * The number of points to transform.
+	 */
+	@Param({ "100", "10000" })
+	public int points;
+
+	private AffineTransform transform;
+	private Point[] source;
+	private double[] coordinates;
+	private double[] destination;
+	private Polygon polygon;
+
+	/**
+	 * Transforms the coordinates into a destination array.
+	 *
+	 * @return The destination array, so that the computation is not
+	 *         eliminated.
+	 */
+	@Benchmark
+	public double[] coordinates() {
+		transform.transform(coordinates, 0, destination, 0, points);
+		return destination;
+	}
+
+	/**
+	 * Transforms copies of the {@link Point}s.
+	 *
+	 * @return The transformed {@link Point}s, so that the computation is not
+	 *         eliminated.
+	 */
+	@Benchmark
+	public Point[] getTransformed() {
+		return transform.getTransformed(source);
+	}
+
+	/**
+	 * Transforms the {@link Polygon}.
+	 *
+	 * @return The transformed {@link Polygon}, so that the computation is not
+	 *         eliminated.
+	 */
+	@Benchmark
+	public Polygon polygon() {
+		return polygon.getTransformed(transform);
+	}
+
+	/**
+	 * Creates the {@link AffineTransform} and the {@link Point}s.
+	 */
+	@Setup
+	public void setup() {
+		Random random = new Random(42);
+		transform = new AffineTransform().rotate(0.5).scale(2, 3)
+				.shear(0.1, 0.2).translate(7, 8);
+		source = new Point[points];
+		coordinates = new double[2 * points];
+		for (int i = 0; i < points; i++) {
+			source[i] = new Point(random.nextDouble() * 1000,
+					random.nextDouble() * 1000);
+			coordinates[2 * i] = source[i].x;
+			coordinates[2 * i + 1] = source[i].y;
+		}
+		destination = new double[coordinates.length];
+		polygon = new Polygon(coordinates);
+	}
+
+	/**
+	 * Transforms the {@link Point}s in-place. As the transformation is applied
+	 * repeatedly, the {@link Point}s are reset before each invocation, which is
+	 * included in the measurement.
+	 *
+	 * @return The transformed {@link Point}s, so that the computation is not
+	 *         eliminated.
+	 */
+	@Benchmark
+	public Point[] transform() {
+		for (int i = 0; i < source.length; i++) {
+			source[i].x = coordinates[2 * i];
+			source[i].y = coordinates[2 * i + 1];
+		}
+		return transform.transform(source);
+	}
+
+}
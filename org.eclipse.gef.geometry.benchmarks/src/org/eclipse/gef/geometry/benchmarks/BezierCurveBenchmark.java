@@ -0,0 +1,142 @@
+/*******************************************************************************
+ * Copyright (c) 2026 itemis AG and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     itemis AG - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.geometry.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.gef.geometry.planar.BezierCurve;
+import org.eclipse.gef.geometry.planar.Point;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the intersection, overlap, and offset computations of
+ * {@link BezierCurve}.
+ * <p>
+ * The inputs are curves of the given degree with random control points within
+ * a 400x400 area, so that most pairs of curves intersect several times. For
+ * the overlap computation, each curve is paired with a sub-curve of itself.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = { "-Xms1g", "-Xmx1g",
+		"-Djava.awt.headless=true" })
+public class BezierCurveBenchmark {
+
+	private static final int CURVES = 16;
+
+	/**
+	 * The degree of the curves.
+	 */
+	@Param({ "2", "3", "5" })
+	public int degree;
+
+	private BezierCurve[] curves;
+	private BezierCurve[] clipped;
+	private int invocation;
+
+	/**
+	 * Computes the intersection points of pairs of curves.
+	 *
+	 * @return The number of intersection points, so that the computation is
+	 *         not eliminated.
+	 */
+	@Benchmark
+	public int intersections() {
+		int count = 0;
+		for (int i = 0; i + 1 < curves.length; i += 2) {
+			count += curves[i].getIntersections(curves[i + 1]).length;
+		}
+		return count;
+	}
+
+	/**
+	 * Computes the offset of a curve. The offset cache of the curve is cleared
+	 * before, so that the offset is recomputed for each invocation.
+	 *
+	 * @return The number of curves of the offset, so that the computation is
+	 *         not eliminated.
+	 */
+	@Benchmark
+	public int offset() {
+		BezierCurve curve = curves[invocation++ % curves.length];
+		curve.clearOffsetCache();
+		return curve.getOffset(10).toBezier().length;
+	}
+
+	/**
+	 * Computes the offset of a curve with a constant offset distance, so that
+	 * the offset is served from the offset cache of {@link BezierCurve} after
+	 * the first invocation.
+	 *
+	 * @return The number of curves of the offset, so that the computation is
+	 *         not eliminated.
+	 */
+	@Benchmark
+	public int offsetCached() {
+		BezierCurve curve = curves[invocation++ % curves.length];
+		return curve.getOffset(10).toBezier().length;
+	}
+
+	/**
+	 * Computes the overlaps of the curves with sub-curves of themselves.
+	 *
+	 * @return The number of overlaps, so that the computation is not
+	 *         eliminated.
+	 */
+	@Benchmark
+	public int overlap() {
+		int count = 0;
+		for (int i = 0; i < curves.length; i++) {
+			if (curves[i].getOverlap(clipped[i]) != null) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * Creates the curves.
+	 */
+	@Setup
+	public void setup() {
+		Random random = new Random(42);
+		curves = new BezierCurve[CURVES];
+		clipped = new BezierCurve[CURVES];
+		for (int i = 0; i < curves.length; i++) {
+			Point[] points = new Point[degree + 1];
+			for (int j = 0; j < points.length; j++) {
+				points[j] = new Point(random.nextDouble() * 400,
+						random.nextDouble() * 400);
+			}
+			curves[i] = new BezierCurve(points);
+			clipped[i] = curves[i].getClipped(0.25, 0.9);
+		}
+		invocation = 0;
+	}
+
+}
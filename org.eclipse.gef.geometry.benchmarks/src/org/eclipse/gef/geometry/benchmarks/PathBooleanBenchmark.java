@@ -0,0 +1,157 @@
+/*******************************************************************************
+ * Copyright (c) 2026 itemis AG and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     itemis AG - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.geometry.benchmarks;
+
+import java.awt.geom.Area;
+import java.awt.geom.Path2D;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.gef.geometry.convert.awt.AWT2Geometry;
+import org.eclipse.gef.geometry.convert.awt.Geometry2AWT;
+import org.eclipse.gef.geometry.planar.Ellipse;
+import org.eclipse.gef.geometry.planar.Path;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the boolean operations of {@link Path} with the corresponding
+ * <code>java.awt.geom.Area</code> based computations (which were used by
+ * {@link Path} before), including the conversions from and to AWT.
+ * <p>
+ * The operands are either two overlapping star-shaped polygons with the given
+ * number of vertices, or two overlapping {@link Ellipse}s (consisting of cubic
+ * curves, independent of the number of vertices).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = { "-Xms1g", "-Xmx1g",
+		"-Djava.awt.headless=true" })
+public class PathBooleanBenchmark {
+
+	/**
+	 * The implementation that is measured, either "native" (i.e. the
+	 * {@link Path} API) or "awt".
+	 */
+	@Param({ "native", "awt" })
+	public String implementation;
+
+	/**
+	 * The boolean operation that is measured.
+	 */
+	@Param({ "add", "intersect", "subtract", "exclusiveOr" })
+	public String operation;
+
+	/**
+	 * The kind of operands, either "polygon" or "ellipse".
+	 */
+	@Param({ "polygon", "ellipse" })
+	public String shape;
+
+	/**
+	 * The number of vertices per polygon.
+	 */
+	@Param({ "100", "1000" })
+	public int vertices;
+
+	private Path a;
+	private Path b;
+
+	/**
+	 * Creates a closed, star-shaped polygonal {@link Path} with the given
+	 * number of vertices, whose distances to the center vary randomly between
+	 * 60% and 100% of the given radius.
+	 */
+	static Path createStar(Random random, double cx, double cy,
+			double radius, int n) {
+		Path path = new Path();
+		for (int i = 0; i < n; i++) {
+			double angle = 2 * Math.PI * i / n;
+			double r = radius * (0.6 + 0.4 * random.nextDouble());
+			double x = cx + r * Math.cos(angle);
+			double y = cy + r * Math.sin(angle);
+			if (i == 0) {
+				path.moveTo(x, y);
+			} else {
+				path.lineTo(x, y);
+			}
+		}
+		return path.close();
+	}
+
+	/**
+	 * Computes the boolean operation of both operands.
+	 *
+	 * @return The result, so that the computation is not eliminated.
+	 */
+	@Benchmark
+	public Path booleanOperation() {
+		if ("native".equals(implementation)) {
+			switch (operation) {
+			case "add":
+				return Path.add(a, b);
+			case "intersect":
+				return Path.intersect(a, b);
+			case "subtract":
+				return Path.subtract(a, b);
+			default:
+				return Path.exclusiveOr(a, b);
+			}
+		}
+		Area area = new Area(Geometry2AWT.toAWTPath(a));
+		Area other = new Area(Geometry2AWT.toAWTPath(b));
+		switch (operation) {
+		case "add":
+			area.add(other);
+			break;
+		case "intersect":
+			area.intersect(other);
+			break;
+		case "subtract":
+			area.subtract(other);
+			break;
+		default:
+			area.exclusiveOr(other);
+		}
+		return AWT2Geometry.toPath(new Path2D.Double(area));
+	}
+
+	/**
+	 * Creates the operands.
+	 */
+	@Setup
+	public void setup() {
+		Random random = new Random(42);
+		if ("ellipse".equals(shape)) {
+			a = new Ellipse(0, 0, 400, 300).toPath();
+			b = new Ellipse(150, 100, 400, 300).toPath();
+		} else {
+			a = createStar(random, 200, 200, 200, vertices);
+			b = createStar(random, 300, 250, 200, vertices);
+		}
+	}
+
+}
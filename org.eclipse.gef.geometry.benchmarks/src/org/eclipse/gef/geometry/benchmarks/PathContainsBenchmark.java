@@ -0,0 +1,122 @@
+/*******************************************************************************
+ * Copyright (c) 2026 itemis AG and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     itemis AG - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.geometry.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.gef.geometry.convert.awt.Geometry2AWT;
+import org.eclipse.gef.geometry.planar.Ellipse;
+import org.eclipse.gef.geometry.planar.Path;
+import org.eclipse.gef.geometry.planar.Point;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the point containment test of {@link Path} with the
+ * <code>java.awt.geom.Path2D</code> based test (which was used by {@link Path}
+ * before), including the conversion to AWT.
+ * <p>
+ * The {@link Path} is either a star-shaped polygon with the given number of
+ * vertices, or an {@link Ellipse} (consisting of cubic curves, independent of
+ * the number of vertices).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = { "-Xms1g", "-Xmx1g",
+		"-Djava.awt.headless=true" })
+public class PathContainsBenchmark {
+
+	private static final int CONTAINMENT_TESTS = 100;
+
+	/**
+	 * The implementation that is measured, either "native" (i.e. the
+	 * {@link Path} API) or "awt".
+	 */
+	@Param({ "native", "awt" })
+	public String implementation;
+
+	/**
+	 * The kind of {@link Path}, either "polygon" or "ellipse".
+	 */
+	@Param({ "polygon", "ellipse" })
+	public String shape;
+
+	/**
+	 * The number of vertices of the polygon.
+	 */
+	@Param({ "100", "1000" })
+	public int vertices;
+
+	private Path a;
+	private Point[] points;
+
+	/**
+	 * Tests a number of points for containment in the {@link Path}.
+	 *
+	 * @return The number of contained points, so that the computation is not
+	 *         eliminated.
+	 */
+	@Benchmark
+	public int containsPoint() {
+		int contained = 0;
+		if ("native".equals(implementation)) {
+			for (Point p : points) {
+				if (a.contains(p)) {
+					contained++;
+				}
+			}
+		} else {
+			for (Point p : points) {
+				if (Geometry2AWT.toAWTPath(a)
+						.contains(Geometry2AWT.toAWTPoint(p))) {
+					contained++;
+				}
+			}
+		}
+		return contained;
+	}
+
+	/**
+	 * Creates the {@link Path} and the points to test.
+	 */
+	@Setup
+	public void setup() {
+		Random random = new Random(42);
+		if ("ellipse".equals(shape)) {
+			a = new Ellipse(0, 0, 400, 300).toPath();
+		} else {
+			a = PathBooleanBenchmark.createStar(random, 200, 200, 200,
+					vertices);
+		}
+		points = new Point[CONTAINMENT_TESTS];
+		for (int i = 0; i < points.length; i++) {
+			points[i] = new Point(random.nextDouble() * 400,
+					random.nextDouble() * 400);
+		}
+	}
+
+}
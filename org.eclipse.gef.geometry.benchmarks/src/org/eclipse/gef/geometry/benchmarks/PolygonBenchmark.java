@@ -0,0 +1,130 @@
+/*******************************************************************************
+ * Copyright (c) 2026 itemis AG and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     itemis AG - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.geometry.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.gef.geometry.planar.Point;
+import org.eclipse.gef.geometry.planar.Polygon;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the point containment test and the triangulation of
+ * {@link Polygon}.
+ * <p>
+ * The {@link Polygon} is a star-shaped polygon with the given number of
+ * vertices, whose distances to the center vary randomly, so that it is
+ * concave (but simple).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = { "-Xms1g", "-Xmx1g",
+		"-Djava.awt.headless=true" })
+public class PolygonBenchmark {
+
+	private static final int CONTAINMENT_TESTS = 100;
+
+	/**
+	 * The number of vertices of the polygon.
+	 */
+	@Param({ "10", "100", "1000" })
+	public int vertices;
+
+	private Polygon polygon;
+	private Point[] points;
+
+	/**
+	 * Creates a star-shaped {@link Polygon} with the given number of vertices
+	 * around the given center.
+	 *
+	 * @param random
+	 *            The {@link Random} that is used to vary the radius.
+	 * @param cx
+	 *            The x coordinate of the center.
+	 * @param cy
+	 *            The y coordinate of the center.
+	 * @param radius
+	 *            The maximum distance of a vertex to the center.
+	 * @param n
+	 *            The number of vertices.
+	 * @return The star-shaped {@link Polygon}.
+	 */
+	static Polygon createStar(Random random, double cx, double cy,
+			double radius, int n) {
+		double[] coordinates = new double[2 * n];
+		for (int i = 0; i < n; i++) {
+			double angle = 2 * Math.PI * i / n;
+			double r = radius * (0.6 + 0.4 * random.nextDouble());
+			coordinates[2 * i] = cx + r * Math.cos(angle);
+			coordinates[2 * i + 1] = cy + r * Math.sin(angle);
+		}
+		return new Polygon(coordinates);
+	}
+
+	/**
+	 * Tests a number of points for containment in the {@link Polygon}.
+	 *
+	 * @return The number of contained points, so that the computation is not
+	 *         eliminated.
+	 */
+	@Benchmark
+	public int containsPoint() {
+		int contained = 0;
+		for (Point p : points) {
+			if (polygon.contains(p)) {
+				contained++;
+			}
+		}
+		return contained;
+	}
+
+	/**
+	 * Creates the {@link Polygon} and the points to test.
+	 */
+	@Setup
+	public void setup() {
+		Random random = new Random(42);
+		polygon = createStar(random, 200, 200, 200, vertices);
+		points = new Point[CONTAINMENT_TESTS];
+		for (int i = 0; i < points.length; i++) {
+			points[i] = new Point(random.nextDouble() * 400,
+					random.nextDouble() * 400);
+		}
+	}
+
+	/**
+	 * Triangulates the {@link Polygon}.
+	 *
+	 * @return The triangles, so that the computation is not eliminated.
+	 */
+	@Benchmark
+	public Polygon[] triangulation() {
+		return polygon.getTriangulation();
+	}
+
+}
@@ -0,0 +1,81 @@
+/*******************************************************************************
+ * Copyright (c) 2026 itemis AG and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     itemis AG - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.geometry.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.gef.geometry.planar.Rectangle;
+import org.eclipse.gef.geometry.planar.Region;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the construction of a {@link Region}, which decomposes its input
+ * into non-overlapping {@link Rectangle}s.
+ * <p>
+ * The {@link Region} is constructed from the given number of random (partly
+ * overlapping) {@link Rectangle}s within a 1000x1000 area.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = { "-Xms1g", "-Xmx1g",
+		"-Djava.awt.headless=true" })
+public class RegionBenchmark {
+
+	/**
+	 * The number of {@link Rectangle}s.
+	 */
+	@Param({ "10", "100", "1000" })
+	public int rectangles;
+
+	private Rectangle[] input;
+
+	/**
+	 * Constructs a {@link Region} from the {@link Rectangle}s.
+	 *
+	 * @return The {@link Region}, so that the computation is not eliminated.
+	 */
+	@Benchmark
+	public Region region() {
+		return new Region(input);
+	}
+
+	/**
+	 * Creates the {@link Rectangle}s.
+	 */
+	@Setup
+	public void setup() {
+		Random random = new Random(42);
+		input = new Rectangle[rectangles];
+		for (int i = 0; i < input.length; i++) {
+			input[i] = new Rectangle(random.nextDouble() * 900,
+					random.nextDouble() * 900, 10 + random.nextDouble() * 90,
+					10 + random.nextDouble() * 90);
+		}
+	}
+
+}
@@ -0,0 +1,84 @@
+/*******************************************************************************
+ * Copyright (c) 2026 itemis AG and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     itemis AG - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.geometry.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.gef.geometry.planar.Polygon;
+import org.eclipse.gef.geometry.planar.Ring;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the construction of a {@link Ring}, which decomposes its input into
+ * non-overlapping triangles.
+ * <p>
+ * The {@link Ring} is constructed from the given number of random (partly
+ * overlapping) triangles within a 500x500 area.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = { "-Xms1g", "-Xmx1g",
+		"-Djava.awt.headless=true" })
+public class RingBenchmark {
+
+	/**
+	 * The number of triangles.
+	 */
+	@Param({ "10", "30", "100" })
+	public int triangles;
+
+	private Polygon[] input;
+
+	/**
+	 * Constructs a {@link Ring} from the triangles.
+	 *
+	 * @return The {@link Ring}, so that the computation is not eliminated.
+	 */
+	@Benchmark
+	public Ring ring() {
+		return new Ring(input);
+	}
+
+	/**
+	 * Creates the triangles.
+	 */
+	@Setup
+	public void setup() {
+		Random random = new Random(42);
+		input = new Polygon[triangles];
+		for (int i = 0; i < input.length; i++) {
+			double x = random.nextDouble() * 400;
+			double y = random.nextDouble() * 400;
+			input[i] = new Polygon(x, y, x + random.nextDouble() * 100,
+					y + random.nextDouble() * 100,
+					x + random.nextDouble() * 100,
+					y + random.nextDouble() * 100);
+		}
+	}
+
+}
@@ -0,0 +1,141 @@
+/*******************************************************************************
+ * Copyright (c) 2026 itemis AG and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     itemis AG - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.geometry.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.gef.geometry.planar.BezierCurve;
+import org.eclipse.gef.geometry.planar.Ellipse;
+import org.eclipse.gef.geometry.planar.IShape;
+import org.eclipse.gef.geometry.planar.Point;
+import org.eclipse.gef.geometry.planar.Polygon;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the generic containment tests (provided by
+ * <code>org.eclipse.gef.geometry.planar.ShapeUtils</code>), which
+ * {@link IShape#contains(org.eclipse.gef.geometry.planar.IGeometry)} delegates
+ * to for geometries without a specialized test, i.e. whether a shape contains
+ * a curve or another (curved) shape.
+ * <p>
+ * The containing shape is either a star-shaped {@link Polygon} with the given
+ * number of vertices, or an {@link Ellipse} (independent of the number of
+ * vertices). The contained geometries are small random cubic
+ * {@link BezierCurve}s and small random {@link Ellipse}s, most of which are
+ * contained.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = { "-Xms1g", "-Xmx1g",
+		"-Djava.awt.headless=true" })
+public class ShapeUtilsBenchmark {
+
+	private static final int CONTAINMENT_TESTS = 20;
+
+	/**
+	 * The kind of containing shape, either "polygon" or "ellipse".
+	 */
+	@Param({ "polygon", "ellipse" })
+	public String shape;
+
+	/**
+	 * The number of vertices of the polygon.
+	 */
+	@Param({ "10", "100", "1000" })
+	public int vertices;
+
+	private IShape container;
+	private BezierCurve[] curves;
+	private Ellipse[] ellipses;
+
+	/**
+	 * Tests the {@link BezierCurve}s for containment in the shape.
+	 *
+	 * @return The number of contained curves, so that the computation is not
+	 *         eliminated.
+	 */
+	@Benchmark
+	public int containsCurve() {
+		int contained = 0;
+		for (BezierCurve c : curves) {
+			if (container.contains(c)) {
+				contained++;
+			}
+		}
+		return contained;
+	}
+
+	/**
+	 * Tests the {@link Ellipse}s for containment in the shape.
+	 *
+	 * @return The number of contained triangles, so that the computation is
+	 *         not eliminated.
+	 */
+	@Benchmark
+	public int containsShape() {
+		int contained = 0;
+		for (Ellipse e : ellipses) {
+			if (container.contains(e)) {
+				contained++;
+			}
+		}
+		return contained;
+	}
+
+	private Point randomPoint(Random random, double x, double y) {
+		return new Point(x + random.nextDouble() * 40,
+				y + random.nextDouble() * 40);
+	}
+
+	/**
+	 * Creates the shape and the geometries to test.
+	 */
+	@Setup
+	public void setup() {
+		Random random = new Random(42);
+		if ("ellipse".equals(shape)) {
+			container = new Ellipse(0, 50, 400, 300);
+		} else {
+			container = PolygonBenchmark.createStar(random, 200, 200, 200,
+					vertices);
+		}
+		curves = new BezierCurve[CONTAINMENT_TESTS];
+		ellipses = new Ellipse[CONTAINMENT_TESTS];
+		for (int i = 0; i < CONTAINMENT_TESTS; i++) {
+			double x = random.nextDouble() * 360;
+			double y = random.nextDouble() * 360;
+			curves[i] = new BezierCurve(randomPoint(random, x, y),
+					randomPoint(random, x, y), randomPoint(random, x, y),
+					randomPoint(random, x, y));
+			ellipses[i] = new Ellipse(random.nextDouble() * 360,
+					random.nextDouble() * 360, 10 + random.nextDouble() * 30,
+					10 + random.nextDouble() * 30);
+		}
+	}
+
+}
@@ -0,0 +1,200 @@
+/*******************************************************************************
+ * Copyright (c) 2026 itemis AG and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     itemis AG - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.geometry.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.gef.geometry.planar.LooseQuadTree;
+import org.eclipse.gef.geometry.planar.Point;
+import org.eclipse.gef.geometry.planar.RTree;
+import org.eclipse.gef.geometry.planar.Rectangle;
+import org.eclipse.gef.geometry.planar.SpatialIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the queries and updates of the {@link SpatialIndex}
+ * implementations with a linear scan over all bounds, for a scene of randomly
+ * distributed, mostly small rectangles.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = { "-Xms1g", "-Xmx1g" })
+public class SpatialIndexBenchmark {
+
+	/**
+	 * The measured implementation, either "rtree", "quadtree", or "linear"
+	 * (i.e. a scan over all bounds).
+	 */
+	@Param({ "rtree", "quadtree", "linear" })
+	public String implementation;
+
+	/**
+	 * The number of indexed rectangles.
+	 */
+	@Param({ "1000", "100000" })
+	public int size;
+
+	private Rectangle[] bounds;
+	private Integer[] elements;
+	private SpatialIndex<Integer> index;
+	private Random random;
+
+	private Rectangle randomRectangle(double maxSize) {
+		double extent = Math.sqrt(size) * 100;
+		return new Rectangle(random.nextDouble() * extent,
+				random.nextDouble() * extent, random.nextDouble() * maxSize,
+				random.nextDouble() * maxSize);
+	}
+
+	/**
+	 * Finds the 10 elements nearest to a random point.
+	 *
+	 * @return The result, so that the computation is not eliminated.
+	 */
+	@Benchmark
+	public List<Integer> nearest() {
+		Point point = randomRectangle(0).getLocation();
+		if (index != null) {
+			return index.queryNearest(point, 10);
+		}
+		// keep the (unordered) 10 best candidates
+		List<Integer> result = new ArrayList<>();
+		double[] distances = new double[10];
+		for (int i = 0; i < bounds.length; i++) {
+			Rectangle r = bounds[i];
+			double dx = Math.max(Math.max(r.getX() - point.x,
+					point.x - r.getX() - r.getWidth()), 0);
+			double dy = Math.max(Math.max(r.getY() - point.y,
+					point.y - r.getY() - r.getHeight()), 0);
+			double d = dx * dx + dy * dy;
+			if (result.size() < 10) {
+				distances[result.size()] = d;
+				result.add(elements[i]);
+			} else {
+				int worst = 0;
+				for (int j = 1; j < 10; j++) {
+					if (distances[j] > distances[worst]) {
+						worst = j;
+					}
+				}
+				if (d < distances[worst]) {
+					distances[worst] = d;
+					result.set(worst, elements[i]);
+				}
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Finds the elements whose bounds contain a random point.
+	 *
+	 * @return The result, so that the computation is not eliminated.
+	 */
+	@Benchmark
+	public List<Integer> point() {
+		Point point = randomRectangle(0).getLocation();
+		if (index != null) {
+			return index.queryPoint(point);
+		}
+		return scan(new Rectangle(point, point));
+	}
+
+	/**
+	 * Finds the elements whose bounds touch a random viewport-sized range.
+	 *
+	 * @return The result, so that the computation is not eliminated.
+	 */
+	@Benchmark
+	public List<Integer> range() {
+		Rectangle range = randomRectangle(0).setSize(800, 600);
+		if (index != null) {
+			return index.queryRange(range);
+		}
+		return scan(range);
+	}
+
+	private List<Integer> scan(Rectangle range) {
+		List<Integer> result = new ArrayList<>();
+		double x1 = range.getX() + range.getWidth();
+		double y1 = range.getY() + range.getHeight();
+		for (int i = 0; i < bounds.length; i++) {
+			Rectangle r = bounds[i];
+			if (r.getX() <= x1 && range.getX() <= r.getX() + r.getWidth()
+					&& r.getY() <= y1
+					&& range.getY() <= r.getY() + r.getHeight()) {
+				result.add(elements[i]);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Creates the rectangles and bulk loads the index.
+	 */
+	@Setup
+	public void setup() {
+		random = new Random(42);
+		bounds = new Rectangle[size];
+		elements = new Integer[size];
+		List<Integer> list = new ArrayList<>(size);
+		for (int i = 0; i < size; i++) {
+			bounds[i] = randomRectangle(random.nextInt(100) == 0 ? 1000 : 100);
+			elements[i] = i;
+			list.add(elements[i]);
+		}
+		if ("rtree".equals(implementation)) {
+			index = new RTree<>();
+		} else if ("quadtree".equals(implementation)) {
+			index = new LooseQuadTree<>();
+		} else {
+			index = null;
+			return;
+		}
+		index.insertAll(list, e -> bounds[e]);
+	}
+
+	/**
+	 * Moves a random element by a small offset, as done when dragging.
+	 *
+	 * @return The moved bounds, so that the computation is not eliminated.
+	 */
+	@Benchmark
+	public Rectangle update() {
+		int i = random.nextInt(size);
+		bounds[i] = bounds[i].getTranslated(random.nextDouble() * 10 - 5,
+				random.nextDouble() * 10 - 5);
+		if (index != null) {
+			index.update(elements[i], bounds[i]);
+		}
+		return bounds[i];
+	}
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2016 itemis AG and others.
+ * Copyright (c) 2012, 2026 itemis AG and others.
  * 
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -13,9 +13,13 @@
  *******************************************************************************/
 package org.eclipse.gef.geometry.tests;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 
+import org.eclipse.gef.geometry.convert.awt.AWT2Geometry;
+import org.eclipse.gef.geometry.convert.awt.Geometry2AWT;
 import org.eclipse.gef.geometry.euclidean.Angle;
 import org.eclipse.gef.geometry.planar.AffineTransform;
 import org.eclipse.gef.geometry.planar.Point;
@@ -45,4 +49,45 @@ public class AffineTransformTests {
 		assertEquals(new Point(0, 1), tx.getTransformed(new Point(1, 0)));
 	}
 
+	@Test
+	public void test_transform() {
+		AffineTransform tx = new AffineTransform().translate(10, 20)
+				.rotate(Angle.fromDeg(30).rad()).scale(2, 3).shear(0.5, 0);
+		Point[] points = new Point[] { new Point(), new Point(1, 0),
+				new Point(-3.5, 7), new Point(100, -42) };
+		Point[] expected = new Point[points.length];
+		for (int i = 0; i < points.length; i++) {
+			// compare with the AWT transformation (used previously)
+			expected[i] = AWT2Geometry.toPoint(Geometry2AWT
+					.toAWTAffineTransform(tx)
+					.transform(Geometry2AWT.toAWTPoint(points[i]), null));
+			assertEquals(expected[i], tx.getTransformed(points[i]));
+		}
+		assertArrayEquals(expected, tx.getTransformed(points));
+
+		// transform coordinates into a separate array, with offsets
+		double[] coords = new double[2 + 2 * points.length];
+		for (int i = 0; i < points.length; i++) {
+			coords[2 + 2 * i] = points[i].x;
+			coords[3 + 2 * i] = points[i].y;
+		}
+		double[] dst = new double[2 * points.length];
+		tx.transform(coords, 2, dst, 0, points.length);
+		for (int i = 0; i < points.length; i++) {
+			assertEquals(expected[i], new Point(dst[2 * i], dst[2 * i + 1]));
+		}
+
+		// transform coordinates in-place, with overlapping ranges
+		tx.transform(coords, 2, coords, 0, points.length);
+		for (int i = 0; i < points.length; i++) {
+			assertEquals(expected[i],
+					new Point(coords[2 * i], coords[2 * i + 1]));
+		}
+
+		// transform points in-place
+		Point[] copy = Point.getCopy(points);
+		assertSame(copy, tx.transform(copy));
+		assertArrayEquals(expected, copy);
+	}
+
 }
@@ -23,12 +23,13 @@ import org.junit.runners.Suite.SuiteClasses;
 		AWTConversionTests.class, BezierCurveTests.class, CubicCurveTests.class,
 		CurvedPolygonTests.class, CurveUtilsTests.class, DimensionTests.class,
 		EllipseTests.class, IGeometryTests.class, LineTests.class,
-		PathTests.class, PieTests.class, PointListUtilsTests.class,
-		PointTests.class, PolygonTests.class, PolylineTests.class,
-		PrecisionUtilsTests.class, QuadraticCurveTests.class,
+		PathTests.class, PieTests.class, PointBufferTests.class,
+		PointListUtilsTests.class, PointTests.class, PolygonTests.class,
+		PolyBezierTests.class, PolylineTests.class, PrecisionUtilsTests.class,
+		ProjectionIndexTests.class, QuadraticCurveTests.class,
 		RectangleTests.class, RegionTests.class, RingTests.class,
-		RoundedRectangleTests.class, StraightTests.class, VectorTests.class,
-		Vector3DTests.class })
+		RoundedRectangleTests.class, SpatialIndexTests.class,
+		StraightTests.class, VectorTests.class, Vector3DTests.class })
 public class AllTests {
 
 }
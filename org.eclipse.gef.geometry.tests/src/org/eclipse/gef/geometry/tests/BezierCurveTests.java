@@ -221,6 +221,19 @@ public class BezierCurveTests {
 		assertEquals(c2pathBounds.getWidth(), c2bounds.getWidth(), 0.1);
 	}
 
+	@Test
+	public void test_getBounds_cached() {
+		BezierCurve c = new BezierCurve(1, 1, 1, 10, 10, 1, 10, 10);
+		// the returned bounds are copies
+		c.getBounds().translate(100, 100);
+		assertEquals(new Rectangle(1, 1, 9, 9), c.getBounds());
+		// the cached bounds are discarded on mutation
+		c.translate(1, 2);
+		assertEquals(new Rectangle(2, 3, 9, 9), c.getBounds());
+		c.setP2(new Point(20, 20));
+		assertEquals(new Rectangle(2, 3, 18, 17), c.getBounds());
+	}
+
 	@Test
 	public void test_getClipped() {
 		BezierCurve c0 = new BezierCurve(1, 1, 1, 10, 10, 1, 10, 10);
@@ -276,6 +289,104 @@ public class BezierCurveTests {
 		assertEquals(4, inters.length);
 	}
 
+	@Test
+	public void test_getLength() {
+		// collinear control points with monotone parameterization
+		BezierCurve straight = new BezierCurve(new Point(0, 0), new Point(10, 0),
+				new Point(30, 0));
+		assertEquals(30, straight.getLength(), 1e-9);
+
+		// compare against a fine polyline approximation
+		BezierCurve c = new BezierCurve(new Point(0, 0), new Point(100, 0),
+				new Point(0, 100), new Point(100, 100));
+		int n = 100000;
+		double length = 0;
+		Point prev = c.get(0);
+		for (int i = 1; i <= n; i++) {
+			Point next = c.get((double) i / n);
+			length += prev.getDistance(next);
+			prev = next;
+		}
+		assertEquals(length, c.getLength(), 1e-6);
+
+		// the cached length is discarded on mutation
+		c.scale(2, 2, 0, 0);
+		assertEquals(2 * length, c.getLength(), 1e-6);
+		c.setPoint(3, new Point(0, 0));
+		c.setPoint(2, new Point(0, 0));
+		c.setPoint(1, new Point(0, 0));
+		assertEquals(0, c.getLength(), 0);
+	}
+
+	@Test
+	public void test_getPointAtLength() {
+		BezierCurve c = new BezierCurve(new Point(0, 0), new Point(100, 0),
+				new Point(0, 100), new Point(100, 100));
+		double length = c.getLength();
+		assertEquals(c.getP1(), c.getPointAtLength(-1));
+		assertEquals(c.getP2(), c.getPointAtLength(length + 1));
+
+		// the distance along the curve grows linearly with the given length
+		int n = 50;
+		double t = 0;
+		for (int i = 1; i <= n; i++) {
+			double s = length * i / n;
+			double u = c.getParameterAtLength(s);
+			assertTrue(u > t);
+			assertEquals(s, c.getClipped(0, u).getLength(), 1e-6);
+			assertEquals(c.get(u), c.getPointAtLength(s));
+			t = u;
+		}
+
+		// tangents are unit vectors in the direction of the derivative
+		Vector tangent = c.getTangentAtLength(length / 3);
+		assertEquals(1, tangent.getLength(), 1e-9);
+		Point d = c.getDerivative().get(c.getParameterAtLength(length / 3));
+		assertTrue(tangent.isParallelTo(new Vector(d)));
+		assertEquals(new Vector(1, 0), c.getTangentAtLength(0));
+
+		// a vanishing derivative at the start point is handled
+		BezierCurve cusp = new BezierCurve(new Point(0, 0), new Point(0, 0),
+				new Point(10, 10));
+		assertEquals(new Vector(1, 1).getNormalized(),
+				cusp.getTangentAtLength(0));
+
+		// the arc length parameterization is updated on translation
+		c.translate(5, 5);
+		assertEquals(new Point(5, 5), c.getPointAtLength(0));
+		assertEquals(length, c.getLength(), 1e-9);
+	}
+
+	@Test
+	public void test_getOffset_parallel_cached() {
+		// self-intersecting curve, so that multiple partial curves are offset
+		BezierCurve c = new BezierCurve(new Point(0, 0), new Point(300, 200),
+				new Point(-100, 200), new Point(200, 0));
+		PolyBezier parallel = c.getOffset(7.5, true);
+		// the result does not depend on the mode (the translated curve is not
+		// served from the cache)
+		PolyBezier sequential = c.getTranslated(16, 16).getOffset(7.5, false)
+				.translate(-16, -16);
+		assertEquals(sequential, parallel);
+
+		// cached offsets are returned as copies
+		PolyBezier cached = c.getOffset(7.5);
+		assertNotSame(parallel, cached);
+		assertEquals(parallel, cached);
+		cached.translate(10, 10);
+		assertEquals(parallel, c.getOffset(7.5));
+
+		// the cache can be cleared
+		c.clearOffsetCache();
+		PolyBezier recomputed = c.getOffset(7.5);
+		assertEquals(parallel, recomputed);
+
+		// the cache is keyed by the distance and discarded on changes
+		assertFalse(parallel.equals(c.getOffset(-7.5)));
+		c.setP2(new Point(200, 50));
+		assertFalse(parallel.equals(c.getOffset(7.5)));
+	}
+
 	@Test
 	public void test_getOffsetRaw_cubic() {
 		BezierCurve c = new BezierCurve(10, 10, 10, 50, 100, 50, 100, 10);
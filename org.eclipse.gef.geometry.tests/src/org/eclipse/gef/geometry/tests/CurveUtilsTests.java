@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2016 itemis AG and others.
+ * Copyright (c) 2011, 2026 itemis AG and others.
  * 
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -17,6 +17,9 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Random;
 
 import org.eclipse.gef.geometry.euclidean.Angle;
@@ -24,6 +27,8 @@ import org.eclipse.gef.geometry.euclidean.Straight;
 import org.eclipse.gef.geometry.internal.utils.PrecisionUtils;
 import org.eclipse.gef.geometry.planar.BezierCurve;
 import org.eclipse.gef.geometry.planar.CubicCurve;
+import org.eclipse.gef.geometry.planar.CurveIntersection;
+import org.eclipse.gef.geometry.planar.ICurve;
 import org.eclipse.gef.geometry.planar.Line;
 import org.eclipse.gef.geometry.planar.Path;
 import org.eclipse.gef.geometry.planar.Point;
@@ -139,6 +144,57 @@ public class CurveUtilsTests {
 		}
 	}
 
+	@Test
+	public void test_getAllIntersections() {
+		Random random = new Random(SEED);
+		List<ICurve> curves = new ArrayList<>();
+		for (int i = 0; i < 60; i++) {
+			Point[] points = new Point[2 + i % 3];
+			double x = random.nextDouble() * 500;
+			double y = random.nextDouble() * 500;
+			for (int j = 0; j < points.length; j++) {
+				points[j] = new Point(x + random.nextDouble() * 100,
+						y + random.nextDouble() * 100);
+			}
+			if (i % 5 == 4) {
+				curves.add(new Polyline(points));
+			} else {
+				curves.add(new BezierCurve(points).toBezier()[0]);
+			}
+		}
+		// a shared end point, and the same curve twice
+		curves.add(new Line(0, 0, 10, 10));
+		curves.add(new Line(10, 10, 20, 0));
+		curves.add(curves.get(0));
+
+		List<CurveIntersection> intersections = CurveIntersection
+				.getAll(curves);
+		int k = 0;
+		for (int i = 0; i < curves.size(); i++) {
+			for (int j = i + 1; j < curves.size(); j++) {
+				Point[] expected = curves.get(i)
+						.getIntersections(curves.get(j));
+				if (expected.length == 0) {
+					continue;
+				}
+				CurveIntersection intersection = intersections.get(k++);
+				assertEquals(i, intersection.getIndex1());
+				assertEquals(j, intersection.getIndex2());
+				assertTrue(intersection.getCurve1() == curves.get(i));
+				assertTrue(intersection.getCurve2() == curves.get(j));
+				Point[] actual = intersection.getPoints();
+				assertEquals(expected.length, actual.length);
+				assertTrue(Arrays.asList(expected)
+						.containsAll(Arrays.asList(actual)));
+			}
+		}
+		assertEquals(k, intersections.size());
+		assertTrue(k > 10);
+
+		assertTrue(CurveIntersection.getAll(new ArrayList<ICurve>())
+				.isEmpty());
+	}
+
 	@Test
 	public void test_getBounds() {
 		Random rng = new Random(SEED);
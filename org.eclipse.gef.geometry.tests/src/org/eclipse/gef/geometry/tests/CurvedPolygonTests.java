@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2016 itemis AG and others.
+ * Copyright (c) 2012, 2026 itemis AG and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -17,10 +17,13 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
+import org.eclipse.gef.geometry.euclidean.Angle;
 import org.eclipse.gef.geometry.planar.CurvedPolygon;
+import org.eclipse.gef.geometry.planar.Ellipse;
 import org.eclipse.gef.geometry.planar.Line;
 import org.eclipse.gef.geometry.planar.Path.Segment;
 import org.eclipse.gef.geometry.planar.Point;
+import org.eclipse.gef.geometry.planar.Polygon;
 import org.eclipse.gef.geometry.planar.PolyBezier;
 import org.eclipse.gef.geometry.planar.Rectangle;
 import org.junit.Test;
@@ -57,6 +60,46 @@ public class CurvedPolygonTests {
 		assertEquals(expectation, reality);
 	}
 
+	@Test
+	public void test_getBounds_cached() {
+		CurvedPolygon curvedPolygon = new CurvedPolygon(
+				new Line(100, 100, 200, 100), new Line(200, 100, 200, 200),
+				new Line(200, 200, 100, 200), new Line(100, 200, 100, 100));
+		curvedPolygon.getBounds().translate(10, 10);
+		assertEquals(new Rectangle(100, 100, 100, 100),
+				curvedPolygon.getBounds());
+		curvedPolygon.translate(-100, -50);
+		assertEquals(new Rectangle(0, 50, 100, 100),
+				curvedPolygon.getBounds());
+		curvedPolygon.rotateCW(Angle.fromDeg(90), 0, 50);
+		assertEquals(new Rectangle(-100, 50, 100, 100),
+				curvedPolygon.getBounds());
+	}
+
+	@Test
+	public void test_toPolygon() {
+		Ellipse ellipse = new Ellipse(0, 0, 200, 100);
+		CurvedPolygon curvedPolygon = new CurvedPolygon(
+				ellipse.getOutlineSegments());
+		Polygon polygon = curvedPolygon.toPolygon(0.05);
+		// the closing point is not repeated
+		Point[] points = polygon.getPoints();
+		assertFalse(points[0].equals(points[points.length - 1]));
+		PolyBezier outline = curvedPolygon.getOutline();
+		for (Line segment : polygon.getOutlineSegments()) {
+			Point mid = segment.get(0.5);
+			assertTrue(TestUtils.getDistance(outline, mid) <= 0.05);
+		}
+		assertEquals(ellipse.getBounds(), polygon.getBounds());
+		// the cached approximation is discarded on mutation (scaling the
+		// flatness along with the shape results in the same subdivision)
+		curvedPolygon.scale(2, 2, 0, 0);
+		assertEquals(polygon.getScaled(2, 2, 0, 0),
+				curvedPolygon.toPolygon(0.1));
+		assertTrue(curvedPolygon.toPolygon(0.05)
+				.getPointCount() > polygon.getPointCount());
+	}
+
 	public void test_toPath() {
 		Rectangle r = new Rectangle(50, 100, 200, 300);
 		CurvedPolygon cp = new CurvedPolygon(r.getOutlineSegments());
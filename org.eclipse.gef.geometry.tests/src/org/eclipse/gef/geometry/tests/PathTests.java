@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2016 itemis AG and others.
+ * Copyright (c) 2012, 2026 itemis AG and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -17,8 +17,11 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
+import java.awt.geom.Area;
 import java.util.List;
 
+import org.eclipse.gef.geometry.convert.awt.Geometry2AWT;
+import org.eclipse.gef.geometry.planar.Ellipse;
 import org.eclipse.gef.geometry.planar.ICurve;
 import org.eclipse.gef.geometry.planar.Path;
 import org.eclipse.gef.geometry.planar.Point;
@@ -70,6 +73,167 @@ public class PathTests {
 		assertFalse(differencePath.contains(new Point(125, 125)));
 	}
 
+	@Test
+	public void test_CAG_curves() {
+		// curves are approximated by line segments
+		Path e0 = new Ellipse(0, 0, 100, 100).toPath();
+		Path e1 = new Ellipse(50, 0, 100, 100).toPath();
+		Path intersectionPath = Path.intersect(e0, e1);
+		for (Path.Segment s : intersectionPath.getSegments()) {
+			assertTrue(s.getType() == Path.Segment.MOVE_TO
+					|| s.getType() == Path.Segment.LINE_TO
+					|| s.getType() == Path.Segment.CLOSE);
+		}
+		assertTrue(intersectionPath.contains(new Point(75, 50)));
+		assertFalse(intersectionPath.contains(new Point(25, 50)));
+		assertFalse(intersectionPath.contains(new Point(125, 50)));
+		Rectangle bounds = intersectionPath.getBounds();
+		assertEquals(50, bounds.getX(), 0.1);
+		assertEquals(100, bounds.getRight().x, 0.1);
+		assertEquals(100 - 2 * (50 - Math.sqrt(50 * 50 - 25 * 25)),
+				bounds.getHeight(), 0.5);
+	}
+
+	@Test
+	public void test_CAG_curves_small() {
+		// the approximation of the curves is relative to the size of the
+		// operands, so that it matches the exact result for small curves
+		Path e0 = new Ellipse(0, 0, 1, 1).toPath();
+		Path e1 = new Ellipse(0.5, 0, 1, 1).toPath();
+		Path[] results = new Path[] { Path.add(e0, e1),
+				Path.intersect(e0, e1), Path.subtract(e0, e1),
+				Path.exclusiveOr(e0, e1) };
+		Area a0 = new Area(Geometry2AWT.toAWTPath(e0));
+		Area a1 = new Area(Geometry2AWT.toAWTPath(e1));
+		Area[] areas = new Area[4];
+		for (int i = 0; i < areas.length; i++) {
+			areas[i] = new Area(a0);
+		}
+		areas[0].add(a1);
+		areas[1].intersect(a1);
+		areas[2].subtract(a1);
+		areas[3].exclusiveOr(a1);
+		int mismatches = 0;
+		int samples = 0;
+		for (double x = -0.1; x <= 1.6; x += 0.01) {
+			for (double y = -0.1; y <= 1.1; y += 0.01) {
+				for (int i = 0; i < results.length; i++) {
+					if (results[i].contains(new Point(x, y)) != areas[i]
+							.contains(x, y)) {
+						mismatches++;
+					}
+					samples++;
+				}
+			}
+		}
+		assertTrue(mismatches < samples * 0.002);
+	}
+
+	@Test
+	public void test_CAG_disjoint() {
+		Path p0 = new Rectangle(0, 0, 10, 10).toPath();
+		Path p1 = new Rectangle(20, 0, 10, 10).toPath();
+		assertEquals(0, Path.intersect(p0, p1).getSegments().length);
+		Path unionPath = Path.add(p0, p1);
+		assertEquals(10, unionPath.getSegments().length);
+		assertTrue(unionPath.contains(new Point(5, 5)));
+		assertTrue(unionPath.contains(new Point(25, 5)));
+		assertFalse(unionPath.contains(new Point(15, 5)));
+		assertEquals(p0.getBounds(), Path.subtract(p0, p1).getBounds());
+	}
+
+	@Test
+	public void test_CAG_hole() {
+		Rectangle r0 = new Rectangle(0, 0, 100, 100);
+		Rectangle r1 = new Rectangle(25, 25, 50, 50);
+		Path differencePath = Path.subtract(r0.toPath(), r1.toPath());
+		assertTrue(differencePath.contains(new Point(10, 10)));
+		assertFalse(differencePath.contains(new Point(50, 50)));
+		// the result can be filled using either winding rule
+		differencePath.setWindingRule(Path.WIND_EVEN_ODD);
+		assertTrue(differencePath.contains(new Point(10, 10)));
+		assertFalse(differencePath.contains(new Point(50, 50)));
+		// filling the hole again restores the rectangle
+		Path unionPath = Path.add(differencePath, r1.toPath());
+		assertEquals(5, unionPath.getSegments().length);
+		assertTrue(unionPath.contains(new Point(50, 50)));
+		assertEquals(r0, unionPath.getBounds());
+	}
+
+	@Test
+	public void test_CAG_identical() {
+		Path p = new Rectangle(0, 0, 100, 100).toPath();
+		assertEquals(p.getBounds(), Path.add(p, p).getBounds());
+		assertEquals(p.getBounds(), Path.intersect(p, p).getBounds());
+		assertEquals(0, Path.subtract(p, p).getSegments().length);
+		assertEquals(0, Path.exclusiveOr(p, p).getSegments().length);
+	}
+
+	@Test
+	public void test_CAG_manyEdges() {
+		// stacked strips, so that many edges are in the sweep status at once
+		Path strips = new Path();
+		for (int i = 0; i < 500; i++) {
+			strips.moveTo(0, 2 * i).lineTo(1000, 2 * i).lineTo(1000, 2 * i + 1)
+					.lineTo(0, 2 * i + 1).close();
+		}
+		Path bar = new Rectangle(400, -10, 200, 1020).toPath();
+		Path unionPath = Path.add(strips, bar);
+		Path differencePath = Path.subtract(strips, bar);
+		for (int i = 0; i < 500; i += 7) {
+			assertTrue(unionPath.contains(new Point(100, 2 * i + 0.5)));
+			assertTrue(unionPath.contains(new Point(500, 2 * i + 1.5)));
+			assertFalse(unionPath.contains(new Point(100, 2 * i + 1.5)));
+			assertTrue(differencePath.contains(new Point(900, 2 * i + 0.5)));
+			assertFalse(differencePath.contains(new Point(500, 2 * i + 0.5)));
+		}
+		// each strip is split into two rectangles
+		assertEquals(2 * 500 * 5, differencePath.getSegments().length);
+	}
+
+	@Test
+	public void test_CAG_windingRule() {
+		// self-overlapping path, which covers the center twice
+		Path twice = new Path().moveTo(0, 0).lineTo(100, 0).lineTo(100, 100)
+				.lineTo(0, 100).close().moveTo(25, 25).lineTo(75, 25)
+				.lineTo(75, 75).lineTo(25, 75).close();
+		Path empty = new Path();
+		assertTrue(Path.add(twice, empty).contains(new Point(50, 50)));
+		twice.setWindingRule(Path.WIND_EVEN_ODD);
+		assertFalse(Path.add(twice, empty).contains(new Point(50, 50)));
+		assertTrue(Path.add(twice, empty).contains(new Point(10, 10)));
+	}
+
+	@Test
+	public void test_contains_point() {
+		Path path = new Ellipse(0, 0, 100, 50).toPath();
+		assertTrue(path.contains(new Point(50, 25)));
+		assertTrue(path.contains(new Point(99, 25)));
+		assertFalse(path.contains(new Point(101, 25)));
+		assertFalse(path.contains(new Point(5, 5)));
+		// the outline is contained
+		assertTrue(path.contains(new Point(0, 25)));
+		assertTrue(path.contains(new Point(50, 0)));
+		assertTrue(path.contains(new Point(50, 50)));
+		// open sub-paths are closed implicitly
+		Path open = new Path().moveTo(0, 0).lineTo(10, 0).lineTo(10, 10);
+		assertTrue(open.contains(new Point(8, 2)));
+		assertFalse(open.contains(new Point(2, 8)));
+	}
+
+	@Test
+	public void test_getBounds_cached() {
+		Path path = new Path().moveTo(10, 10).lineTo(80, 10).lineTo(80, 80);
+		path.getBounds().translate(5, 5);
+		assertEquals(new Rectangle(10, 10, 70, 70), path.getBounds());
+		// the cached bounds are discarded when segments are added
+		path.quadTo(0, 120, 10, 80).close();
+		assertEquals(path.getOutlines().size(), 4);
+		assertTrue(path.getBounds().getHeight() > 70);
+		path.reset();
+		assertEquals(new Rectangle(), path.getBounds());
+	}
+
 	@Test
 	public void test_getBounds_cubic() {
 		// create path using all segment types
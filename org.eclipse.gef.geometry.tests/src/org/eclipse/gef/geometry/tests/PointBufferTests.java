@@ -0,0 +1,196 @@
+/*******************************************************************************
+ * Copyright (c) 2026 itemis AG and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     itemis AG - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.geometry.tests;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.eclipse.gef.geometry.euclidean.Angle;
+import org.eclipse.gef.geometry.planar.AffineTransform;
+import org.eclipse.gef.geometry.planar.Point;
+import org.eclipse.gef.geometry.planar.PointBuffer;
+import org.eclipse.gef.geometry.planar.Polygon;
+import org.eclipse.gef.geometry.planar.Polyline;
+import org.junit.Test;
+
+public class PointBufferTests {
+
+	private static final Point[] POINTS = new Point[] { new Point(0, 0),
+			new Point(10, 0), new Point(15, 5), new Point(10, 10),
+			new Point(0, 10) };
+
+	@Test
+	public void test_add() {
+		PointBuffer buffer = new PointBuffer(0);
+		assertTrue(buffer.isEmpty());
+		for (int i = 0; i < 100; i++) {
+			buffer.add(i, -i);
+		}
+		assertEquals(100, buffer.size());
+		assertEquals(new Point(42, -42), buffer.getPoint(42));
+		assertEquals(99, buffer.getX(99), 0);
+		assertEquals(-99, buffer.getY(99), 0);
+		buffer.set(0, 5, 6);
+		assertEquals(new Point(5, 6), buffer.getPoint(0));
+		assertEquals(200, buffer.trimToSize().getCoordinates().length);
+		assertEquals(new PointBuffer(buffer.toPoints()), buffer);
+		buffer.clear();
+		assertEquals(0, buffer.size());
+	}
+
+	@Test
+	public void test_equals_and_hashCode() {
+		PointBuffer buffer = new PointBuffer(1, Double.NaN, 0d, 2);
+		PointBuffer other = new PointBuffer(1, Double.NaN, 0d, 2);
+		assertEquals(buffer, other);
+		assertEquals(buffer.hashCode(), other.hashCode());
+		// equals() distinguishes 0 and -0 (like hashCode())
+		assertFalse(buffer.equals(new PointBuffer(1, Double.NaN, -0d, 2)));
+		assertFalse(buffer.equals(new PointBuffer(1, Double.NaN)));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void test_index() {
+		new PointBuffer(1, 2, 3, 4).getPoint(2);
+	}
+
+	@Test
+	public void test_asList() {
+		PointBuffer buffer = new PointBuffer(POINTS);
+		List<Point> list = buffer.asList();
+		assertEquals(POINTS.length, list.size());
+		assertEquals(POINTS[2], list.get(2));
+		// the view reflects changes, but its points are copies
+		buffer.set(2, 20, 20);
+		assertEquals(new Point(20, 20), list.get(2));
+		list.get(2).translate(1, 1);
+		assertEquals(new Point(20, 20), buffer.getPoint(2));
+	}
+
+	@Test
+	public void test_bounds_and_centroid() {
+		PointBuffer buffer = new PointBuffer(POINTS);
+		assertEquals(Point.getBounds(POINTS), buffer.getBounds());
+		assertEquals(Point.getCentroid(POINTS), buffer.getCentroid());
+		assertEquals(Point.getBounds(), new PointBuffer().getBounds());
+		assertEquals(null, new PointBuffer().getCentroid());
+	}
+
+	@Test
+	public void test_polygon() {
+		Polygon polygon = new Polygon(POINTS);
+		Polygon buffered = new Polygon(new PointBuffer(POINTS));
+		assertEquals(polygon.getBounds(), buffered.getBounds());
+		assertEquals(polygon.getArea(), buffered.getArea(), 0);
+		assertEquals(polygon.toPath(), buffered.toPath());
+		assertArrayEquals(polygon.getCoordinates(),
+				buffered.getCoordinates(), 0);
+		assertEquals(polygon.getPointBuffer(), buffered.getPointBuffer());
+		assertEquals(polygon.getPointCount(), buffered.getPointCount());
+
+		AffineTransform tx = new AffineTransform().rotate(0.5).scale(2, 3)
+				.translate(7, 8);
+		assertEquals(polygon.getTransformed(tx), buffered.getTransformed(tx));
+		assertEquals(polygon.getCopy().translate(3, 4),
+				buffered.getCopy().translate(3, 4));
+		assertEquals(polygon.getCopy().scale(2, 3),
+				buffered.getCopy().scale(2, 3));
+
+		// operations that require points
+		assertTrue(buffered.contains(new Point(12, 5)));
+		assertFalse(buffered.contains(new Point(16, 5)));
+		assertEquals(3, buffered.getTriangulation().length);
+		assertEquals(polygon, buffered);
+		assertEquals(polygon.getArea(), buffered.getArea(), 0);
+	}
+
+	@Test
+	public void test_polyline() {
+		Polyline polyline = new Polyline(POINTS);
+		Polyline buffered = new Polyline(new PointBuffer(POINTS));
+		assertEquals(polyline.getBounds(), buffered.getBounds());
+		assertEquals(polyline.getP1(), buffered.getP1());
+		assertEquals(polyline.getP2(), buffered.getP2());
+		assertEquals(polyline.toPath(), buffered.toPath());
+		assertEquals(polyline.getCentroid(), buffered.getCentroid());
+		assertArrayEquals(polyline.getPoints(), buffered.getPoints());
+
+		AffineTransform tx = new AffineTransform().shear(0.5, 0.2)
+				.translate(-7, 8);
+		assertEquals(polyline.getTransformed(tx), buffered.getTransformed(tx));
+		assertEquals(polyline.getCopy().transform(tx),
+				buffered.getCopy().transform(tx));
+
+		// operations that require points
+		assertTrue(buffered.contains(new Point(5, 0)));
+		assertEquals(polyline.getLength(), buffered.getLength(), 0);
+		assertEquals(polyline, buffered);
+		assertEquals(polyline.toPath(), buffered.toPath());
+	}
+
+	@Test
+	public void test_read_only_queries_concurrently() {
+		Polygon polygon = new Polygon(POINTS);
+		Polyline polyline = new Polyline(POINTS);
+		for (int n = 0; n < 100; n++) {
+			Polygon bufferedPolygon = new Polygon(new PointBuffer(POINTS));
+			Polyline bufferedPolyline = new Polyline(new PointBuffer(POINTS));
+			// queries do not change the (shared) state of the geometries
+			IntStream.range(0, 8).parallel().forEach(i -> {
+				assertTrue(bufferedPolygon.contains(new Point(12, 5)));
+				assertEquals(polygon, bufferedPolygon);
+				assertEquals(polygon.getArea(), bufferedPolygon.getArea(), 0);
+				assertTrue(bufferedPolyline.contains(new Point(5, 0)));
+				assertEquals(polyline, bufferedPolyline);
+				assertArrayEquals(polyline.getCurves(),
+						bufferedPolyline.getCurves());
+				assertEquals(polyline.toPath(), bufferedPolyline.toPath());
+			});
+		}
+	}
+
+	@Test
+	public void test_rotate() {
+		Polygon polygon = new Polygon(POINTS);
+		Polygon buffered = new Polygon(new PointBuffer(POINTS));
+		Angle alpha = Angle.fromDeg(30);
+		assertEquals(polygon.getRotatedCCW(alpha),
+				buffered.getRotatedCCW(alpha));
+		assertEquals(polygon.getRotatedCW(alpha, 3, 4),
+				buffered.getRotatedCW(alpha, 3, 4));
+		assertArrayEquals(polygon.rotateCW(alpha).getCoordinates(),
+				buffered.rotateCW(alpha).getCoordinates(), 1e-9);
+	}
+
+	@Test
+	public void test_transform() {
+		AffineTransform tx = new AffineTransform().rotate(1).translate(3, 4);
+		PointBuffer buffer = new PointBuffer(POINTS).transform(tx);
+		assertArrayEquals(tx.getTransformed(POINTS), buffer.toPoints());
+		PointBuffer translated = new PointBuffer(POINTS).translate(2, 3);
+		PointBuffer scaled = new PointBuffer(POINTS).scale(2, 3, 1, 1);
+		for (int i = 0; i < POINTS.length; i++) {
+			assertEquals(POINTS[i].getTranslated(2, 3),
+					translated.getPoint(i));
+			assertEquals(POINTS[i].getScaled(2, 3, new Point(1, 1)),
+					scaled.getPoint(i));
+		}
+	}
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2016 itemis AG and others.
+ * Copyright (c) 2016, 2026 itemis AG and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -13,15 +13,71 @@
  *******************************************************************************/
 package org.eclipse.gef.geometry.tests;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 
+import org.eclipse.gef.geometry.euclidean.Vector;
+import org.eclipse.gef.geometry.planar.AffineTransform;
 import org.eclipse.gef.geometry.planar.BezierCurve;
+import org.eclipse.gef.geometry.planar.Line;
 import org.eclipse.gef.geometry.planar.Point;
 import org.eclipse.gef.geometry.planar.PolyBezier;
+import org.eclipse.gef.geometry.planar.Polyline;
+import org.eclipse.gef.geometry.planar.Rectangle;
 import org.junit.Test;
 
 public class PolyBezierTests {
 
+	@Test
+	public void test_getPointAtLength() {
+		PolyBezier polyBezier = new PolyBezier(
+				new Line(new Point(0, 0), new Point(10, 0)),
+				new BezierCurve(new Point(10, 0), new Point(20, 0),
+						new Point(30, 0)),
+				new Line(new Point(30, 0), new Point(30, 40)));
+		assertEquals(70, polyBezier.getLength(), 1e-9);
+		assertEquals(new Point(0, 0), polyBezier.getPointAtLength(-5));
+		assertEquals(new Point(5, 0), polyBezier.getPointAtLength(5));
+		assertEquals(new Point(10, 0), polyBezier.getPointAtLength(10));
+		assertEquals(new Point(25, 0), polyBezier.getPointAtLength(25));
+		assertEquals(new Point(30, 10), polyBezier.getPointAtLength(40));
+		assertEquals(new Point(30, 40), polyBezier.getPointAtLength(100));
+		assertEquals(new Vector(1, 0), polyBezier.getTangentAtLength(15));
+		assertEquals(new Vector(0, 1), polyBezier.getTangentAtLength(45));
+
+		// cached lengths are discarded on scaling
+		polyBezier.scale(2, 2, 0, 0);
+		assertEquals(140, polyBezier.getLength(), 1e-9);
+		assertEquals(new Point(60, 20), polyBezier.getPointAtLength(80));
+		polyBezier.translate(1, 1);
+		assertEquals(140, polyBezier.getLength(), 1e-9);
+		assertEquals(new Point(61, 21), polyBezier.getPointAtLength(80));
+	}
+
+	@Test
+	public void test_getPointAtLength_empty() {
+		PolyBezier polyBezier = new PolyBezier(new BezierCurve[0]);
+		assertEquals(0, polyBezier.getLength(), 0);
+		assertNull(polyBezier.getPointAtLength(0));
+		assertNull(polyBezier.getTangentAtLength(0));
+	}
+
+	@Test
+	public void test_getBounds_cached() {
+		PolyBezier polyBezier = new PolyBezier(
+				new Line(new Point(0, 0), new Point(10, 0)),
+				new Line(new Point(10, 0), new Point(10, 20)));
+		polyBezier.getBounds().scale(2);
+		assertEquals(new Rectangle(0, 0, 10, 20), polyBezier.getBounds());
+		polyBezier.translate(5, 5);
+		assertEquals(new Rectangle(5, 5, 10, 20), polyBezier.getBounds());
+		polyBezier.scale(2, 2, 5, 5);
+		assertEquals(new Rectangle(5, 5, 20, 40), polyBezier.getBounds());
+	}
+
 	@Test
 	public void test_same_points() {
 		PolyBezier polyBezier = PolyBezier.interpolateCubic(new Point(),
@@ -34,4 +90,48 @@ public class PolyBezierTests {
 		assertEquals(new Point(), beziers[1].getP2());
 	}
 
+	@Test
+	public void test_toPolyline() {
+		PolyBezier polyBezier = PolyBezier.interpolateCubic(new Point(),
+				new Point(50, 20), new Point(100, 100), new Point(20, 80));
+		Polyline coarse = polyBezier.toPolyline(1);
+		Polyline fine = polyBezier.toPolyline(0.01);
+		assertEquals(polyBezier.getP1(), fine.getP1());
+		assertEquals(polyBezier.getP2(), fine.getP2());
+		assertTrue(coarse.getPointCount() < fine.getPointCount());
+		// the deviation of the approximation is bounded by the flatness
+		for (Line segment : fine.getCurves()) {
+			Point mid = segment.get(0.5);
+			assertTrue(
+					TestUtils.getDistance(polyBezier, mid) <= 0.01);
+		}
+		// the cached approximation is discarded on mutation
+		Polyline translated = polyBezier.translate(10, 10).toPolyline(0.01);
+		assertEquals(fine.getTranslated(10, 10), translated);
+	}
+
+	@Test
+	public void test_transform() {
+		PolyBezier polyBezier = PolyBezier.interpolateCubic(new Point(),
+				new Point(50, 20), new Point(100, 100), new Point(20, 80));
+		AffineTransform tx = new AffineTransform().translate(-7, 12)
+				.rotate(0.3).scale(1.5, 2);
+		PolyBezier transformed = polyBezier.getTransformed(tx);
+		BezierCurve[] beziers = polyBezier.toBezier();
+		BezierCurve[] transformedBeziers = transformed.toBezier();
+		assertEquals(beziers.length, transformedBeziers.length);
+		for (int i = 0; i < beziers.length; i++) {
+			assertArrayEquals(tx.getTransformed(beziers[i].getPoints()),
+					transformedBeziers[i].getPoints());
+		}
+
+		// in-place transformation
+		PolyBezier copy = polyBezier.getCopy();
+		assertSame(copy, copy.transform(tx));
+		assertEquals(transformed, copy);
+		// the original is not modified
+		assertArrayEquals(beziers[0].getPoints(),
+				polyBezier.toBezier()[0].getPoints());
+	}
+
 }
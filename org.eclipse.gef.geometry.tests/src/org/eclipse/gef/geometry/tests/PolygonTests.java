@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2016 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  * 
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -545,6 +545,55 @@ public class PolygonTests {
 		assertTrue(true);
 	}
 
+	@Test
+	public void test_getTriangulation_large() {
+		// star-shaped polygon with many reflex vertices
+		int n = 2000;
+		Point[] points = new Point[n];
+		for (int i = 0; i < n; i++) {
+			double angle = 2 * Math.PI * i / n;
+			double radius = i % 2 == 0 ? 100 : 40 + i % 7;
+			points[i] = new Point(radius * Math.cos(angle),
+					radius * Math.sin(angle));
+		}
+		Polygon p = new Polygon(points);
+		Polygon[] triangles = p.getTriangulation();
+		assertEquals(n - 2, triangles.length);
+		double area = 0;
+		for (Polygon t : triangles) {
+			assertEquals(3, t.getPoints().length);
+			area += t.getArea();
+		}
+		assertEquals(p.getArea(), area, 1e-9 * p.getArea());
+
+		// comb-shaped polygon with collinear vertices
+		p = new Polygon(0, 0, 10, 0, 10, 10, 8, 10, 8, 2, 6, 2, 6, 10, 4, 10,
+				4, 2, 2, 2, 2, 10, 0, 10, 0, 5);
+		triangles = p.getTriangulation();
+		area = 0;
+		for (Polygon t : triangles) {
+			area += t.getArea();
+		}
+		assertEquals(p.getArea(), area, 1e-9 * p.getArea());
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void test_getTriangulation_notSimple() {
+		new Polygon(0, 0, 10, 10, 10, 0, 0, 10).getTriangulation();
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void test_getTriangulation_notSimple_collinearOverlap() {
+		// the second edge runs back along the first one
+		new Polygon(0, 0, 4, 4, 1, 1, 2, 1).getTriangulation();
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void test_getTriangulation_notSimple_spike() {
+		// the fourth edge runs back along the closing edge
+		new Polygon(3, 2, 1, 2, 2, 0, 0, 2).getTriangulation();
+	}
+
 	@Test
 	public void test_intersects_Ellipse() {
 		assertTrue(RHOMB.touches(new Ellipse(0, 0, 4, 4)));
@@ -14,16 +14,20 @@
  *******************************************************************************/
 package org.eclipse.gef.geometry.tests;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
+import org.eclipse.gef.geometry.planar.AffineTransform;
 import org.eclipse.gef.geometry.planar.Line;
 import org.eclipse.gef.geometry.planar.Point;
+import org.eclipse.gef.geometry.planar.Polygon;
 import org.eclipse.gef.geometry.planar.Polyline;
 import org.junit.Test;
 
@@ -62,4 +66,22 @@ public class PolylineTests {
 		assertEquals(0, beziers.length);
 	}
 
+	@Test
+	public void test_transform() {
+		AffineTransform tx = new AffineTransform().translate(5, -3).rotate(1)
+				.scale(2, 0.5);
+		Point[] points = POLYLINE.getPoints();
+		Polyline transformed = POLYLINE.getTransformed(tx);
+		assertArrayEquals(tx.getTransformed(points), transformed.getPoints());
+		// the original is not modified
+		assertArrayEquals(points, POLYLINE.getPoints());
+
+		// in-place transformation
+		Polyline polyline = POLYLINE.getCopy();
+		assertSame(polyline, polyline.transform(tx));
+		assertArrayEquals(transformed.getPoints(), polyline.getPoints());
+		Polygon polygon = new Polygon(points).transform(tx);
+		assertArrayEquals(transformed.getPoints(), polygon.getPoints());
+	}
+
 }
@@ -14,6 +14,7 @@
  *******************************************************************************/
 package org.eclipse.gef.geometry.tests;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
@@ -38,6 +39,25 @@ public class PrecisionUtilsTests {
 	private static final double UNRECOGNIZABLE_FRACTION = PRECISION_FRACTION
 			- PRECISION_FRACTION / 10;
 
+	@Test
+	public void test_calculateFraction() {
+		// precomputed fractions are identical to the computed ones
+		for (int shift = -40; shift <= 40; shift++) {
+			assertEquals(1 / Math.pow(10, 6 + shift),
+					PrecisionUtils.calculateFraction(shift), 0);
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void test_equal_NaN() {
+		PrecisionUtils.equal(0, Double.NaN);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void test_smallerEqual_NaN() {
+		PrecisionUtils.smallerEqual(Double.NaN, 0, -3);
+	}
+
 	/**
 	 * Tests the precision tolerance of
 	 * {@link PrecisionUtils#equal(double, double)}, by checking whether two
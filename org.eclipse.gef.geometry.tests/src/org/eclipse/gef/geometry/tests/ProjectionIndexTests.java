@@ -0,0 +1,167 @@
+/*******************************************************************************
+ * Copyright (c) 2026 itemis AG and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     itemis AG - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.geometry.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+
+import org.eclipse.gef.geometry.planar.CubicCurve;
+import org.eclipse.gef.geometry.planar.Ellipse;
+import org.eclipse.gef.geometry.planar.ICurve;
+import org.eclipse.gef.geometry.planar.Line;
+import org.eclipse.gef.geometry.planar.Point;
+import org.eclipse.gef.geometry.planar.Polygon;
+import org.eclipse.gef.geometry.planar.ProjectionIndex;
+import org.eclipse.gef.geometry.planar.Rectangle;
+import org.junit.Test;
+
+public class ProjectionIndexTests {
+
+	private static final double EPSILON = 1e-6;
+
+	private static Polygon createStar(Random random, int n) {
+		double[] coordinates = new double[2 * n];
+		for (int i = 0; i < n; i++) {
+			double angle = 2 * Math.PI * i / n;
+			double r = 100 * (0.6 + 0.4 * random.nextDouble());
+			coordinates[2 * i] = r * Math.cos(angle);
+			coordinates[2 * i + 1] = r * Math.sin(angle);
+		}
+		return new Polygon(coordinates);
+	}
+
+	@Test
+	public void test_getHorizontalProjection() {
+		// diamond
+		ProjectionIndex index = new ProjectionIndex(
+				new Polygon(0, 25, 25, 0, 50, 25, 25, 50).getOutline());
+		assertEquals(new Point(50, 25),
+				index.getHorizontalProjection(new Point(125, 25)));
+		assertEquals(new Point(37.5, 37.5),
+				index.getHorizontalProjection(new Point(125, 37.5)));
+		assertEquals(new Point(12.5, 12.5),
+				index.getHorizontalProjection(new Point(-10, 12.5)));
+		assertNull(index.getHorizontalProjection(new Point(125, 60)));
+
+		// collinear segment
+		index = new ProjectionIndex(new Rectangle(0, 0, 50, 50).getOutline());
+		assertEquals(new Point(50, 0),
+				index.getHorizontalProjection(new Point(125, 0)));
+		assertEquals(new Point(20, 0),
+				index.getHorizontalProjection(new Point(20, 0)));
+
+		// curve touching the line
+		index = new ProjectionIndex(new Ellipse(0, 0, 100, 50).getOutline());
+		assertEquals(new Point(50, 0),
+				index.getHorizontalProjection(new Point(80, 0)));
+		Point projection = index.getHorizontalProjection(new Point(200, 10));
+		assertEquals(10, projection.y, 0);
+		assertTrue(projection.x > 50);
+		assertEquals(0, TestUtils.getDistance(
+				new Ellipse(0, 0, 100, 50).getOutline(), projection), EPSILON);
+	}
+
+	@Test
+	public void test_getProjection() {
+		ProjectionIndex index = new ProjectionIndex(
+				new Rectangle(0, 0, 50, 50).getOutline());
+		assertEquals(new Point(50, 25),
+				index.getProjection(new Point(125, 25)));
+		assertEquals(new Point(50, 50),
+				index.getProjection(new Point(60, 60)));
+		assertEquals(new Point(10, 0), index.getProjection(new Point(10, 5)));
+
+		assertNull(new ProjectionIndex().getProjection(new Point()));
+	}
+
+	@Test
+	public void test_getProjection_curves() {
+		Random random = new Random(42);
+		ICurve[] outlines = new ICurve[] {
+				new Ellipse(0, 0, 300, 200).getOutline(),
+				new CubicCurve(new Point(50, 250), new Point(300, 500),
+						new Point(0, 500), new Point(250, 250)),
+				new Line(-50, -50, -50, 300) };
+		ProjectionIndex index = new ProjectionIndex(outlines);
+		for (int i = 0; i < 100; i++) {
+			Point reference = new Point(random.nextDouble() * 500 - 100,
+					random.nextDouble() * 600 - 100);
+			Point projection = index.getProjection(reference);
+			double expected = Double.POSITIVE_INFINITY;
+			double onCurve = Double.POSITIVE_INFINITY;
+			for (ICurve outline : outlines) {
+				expected = Math.min(expected,
+						TestUtils.getDistance(outline, reference));
+				onCurve = Math.min(onCurve,
+						TestUtils.getDistance(outline, projection));
+			}
+			assertEquals(0, onCurve, EPSILON);
+			assertEquals(expected, projection.getDistance(reference),
+					EPSILON);
+		}
+	}
+
+	@Test
+	public void test_getProjection_polygon() {
+		Random random = new Random(42);
+		Polygon polygon = createStar(random, 500);
+		ProjectionIndex index = new ProjectionIndex(polygon.getOutline());
+		for (int i = 0; i < 100; i++) {
+			Point reference = new Point(random.nextDouble() * 300 - 150,
+					random.nextDouble() * 300 - 150);
+			Point expected = Point.nearest(reference,
+					getProjections(polygon.getOutlineSegments(), reference));
+			assertEquals(expected.getDistance(reference),
+					index.getProjection(reference).getDistance(reference),
+					EPSILON);
+		}
+	}
+
+	private Point[] getProjections(Line[] lines, Point reference) {
+		Point[] projections = new Point[lines.length];
+		for (int i = 0; i < lines.length; i++) {
+			projections[i] = lines[i].getProjection(reference);
+		}
+		return projections;
+	}
+
+	@Test
+	public void test_getVerticalProjection() {
+		ProjectionIndex index = new ProjectionIndex(
+				new Polygon(0, 25, 25, 0, 50, 25, 25, 50).getOutline());
+		assertEquals(new Point(37.5, 12.5),
+				index.getVerticalProjection(new Point(37.5, -10)));
+		assertEquals(new Point(37.5, 37.5),
+				index.getVerticalProjection(new Point(37.5, 100)));
+		assertNull(index.getVerticalProjection(new Point(60, 0)));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void test_invalid_flatness() {
+		new ProjectionIndex(0, new Line(0, 0, 10, 10));
+	}
+
+	@Test
+	public void test_outlines_copied() {
+		Line line = new Line(0, 0, 10, 0);
+		ProjectionIndex index = new ProjectionIndex(line);
+		line.setP2(new Point(20, 0));
+		assertEquals(new Line(0, 0, 10, 0), index.getOutlines()[0]);
+		assertEquals(new Point(10, 0), index.getProjection(new Point(15, 0)));
+	}
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2016 itemis AG and others.
+ * Copyright (c) 2012, 2026 itemis AG and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -27,6 +27,103 @@ import org.junit.Test;
 
 public class RegionTests {
 
+	@Test
+	public void test_addAll() {
+		// horizontally adjacent rectangles are merged into one interval
+		Region region = new Region().addAll(new Rectangle(0, 0, 50, 100),
+				new Rectangle(50, 0, 50, 100));
+		assertEquals(1, region.getShapes().length);
+		assertEquals(new Rectangle(0, 0, 100, 100), region.getShapes()[0]);
+
+		// overlapping rectangles are divided into bands
+		region = new Region(new Rectangle(0, 0, 100, 100));
+		region.addAll(new Rectangle(50, 50, 100, 100));
+		Rectangle[] shapes = region.getShapes();
+		assertEquals(3, shapes.length);
+		assertEquals(new Rectangle(0, 0, 100, 50), shapes[0]);
+		assertEquals(new Rectangle(0, 50, 150, 50), shapes[1]);
+		assertEquals(new Rectangle(50, 100, 100, 50), shapes[2]);
+
+		// rectangles that do not cover any area are kept (unless contained)
+		region.addAll(new Rectangle(200, 200, 0, 10),
+				new Rectangle(10, 10, 0, 10));
+		assertEquals(4, region.getShapes().length);
+		assertEquals(new Rectangle(200, 200, 0, 10), region.getShapes()[3]);
+		assertTrue(region.contains(new Point(200, 205)));
+		assertTrue(region.touches(new Rectangle(190, 190, 10, 10)));
+	}
+
+	@Test
+	public void test_contains_bandBorder() {
+		// a line on the border between two bands is covered by their union
+		Region region = new Region(new Rectangle(1, 4, 4, 3),
+				new Rectangle(5, 3, 6, 1));
+		assertTrue(region.contains(new Rectangle(2, 4, 4, 0)));
+		assertTrue(region.contains(new Rectangle(1, 4, 10, 0)));
+		assertFalse(region.contains(new Rectangle(0, 4, 4, 0)));
+		assertFalse(region.contains(new Rectangle(2, 4, 4, 1)));
+
+		region = new Region().addAll(new Rectangle(1, 4, 4, 3),
+				new Rectangle(5, 3, 6, 1));
+		assertTrue(region.contains(new Rectangle(2, 4, 4, 0)));
+		assertTrue(region.contains(new Rectangle(5, 3, 0, 4)));
+		assertFalse(region.contains(new Rectangle(5, 2, 0, 4)));
+	}
+
+	@Test
+	public void test_degenerate_rectangles() {
+		// rectangles that do not cover any area are kept by the constructor
+		Region region = new Region(new Rectangle(0, 0, 10, 10),
+				new Rectangle(20, 0, 0, 10));
+		assertEquals(2, region.getShapes().length);
+		assertTrue(region.contains(new Point(20, 5)));
+		assertTrue(region.contains(new Rectangle(20, 2, 0, 6)));
+		assertTrue(region.touches(new Rectangle(15, 5, 5, 1)));
+		assertFalse(region.contains(new Point(19, 5)));
+
+		// and by add()
+		region.add(new Rectangle(30, 5, 10, 0));
+		assertEquals(3, region.getShapes().length);
+		assertTrue(region.contains(new Point(35, 5)));
+		assertTrue(region.contains(new Rectangle(30, 5, 10, 0)));
+		assertTrue(region.touches(new Rectangle(35, 4, 1, 1)));
+		assertFalse(region.touches(new Rectangle(35, 5.5, 1, 1)));
+	}
+
+	@Test
+	public void test_contains_and_touches() {
+		// a grid of distinct rectangles
+		Rectangle[] rectangles = new Rectangle[100];
+		for (int i = 0; i < 100; i++) {
+			rectangles[i] = new Rectangle(20 * (i % 10), 20 * (i / 10), 10,
+					10);
+		}
+		Region region = new Region(rectangles);
+		assertEquals(100, region.getShapes().length);
+
+		assertTrue(region.contains(new Point(5, 5)));
+		assertTrue(region.contains(new Point(190, 190)));
+		assertTrue(region.contains(new Point(30, 40)));
+		assertFalse(region.contains(new Point(15, 5)));
+		assertFalse(region.contains(new Point(5, 15)));
+		assertFalse(region.contains(new Point(-1, 5)));
+
+		assertTrue(region.contains(new Rectangle(42, 62, 6, 6)));
+		assertFalse(region.contains(new Rectangle(42, 62, 16, 6)));
+
+		assertTrue(region.touches(new Rectangle(10, 10, 10, 10)));
+		assertTrue(region.touches(new Rectangle(12, 2, 20, 2)));
+		assertFalse(region.touches(new Rectangle(12, 12, 6, 6)));
+		assertFalse(region.touches(new Rectangle(12, 2, 2, 60)));
+
+		// queries reflect modifications
+		region.translate(1, 0);
+		assertFalse(region.contains(new Point(0, 5)));
+		assertTrue(region.contains(new Point(11, 5)));
+		region.add(new Rectangle(11, 0, 10, 10));
+		assertTrue(region.contains(new Rectangle(1, 0, 30, 10)));
+	}
+
 	@Test
 	public void test_constructor() {
 		Region region = new Region();
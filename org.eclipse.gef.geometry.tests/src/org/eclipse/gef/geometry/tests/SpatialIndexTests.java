@@ -0,0 +1,231 @@
+/*******************************************************************************
+ * Copyright (c) 2026 itemis AG and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     itemis AG - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.geometry.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Supplier;
+
+import org.eclipse.gef.geometry.planar.LooseQuadTree;
+import org.eclipse.gef.geometry.planar.Point;
+import org.eclipse.gef.geometry.planar.RTree;
+import org.eclipse.gef.geometry.planar.Rectangle;
+import org.eclipse.gef.geometry.planar.SpatialIndex;
+import org.junit.Test;
+
+public class SpatialIndexTests {
+
+	private static double distanceSquared(Rectangle r, Point p) {
+		double dx = Math.max(
+				Math.max(r.getX() - p.x, p.x - r.getX() - r.getWidth()), 0);
+		double dy = Math.max(
+				Math.max(r.getY() - p.y, p.y - r.getY() - r.getHeight()), 0);
+		return dx * dx + dy * dy;
+	}
+
+	private static Rectangle randomRectangle(Random random) {
+		// mostly small rectangles, some large ones, some degenerated ones
+		double size = random.nextInt(10) == 0 ? 200 : 10;
+		double w = random.nextInt(20) == 0 ? 0 : random.nextDouble() * size;
+		double h = random.nextInt(20) == 0 ? 0 : random.nextDouble() * size;
+		return new Rectangle(random.nextDouble() * 1000 - 500,
+				random.nextDouble() * 1000 - 500, w, h);
+	}
+
+	private static boolean touches(Rectangle a, Rectangle b) {
+		return a.getX() <= b.getX() + b.getWidth()
+				&& b.getX() <= a.getX() + a.getWidth()
+				&& a.getY() <= b.getY() + b.getHeight()
+				&& b.getY() <= a.getY() + a.getHeight();
+	}
+
+	private void assertConsistent(SpatialIndex<Integer> index,
+			Map<Integer, Rectangle> bounds, Random random) {
+		assertEquals(bounds.size(), index.size());
+		for (Integer element : bounds.keySet()) {
+			assertTrue(index.contains(element));
+		}
+		for (int i = 0; i < 20; i++) {
+			Rectangle range = randomRectangle(random);
+			HashSet<Integer> expected = new HashSet<>();
+			for (Map.Entry<Integer, Rectangle> e : bounds.entrySet()) {
+				if (touches(e.getValue(), range)) {
+					expected.add(e.getKey());
+				}
+			}
+			List<Integer> actual = index.queryRange(range);
+			assertEquals(expected.size(), actual.size());
+			assertEquals(expected, new HashSet<>(actual));
+
+			Point point = range.getCenter();
+			expected.clear();
+			for (Map.Entry<Integer, Rectangle> e : bounds.entrySet()) {
+				if (touches(e.getValue(), new Rectangle(point, point))) {
+					expected.add(e.getKey());
+				}
+			}
+			assertEquals(expected, new HashSet<>(index.queryPoint(point)));
+
+			// the k nearest elements have the k smallest distances
+			int k = 1 + random.nextInt(10);
+			List<Double> distances = new ArrayList<>();
+			for (Rectangle r : bounds.values()) {
+				distances.add(distanceSquared(r, point));
+			}
+			Collections.sort(distances);
+			List<Integer> nearest = index.queryNearest(point, k);
+			assertEquals(Math.min(k, bounds.size()), nearest.size());
+			for (int j = 0; j < nearest.size(); j++) {
+				assertEquals(distances.get(j),
+						distanceSquared(bounds.get(nearest.get(j)), point),
+						0);
+			}
+		}
+	}
+
+	private void check(Supplier<SpatialIndex<Integer>> factory) {
+		Random random = new Random(42);
+		Map<Integer, Rectangle> bounds = new IdentityHashMap<>();
+		List<Integer> elements = new ArrayList<>();
+
+		// individual insertions
+		SpatialIndex<Integer> index = factory.get();
+		for (int i = 0; i < 2000; i++) {
+			Integer element = Integer.valueOf(i);
+			Rectangle r = randomRectangle(random);
+			index.insert(element, r);
+			bounds.put(element, r);
+			elements.add(element);
+		}
+		assertConsistent(index, bounds, random);
+
+		// updates (small movements as well as jumps)
+		for (int i = 0; i < 1000; i++) {
+			Integer element = elements.get(random.nextInt(elements.size()));
+			Rectangle r = random.nextBoolean()
+					? bounds.get(element).getTranslated(
+							random.nextDouble() * 4 - 2,
+							random.nextDouble() * 4 - 2)
+					: randomRectangle(random);
+			index.update(element, r);
+			bounds.put(element, r);
+		}
+		assertConsistent(index, bounds, random);
+
+		// removals
+		Collections.shuffle(elements, random);
+		for (int i = 0; i < 1500; i++) {
+			Integer element = elements.remove(elements.size() - 1);
+			assertTrue(index.remove(element));
+			assertFalse(index.remove(element));
+			assertFalse(index.contains(element));
+			bounds.remove(element);
+		}
+		assertConsistent(index, bounds, random);
+
+		// removal of all elements
+		for (Integer element : elements) {
+			assertTrue(index.remove(element));
+		}
+		assertEquals(0, index.size());
+		assertTrue(index.queryRange(new Rectangle(-1000, -1000, 2000, 2000))
+				.isEmpty());
+		assertTrue(index.queryNearest(new Point(), 3).isEmpty());
+
+		// bulk loading
+		bounds.clear();
+		elements.clear();
+		for (int i = 0; i < 5000; i++) {
+			Integer element = Integer.valueOf(i);
+			bounds.put(element, randomRectangle(random));
+			elements.add(element);
+		}
+		index = factory.get();
+		index.insertAll(elements, bounds::get);
+		assertConsistent(index, bounds, random);
+		for (int i = 0; i < 100; i++) {
+			Integer element = elements.get(random.nextInt(elements.size()));
+			Rectangle r = randomRectangle(random);
+			index.insert(element, r);
+			bounds.put(element, r);
+		}
+		assertConsistent(index, bounds, random);
+
+		index.clear();
+		assertEquals(0, index.size());
+		assertTrue(index.queryPoint(new Point()).isEmpty());
+	}
+
+	@Test
+	public void test_identity() {
+		// elements are identified by identity, not by equality
+		SpatialIndex<Point> index = new RTree<>();
+		Point p1 = new Point(1, 1);
+		Point p2 = new Point(1, 1);
+		index.insert(p1, new Rectangle(0, 0, 2, 2));
+		index.insert(p2, new Rectangle(10, 10, 2, 2));
+		assertEquals(2, index.size());
+		assertEquals(1, index.queryPoint(new Point(1, 1)).size());
+		assertTrue(index.queryPoint(new Point(1, 1)).get(0) == p1);
+		assertTrue(index.remove(p2));
+		assertTrue(index.contains(p1));
+		assertFalse(index.contains(p2));
+	}
+
+	@Test
+	public void test_looseQuadTree() {
+		check(LooseQuadTree::new);
+	}
+
+	@Test
+	public void test_queryNearest_order() {
+		SpatialIndex<String> index = new LooseQuadTree<>();
+		index.insert("far", new Rectangle(100, 0, 10, 10));
+		index.insert("near", new Rectangle(10, 0, 10, 10));
+		index.insert("inside", new Rectangle(-5, -5, 10, 10));
+		assertEquals(3, index.queryNearest(new Point(), 5).size());
+		assertEquals("inside", index.queryNearest(new Point(), 5).get(0));
+		assertEquals("near", index.queryNearest(new Point(), 5).get(1));
+		assertEquals("far", index.queryNearest(new Point(), 5).get(2));
+	}
+
+	@Test
+	public void test_rTree() {
+		check(RTree::new);
+	}
+
+	@Test
+	public void test_rTree_bulkLoad_height() {
+		RTree<Integer> tree = new RTree<>();
+		List<Integer> elements = new ArrayList<>();
+		for (int i = 0; i < 10000; i++) {
+			elements.add(i);
+		}
+		tree.insertAll(elements, i -> new Rectangle(i % 100, i / 100, 1, 1));
+		assertEquals(10000, tree.size());
+		// 10000 entries in fully packed nodes of 16 entries
+		assertEquals(4, tree.getHeight());
+		assertEquals(4, tree.queryPoint(new Point(50, 50)).size());
+	}
+
+}
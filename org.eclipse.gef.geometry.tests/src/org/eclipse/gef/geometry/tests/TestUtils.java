@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2016 itemis AG and others.
+ * Copyright (c) 2011, 2026 itemis AG and others.
  * 
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -15,6 +15,9 @@
 package org.eclipse.gef.geometry.tests;
 
 import org.eclipse.gef.geometry.internal.utils.PrecisionUtils;
+import org.eclipse.gef.geometry.planar.BezierCurve;
+import org.eclipse.gef.geometry.planar.ICurve;
+import org.eclipse.gef.geometry.planar.Point;
 
 /**
  * Utilities for geometry unit tests.
@@ -25,6 +28,46 @@ import org.eclipse.gef.geometry.internal.utils.PrecisionUtils;
  */
 public class TestUtils {
 
+	/**
+	 * Returns the (numerically determined) minimal distance between the given
+	 * {@link ICurve} and {@link Point}. In contrast to
+	 * {@link ICurve#getProjection(Point)}, the result is accurate enough to
+	 * verify approximation tolerances.
+	 *
+	 * @param curve
+	 *            The {@link ICurve}.
+	 * @param p
+	 *            The {@link Point}.
+	 * @return The distance between the {@link ICurve} and the {@link Point}.
+	 */
+	public static double getDistance(ICurve curve, Point p) {
+		int samples = 256;
+		double min = Double.POSITIVE_INFINITY;
+		for (BezierCurve c : curve.toBezier()) {
+			int best = 0;
+			for (int i = 1; i <= samples; i++) {
+				if (c.get((double) i / samples).getDistance(p) < c
+						.get((double) best / samples).getDistance(p)) {
+					best = i;
+				}
+			}
+			// refine by a ternary search around the best sample
+			double lo = Math.max(0, (best - 1.0) / samples);
+			double hi = Math.min(1, (best + 1.0) / samples);
+			for (int i = 0; i < 64; i++) {
+				double a = lo + (hi - lo) / 3;
+				double b = hi - (hi - lo) / 3;
+				if (c.get(a).getDistance(p) < c.get(b).getDistance(p)) {
+					hi = b;
+				} else {
+					lo = a;
+				}
+			}
+			min = Math.min(min, c.get((lo + hi) / 2).getDistance(p));
+		}
+		return min;
+	}
+
 	public static double getPrecisionFraction() {
 		// TODO: remove TestUtils
 		return PrecisionUtils.calculateFraction(0);
@@ -0,0 +1,857 @@
+/*******************************************************************************
+ * Copyright (c) 2026 itemis AG and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     itemis AG - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.geometry.internal.utils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+import org.eclipse.gef.geometry.planar.Point;
+import org.eclipse.gef.geometry.planar.Rectangle;
+
+/**
+ * The {@link OrthogonalSegmentGraph} is the orthogonal visibility graph of
+ * a set of rectangular obstacles, as used for orthogonal connector routing.
+ * <p>
+ * From every interesting point (the corners of the obstacles, the centers of
+ * their sides, which serve as ports, and the corners of a frame around all
+ * obstacles), a horizontal and a vertical line segment is extended until it
+ * hits an obstacle. The vertices of the graph are the intersections of these
+ * segments, and its edges connect neighboring vertices on the same segment.
+ * The segments are computed by two sweeps (one per axis) over all interesting
+ * points, and the intersections are computed by a third sweep, so that the
+ * graph is built in <code>O((n + k) log n)</code> for <code>n</code> obstacles
+ * and <code>k</code> vertices. The graph is built once and shared by all
+ * routes that are searched within it.
+ * <p>
+ * Routes are searched by an A* search that minimizes their length plus a
+ * penalty per bend, either between two obstacles (see
+ * {@link #route(int, int, double)}), or between two points that were passed
+ * in as additional interesting points (see
+ * {@link #route(Point, int, Point, int, double)}).
+ * <p>
+ * Obstacles are considered to be open, i.e. segments may run along their
+ * borders. Interesting points that lie strictly inside an obstacle (which may
+ * happen for overlapping obstacles) or outside of the frame are ignored.
+ */
+public class OrthogonalSegmentGraph {
+
+	/**
+	 * Direction towards positive x.
+	 */
+	public static final int RIGHT = 0;
+
+	/**
+	 * Direction towards negative x.
+	 */
+	public static final int LEFT = 1;
+
+	/**
+	 * Direction towards positive y.
+	 */
+	public static final int DOWN = 2;
+
+	/**
+	 * Direction towards negative y.
+	 */
+	public static final int UP = 3;
+
+	private static final class Key {
+		private final double x;
+		private final double y;
+
+		private Key(double x, double y) {
+			this.x = x;
+			this.y = y;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof Key)) {
+				return false;
+			}
+			Key other = (Key) obj;
+			return x == other.x && y == other.y;
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * Double.hashCode(x) + Double.hashCode(y);
+		}
+	}
+
+	/**
+	 * A simple binary min-heap of (key, value) pairs, used for the route
+	 * search. Decrease-key is realized by inserting duplicates, which are
+	 * skipped when they are polled.
+	 */
+	private static final class Heap {
+		private double[] keys = new double[64];
+		private int[] values = new int[64];
+		private int size;
+
+		private void clear() {
+			size = 0;
+		}
+
+		private boolean isEmpty() {
+			return size == 0;
+		}
+
+		private void offer(double key, int value) {
+			if (size == keys.length) {
+				keys = Arrays.copyOf(keys, size * 2);
+				values = Arrays.copyOf(values, size * 2);
+			}
+			int i = size++;
+			while (i > 0) {
+				int parent = (i - 1) >>> 1;
+				if (keys[parent] <= key) {
+					break;
+				}
+				keys[i] = keys[parent];
+				values[i] = values[parent];
+				i = parent;
+			}
+			keys[i] = key;
+			values[i] = value;
+		}
+
+		private int poll() {
+			int result = values[0];
+			size--;
+			double key = keys[size];
+			int value = values[size];
+			int i = 0;
+			while (true) {
+				int child = 2 * i + 1;
+				if (child >= size) {
+					break;
+				}
+				if (child + 1 < size && keys[child + 1] < keys[child]) {
+					child++;
+				}
+				if (key <= keys[child]) {
+					break;
+				}
+				keys[i] = keys[child];
+				values[i] = values[child];
+				i = child;
+			}
+			keys[i] = key;
+			values[i] = value;
+			return result;
+		}
+	}
+
+	/**
+	 * Returns the direction that is opposite to the given one.
+	 *
+	 * @param direction
+	 *            One of {@link #RIGHT}, {@link #LEFT}, {@link #DOWN}, or
+	 *            {@link #UP}.
+	 * @return The opposite direction.
+	 */
+	public static int opposite(int direction) {
+		return direction ^ 1;
+	}
+
+	private final int obstacleCount;
+	private final double[] left;
+	private final double[] top;
+	private final double[] right;
+	private final double[] bottom;
+
+	// vertices (coordinates and neighbors per direction, -1 if none)
+	private int vertexCount;
+	private double[] vx = new double[256];
+	private double[] vy = new double[256];
+	private int[] neighbors = new int[1024];
+
+	// vertex per obstacle side (obstacle * 4 + outward direction), -1 if the
+	// port lies inside another obstacle
+	private final int[] ports;
+
+	// vertices of the additional interesting points
+	private final Map<Key, Integer> pointVertices = new HashMap<>();
+
+	// search state (per vertex * 4 + arrival direction, plus goal state)
+	private final Heap heap = new Heap();
+	private double[] g;
+	private int[] parent;
+	private int[] visited;
+	private int[] closed;
+	private int stamp;
+	private final double[] goalBounds = new double[4];
+	private boolean goalBend;
+
+	/**
+	 * Constructs a new {@link OrthogonalSegmentGraph} for the given
+	 * obstacles. The obstacle with index <code>i</code> is given by
+	 * <code>left[i]</code>, <code>top[i]</code>, <code>right[i]</code>, and
+	 * <code>bottom[i]</code>. Obstacles without an interior do not block any
+	 * segments.
+	 *
+	 * @param left
+	 *            The minimum x coordinates of the obstacles.
+	 * @param top
+	 *            The minimum y coordinates of the obstacles.
+	 * @param right
+	 *            The maximum x coordinates of the obstacles.
+	 * @param bottom
+	 *            The maximum y coordinates of the obstacles.
+	 * @param frameDistance
+	 *            The distance of the frame that encloses all obstacles.
+	 */
+	public OrthogonalSegmentGraph(double[] left, double[] top, double[] right,
+			double[] bottom, double frameDistance) {
+		this(left, top, right, bottom);
+		if (obstacleCount == 0) {
+			return;
+		}
+		// frame around all obstacles
+		double distance = Math.max(frameDistance, 1);
+		double minX = Double.POSITIVE_INFINITY;
+		double minY = Double.POSITIVE_INFINITY;
+		double maxX = Double.NEGATIVE_INFINITY;
+		double maxY = Double.NEGATIVE_INFINITY;
+		for (int i = 0; i < obstacleCount; i++) {
+			minX = Math.min(minX, left[i]);
+			minY = Math.min(minY, top[i]);
+			maxX = Math.max(maxX, right[i]);
+			maxY = Math.max(maxY, bottom[i]);
+		}
+		build(minX - distance, minY - distance, maxX + distance,
+				maxY + distance, new Point[0]);
+	}
+
+	private OrthogonalSegmentGraph(double[] left, double[] top,
+			double[] right, double[] bottom) {
+		this.obstacleCount = left.length;
+		this.left = left;
+		this.top = top;
+		this.right = right;
+		this.bottom = bottom;
+		this.ports = new int[obstacleCount * 4];
+		Arrays.fill(ports, -1);
+	}
+
+	/**
+	 * Constructs a new {@link OrthogonalSegmentGraph} for the given obstacles
+	 * (see {@link #OrthogonalSegmentGraph(double[], double[], double[],
+	 * double[], double)}) within the given frame. The given points are
+	 * considered as additional interesting points, so that routes can be
+	 * searched between them (see
+	 * {@link #route(Point, int, Point, int, double)}).
+	 *
+	 * @param left
+	 *            The minimum x coordinates of the obstacles.
+	 * @param top
+	 *            The minimum y coordinates of the obstacles.
+	 * @param right
+	 *            The maximum x coordinates of the obstacles.
+	 * @param bottom
+	 *            The maximum y coordinates of the obstacles.
+	 * @param frame
+	 *            The {@link Rectangle} that limits the segments.
+	 * @param points
+	 *            Additional interesting {@link Point}s.
+	 */
+	public OrthogonalSegmentGraph(double[] left, double[] top, double[] right,
+			double[] bottom, Rectangle frame, Point... points) {
+		this(left, top, right, bottom);
+		build(frame.getX(), frame.getY(), frame.getX() + frame.getWidth(),
+				frame.getY() + frame.getHeight(), points);
+	}
+
+	private void build(double minX, double minY, double maxX, double maxY,
+			Point[] points) {
+		// collect interesting points (corners, ports, additional points,
+		// frame corners) within the frame
+		int[] blocking = getBlockingObstacles();
+		ObstacleIndex index = new ObstacleIndex(blocking);
+		double[] px = new double[obstacleCount * 8 + points.length + 4];
+		double[] py = new double[px.length];
+		int pointCount = 0;
+		Map<Key, List<Integer>> portKeys = new HashMap<>();
+		for (Point p : points) {
+			if (minX <= p.x && p.x <= maxX && minY <= p.y && p.y <= maxY
+					&& !index.isInside(p.x, p.y)) {
+				px[pointCount] = p.x;
+				py[pointCount] = p.y;
+				pointCount++;
+				pointVertices.put(new Key(p.x, p.y), -1);
+			}
+		}
+		for (int i = 0; i < obstacleCount; i++) {
+			double cx = (left[i] + right[i]) / 2;
+			double cy = (top[i] + bottom[i]) / 2;
+			double[] xs = { left[i], right[i], left[i], right[i], right[i],
+					left[i], cx, cx };
+			double[] ys = { top[i], top[i], bottom[i], bottom[i], cy, cy,
+					bottom[i], top[i] };
+			for (int j = 0; j < xs.length; j++) {
+				if (xs[j] < minX || xs[j] > maxX || ys[j] < minY
+						|| ys[j] > maxY || index.isInside(xs[j], ys[j])) {
+					continue;
+				}
+				px[pointCount] = xs[j];
+				py[pointCount] = ys[j];
+				pointCount++;
+				if (j >= 4) {
+					// ports are ordered by outward direction
+					Key key = new Key(xs[j], ys[j]);
+					List<Integer> list = portKeys.get(key);
+					if (list == null) {
+						list = new ArrayList<>(1);
+						portKeys.put(key, list);
+					}
+					list.add(i * 4 + j - 4);
+				}
+			}
+		}
+		double[] fx = { minX, maxX, minX, maxX };
+		double[] fy = { minY, minY, maxY, maxY };
+		for (int j = 0; j < 4; j++) {
+			px[pointCount] = fx[j];
+			py[pointCount] = fy[j];
+			pointCount++;
+		}
+		px = Arrays.copyOf(px, pointCount);
+		py = Arrays.copyOf(py, pointCount);
+
+		// horizontal segments: sweep along y, blocked by obstacles in x
+		List<double[]> horizontal = sweep(blocking, px, py, top, bottom, left,
+				right, minX, maxX);
+		// vertical segments: sweep along x, blocked by obstacles in y
+		List<double[]> vertical = sweep(blocking, py, px, left, right, top,
+				bottom, minY, maxY);
+
+		intersect(horizontal, vertical, portKeys);
+	}
+
+	/**
+	 * Returns the indices of all obstacles that have an interior.
+	 */
+	private int[] getBlockingObstacles() {
+		int[] blocking = new int[obstacleCount];
+		int count = 0;
+		for (int i = 0; i < obstacleCount; i++) {
+			if (right[i] > left[i] && bottom[i] > top[i]) {
+				blocking[count++] = i;
+			}
+		}
+		return Arrays.copyOf(blocking, count);
+	}
+
+	/**
+	 * Computes the maximal segments through the given points along the line
+	 * axis <i>a</i>, sweeping along the perpendicular axis <i>s</i>. A segment
+	 * is returned as <code>{s, a1, a2}</code>, and equal segments are only
+	 * reported once.
+	 */
+	private List<double[]> sweep(int[] blocking, final double[] pa,
+			final double[] ps, final double[] sMin, final double[] sMax,
+			double[] aMin, double[] aMax, double lowerLimit,
+			double upperLimit) {
+		int pointCount = pa.length;
+		Integer[] points = new Integer[pointCount];
+		for (int i = 0; i < pointCount; i++) {
+			points[i] = i;
+		}
+		Arrays.sort(points, new Comparator<Integer>() {
+			@Override
+			public int compare(Integer p1, Integer p2) {
+				int c = Double.compare(ps[p1], ps[p2]);
+				return c != 0 ? c : Double.compare(pa[p1], pa[p2]);
+			}
+		});
+		Integer[] opening = sortedBy(blocking, sMin);
+		Integer[] closing = sortedBy(blocking, sMax);
+
+		// multisets of the lower and upper bounds of active obstacles
+		TreeMap<Double, Integer> lowerBounds = new TreeMap<>();
+		TreeMap<Double, Integer> upperBounds = new TreeMap<>();
+
+		List<double[]> segments = new ArrayList<>();
+		int open = 0;
+		int close = 0;
+		double[] last = null;
+		for (int i = 0; i < pointCount; i++) {
+			int p = points[i];
+			double s = ps[p];
+			double a = pa[p];
+			// obstacles are active if the sweep line passes their interior
+			while (open < opening.length && sMin[opening[open]] < s) {
+				add(lowerBounds, aMin[opening[open]]);
+				add(upperBounds, aMax[opening[open]]);
+				open++;
+			}
+			while (close < closing.length && sMax[closing[close]] <= s) {
+				remove(lowerBounds, aMin[closing[close]]);
+				remove(upperBounds, aMax[closing[close]]);
+				close++;
+			}
+			// the point is not inside an active obstacle, so every active
+			// obstacle lies completely before or after it
+			Double before = upperBounds.floorKey(a);
+			Double after = lowerBounds.ceilingKey(a);
+			double a1 = before == null ? lowerLimit
+					: Math.max(lowerLimit, before);
+			double a2 = after == null ? upperLimit
+					: Math.min(upperLimit, after);
+			if (last != null && last[0] == s && last[1] == a1
+					&& last[2] == a2) {
+				continue;
+			}
+			last = new double[] { s, a1, a2 };
+			segments.add(last);
+		}
+		return segments;
+	}
+
+	private static Integer[] sortedBy(int[] indices, final double[] values) {
+		Integer[] sorted = new Integer[indices.length];
+		for (int i = 0; i < indices.length; i++) {
+			sorted[i] = indices[i];
+		}
+		Arrays.sort(sorted, new Comparator<Integer>() {
+			@Override
+			public int compare(Integer i1, Integer i2) {
+				return Double.compare(values[i1], values[i2]);
+			}
+		});
+		return sorted;
+	}
+
+	private static void add(TreeMap<Double, Integer> multiset, double value) {
+		Integer count = multiset.get(value);
+		multiset.put(value, count == null ? 1 : count + 1);
+	}
+
+	private static void remove(TreeMap<Double, Integer> multiset,
+			double value) {
+		Integer count = multiset.get(value);
+		if (count == null || count == 1) {
+			multiset.remove(value);
+		} else {
+			multiset.put(value, count - 1);
+		}
+	}
+
+	/**
+	 * Computes the intersections of the given horizontal and vertical
+	 * segments by sweeping along x, and connects neighboring intersections.
+	 */
+	private void intersect(final List<double[]> horizontal,
+			final List<double[]> vertical, Map<Key, List<Integer>> portKeys) {
+		int hCount = horizontal.size();
+		Integer[] byStart = new Integer[hCount];
+		Integer[] byEnd = new Integer[hCount];
+		for (int i = 0; i < hCount; i++) {
+			byStart[i] = byEnd[i] = i;
+		}
+		Arrays.sort(byStart, new Comparator<Integer>() {
+			@Override
+			public int compare(Integer h1, Integer h2) {
+				return Double.compare(horizontal.get(h1)[1],
+						horizontal.get(h2)[1]);
+			}
+		});
+		Arrays.sort(byEnd, new Comparator<Integer>() {
+			@Override
+			public int compare(Integer h1, Integer h2) {
+				return Double.compare(horizontal.get(h1)[2],
+						horizontal.get(h2)[2]);
+			}
+		});
+		List<double[]> verticalByX = new ArrayList<>(vertical);
+		verticalByX.sort(new Comparator<double[]>() {
+			@Override
+			public int compare(double[] v1, double[] v2) {
+				int c = Double.compare(v1[0], v2[0]);
+				return c != 0 ? c : Double.compare(v1[1], v2[1]);
+			}
+		});
+
+		// active horizontal segments by y (at most one per y, because
+		// segments on the same line are separated by obstacles)
+		TreeMap<Double, Integer> active = new TreeMap<>();
+		int[] lastVertex = new int[hCount];
+		Arrays.fill(lastVertex, -1);
+		int start = 0;
+		int end = 0;
+		for (double[] v : verticalByX) {
+			double x = v[0];
+			while (start < hCount && horizontal.get(byStart[start])[1] <= x) {
+				double[] h = horizontal.get(byStart[start]);
+				if (h[2] >= x) {
+					active.put(h[0], byStart[start]);
+				}
+				start++;
+			}
+			while (end < hCount && horizontal.get(byEnd[end])[2] < x) {
+				double[] h = horizontal.get(byEnd[end]);
+				Integer current = active.get(h[0]);
+				if (current != null && current.intValue() == byEnd[end]) {
+					active.remove(h[0]);
+				}
+				end++;
+			}
+			NavigableMap<Double, Integer> crossing = active.subMap(v[1], true,
+					v[2], true);
+			int previous = -1;
+			for (Map.Entry<Double, Integer> entry : crossing.entrySet()) {
+				int vertex = addVertex(x, entry.getKey());
+				if (previous >= 0) {
+					connect(previous, vertex, DOWN);
+				}
+				previous = vertex;
+				int h = entry.getValue();
+				if (lastVertex[h] >= 0) {
+					connect(lastVertex[h], vertex, RIGHT);
+				}
+				lastVertex[h] = vertex;
+				Key key = new Key(x, entry.getKey());
+				List<Integer> sides = portKeys.get(key);
+				if (sides != null) {
+					for (int side : sides) {
+						ports[side] = vertex;
+					}
+				}
+				if (pointVertices.containsKey(key)) {
+					pointVertices.put(key, vertex);
+				}
+			}
+		}
+	}
+
+	private int addVertex(double x, double y) {
+		if (vertexCount == vx.length) {
+			vx = Arrays.copyOf(vx, vertexCount * 2);
+			vy = Arrays.copyOf(vy, vertexCount * 2);
+			neighbors = Arrays.copyOf(neighbors, vertexCount * 8);
+		}
+		int vertex = vertexCount++;
+		vx[vertex] = x;
+		vy[vertex] = y;
+		Arrays.fill(neighbors, vertex * 4, vertex * 4 + 4, -1);
+		return vertex;
+	}
+
+	private void connect(int from, int to, int direction) {
+		neighbors[from * 4 + direction] = to;
+		neighbors[to * 4 + opposite(direction)] = from;
+	}
+
+	/**
+	 * Returns the number of vertices of this graph.
+	 *
+	 * @return The number of vertices of this graph.
+	 */
+	public int getVertexCount() {
+		return vertexCount;
+	}
+
+	private List<Point> getBendPoints(int goal) {
+		List<Point> bendPoints = new ArrayList<>();
+		int state = parent[goal];
+		if (goalBend) {
+			bendPoints.add(new Point(vx[state / 4], vy[state / 4]));
+		}
+		for (int from = parent[state]; from >= 0; from = parent[state]) {
+			if (from % 4 != state % 4) {
+				bendPoints.add(new Point(vx[from / 4], vy[from / 4]));
+			}
+			state = from;
+		}
+		Collections.reverse(bendPoints);
+		return bendPoints;
+	}
+
+	/**
+	 * Returns a lower bound for the number of bends that are needed to reach
+	 * the goal bounds from the given point when heading into the given
+	 * direction.
+	 */
+	private int getMinimumBends(double x, double y, int direction) {
+		double goalLeft = goalBounds[0];
+		double goalTop = goalBounds[1];
+		double goalRight = goalBounds[2];
+		double goalBottom = goalBounds[3];
+		double ahead;
+		boolean aligned;
+		switch (direction) {
+		case RIGHT:
+			ahead = goalRight - x;
+			aligned = goalLeft >= x && goalTop <= y && y <= goalBottom;
+			break;
+		case LEFT:
+			ahead = x - goalLeft;
+			aligned = goalRight <= x && goalTop <= y && y <= goalBottom;
+			break;
+		case DOWN:
+			ahead = goalBottom - y;
+			aligned = goalTop >= y && goalLeft <= x && x <= goalRight;
+			break;
+		default:
+			ahead = y - goalTop;
+			aligned = goalBottom <= y && goalLeft <= x && x <= goalRight;
+			break;
+		}
+		if (aligned) {
+			return 0;
+		}
+		// turn towards the goal, or turn around
+		return ahead > 0 ? 1 : 2;
+	}
+
+	private boolean relax(int state, double cost, int from,
+			double bendPenalty) {
+		if (visited[state] == stamp && g[state] <= cost) {
+			return false;
+		}
+		visited[state] = stamp;
+		g[state] = cost;
+		parent[state] = from;
+		double estimate = 0;
+		if (state < vertexCount * 4) {
+			// the Manhattan distance to the goal bounds and the minimum number
+			// of bends form a consistent estimate, because the goal vertices
+			// lie within (or on the border of) the goal bounds
+			int vertex = state / 4;
+			estimate = Math.max(0,
+					Math.max(goalBounds[0] - vx[vertex],
+							vx[vertex] - goalBounds[2]))
+					+ Math.max(0, Math.max(goalBounds[1] - vy[vertex],
+							vy[vertex] - goalBounds[3]))
+					+ bendPenalty * getMinimumBends(vx[vertex], vy[vertex],
+							state % 4);
+		}
+		heap.offer(cost + estimate, state);
+		return true;
+	}
+
+	/**
+	 * Searches a route from the obstacle with index <code>source</code> to the
+	 * obstacle with index <code>target</code> that minimizes its length plus
+	 * the given penalty per bend (A* search over (vertex, direction) states).
+	 * The route leaves and enters the obstacles through the centers of their
+	 * sides. Returns the bend points of the route, including the bends that
+	 * result from connecting to the obstacle centers, or <code>null</code> if
+	 * no route exists.
+	 *
+	 * @param source
+	 *            The index of the source obstacle.
+	 * @param target
+	 *            The index of the target obstacle.
+	 * @param bendPenalty
+	 *            The cost of a single bend, in units of length.
+	 * @return The bend points of the route, or <code>null</code>.
+	 */
+	public List<Point> route(int source, int target, double bendPenalty) {
+		int[] startStates = new int[4];
+		int[] goalVertices = new int[4];
+		int[] goalDirections = new int[4];
+		for (int side = 0; side < 4; side++) {
+			int startVertex = ports[source * 4 + side];
+			startStates[side] = startVertex < 0 ? -1 : startVertex * 4 + side;
+			goalVertices[side] = ports[target * 4 + side];
+			goalDirections[side] = opposite(side);
+		}
+		return search(startStates, goalVertices, goalDirections,
+				new double[] { left[target], top[target], right[target],
+						bottom[target] },
+				bendPenalty);
+	}
+
+	/**
+	 * Searches a route from the given start point to the given end point that
+	 * minimizes its length plus the given penalty per bend (A* search over
+	 * (vertex, direction) states). Both points have to be passed into the
+	 * constructor as additional interesting points. The route is considered to
+	 * arrive at the start point heading into the given start direction, and
+	 * to leave the end point heading into the given end direction, so that
+	 * changing the direction at these points results in a bend. Returns the
+	 * bend points of the route, or <code>null</code> if no route exists.
+	 *
+	 * @param start
+	 *            The start {@link Point}.
+	 * @param startDirection
+	 *            The direction in which the route leaves the start point, or
+	 *            <code>-1</code> if it may leave in any direction.
+	 * @param end
+	 *            The end {@link Point}.
+	 * @param endDirection
+	 *            The direction in which the route enters the end point, or
+	 *            <code>-1</code> if it may enter from any direction.
+	 * @param bendPenalty
+	 *            The cost of a single bend, in units of length.
+	 * @return The bend points of the route, or <code>null</code>.
+	 */
+	public List<Point> route(Point start, int startDirection, Point end,
+			int endDirection, double bendPenalty) {
+		Integer startVertex = pointVertices.get(new Key(start.x, start.y));
+		Integer endVertex = pointVertices.get(new Key(end.x, end.y));
+		if (startVertex == null || startVertex < 0 || endVertex == null
+				|| endVertex < 0) {
+			return null;
+		}
+		int[] startStates = new int[4];
+		for (int d = 0; d < 4; d++) {
+			startStates[d] = startDirection < 0 || d == startDirection
+					? startVertex * 4 + d : -1;
+		}
+		return search(startStates, new int[] { endVertex },
+				new int[] { endDirection },
+				new double[] { end.x, end.y, end.x, end.y }, bendPenalty);
+	}
+
+	/**
+	 * Searches a route from any of the given start states to any of the given
+	 * goal vertices, which are entered heading into the respective goal
+	 * direction (or any direction if it is <code>-1</code>). The goal bounds
+	 * enclose all goal vertices and are used for the estimate.
+	 */
+	private List<Point> search(int[] startStates, int[] goalVertices,
+			int[] goalDirections, double[] bounds, double bendPenalty) {
+		int stateCount = vertexCount * 4 + 1;
+		int goal = stateCount - 1;
+		if (g == null || g.length < stateCount) {
+			g = new double[stateCount];
+			parent = new int[stateCount];
+			visited = new int[stateCount];
+			closed = new int[stateCount];
+			stamp = 0;
+		}
+		stamp++;
+		heap.clear();
+		System.arraycopy(bounds, 0, goalBounds, 0, 4);
+
+		for (int state : startStates) {
+			if (state >= 0) {
+				relax(state, 0, -1, bendPenalty);
+			}
+		}
+
+		while (!heap.isEmpty()) {
+			int state = heap.poll();
+			if (closed[state] == stamp) {
+				continue;
+			}
+			closed[state] = stamp;
+			if (state == goal) {
+				return getBendPoints(goal);
+			}
+			int vertex = state / 4;
+			int direction = state % 4;
+			double cost = g[state];
+			// enter the goal, which requires a bend if not heading into the
+			// goal direction
+			for (int i = 0; i < goalVertices.length; i++) {
+				if (goalVertices[i] == vertex) {
+					int goalDirection = goalDirections[i];
+					if (goalDirection < 0 || direction == goalDirection) {
+						if (relax(goal, cost, state, bendPenalty)) {
+							goalBend = false;
+						}
+					} else if (direction != opposite(goalDirection)) {
+						if (relax(goal, cost + bendPenalty, state,
+								bendPenalty)) {
+							goalBend = true;
+						}
+					}
+				}
+			}
+			for (int next = 0; next < 4; next++) {
+				if (next == opposite(direction)) {
+					continue;
+				}
+				int neighbor = neighbors[vertex * 4 + next];
+				if (neighbor < 0) {
+					continue;
+				}
+				double nextCost = cost + Math.abs(vx[neighbor] - vx[vertex])
+						+ Math.abs(vy[neighbor] - vy[vertex]);
+				if (next != direction) {
+					nextCost += bendPenalty;
+				}
+				relax(neighbor * 4 + next, nextCost, state, bendPenalty);
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * A uniform grid over the obstacles that answers whether a point lies
+	 * strictly inside an obstacle.
+	 */
+	private final class ObstacleIndex {
+		private final Map<Long, List<Integer>> cells = new HashMap<>();
+		private double cellSize;
+
+		private ObstacleIndex(int[] blocking) {
+			double total = 0;
+			for (int i : blocking) {
+				total += Math.max(right[i] - left[i], bottom[i] - top[i]);
+			}
+			cellSize = blocking.length == 0 ? 1 : total / blocking.length;
+			for (int i : blocking) {
+				long x1 = cell(left[i]);
+				long x2 = cell(right[i]);
+				long y1 = cell(top[i]);
+				long y2 = cell(bottom[i]);
+				for (long x = x1; x <= x2; x++) {
+					for (long y = y1; y <= y2; y++) {
+						Long key = key(x, y);
+						List<Integer> obstacles = cells.get(key);
+						if (obstacles == null) {
+							obstacles = new ArrayList<>(2);
+							cells.put(key, obstacles);
+						}
+						obstacles.add(i);
+					}
+				}
+			}
+		}
+
+		private long cell(double coordinate) {
+			return (long) Math.floor(coordinate / cellSize);
+		}
+
+		private Long key(long x, long y) {
+			return (x << 32) ^ (y & 0xffffffffL);
+		}
+
+		private boolean isInside(double x, double y) {
+			List<Integer> obstacles = cells.get(key(cell(x), cell(y)));
+			if (obstacles != null) {
+				for (int i : obstacles) {
+					if (left[i] < x && x < right[i] && top[i] < y
+							&& y < bottom[i]) {
+						return true;
+					}
+				}
+			}
+			return false;
+		}
+	}
+
+}
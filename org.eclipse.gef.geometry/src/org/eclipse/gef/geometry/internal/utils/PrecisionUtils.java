@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2010, 2016 itemis AG and others.
+ * Copyright (c) 2010, 2026 itemis AG and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -18,6 +18,11 @@ package org.eclipse.gef.geometry.internal.utils;
  * A utility class for floating point calculations and comparisons that should
  * guarantee a precision of a given scale, and ignore differences beyond this
  * scale.
+ * <p>
+ * As the comparisons are heavily used by the geometric algorithms, the
+ * fractions for the supported shifts are precomputed, and the test for
+ * undefined (NaN) values is only performed when a comparison fails (because
+ * every comparison with NaN fails).
  *
  * @author anyssen
  * @author mwienand
@@ -32,6 +37,26 @@ public class PrecisionUtils {
 	 */
 	private static final int DEFAULT_SCALE = 6;
 
+	/*
+	 * The range of shifts for which the fractions are precomputed.
+	 */
+	private static final int MIN_SHIFT = -DEFAULT_SCALE - 10;
+	private static final int MAX_SHIFT = 16;
+
+	private static final double[] FRACTIONS = new double[MAX_SHIFT
+			- MIN_SHIFT + 1];
+
+	static {
+		for (int shift = MIN_SHIFT; shift <= MAX_SHIFT; shift++) {
+			FRACTIONS[shift - MIN_SHIFT] = computeFraction(shift);
+		}
+	}
+
+	/*
+	 * The fraction for the default scale, i.e. for a shift of 0.
+	 */
+	private static final double DEFAULT_FRACTION = FRACTIONS[-MIN_SHIFT];
+
 	/**
 	 * Computes the smallest double that is yet recognizable (by comparison)
 	 * when shifting the default scale up by the given amount.
@@ -44,9 +69,30 @@ public class PrecisionUtils {
 	 *         shifted by the given amount.
 	 */
 	public static final double calculateFraction(int shift) {
+		if (shift < MIN_SHIFT || shift > MAX_SHIFT) {
+			return computeFraction(shift);
+		}
+		return FRACTIONS[shift - MIN_SHIFT];
+	}
+
+	private static double computeFraction(int shift) {
 		return 1 / Math.pow(10, DEFAULT_SCALE + shift);
 	}
 
+	/*
+	 * Throws an IllegalArgumentException in case one of the given values is
+	 * undefined (NaN), otherwise returns false, so that it can be used as the
+	 * alternative of a failed comparison.
+	 */
+	private static boolean checkDefined(double d1, double d2) {
+		if (Double.isNaN(d1) || Double.isNaN(d2)) {
+			throw new IllegalArgumentException(
+					"Cannot compare undefined values d1 = " + d1 + ", d2 = "
+							+ d2);
+		}
+		return false;
+	}
+
 	/**
 	 * @see PrecisionUtils#equal(double, double, int)
 	 * @param d1
@@ -56,7 +102,7 @@ public class PrecisionUtils {
 	 * @return result of the comparison
 	 */
 	public static final boolean equal(double d1, double d2) {
-		return equal(d1, d2, 0);
+		return Math.abs(d1 - d2) <= DEFAULT_FRACTION || checkDefined(d1, d2);
 	}
 
 	/**
@@ -74,13 +120,8 @@ public class PrecisionUtils {
 	 *         recognizable by the shifted delta, <code>false</code> otherwise
 	 */
 	public static final boolean equal(double d1, double d2, int shift) {
-		// Check for undefined values
-		if (Double.isNaN(d1) || Double.isNaN(d2)) {
-			throw new IllegalArgumentException(
-					"Cannot compare undefined values d1 = " + d1 + ", d2 = "
-							+ d2);
-		}
-		return Math.abs(d1 - d2) <= calculateFraction(shift);
+		return Math.abs(d1 - d2) <= calculateFraction(shift)
+				|| checkDefined(d1, d2);
 	}
 
 	/**
@@ -92,7 +133,7 @@ public class PrecisionUtils {
 	 * @return result of the comparison
 	 */
 	public static final boolean greater(double d1, double d2) {
-		return greater(d1, d2, 0);
+		return d1 + DEFAULT_FRACTION > d2 || checkDefined(d1, d2);
 	}
 
 	/**
@@ -110,13 +151,7 @@ public class PrecisionUtils {
 	 *         <code>false</code> otherwise
 	 */
 	public static final boolean greater(double d1, double d2, int shift) {
-		// Check for undefined values
-		if (Double.isNaN(d1) || Double.isNaN(d2)) {
-			throw new IllegalArgumentException(
-					"Cannot compare undefined values d1 = " + d1 + ", d2 = "
-							+ d2);
-		}
-		return d1 + calculateFraction(shift) > d2;
+		return d1 + calculateFraction(shift) > d2 || checkDefined(d1, d2);
 	}
 
 	/**
@@ -128,7 +163,7 @@ public class PrecisionUtils {
 	 * @return result of the comparison
 	 */
 	public static final boolean greaterEqual(double d1, double d2) {
-		return greaterEqual(d1, d2, 0);
+		return d1 + DEFAULT_FRACTION >= d2 || checkDefined(d1, d2);
 	}
 
 	/**
@@ -147,13 +182,7 @@ public class PrecisionUtils {
 	 *         delta, <code>false</code> otherwise
 	 */
 	public static final boolean greaterEqual(double d1, double d2, int shift) {
-		// Check for undefined values
-		if (Double.isNaN(d1) || Double.isNaN(d2)) {
-			throw new IllegalArgumentException(
-					"Cannot compare undefined values d1 = " + d1 + ", d2 = "
-							+ d2);
-		}
-		return d1 + calculateFraction(shift) >= d2;
+		return d1 + calculateFraction(shift) >= d2 || checkDefined(d1, d2);
 	}
 
 	/**
@@ -165,7 +194,7 @@ public class PrecisionUtils {
 	 * @return result of the comparison
 	 */
 	public static final boolean smaller(double d1, double d2) {
-		return smaller(d1, d2, 0);
+		return d1 < d2 + DEFAULT_FRACTION || checkDefined(d1, d2);
 	}
 
 	/**
@@ -183,13 +212,7 @@ public class PrecisionUtils {
 	 *         <code>false</code> otherwise
 	 */
 	public static final boolean smaller(double d1, double d2, int shift) {
-		// Check for undefined values
-		if (Double.isNaN(d1) || Double.isNaN(d2)) {
-			throw new IllegalArgumentException(
-					"Cannot compare undefined values d1 = " + d1 + ", d2 = "
-							+ d2);
-		}
-		return d1 < d2 + calculateFraction(shift);
+		return d1 < d2 + calculateFraction(shift) || checkDefined(d1, d2);
 	}
 
 	/**
@@ -201,7 +224,7 @@ public class PrecisionUtils {
 	 * @return result of the comparison
 	 */
 	public static final boolean smallerEqual(double d1, double d2) {
-		return smallerEqual(d1, d2, 0);
+		return d1 <= d2 + DEFAULT_FRACTION || checkDefined(d1, d2);
 	}
 
 	/**
@@ -220,13 +243,7 @@ public class PrecisionUtils {
 	 *         delta, <code>false</code> otherwise
 	 */
 	public static final boolean smallerEqual(double d1, double d2, int shift) {
-		// Check for undefined values
-		if (Double.isNaN(d1) || Double.isNaN(d2)) {
-			throw new IllegalArgumentException(
-					"Cannot compare undefined values d1 = " + d1 + ", d2 = "
-							+ d2);
-		}
-		return d1 <= d2 + calculateFraction(shift);
+		return d1 <= d2 + calculateFraction(shift) || checkDefined(d1, d2);
 	}
 
 	private PrecisionUtils() {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2016 itemis AG and others.
+ * Copyright (c) 2011, 2026 itemis AG and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -42,8 +42,19 @@ abstract class AbstractPointListBasedGeometry<T extends AbstractPointListBasedGe
 
 	/**
 	 * The points constituting this {@link AbstractPointListBasedGeometry}.
+	 * They are <code>null</code> while the coordinates are stored in the
+	 * {@link #buffer}.
 	 */
-	Point[] points;
+	private Point[] points;
+
+	/**
+	 * The coordinates of the points constituting this
+	 * {@link AbstractPointListBasedGeometry}, in case it was constructed from a
+	 * {@link PointBuffer}. The {@link PointBuffer} is never replaced by
+	 * {@link Point}s, so that (read-only) queries do not change the state of
+	 * the {@link AbstractPointListBasedGeometry}.
+	 */
+	private PointBuffer buffer;
 
 	/**
 	 * Constructs a new {@link AbstractPointListBasedGeometry} from a
@@ -74,9 +85,34 @@ abstract class AbstractPointListBasedGeometry<T extends AbstractPointListBasedGe
 		this.points = Point.getCopy(points);
 	}
 
+	/**
+	 * Constructs a new {@link AbstractPointListBasedGeometry} from the
+	 * {@link Point}s of the given {@link PointBuffer}. The coordinates are
+	 * copied into a (compact) {@link PointBuffer}, and {@link Point} objects
+	 * are only created when an operation requires them.
+	 *
+	 * @param buffer
+	 *            the {@link PointBuffer} providing the points, from which the
+	 *            {@link AbstractPointListBasedGeometry} is to be created.
+	 */
+	public AbstractPointListBasedGeometry(PointBuffer buffer) {
+		this.buffer = buffer.getCopy();
+	}
+
+	/**
+	 * Returns the {@link PointBuffer} that stores the coordinates of this
+	 * {@link AbstractPointListBasedGeometry}, or <code>null</code> if it was
+	 * not constructed from a {@link PointBuffer}.
+	 *
+	 * @return the internal {@link PointBuffer} or <code>null</code>
+	 */
+	PointBuffer buffer() {
+		return buffer;
+	}
+
 	@Override
 	public final Rectangle getBounds() {
-		return Point.getBounds(points);
+		return buffer != null ? buffer.getBounds() : Point.getBounds(points);
 	}
 
 	/**
@@ -91,7 +127,8 @@ abstract class AbstractPointListBasedGeometry<T extends AbstractPointListBasedGe
 	 *         {@link AbstractPointListBasedGeometry}
 	 */
 	public Point getCentroid() {
-		return Point.getCentroid(points);
+		return buffer != null ? buffer.getCentroid()
+				: Point.getCentroid(points);
 	}
 
 	/**
@@ -103,7 +140,30 @@ abstract class AbstractPointListBasedGeometry<T extends AbstractPointListBasedGe
 	 *         this {@link AbstractPointListBasedGeometry}'s points
 	 */
 	public final double[] getCoordinates() {
-		return PointListUtils.toCoordinatesArray(points);
+		return buffer != null ? buffer.getCoordinates()
+				: PointListUtils.toCoordinatesArray(points);
+	}
+
+	/**
+	 * Returns a {@link PointBuffer} containing (a copy of) the coordinates of
+	 * the {@link Point}s that make up this
+	 * {@link AbstractPointListBasedGeometry}.
+	 *
+	 * @return a {@link PointBuffer} with the {@link Point}s of this
+	 *         {@link AbstractPointListBasedGeometry}
+	 */
+	public final PointBuffer getPointBuffer() {
+		return buffer != null ? buffer.getCopy() : new PointBuffer(points);
+	}
+
+	/**
+	 * Returns the number of {@link Point}s that make up this
+	 * {@link AbstractPointListBasedGeometry}.
+	 *
+	 * @return the number of {@link Point}s
+	 */
+	public final int getPointCount() {
+		return buffer != null ? buffer.size() : points.length;
 	}
 
 	/**
@@ -114,7 +174,7 @@ abstract class AbstractPointListBasedGeometry<T extends AbstractPointListBasedGe
 	 *         make up this {@link AbstractPointListBasedGeometry}
 	 */
 	public final Point[] getPoints() {
-		return Point.getCopy(points);
+		return buffer != null ? buffer.toPoints() : Point.getCopy(points);
 	}
 
 	@Override
@@ -195,6 +255,19 @@ abstract class AbstractPointListBasedGeometry<T extends AbstractPointListBasedGe
 		return (T) ((T) getCopy()).translate(pt);
 	}
 
+	/**
+	 * Returns the {@link Point}s of this {@link AbstractPointListBasedGeometry}
+	 * for read-only access. These are either the stored {@link Point}s (not a
+	 * copy), or {@link Point}s that are created from the {@link PointBuffer}
+	 * (and not stored). Therefore, the returned {@link Point}s may not be
+	 * modified.
+	 *
+	 * @return the {@link Point}s of this {@link AbstractPointListBasedGeometry}
+	 */
+	Point[] points() {
+		return buffer != null ? buffer.toPoints() : points;
+	}
+
 	/**
 	 * Rotates this {@link AbstractPointListBasedGeometry} counter-clockwise
 	 * (CCW) by the given {@link Angle} around its centroid (see
@@ -251,10 +324,18 @@ abstract class AbstractPointListBasedGeometry<T extends AbstractPointListBasedGe
 	@SuppressWarnings("unchecked")
 	public T rotateCCW(Angle alpha, Point center) {
 		translate(center.getNegated());
-		for (Point p : points) {
-			Point np = new Vector(p).rotateCCW(alpha).toPoint();
-			p.x = np.x;
-			p.y = np.y;
+		if (buffer != null) {
+			for (int i = 0; i < buffer.size(); i++) {
+				Vector v = new Vector(buffer.getX(i), buffer.getY(i))
+						.rotateCCW(alpha);
+				buffer.set(i, v.x, v.y);
+			}
+		} else {
+			for (Point p : points) {
+				Point np = new Vector(p).rotateCCW(alpha).toPoint();
+				p.x = np.x;
+				p.y = np.y;
+			}
 		}
 		translate(center);
 		return (T) this;
@@ -315,10 +396,18 @@ abstract class AbstractPointListBasedGeometry<T extends AbstractPointListBasedGe
 	@SuppressWarnings("unchecked")
 	public T rotateCW(Angle alpha, Point center) {
 		translate(center.getNegated());
-		for (Point p : points) {
-			Point np = new Vector(p).rotateCW(alpha).toPoint();
-			p.x = np.x;
-			p.y = np.y;
+		if (buffer != null) {
+			for (int i = 0; i < buffer.size(); i++) {
+				Vector v = new Vector(buffer.getX(i), buffer.getY(i))
+						.rotateCW(alpha);
+				buffer.set(i, v.x, v.y);
+			}
+		} else {
+			for (Point p : points) {
+				Point np = new Vector(p).rotateCW(alpha).toPoint();
+				p.x = np.x;
+				p.y = np.y;
+			}
 		}
 		translate(center);
 		return (T) this;
@@ -347,6 +436,10 @@ abstract class AbstractPointListBasedGeometry<T extends AbstractPointListBasedGe
 	@Override
 	@SuppressWarnings("unchecked")
 	public T scale(double fx, double fy, Point center) {
+		if (buffer != null) {
+			buffer.scale(fx, fy, center.x, center.y);
+			return (T) this;
+		}
 		for (Point p : points) {
 			Point np = p.getScaled(fx, fy, center);
 			p.x = np.x;
@@ -360,10 +453,62 @@ abstract class AbstractPointListBasedGeometry<T extends AbstractPointListBasedGe
 		return scale(factor, factor, center);
 	}
 
+	/**
+	 * Returns the {@link Line} segments between successive {@link Point}s of
+	 * this {@link AbstractPointListBasedGeometry}, without creating
+	 * intermediate {@link Point}s.
+	 *
+	 * @param close
+	 *            <code>true</code> if a segment from the last to the first
+	 *            {@link Point} is to be included, otherwise <code>false</code>
+	 * @return the {@link Line} segments
+	 */
+	Line[] segments(boolean close) {
+		if (buffer == null) {
+			return PointListUtils.toSegmentsArray(points, close);
+		}
+		int n = buffer.size();
+		if (n < 2) {
+			return new Line[] {};
+		}
+		Line[] segments = new Line[close ? n : n - 1];
+		for (int i = 0; i < segments.length; i++) {
+			int j = i + 1 < n ? i + 1 : 0;
+			segments[i] = new Line(buffer.getX(i), buffer.getY(i),
+					buffer.getX(j), buffer.getY(j));
+		}
+		return segments;
+	}
+
+	/**
+	 * Directly transforms this {@link AbstractPointListBasedGeometry} with the
+	 * given {@link AffineTransform}, i.e. the {@link Point}s of this
+	 * {@link AbstractPointListBasedGeometry} are transformed in-place, without
+	 * allocating new {@link Point}s.
+	 *
+	 * @param t
+	 *            the {@link AffineTransform} to apply
+	 * @return <code>this</code> for convenience
+	 * @see #getTransformed(AffineTransform)
+	 */
+	@SuppressWarnings("unchecked")
+	public T transform(AffineTransform t) {
+		if (buffer != null) {
+			buffer.transform(t);
+		} else {
+			t.transform(points);
+		}
+		return (T) this;
+	}
+
 	@Override
 	@SuppressWarnings("unchecked")
 	public T translate(double dx, double dy) {
-		Point.translate(points, dx, dy);
+		if (buffer != null) {
+			buffer.translate(dx, dy);
+		} else {
+			Point.translate(points, dx, dy);
+		}
 		return (T) this;
 	}
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2016 itemis AG and others.
+ * Copyright (c) 2011, 2026 itemis AG and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -292,8 +292,11 @@ public class AffineTransform implements Cloneable {
 	 * @return a new, transformed {@link Point}
 	 */
 	public Point getTransformed(Point ptSrc) {
-		return AWT2Geometry.toPoint(
-				delegate.transform(Geometry2AWT.toAWTPoint(ptSrc), null));
+		return new Point(
+				delegate.getScaleX() * ptSrc.x + delegate.getShearX() * ptSrc.y
+						+ delegate.getTranslateX(),
+				delegate.getShearY() * ptSrc.x + delegate.getScaleY() * ptSrc.y
+						+ delegate.getTranslateY());
 	}
 
 	/**
@@ -308,12 +311,10 @@ public class AffineTransform implements Cloneable {
 	 */
 	public Point[] getTransformed(Point[] points) {
 		Point[] result = new Point[points.length];
-
 		for (int i = 0; i < points.length; i++) {
-			result[i] = getTransformed(points[i]);
+			result[i] = points[i].getCopy();
 		}
-
-		return result;
+		return transform(result);
 	}
 
 	/**
@@ -798,6 +799,58 @@ public class AffineTransform implements Cloneable {
 		return delegate.toString();
 	}
 
+	/**
+	 * Transforms an array of {@link Point}s specified by their coordinate
+	 * values with this {@link AffineTransform}. The source and destination
+	 * arrays may be the same array (and the ranges may overlap), so that the
+	 * coordinates can be transformed in-place. No objects are allocated, which
+	 * makes this method suitable for transforming large numbers of
+	 * {@link Point}s.
+	 *
+	 * @param srcPts
+	 *            the array of x and y coordinates specifying the {@link Point}s
+	 *            that are transformed
+	 * @param srcOff
+	 *            the index of the <i>srcPts</i> array where the x coordinate of
+	 *            the first {@link Point} to transform is found
+	 * @param dstPts
+	 *            the destination array of x and y coordinates for the result of
+	 *            the transformation
+	 * @param dstOff
+	 *            the index of the <i>dstPts</i> array where the x coordinate of
+	 *            the first transformed {@link Point} is stored
+	 * @param numPts
+	 *            the number of {@link Point}s to transform
+	 */
+	public void transform(double[] srcPts, int srcOff, double[] dstPts,
+			int dstOff, int numPts) {
+		delegate.transform(srcPts, srcOff, dstPts, dstOff, numPts);
+	}
+
+	/**
+	 * Transforms the given {@link Point}s in-place with this
+	 * {@link AffineTransform}, i.e. the coordinates of the given {@link Point}s
+	 * are replaced by the transformed coordinates.
+	 *
+	 * @param points
+	 *            the {@link Point}s to transform
+	 * @return the given (now transformed) {@link Point}s for convenience
+	 */
+	public Point[] transform(Point... points) {
+		double m00 = delegate.getScaleX();
+		double m01 = delegate.getShearX();
+		double m10 = delegate.getShearY();
+		double m11 = delegate.getScaleY();
+		double tx = delegate.getTranslateX();
+		double ty = delegate.getTranslateY();
+		for (Point p : points) {
+			double x = p.x;
+			p.x = m00 * x + m01 * p.y + tx;
+			p.y = m10 * x + m11 * p.y + ty;
+		}
+		return points;
+	}
+
 	/**
 	 * Sets the translation values of the x and y coordinates of the
 	 * transformation matrix of this {@link AffineTransform}.
@@ -0,0 +1,242 @@
+/*******************************************************************************
+ * Copyright (c) 2026 itemis AG and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     itemis AG - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.geometry.planar;
+
+import java.util.Arrays;
+
+import org.eclipse.gef.geometry.euclidean.Vector;
+
+/**
+ * The {@link ArcLengthTable} maps arc lengths of a {@link BezierCurve} to
+ * parameter values. The parameter range is adaptively subdivided until a
+ * 5-point Gauss-Legendre quadrature of the speed (i.e. the length of the
+ * derivative) over each interval agrees with the sum of the quadratures over
+ * its halves. The cumulative lengths at the interval boundaries are stored, so
+ * that a length can be mapped to its interval by a binary search, within which
+ * the parameter value is determined by a few (safeguarded) Newton iterations.
+ * <p>
+ * An {@link ArcLengthTable} is immutable, i.e. it has to be recreated when the
+ * {@link BezierCurve} changes.
+ */
+final class ArcLengthTable {
+
+	// abscissae and weights of the 5-point Gauss-Legendre quadrature on [-1;1]
+	private static final double[] GAUSS_NODES = { 0, -0.5384693101056831,
+			0.5384693101056831, -0.9061798459386640, 0.9061798459386640 };
+	private static final double[] GAUSS_WEIGHTS = { 0.5688888888888889,
+			0.4786286704993665, 0.4786286704993665, 0.2369268850561891,
+			0.2369268850561891 };
+
+	private static final int MIN_DEPTH = 3;
+	private static final int MAX_DEPTH = 20;
+	private static final int MAX_ITERATIONS = 16;
+
+	// coordinates of the control points of the hodograph
+	private final double[] dx;
+	private final double[] dy;
+	private final double[] binomials;
+
+	private final double tolerance;
+
+	// interval boundaries and the cumulative lengths at these boundaries
+	private final double[] parameters;
+	private final double[] lengths;
+
+	private double[] parameterBuffer = new double[64];
+	private double[] lengthBuffer = new double[64];
+	private int size;
+
+	/**
+	 * Creates a new {@link ArcLengthTable} for the given {@link BezierCurve}.
+	 *
+	 * @param curve
+	 *            The {@link BezierCurve} to measure.
+	 */
+	ArcLengthTable(BezierCurve curve) {
+		Point[] points = curve.getPoints();
+		int degree = points.length - 1;
+		dx = new double[Math.max(degree, 0)];
+		dy = new double[dx.length];
+		double polygonLength = 0;
+		for (int i = 0; i < dx.length; i++) {
+			dx[i] = degree * (points[i + 1].x - points[i].x);
+			dy[i] = degree * (points[i + 1].y - points[i].y);
+			polygonLength += points[i].getDistance(points[i + 1]);
+		}
+		binomials = new double[dx.length];
+		for (int i = 0; i < binomials.length; i++) {
+			binomials[i] = i == 0 ? 1
+					: binomials[i - 1] * (binomials.length - i) / i;
+		}
+		tolerance = 1e-10 * (1 + polygonLength);
+
+		parameterBuffer[0] = 0;
+		lengthBuffer[0] = 0;
+		size = 1;
+		subdivide(0, 1, integrate(0, 1), 0);
+		parameters = Arrays.copyOf(parameterBuffer, size);
+		lengths = Arrays.copyOf(lengthBuffer, size);
+		parameterBuffer = null;
+		lengthBuffer = null;
+	}
+
+	private void append(double t, double length) {
+		if (size == parameterBuffer.length) {
+			parameterBuffer = Arrays.copyOf(parameterBuffer, 2 * size);
+			lengthBuffer = Arrays.copyOf(lengthBuffer, 2 * size);
+		}
+		parameterBuffer[size] = t;
+		lengthBuffer[size] = lengthBuffer[size - 1] + length;
+		size++;
+	}
+
+	/**
+	 * Returns the (total) arc length of the {@link BezierCurve}.
+	 *
+	 * @return The arc length of the {@link BezierCurve}.
+	 */
+	double getLength() {
+		return lengths[lengths.length - 1];
+	}
+
+	/**
+	 * Returns the parameter value at which the given arc length (measured from
+	 * the start of the {@link BezierCurve}) is reached. The given length is
+	 * clamped to <code>[0;getLength()]</code>.
+	 *
+	 * @param length
+	 *            The arc length for which to determine the parameter value.
+	 * @return The parameter value for the given arc length.
+	 */
+	double getParameter(double length) {
+		if (length <= 0) {
+			return 0;
+		}
+		if (length >= getLength()) {
+			return 1;
+		}
+		int index = Arrays.binarySearch(lengths, length);
+		if (index >= 0) {
+			return parameters[index];
+		}
+		int i = -index - 2;
+		double lo = parameters[i];
+		double hi = parameters[i + 1];
+		double a = lo;
+		double target = length - lengths[i];
+		double t = lo + (hi - lo) * target / (lengths[i + 1] - lengths[i]);
+		for (int iteration = 0; iteration < MAX_ITERATIONS; iteration++) {
+			double f = integrate(a, t) - target;
+			if (Math.abs(f) <= tolerance) {
+				break;
+			}
+			if (f > 0) {
+				hi = t;
+			} else {
+				lo = t;
+			}
+			double speed = getSpeed(t);
+			double next = speed > 0 ? t - f / speed : lo;
+			// fall back to bisection if Newton leaves the bracket
+			t = next > lo && next < hi ? next : (lo + hi) / 2;
+		}
+		return t;
+	}
+
+	/**
+	 * Returns the speed, i.e. the length of the derivative, at the given
+	 * parameter value.
+	 */
+	private double getSpeed(double t) {
+		if (dx.length == 0) {
+			return 0;
+		}
+		double x = 0;
+		double y = 0;
+		double s = 1 - t;
+		int n = dx.length - 1;
+		for (int i = 0; i <= n; i++) {
+			double b = binomials[i] * Math.pow(t, i) * Math.pow(s, n - i);
+			x += b * dx[i];
+			y += b * dy[i];
+		}
+		return Math.sqrt(x * x + y * y);
+	}
+
+	/**
+	 * Returns the unit tangent {@link Vector} at the given parameter value. In
+	 * case the derivative vanishes (e.g. at an end point whose control point
+	 * coincides with it), the tangent is determined at a nearby parameter
+	 * value.
+	 *
+	 * @param t
+	 *            The parameter value.
+	 * @return The unit tangent {@link Vector} at the given parameter value, or
+	 *         a null {@link Vector} if the {@link BezierCurve} is degenerated
+	 *         to a point.
+	 */
+	Vector getTangent(double t) {
+		if (dx.length == 0) {
+			return new Vector(0, 0);
+		}
+		double u = t;
+		for (int i = 0; i < 8; i++) {
+			double x = 0;
+			double y = 0;
+			double s = 1 - u;
+			int n = dx.length - 1;
+			for (int j = 0; j <= n; j++) {
+				double b = binomials[j] * Math.pow(u, j) * Math.pow(s, n - j);
+				x += b * dx[j];
+				y += b * dy[j];
+			}
+			double length = Math.sqrt(x * x + y * y);
+			if (length > 0) {
+				return new Vector(x / length, y / length);
+			}
+			// move towards the middle of the curve
+			u += (0.5 - u) * 1e-3 * (1 << i);
+		}
+		return new Vector(0, 0);
+	}
+
+	/**
+	 * Integrates the speed over the given parameter interval by a 5-point
+	 * Gauss-Legendre quadrature.
+	 */
+	private double integrate(double a, double b) {
+		double half = (b - a) / 2;
+		double mid = (a + b) / 2;
+		double sum = 0;
+		for (int i = 0; i < GAUSS_NODES.length; i++) {
+			sum += GAUSS_WEIGHTS[i] * getSpeed(mid + half * GAUSS_NODES[i]);
+		}
+		return sum * half;
+	}
+
+	private void subdivide(double a, double b, double whole, int depth) {
+		double m = (a + b) / 2;
+		double left = integrate(a, m);
+		double right = integrate(m, b);
+		if (depth >= MAX_DEPTH || depth >= MIN_DEPTH
+				&& Math.abs(left + right - whole) <= tolerance) {
+			append(m, left);
+			append(b, right);
+		} else {
+			subdivide(a, m, left, depth + 1);
+			subdivide(m, b, right, depth + 1);
+		}
+	}
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2017 itemis AG and others.
+ * Copyright (c) 2011, 2026 itemis AG and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -21,11 +21,14 @@ import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.Stack;
 import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.eclipse.gef.geometry.euclidean.Angle;
 import org.eclipse.gef.geometry.euclidean.Straight;
@@ -58,6 +61,17 @@ public class BezierCurve extends AbstractGeometry
 			}
 		}
 
+		private static class OffsetPart {
+			public IOffsetAlgorithm.PartialOffset part;
+			public List<PartialCurve> splitApprox;
+
+			public OffsetPart(IOffsetAlgorithm.PartialOffset part,
+					List<PartialCurve> splitApprox) {
+				this.part = part;
+				this.splitApprox = splitApprox;
+			}
+		}
+
 		private static interface ICurveSimplifier {
 			public List<PartialCurve> simplify(BezierCurve curve);
 		}
@@ -327,7 +341,6 @@ public class BezierCurve extends AbstractGeometry
 
 			private double acceptableError;
 			private int maxDepth;
-			private double distance;
 
 			public TillerHansonOffsetAlgorithm() {
 				this(DEFAULT_ACCEPTABLE_ERROR, DEFAULT_MAX_DEPTH);
@@ -339,7 +352,8 @@ public class BezierCurve extends AbstractGeometry
 				this.maxDepth = maxDepth;
 			}
 
-			private BezierCurve approximateOffset(BezierCurve curve) {
+			private BezierCurve approximateOffset(BezierCurve curve,
+					double distance) {
 				// collect ControlVertex objects for all unique subsequent
 				// points
 				// of the curve
@@ -434,13 +448,15 @@ public class BezierCurve extends AbstractGeometry
 			@Override
 			public List<PartialOffset> computeOffset(BezierCurve curve,
 					double distance) {
-				this.distance = distance;
+				// the distance is passed along (instead of being stored in a
+				// field), so that offsets can be computed concurrently
 				return computeTillerHansonWithParams(
-						new PartialCurve(curve, 0, 1), 0);
+						new PartialCurve(curve, 0, 1), distance, 0);
 			}
 
 			private double computeOffsetError(BezierCurve curve,
-					BezierCurve hodograph, BezierCurve approx) {
+					BezierCurve hodograph, BezierCurve approx,
+					double distance) {
 				Double error = null;
 				int N = curve.getPoints().length * 4;
 				for (int i = 0; i < N; i++) {
@@ -464,19 +480,20 @@ public class BezierCurve extends AbstractGeometry
 			}
 
 			private List<PartialOffset> computeTillerHansonWithParams(
-					PartialCurve partialCurve, int currentDepth) {
+					PartialCurve partialCurve, double distance,
+					int currentDepth) {
 				BezierCurve curve = partialCurve.curve
 						.getClipped(partialCurve.start, partialCurve.end);
-				BezierCurve approx = approximateOffset(curve);
+				BezierCurve approx = approximateOffset(curve, distance);
 				double error = computeOffsetError(curve, curve.getDerivative(),
-						approx);
+						approx, distance);
 				List<PartialOffset> sapprox = new ArrayList<>();
 				if (currentDepth < maxDepth && error >= acceptableError) {
 					PartialCurve[] s = partialCurve.split();
 					List<PartialOffset> l = computeTillerHansonWithParams(s[0],
-							currentDepth + 1);
+							distance, currentDepth + 1);
 					List<PartialOffset> r = computeTillerHansonWithParams(s[1],
-							currentDepth + 1);
+							distance, currentDepth + 1);
 					sapprox.addAll(l);
 					sapprox.addAll(r);
 				} else if (error >= 0) {
@@ -504,6 +521,11 @@ public class BezierCurve extends AbstractGeometry
 
 		public OffsetApproximation approximateOffset(BezierCurve curve,
 				double distance) {
+			return approximateOffset(curve, distance, false);
+		}
+
+		public OffsetApproximation approximateOffset(BezierCurve curve,
+				double distance, boolean parallel) {
 			List<BezierCurve> simpleCurve = new ArrayList<>();
 			List<BezierCurve> approxOffsetCurve = new ArrayList<>();
 			Map<Integer, Integer> approx2simple = new HashMap<>();
@@ -512,9 +534,12 @@ public class BezierCurve extends AbstractGeometry
 
 			List<PartialCurve> cuspsExtracted = cuspSplitter
 					.splitAtCusps(curve);
+
+			// remove self intersections
+			Map<PartialCurve, List<BezierCurve>> simplifiedCurvesMap = new HashMap<>();
+			List<BezierCurve> allSimplifiedCurves = new ArrayList<>();
 			for (PartialCurve cc : cuspsExtracted) {
 				if (!(cc instanceof Cusp)) {
-					// remove self intersections
 					List<PartialCurve> simplified = curveSimplifier
 							.simplify(cc.curve);
 					List<BezierCurve> simplifiedCurves = new ArrayList<>(
@@ -523,15 +548,42 @@ public class BezierCurve extends AbstractGeometry
 						simplifiedCurves
 								.add(pc.curve.getClipped(pc.start, pc.end));
 					}
+					simplifiedCurvesMap.put(cc, simplifiedCurves);
+					allSimplifiedCurves.addAll(simplifiedCurves);
+				}
+			}
+
+			// compute the offsets of the simplified curves, which are
+			// independent of each other and can therefore be computed
+			// concurrently
+			Function<BezierCurve, List<OffsetPart>> offsetter = simple -> {
+				List<OffsetPart> offsetParts = new ArrayList<>();
+				for (IOffsetAlgorithm.PartialOffset part : offsetAlgorithm
+						.computeOffset(simple, distance)) {
+					offsetParts.add(new OffsetPart(part,
+							curveSimplifier.simplify(part.offset)));
+				}
+				return offsetParts;
+			};
+			List<List<OffsetPart>> allOffsetParts = parallel
+					&& allSimplifiedCurves.size() > 1
+							? allSimplifiedCurves.parallelStream()
+									.map(offsetter)
+									.collect(Collectors.toList())
+							: allSimplifiedCurves.stream().map(offsetter)
+									.collect(Collectors.toList());
+
+			for (PartialCurve cc : cuspsExtracted) {
+				if (!(cc instanceof Cusp)) {
+					List<BezierCurve> simplifiedCurves = simplifiedCurvesMap
+							.get(cc);
 					int simpleSize = simpleCurve.size();
 					simpleCurve.addAll(simplifiedCurves);
 					for (int j = 0; j < simplifiedCurves.size(); j++) {
-						BezierCurve simple = simplifiedCurves.get(j);
-						List<IOffsetAlgorithm.PartialOffset> parts = offsetAlgorithm
-								.computeOffset(simple, distance);
-						for (IOffsetAlgorithm.PartialOffset part : parts) {
-							List<PartialCurve> splitApprox = curveSimplifier
-									.simplify(part.offset);
+						for (OffsetPart offsetPart : allOffsetParts
+								.get(simpleSize + j)) {
+							IOffsetAlgorithm.PartialOffset part = offsetPart.part;
+							List<PartialCurve> splitApprox = offsetPart.splitApprox;
 							int approxSize = approxOffsetCurve.size();
 							for (PartialCurve pc : splitApprox) {
 								approxOffsetCurve.add(
@@ -1612,6 +1664,17 @@ public class BezierCurve extends AbstractGeometry
 
 	private static final int CHUNK_SHIFT = -3;
 
+	/**
+	 * The maximum number of offsets that are kept (per {@link BezierCurve}) in
+	 * the {@link #offsets} cache.
+	 */
+	private static final int OFFSET_CACHE_SIZE = 4;
+
+	/**
+	 * The maximum recursion depth when flattening a {@link BezierCurve}.
+	 */
+	private static final int MAX_FLATTENING_DEPTH = 16;
+
 	private static final boolean ORTHOGONAL = true;
 
 	private static final boolean PARALLEL = false;
@@ -2410,6 +2473,25 @@ public class BezierCurve extends AbstractGeometry
 	 */
 	private final Vector3D[] points;
 
+	/**
+	 * The lazily computed {@link ArcLengthTable} of this {@link BezierCurve},
+	 * which is discarded whenever a control point changes.
+	 */
+	private transient ArcLengthTable arcLengthTable;
+
+	/**
+	 * The lazily computed bounds of this {@link BezierCurve}, which are
+	 * discarded whenever a control point changes.
+	 */
+	private transient Rectangle bounds;
+
+	/**
+	 * The most recently computed offsets of this {@link BezierCurve} (by
+	 * offset distance), which are discarded whenever a control point changes
+	 * (or when {@link #clearOffsetCache()} is called).
+	 */
+	private transient Map<Double, PolyBezier> offsets;
+
 	/**
 	 * Constructs a new {@link BezierCurve} from the given {@link CubicCurve}.
 	 *
@@ -2569,6 +2651,15 @@ public class BezierCurve extends AbstractGeometry
 		return interval;
 	}
 
+	/**
+	 * Discards the offsets of this {@link BezierCurve} that were cached by
+	 * {@link #getOffset(double, boolean)}, so that they are recomputed when
+	 * requested the next time.
+	 */
+	public synchronized void clearOffsetCache() {
+		offsets = null;
+	}
+
 	/**
 	 * <p>
 	 * Tests if this {@link BezierCurve} contains the given other
@@ -2716,6 +2807,60 @@ public class BezierCurve extends AbstractGeometry
 		return D;
 	}
 
+	/**
+	 * Appends an adaptive polygonal approximation of this {@link BezierCurve}
+	 * to the given {@link PointBuffer}, excluding the start {@link Point}. The
+	 * curve is recursively subdivided until the distance of its control
+	 * polygon to the chord (which bounds the distance of the curve to the
+	 * chord) does not exceed the given flatness.
+	 *
+	 * @param flatness
+	 *            the maximum distance between this {@link BezierCurve} and its
+	 *            approximation
+	 * @param buffer
+	 *            the {@link PointBuffer} to which the approximation is
+	 *            appended
+	 */
+	void flatten(double flatness, PointBuffer buffer) {
+		double[] c = new double[2 * points.length];
+		for (int i = 0; i < points.length; i++) {
+			Point p = points[i].toPoint();
+			c[2 * i] = p.x;
+			c[2 * i + 1] = p.y;
+		}
+		flatten(c, flatness, buffer, 0);
+	}
+
+	private static void flatten(double[] c, double flatness,
+			PointBuffer buffer, int depth) {
+		int n = c.length;
+		boolean flat = true;
+		for (int i = 2; i < n - 2 && flat; i += 2) {
+			flat = getSegmentDistance(c[i], c[i + 1], c[0], c[1], c[n - 2],
+					c[n - 1]) <= flatness;
+		}
+		if (flat || depth == MAX_FLATTENING_DEPTH) {
+			buffer.add(c[n - 2], c[n - 1]);
+			return;
+		}
+		// subdivide at t = 0.5 (de Casteljau)
+		double[] l = new double[n];
+		double[] r = new double[n];
+		double[] w = c.clone();
+		int degree = n / 2 - 1;
+		for (int k = 0; k <= degree; k++) {
+			l[2 * k] = w[0];
+			l[2 * k + 1] = w[1];
+			r[2 * (degree - k)] = w[2 * (degree - k)];
+			r[2 * (degree - k) + 1] = w[2 * (degree - k) + 1];
+			for (int i = 0; i < 2 * (degree - k); i++) {
+				w[i] = (w[i] + w[i + 2]) / 2;
+			}
+		}
+		flatten(l, flatness, buffer, depth + 1);
+		flatten(r, flatness, buffer, depth + 1);
+	}
+
 	/**
 	 * Computes the {@link Point} on this {@link BezierCurve} at parameter value
 	 * <i>t</i>, which is expected to lie in the parameter {@link Interval}
@@ -2733,12 +2878,18 @@ public class BezierCurve extends AbstractGeometry
 
 	@Override
 	public Rectangle getBounds() {
-		// TODO: check costs of 'inlining' lambdas here
-		double xmin = findExtreme(xminCriteria).x;
-		double xmax = findExtreme(xmaxCriteria).x;
-		double ymin = findExtreme(yminCriteria).y;
-		double ymax = findExtreme(ymaxCriteria).y;
-		return new Rectangle(new Point(xmin, ymin), new Point(xmax, ymax));
+		Rectangle cached = bounds;
+		if (cached == null) {
+			// TODO: check costs of 'inlining' lambdas here
+			double xmin = findExtreme(xminCriteria).x;
+			double xmax = findExtreme(xmaxCriteria).x;
+			double ymin = findExtreme(yminCriteria).y;
+			double ymax = findExtreme(ymaxCriteria).y;
+			cached = new Rectangle(new Point(xmin, ymin),
+					new Point(xmax, ymax));
+			bounds = cached;
+		}
+		return cached.getCopy();
 	}
 
 	/**
@@ -2985,6 +3136,17 @@ public class BezierCurve extends AbstractGeometry
 		return intersections.toArray(new Point[] {});
 	}
 
+	/**
+	 * Returns the arc length of this {@link BezierCurve}. It is computed by an
+	 * adaptive Gauss-Legendre quadrature and cached until this
+	 * {@link BezierCurve} is changed.
+	 *
+	 * @return the arc length of this {@link BezierCurve}
+	 */
+	public double getLength() {
+		return getArcLengthTable().getLength();
+	}
+
 	/**
 	 * Returns a {@link PolyBezier} that represents an approximation of the
 	 * refined offset of this {@link BezierCurve} where cusps in the input curve
@@ -3000,9 +3162,59 @@ public class BezierCurve extends AbstractGeometry
 	 *         {@link BezierCurve} for the given distance.
 	 */
 	public PolyBezier getOffset(double distance) {
-		return new LocalIntersectionOffsetRefiner()
-				.refine(new CuspAwareOffsetApproximator()
-						.approximateOffset(this, distance));
+		return getOffset(distance, false);
+	}
+
+	/**
+	 * Returns a {@link PolyBezier} that represents an approximation of the
+	 * refined offset of this {@link BezierCurve} (see
+	 * {@link #getOffset(double)}). If <i>parallel</i> is <code>true</code>,
+	 * the offsets of the partial curves (into which this {@link BezierCurve}
+	 * is split at cusps and self-intersections) are computed concurrently.
+	 * <p>
+	 * The most recently computed offsets of this {@link BezierCurve} are kept
+	 * in a (size limited) cache, which is keyed by the offset distance, so that
+	 * repeatedly computing the same offset (e.g. for the outline of a wide
+	 * stroke) does not require a recomputation. The cache is discarded when a
+	 * control point changes, and it can be cleared explicitly via
+	 * {@link #clearOffsetCache()}.
+	 *
+	 * @param distance
+	 *            The signed distance for which to compute a refined offset
+	 *            approximation.
+	 * @param parallel
+	 *            <code>true</code> to compute the offsets of partial curves
+	 *            concurrently, <code>false</code> to compute them
+	 *            sequentially.
+	 * @return A {@link PolyBezier} representing the refined offset of this
+	 *         {@link BezierCurve} for the given distance.
+	 */
+	public PolyBezier getOffset(double distance, boolean parallel) {
+		PolyBezier offset;
+		synchronized (this) {
+			offset = offsets == null ? null : offsets.get(distance);
+		}
+		if (offset == null) {
+			offset = new LocalIntersectionOffsetRefiner()
+					.refine(new CuspAwareOffsetApproximator()
+							.approximateOffset(this, distance, parallel));
+			synchronized (this) {
+				if (offsets == null) {
+					offsets = new LinkedHashMap<Double, PolyBezier>(8, 0.75f,
+							true) {
+						private static final long serialVersionUID = 1L;
+
+						@Override
+						protected boolean removeEldestEntry(
+								Map.Entry<Double, PolyBezier> eldest) {
+							return size() > OFFSET_CACHE_SIZE;
+						}
+					};
+				}
+				offsets.put(distance, offset);
+			}
+		}
+		return offset.getCopy();
 	}
 
 	/**
@@ -3077,6 +3289,54 @@ public class BezierCurve extends AbstractGeometry
 		return points[points.length - 1].toPoint();
 	}
 
+	/**
+	 * Returns the {@link ArcLengthTable} of this {@link BezierCurve}, which is
+	 * computed on first access and cached until this {@link BezierCurve} is
+	 * changed.
+	 *
+	 * @return the {@link ArcLengthTable} of this {@link BezierCurve}
+	 */
+	private ArcLengthTable getArcLengthTable() {
+		ArcLengthTable table = arcLengthTable;
+		if (table == null) {
+			table = new ArcLengthTable(this);
+			arcLengthTable = table;
+		}
+		return table;
+	}
+
+	/**
+	 * Returns the distance of (x, y) to the line segment from (x0, y0) to (x1,
+	 * y1).
+	 */
+	private static double getSegmentDistance(double x, double y, double x0,
+			double y0, double x1, double y1) {
+		double dx = x1 - x0;
+		double dy = y1 - y0;
+		double lengthSquared = dx * dx + dy * dy;
+		double t = lengthSquared == 0 ? 0
+				: Math.max(0, Math.min(1,
+						((x - x0) * dx + (y - y0) * dy) / lengthSquared));
+		return Math.hypot(x - x0 - t * dx, y - y0 - t * dy);
+	}
+
+	/**
+	 * Returns the parameter value at which the given arc length (measured from
+	 * the start {@link Point} of this {@link BezierCurve}) is reached. The
+	 * given length is clamped to <code>[0;{@link #getLength()}]</code>.
+	 * <p>
+	 * The arc length parameterization is computed once and cached, so that
+	 * subsequent calls only require a binary search and a few refinement
+	 * steps, until this {@link BezierCurve} is changed.
+	 *
+	 * @param length
+	 *            the arc length for which to determine the parameter value
+	 * @return the parameter value at the given arc length
+	 */
+	public double getParameterAtLength(double length) {
+		return getArcLengthTable().getParameter(length);
+	}
+
 	/**
 	 * Returns the parameter value of this {@link BezierCurve} for the given
 	 * {@link Point}. If the given {@link Point} is not on this
@@ -3153,6 +3413,21 @@ public class BezierCurve extends AbstractGeometry
 		return copy;
 	}
 
+	/**
+	 * Returns the {@link Point} on this {@link BezierCurve} at the given arc
+	 * length (measured from its start {@link Point}). The given length is
+	 * clamped to <code>[0;{@link #getLength()}]</code>.
+	 *
+	 * @param length
+	 *            the arc length at which to evaluate this {@link BezierCurve}
+	 * @return the {@link Point} on this {@link BezierCurve} at the given arc
+	 *         length
+	 * @see #getParameterAtLength(double)
+	 */
+	public Point getPointAtLength(double length) {
+		return get(getParameterAtLength(length));
+	}
+
 	@Override
 	public Point getProjection(final Point reference) {
 		// find nearest to reference within 100 samples
@@ -3279,12 +3554,30 @@ public class BezierCurve extends AbstractGeometry
 		return getCopy().scale(factor, center);
 	}
 
+	/**
+	 * Returns the unit tangent {@link Vector} of this {@link BezierCurve} at
+	 * the given arc length (measured from its start {@link Point}). The given
+	 * length is clamped to <code>[0;{@link #getLength()}]</code>. If the
+	 * derivative vanishes at the corresponding parameter value, the tangent
+	 * direction is determined in its vicinity.
+	 *
+	 * @param length
+	 *            the arc length at which to determine the tangent
+	 * @return the unit tangent {@link Vector} at the given arc length, or a
+	 *         null {@link Vector} if this {@link BezierCurve} is degenerated to
+	 *         a single {@link Point}
+	 */
+	public Vector getTangentAtLength(double length) {
+		ArcLengthTable table = getArcLengthTable();
+		return table.getTangent(table.getParameter(length));
+	}
+
 	/**
 	 * @see IGeometry#getTransformed(AffineTransform)
 	 */
 	@Override
 	public BezierCurve getTransformed(AffineTransform t) {
-		return new BezierCurve(t.getTransformed(getPoints()));
+		return new BezierCurve(points).transform(t);
 	}
 
 	@Override
@@ -3317,6 +3610,17 @@ public class BezierCurve extends AbstractGeometry
 		return getP2().y;
 	}
 
+	/**
+	 * Discards the cached arc length parameterization and bounds of this
+	 * {@link BezierCurve}, which is necessary whenever a control point
+	 * changes.
+	 */
+	private void invalidateCaches() {
+		arcLengthTable = null;
+		bounds = null;
+		clearOffsetCache();
+	}
+
 	@Override
 	public boolean intersects(ICurve c) {
 		return getIntersections(c).length > 0;
@@ -3402,6 +3706,7 @@ public class BezierCurve extends AbstractGeometry
 							.getRotatedCCW(angle).toPoint()
 							.getTranslated(center));
 		}
+		invalidateCaches();
 		return this;
 	}
 
@@ -3538,6 +3843,7 @@ public class BezierCurve extends AbstractGeometry
 					+ (points.length - 1) + ".");
 		}
 		points[i] = new Vector3D(p);
+		invalidateCaches();
 		return this;
 	}
 
@@ -3788,6 +4094,35 @@ public class BezierCurve extends AbstractGeometry
 		return str.toString();
 	}
 
+	/**
+	 * Directly transforms this {@link BezierCurve} with the given
+	 * {@link AffineTransform}, i.e. the control points of this
+	 * {@link BezierCurve} are transformed in-place, without allocating new
+	 * objects.
+	 *
+	 * @param t
+	 *            the {@link AffineTransform} to apply
+	 * @return <code>this</code> for convenience
+	 * @see #getTransformed(AffineTransform)
+	 */
+	public BezierCurve transform(AffineTransform t) {
+		double m00 = t.getM00();
+		double m01 = t.getM01();
+		double m10 = t.getM10();
+		double m11 = t.getM11();
+		double tx = t.getTranslateX();
+		double ty = t.getTranslateY();
+		// transform the homogeneous coordinates, so that the control points
+		// do not have to be normalized
+		for (Vector3D p : points) {
+			double x = p.x;
+			p.x = m00 * x + m01 * p.y + tx * p.z;
+			p.y = m10 * x + m11 * p.y + ty * p.z;
+		}
+		invalidateCaches();
+		return this;
+	}
+
 	@Override
 	public BezierCurve translate(double dx, double dy) {
 		Point[] realPoints = getPoints();
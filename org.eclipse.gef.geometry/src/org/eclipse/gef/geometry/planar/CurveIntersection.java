@@ -0,0 +1,116 @@
+/*******************************************************************************
+ * Copyright (c) 2026 itemis AG and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     itemis AG - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.geometry.planar;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The intersection {@link Point}s of two {@link ICurve}s, as computed by
+ * {@link #getAll(List)} for a batch of {@link ICurve}s.
+ */
+public final class CurveIntersection {
+
+	/**
+	 * Computes the intersections of all pairs of the given {@link ICurve}s.
+	 * Intersections of an {@link ICurve} with itself are not computed.
+	 * <p>
+	 * In contrast to calling {@link ICurve#getIntersections(ICurve)} for all
+	 * pairs of {@link ICurve}s, the {@link BezierCurve}s of the {@link ICurve}s
+	 * are split into x- and y-monotone pieces, whose (tight) bounds are
+	 * processed by a sweep along the x axis, so that only the
+	 * {@link BezierCurve}s with touching bounds are intersected. Therefore, the
+	 * costs mainly depend on the number of {@link BezierCurve}s that are close
+	 * to each other (instead of the number of pairs).
+	 *
+	 * @param curves
+	 *            the {@link ICurve}s to intersect
+	 * @return a {@link CurveIntersection} for each pair of intersecting
+	 *         {@link ICurve}s, ordered by the indices of the {@link ICurve}s
+	 */
+	public static List<CurveIntersection> getAll(
+			List<? extends ICurve> curves) {
+		return CurveUtils.getAllIntersections(curves);
+	}
+
+	private final int index1;
+	private final int index2;
+	private final ICurve curve1;
+	private final ICurve curve2;
+	private final Point[] points;
+
+	CurveIntersection(int index1, ICurve curve1, int index2, ICurve curve2,
+			Point[] points) {
+		this.index1 = index1;
+		this.curve1 = curve1;
+		this.index2 = index2;
+		this.curve2 = curve2;
+		this.points = points;
+	}
+
+	/**
+	 * Returns the first intersected {@link ICurve}.
+	 *
+	 * @return the first intersected {@link ICurve}
+	 */
+	public ICurve getCurve1() {
+		return curve1;
+	}
+
+	/**
+	 * Returns the second intersected {@link ICurve}.
+	 *
+	 * @return the second intersected {@link ICurve}
+	 */
+	public ICurve getCurve2() {
+		return curve2;
+	}
+
+	/**
+	 * Returns the index of the first intersected {@link ICurve} within the
+	 * list that was passed to {@link #getAll(List)}. It is always smaller than
+	 * {@link #getIndex2()}.
+	 *
+	 * @return the index of the first intersected {@link ICurve}
+	 */
+	public int getIndex1() {
+		return index1;
+	}
+
+	/**
+	 * Returns the index of the second intersected {@link ICurve} within the
+	 * list that was passed to {@link #getAll(List)}.
+	 *
+	 * @return the index of the second intersected {@link ICurve}
+	 */
+	public int getIndex2() {
+		return index2;
+	}
+
+	/**
+	 * Returns the intersection {@link Point}s of both {@link ICurve}s.
+	 *
+	 * @return a copy of the intersection {@link Point}s
+	 */
+	public Point[] getPoints() {
+		return Point.getCopy(points);
+	}
+
+	@Override
+	public String toString() {
+		return "CurveIntersection(" + index1 + ", " + index2 + ", "
+				+ Arrays.asList(points) + ")";
+	}
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2016 itemis AG and others.
+ * Copyright (c) 2011, 2026 itemis AG and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -13,9 +13,17 @@
  *******************************************************************************/
 package org.eclipse.gef.geometry.planar;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import org.eclipse.gef.geometry.internal.utils.PrecisionUtils;
 
 /**
  * The {@link CurveUtils} class provides functionality that can be used for all
@@ -26,6 +34,234 @@ import java.util.Set;
  */
 class CurveUtils {
 
+	/**
+	 * The bounds of an x- and y-monotone piece of a {@link BezierCurve}.
+	 */
+	private static final class MonotoneBox {
+		final int curve;
+		final int bezier;
+		final double minX, minY, maxX, maxY;
+
+		MonotoneBox(int curve, int bezier, Point p, Point q, double padding) {
+			this.curve = curve;
+			this.bezier = bezier;
+			minX = Math.min(p.x, q.x) - padding;
+			minY = Math.min(p.y, q.y) - padding;
+			maxX = Math.max(p.x, q.x) + padding;
+			maxY = Math.max(p.y, q.y) + padding;
+		}
+
+		MonotoneBox(int curve, int bezier, Rectangle bounds,
+				double padding) {
+			this(curve, bezier, bounds.getTopLeft(), bounds.getBottomRight(),
+					padding);
+		}
+	}
+
+	/**
+	 * Adds the parameter values within <code>(0;1)</code> at which the given
+	 * coordinate function (specified by the coordinates of the control points
+	 * of a quadratic or cubic {@link BezierCurve}) has a local extremum.
+	 */
+	private static void addExtremeParameters(double[] c, List<Double> result) {
+		// coefficients of the derivative a*t^2 + b*t + d
+		double a, b, d;
+		if (c.length == 3) {
+			a = 0;
+			b = 2 * (c[0] - 2 * c[1] + c[2]);
+			d = 2 * (c[1] - c[0]);
+		} else {
+			a = 3 * (-c[0] + 3 * c[1] - 3 * c[2] + c[3]);
+			b = 6 * (c[0] - 2 * c[1] + c[2]);
+			d = 3 * (c[1] - c[0]);
+		}
+		if (a == 0) {
+			if (b != 0) {
+				addParameter(-d / b, result);
+			}
+			return;
+		}
+		double discriminant = b * b - 4 * a * d;
+		if (discriminant >= 0) {
+			double sqrt = Math.sqrt(discriminant);
+			addParameter((-b + sqrt) / (2 * a), result);
+			addParameter((-b - sqrt) / (2 * a), result);
+		}
+	}
+
+	/**
+	 * Adds the bounds of the x- and y-monotone pieces of the given
+	 * {@link BezierCurve} to the given list. As the pieces are monotone, their
+	 * bounds are spanned by their end points, i.e. they are (in contrast to the
+	 * control bounds) tight. For curves of a degree higher than three, the
+	 * control bounds are used instead.
+	 */
+	private static void addMonotoneBoxes(int curveIndex, int bezierIndex,
+			BezierCurve bezier, double padding, List<MonotoneBox> boxes) {
+		Point[] points = bezier.getPoints();
+		if (points.length > 4) {
+			boxes.add(new MonotoneBox(curveIndex, bezierIndex,
+					bezier.getControlBounds(), padding));
+			return;
+		}
+		List<Double> parameters = new ArrayList<>();
+		if (points.length > 2) {
+			double[] xs = new double[points.length];
+			double[] ys = new double[points.length];
+			for (int i = 0; i < points.length; i++) {
+				xs[i] = points[i].x;
+				ys[i] = points[i].y;
+			}
+			addExtremeParameters(xs, parameters);
+			addExtremeParameters(ys, parameters);
+			parameters.sort(null);
+		}
+		Point start = points[0];
+		for (double t : parameters) {
+			Point end = bezier.get(t);
+			boxes.add(new MonotoneBox(curveIndex, bezierIndex, start, end,
+					padding));
+			start = end;
+		}
+		boxes.add(new MonotoneBox(curveIndex, bezierIndex, start,
+				points[points.length - 1], padding));
+	}
+
+	private static void addParameter(double t, List<Double> result) {
+		if (t > 0 && t < 1) {
+			result.add(t);
+		}
+	}
+
+	/**
+	 * Computes the intersections of all pairs of the given {@link ICurve}s.
+	 * Intersections of an {@link ICurve} with itself are not computed.
+	 * <p>
+	 * In contrast to calling {@link #getIntersections(ICurve, ICurve)} for all
+	 * pairs of {@link ICurve}s, the {@link BezierCurve}s of the {@link ICurve}s
+	 * are split into x- and y-monotone pieces, whose (tight) bounds are
+	 * processed by a sweep along the x axis, so that only the
+	 * {@link BezierCurve}s with touching bounds are intersected (using
+	 * {@link BezierCurve#getIntersections(BezierCurve)}). Therefore, the costs
+	 * mainly depend on the number of {@link BezierCurve}s that are close to
+	 * each other (instead of the number of pairs).
+	 *
+	 * @param curves
+	 *            the {@link ICurve}s to intersect
+	 * @return a {@link CurveIntersection} for each pair of intersecting
+	 *         {@link ICurve}s, ordered by the indices of the {@link ICurve}s
+	 * @see CurveIntersection#getAll(List)
+	 */
+	public static List<CurveIntersection> getAllIntersections(
+			List<? extends ICurve> curves) {
+		// determine the monotone pieces of all beziers
+		double padding = PrecisionUtils.calculateFraction(-1);
+		List<BezierCurve> beziers = new ArrayList<>();
+		List<MonotoneBox> boxes = new ArrayList<>();
+		for (int i = 0; i < curves.size(); i++) {
+			for (BezierCurve bezier : curves.get(i).toBezier()) {
+				addMonotoneBoxes(i, beziers.size(), bezier, padding, boxes);
+				beziers.add(bezier);
+			}
+		}
+
+		// sweep over the boxes (by ascending minimum x coordinate) to find
+		// the candidate pairs of beziers of different curves
+		boxes.sort(Comparator.comparingDouble(b -> b.minX));
+		long n = beziers.size();
+		Set<Long> candidates = new TreeSet<>();
+		List<MonotoneBox> active = new ArrayList<>();
+		for (MonotoneBox box : boxes) {
+			for (int i = active.size() - 1; i >= 0; i--) {
+				MonotoneBox other = active.get(i);
+				if (other.maxX < box.minX) {
+					// left of the sweep line
+					active.set(i, active.get(active.size() - 1));
+					active.remove(active.size() - 1);
+				} else if (other.curve != box.curve && other.minY <= box.maxY
+						&& box.minY <= other.maxY) {
+					candidates.add(Math.min(box.bezier, other.bezier) * n
+							+ Math.max(box.bezier, other.bezier));
+				}
+			}
+			active.add(box);
+		}
+
+		// intersect the candidate beziers, and group the intersection points
+		// by curve pair
+		int[] curveIndices = new int[beziers.size()];
+		for (MonotoneBox box : boxes) {
+			curveIndices[box.bezier] = box.curve;
+		}
+		long m = curves.size();
+		Map<Long, List<Point>> intersections = new TreeMap<>();
+		for (long candidate : candidates) {
+			int b1 = (int) (candidate / n);
+			int b2 = (int) (candidate % n);
+			Point[] points = beziers.get(b1).getIntersections(beziers.get(b2));
+			if (points.length == 0) {
+				continue;
+			}
+			int c1 = Math.min(curveIndices[b1], curveIndices[b2]);
+			int c2 = Math.max(curveIndices[b1], curveIndices[b2]);
+			List<Point> list = intersections.computeIfAbsent(c1 * m + c2,
+					k -> new ArrayList<>());
+			for (Point p : points) {
+				// points are compared imprecisely (and cannot be hashed)
+				if (!list.contains(p)) {
+					list.add(p);
+				}
+			}
+		}
+
+		List<CurveIntersection> result = new ArrayList<>(
+				intersections.size());
+		for (Map.Entry<Long, List<Point>> e : intersections.entrySet()) {
+			int c1 = (int) (e.getKey() / m);
+			int c2 = (int) (e.getKey() % m);
+			result.add(new CurveIntersection(c1, curves.get(c1), c2,
+					curves.get(c2), e.getValue().toArray(new Point[] {})));
+		}
+		return result;
+	}
+
+	/**
+	 * Computes an adaptive polygonal approximation of the given (connected)
+	 * {@link BezierCurve}s, whose maximum distance to the curves does not
+	 * exceed the given flatness. In case the curves are closed, the end point
+	 * of the last curve (which coincides with the start point of the first
+	 * curve) is omitted.
+	 *
+	 * @param curves
+	 *            the {@link BezierCurve}s to approximate
+	 * @param flatness
+	 *            the maximum distance between the curves and their
+	 *            approximation
+	 * @param closed
+	 *            <code>true</code> if the curves form a closed outline,
+	 *            otherwise <code>false</code>
+	 * @return a {@link PointBuffer} containing the approximation
+	 */
+	static PointBuffer flatten(BezierCurve[] curves, double flatness,
+			boolean closed) {
+		if (!(flatness > 0)) {
+			throw new IllegalArgumentException(
+					"The given flatness has to be positive: " + flatness);
+		}
+		PointBuffer buffer = new PointBuffer();
+		if (curves.length > 0) {
+			buffer.add(curves[0].getP1());
+			for (BezierCurve c : curves) {
+				c.flatten(flatness, buffer);
+			}
+		}
+		if (closed && buffer.size() > 1) {
+			return new PointBuffer(Arrays.copyOf(buffer.getCoordinates(),
+					2 * (buffer.size() - 1)));
+		}
+		return buffer.trimToSize();
+	}
+
 	/**
 	 * Creates copies of the given {@link BezierCurve}s.
 	 *
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2016 itemis AG and others.
+ * Copyright (c) 2012, 2026 itemis AG and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -32,6 +32,20 @@ public class CurvedPolygon extends AbstractGeometry
 	private static final long serialVersionUID = 1L;
 	private BezierCurve[] edges;
 
+	/**
+	 * The lazily computed bounds of this {@link CurvedPolygon}, which are
+	 * discarded whenever this {@link CurvedPolygon} is changed.
+	 */
+	private transient Rectangle bounds;
+
+	/**
+	 * The lazily computed polygonal approximation of this
+	 * {@link CurvedPolygon} and the flatness for which it was computed, which
+	 * are discarded whenever this {@link CurvedPolygon} is changed.
+	 */
+	private transient PointBuffer flattened;
+	private transient double flattenedFlatness;
+
 	/**
 	 * Constructs a new {@link CurvedPolygon} from the given {@link BezierCurve}
 	 * s. Subsequent {@link BezierCurve}s need to be connected with each other
@@ -210,12 +224,16 @@ public class CurvedPolygon extends AbstractGeometry
 			return new Rectangle();
 		}
 
-		Rectangle bounds = edges[0].getBounds();
-		for (int i = 1; i < edges.length; i++) {
-			bounds.union(edges[i].getBounds());
+		Rectangle cached = bounds;
+		if (cached == null) {
+			cached = edges[0].getBounds();
+			for (int i = 1; i < edges.length; i++) {
+				cached.union(edges[i].getBounds());
+			}
+			bounds = cached;
 		}
 
-		return bounds;
+		return cached.getCopy();
 	}
 
 	/**
@@ -334,6 +352,15 @@ public class CurvedPolygon extends AbstractGeometry
 		return getTranslated(d.x, d.y);
 	}
 
+	/**
+	 * Discards the cached bounds and polygonal approximation of this
+	 * {@link CurvedPolygon}.
+	 */
+	private void invalidateCaches() {
+		bounds = null;
+		flattened = null;
+	}
+
 	private boolean isAboveP(BezierCurve seg, Point p) {
 		for (Point cp : seg.getPoints()) {
 			if (cp.y >= p.y) {
@@ -411,6 +438,7 @@ public class CurvedPolygon extends AbstractGeometry
 		for (BezierCurve c : edges) {
 			c.rotateCCW(angle, cx, cy);
 		}
+		invalidateCaches();
 		return this;
 	}
 
@@ -459,6 +487,7 @@ public class CurvedPolygon extends AbstractGeometry
 		for (BezierCurve c : edges) {
 			c.rotateCW(angle, cx, cy);
 		}
+		invalidateCaches();
 		return this;
 	}
 
@@ -498,6 +527,7 @@ public class CurvedPolygon extends AbstractGeometry
 		for (BezierCurve c : edges) {
 			c.scale(fx, fy, cx, cy);
 		}
+		invalidateCaches();
 		return this;
 	}
 
@@ -516,6 +546,29 @@ public class CurvedPolygon extends AbstractGeometry
 		return CurveUtils.toPath(edges).close();
 	}
 
+	/**
+	 * Returns an adaptive polygonal approximation of this
+	 * {@link CurvedPolygon}, whose maximum distance to the outline of this
+	 * {@link CurvedPolygon} does not exceed the given flatness. The
+	 * approximation is cached, so that subsequent calls for the same flatness
+	 * are cheap until this {@link CurvedPolygon} is changed.
+	 *
+	 * @param flatness
+	 *            the maximum distance between the outline of this
+	 *            {@link CurvedPolygon} and the returned {@link Polygon}, which
+	 *            has to be positive
+	 * @return a {@link Polygon} approximating this {@link CurvedPolygon}
+	 */
+	public Polygon toPolygon(double flatness) {
+		PointBuffer buffer = flattened;
+		if (buffer == null || flattenedFlatness != flatness) {
+			buffer = CurveUtils.flatten(edges, flatness, true);
+			flattened = buffer;
+			flattenedFlatness = flatness;
+		}
+		return new Polygon(buffer);
+	}
+
 	@Override
 	public String toString() {
 		String s = "CurvedPolygon(";
@@ -534,6 +587,7 @@ public class CurvedPolygon extends AbstractGeometry
 		for (BezierCurve c : edges) {
 			c.translate(dx, dy);
 		}
+		invalidateCaches();
 		return this;
 	}
 
@@ -0,0 +1,331 @@
+/*******************************************************************************
+ * Copyright (c) 2026 itemis AG and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     itemis AG - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.geometry.planar;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * A {@link LooseQuadTree} is a {@link SpatialIndex} that recursively divides
+ * the plane into quadrants. In contrast to a regular quad tree, the bounds of
+ * each cell are enlarged to twice their size, so that each element can be
+ * stored in the (smallest) cell that contains its center and whose size is at
+ * least the size of the element. Therefore, the cell of an element can be
+ * determined in constant time per level, independent of the other elements,
+ * which makes {@link #update(Object, IGeometry) updates} of moving elements
+ * cheap. The root cell grows automatically to cover all elements.
+ *
+ * @param <T>
+ *            The type of the indexed elements.
+ */
+public class LooseQuadTree<T> implements SpatialIndex<T> {
+
+	/**
+	 * A candidate of a nearest neighbor search, either a {@link Node} or an
+	 * {@link Entry}.
+	 */
+	private static final class Candidate {
+		final double distance;
+		final Object item;
+
+		Candidate(double distance, Object item) {
+			this.distance = distance;
+			this.item = item;
+		}
+	}
+
+	/**
+	 * An element and its bounds.
+	 */
+	private static final class Entry<T> {
+		final T element;
+		double minX, minY, maxX, maxY;
+		Node<T> node;
+		int index;
+
+		Entry(T element) {
+			this.element = element;
+		}
+
+		void set(Rectangle r) {
+			minX = r.getX();
+			minY = r.getY();
+			maxX = r.getX() + r.getWidth();
+			maxY = r.getY() + r.getHeight();
+		}
+	}
+
+	/**
+	 * A cell, specified by its center and half size (of the tight bounds).
+	 */
+	private static final class Node<T> {
+		final double cx, cy, half;
+		Node<T> parent;
+		@SuppressWarnings({ "unchecked", "rawtypes" })
+		final Node<T>[] children = new Node[4];
+		final List<Entry<T>> entries = new ArrayList<>(4);
+		// number of entries within this node and its descendants
+		int count;
+
+		Node(double cx, double cy, double half) {
+			this.cx = cx;
+			this.cy = cy;
+			this.half = half;
+		}
+
+		double distanceSquared(double x, double y) {
+			double dx = Math.max(Math.abs(x - cx) - 2 * half, 0);
+			double dy = Math.max(Math.abs(y - cy) - 2 * half, 0);
+			return dx * dx + dy * dy;
+		}
+
+		int quadrant(double x, double y) {
+			return (x >= cx ? 1 : 0) | (y >= cy ? 2 : 0);
+		}
+
+		boolean touches(double x0, double y0, double x1, double y1) {
+			double loose = 2 * half;
+			return cx - loose <= x1 && x0 <= cx + loose && cy - loose <= y1
+					&& y0 <= cy + loose;
+		}
+	}
+
+	// the maximum depth (relative to the root) at which elements are placed
+	private static final int MAX_DEPTH = 24;
+
+	private static double distanceSquared(Entry<?> e, double x, double y) {
+		double dx = Math.max(Math.max(e.minX - x, x - e.maxX), 0);
+		double dy = Math.max(Math.max(e.minY - y, y - e.maxY), 0);
+		return dx * dx + dy * dy;
+	}
+
+	private Node<T> root;
+	private final Map<T, Entry<T>> entries = new IdentityHashMap<>();
+
+	/**
+	 * Constructs a new, empty {@link LooseQuadTree}.
+	 */
+	public LooseQuadTree() {
+	}
+
+	@Override
+	public void clear() {
+		root = null;
+		entries.clear();
+	}
+
+	@Override
+	public boolean contains(T element) {
+		return entries.containsKey(element);
+	}
+
+	/**
+	 * Removes the given {@link Entry} from its node, and removes nodes that
+	 * became empty.
+	 */
+	private void detach(Entry<T> entry) {
+		Node<T> node = entry.node;
+		List<Entry<T>> list = node.entries;
+		Entry<T> last = list.remove(list.size() - 1);
+		if (last != entry) {
+			list.set(entry.index, last);
+			last.index = entry.index;
+		}
+		entry.node = null;
+		for (Node<T> n = node; n != null; n = n.parent) {
+			n.count--;
+		}
+		while (node.count == 0 && node.parent != null) {
+			Node<T> parent = node.parent;
+			parent.children[parent.quadrant(node.cx, node.cy)] = null;
+			node = parent;
+		}
+	}
+
+	private void grow(double x, double y) {
+		Node<T> old = root;
+		double cx = old.cx + (x >= old.cx ? old.half : -old.half);
+		double cy = old.cy + (y >= old.cy ? old.half : -old.half);
+		root = new Node<>(cx, cy, 2 * old.half);
+		root.children[root.quadrant(old.cx, old.cy)] = old;
+		root.count = old.count;
+		old.parent = root;
+	}
+
+	@Override
+	public void insert(T element, IGeometry geometry) {
+		checkNotNull(element, geometry);
+		Entry<T> entry = entries.get(element);
+		if (entry == null) {
+			entry = new Entry<>(element);
+			entries.put(element, entry);
+		} else {
+			detach(entry);
+		}
+		entry.set(geometry.getBounds());
+		place(entry);
+	}
+
+	private void checkNotNull(Object element, IGeometry geometry) {
+		if (element == null) {
+			throw new IllegalArgumentException(
+					"The given element may not be null.");
+		}
+		if (geometry == null) {
+			throw new IllegalArgumentException(
+					"The given geometry may not be null.");
+		}
+	}
+
+	/**
+	 * Inserts the given {@link Entry} into the smallest cell that contains its
+	 * center and whose (loose) bounds contain its bounds.
+	 */
+	private void place(Entry<T> entry) {
+		double x = (entry.minX + entry.maxX) / 2;
+		double y = (entry.minY + entry.maxY) / 2;
+		double extent = Math.max(entry.maxX - entry.minX,
+				entry.maxY - entry.minY) / 2;
+		if (root == null) {
+			root = new Node<>(x, y, extent > 0 ? extent : 1);
+		}
+		while (Math.abs(x - root.cx) > root.half
+				|| Math.abs(y - root.cy) > root.half || extent > root.half) {
+			grow(x, y);
+		}
+		double minHalf = Math.scalb(root.half, -MAX_DEPTH);
+		Node<T> node = root;
+		node.count++;
+		while (node.half / 2 >= extent && node.half / 2 >= minHalf) {
+			int q = node.quadrant(x, y);
+			Node<T> child = node.children[q];
+			if (child == null) {
+				double offset = node.half / 2;
+				child = new Node<>(node.cx + ((q & 1) != 0 ? offset : -offset),
+						node.cy + ((q & 2) != 0 ? offset : -offset), offset);
+				child.parent = node;
+				node.children[q] = child;
+			}
+			node = child;
+			node.count++;
+		}
+		entry.node = node;
+		entry.index = node.entries.size();
+		node.entries.add(entry);
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public List<T> queryNearest(Point point, int k) {
+		List<T> result = new ArrayList<>(Math.max(0, Math.min(k, size())));
+		if (k <= 0 || root == null) {
+			return result;
+		}
+		PriorityQueue<Candidate> queue = new PriorityQueue<>(
+				Comparator.comparingDouble(c -> c.distance));
+		queue.add(new Candidate(0, root));
+		while (!queue.isEmpty()) {
+			Object item = queue.poll().item;
+			if (item instanceof Entry) {
+				result.add(((Entry<T>) item).element);
+				if (result.size() == k) {
+					break;
+				}
+			} else {
+				Node<T> node = (Node<T>) item;
+				for (Entry<T> e : node.entries) {
+					queue.add(new Candidate(
+							distanceSquared(e, point.x, point.y), e));
+				}
+				for (Node<T> child : node.children) {
+					if (child != null && child.count > 0) {
+						queue.add(new Candidate(
+								child.distanceSquared(point.x, point.y),
+								child));
+					}
+				}
+			}
+		}
+		return result;
+	}
+
+	@Override
+	public List<T> queryPoint(Point point) {
+		return query(point.x, point.y, point.x, point.y);
+	}
+
+	private List<T> query(double x0, double y0, double x1, double y1) {
+		List<T> result = new ArrayList<>();
+		if (root == null) {
+			return result;
+		}
+		Deque<Node<T>> stack = new ArrayDeque<>();
+		stack.push(root);
+		while (!stack.isEmpty()) {
+			Node<T> node = stack.pop();
+			if (node.count == 0 || !node.touches(x0, y0, x1, y1)) {
+				continue;
+			}
+			for (Entry<T> e : node.entries) {
+				if (e.minX <= x1 && x0 <= e.maxX && e.minY <= y1
+						&& y0 <= e.maxY) {
+					result.add(e.element);
+				}
+			}
+			for (Node<T> child : node.children) {
+				if (child != null) {
+					stack.push(child);
+				}
+			}
+		}
+		return result;
+	}
+
+	@Override
+	public List<T> queryRange(Rectangle range) {
+		return query(range.getX(), range.getY(),
+				range.getX() + range.getWidth(),
+				range.getY() + range.getHeight());
+	}
+
+	@Override
+	public boolean remove(T element) {
+		Entry<T> entry = entries.remove(element);
+		if (entry == null) {
+			return false;
+		}
+		detach(entry);
+		if (entries.isEmpty()) {
+			root = null;
+		}
+		return true;
+	}
+
+	@Override
+	public int size() {
+		return entries.size();
+	}
+
+	@Override
+	public void update(T element, IGeometry geometry) {
+		insert(element, geometry);
+	}
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2017 itemis AG and others.
+ * Copyright (c) 2011, 2026 itemis AG and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -13,10 +13,10 @@
  *******************************************************************************/
 package org.eclipse.gef.geometry.planar;
 
-import java.awt.geom.Area;
 import java.awt.geom.Path2D;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 import org.eclipse.gef.geometry.convert.awt.AWT2Geometry;
@@ -31,6 +31,12 @@ import org.eclipse.gef.geometry.internal.utils.PrecisionUtils;
  * class are based on double precision, all comparisons (e.g. within contains,
  * intersects, equals, etc.) are based on a limited precision (with an accuracy
  * defined within {@link PrecisionUtils}) to compensate for rounding effects.
+ * <p>
+ * The boolean operations ({@link #add(Path, Path)},
+ * {@link #exclusiveOr(Path, Path)}, {@link #intersect(Path, Path)}, and
+ * {@link #subtract(Path, Path)}) approximate curved segments by straight line
+ * segments, i.e. their results only consist of {@link Segment#MOVE_TO},
+ * {@link Segment#LINE_TO}, and {@link Segment#CLOSE} segments.
  *
  * @author anyssen
  *
@@ -245,6 +251,21 @@ public class Path extends AbstractGeometry implements IGeometry {
 
 	private static final long serialVersionUID = 1L;
 
+	/**
+	 * Returned by the crossing computations if the point lies on the outline.
+	 */
+	private static final int ON_OUTLINE = Integer.MIN_VALUE;
+
+	/**
+	 * The maximum recursion depth when subdividing curves.
+	 */
+	private static final int MAX_SUBDIVISIONS = 32;
+
+	/**
+	 * The maximum number of line segments by which a curve is approximated.
+	 */
+	private static final int MAX_FLATTENING_SEGMENTS = 1024;
+
 	/**
 	 * Unions the two specified {@link Path}s
 	 *
@@ -255,10 +276,7 @@ public class Path extends AbstractGeometry implements IGeometry {
 	 * @return the sum of the areas
 	 */
 	public static Path add(Path pa, Path pb) {
-		Area a = new Area(Geometry2AWT.toAWTPath(pa));
-		Area b = new Area(Geometry2AWT.toAWTPath(pb));
-		a.add(b);
-		return AWT2Geometry.toPath(new Path2D.Double(a));
+		return PolygonClipper.compute(pa, pb, PolygonClipper.UNION);
 	}
 
 	/**
@@ -272,10 +290,7 @@ public class Path extends AbstractGeometry implements IGeometry {
 	 * @return the exclusive-or of the areas
 	 */
 	public static Path exclusiveOr(Path pa, Path pb) {
-		Area a = new Area(Geometry2AWT.toAWTPath(pa));
-		Area b = new Area(Geometry2AWT.toAWTPath(pb));
-		a.exclusiveOr(b);
-		return AWT2Geometry.toPath(new Path2D.Double(a));
+		return PolygonClipper.compute(pa, pb, PolygonClipper.EXCLUSIVE_OR);
 	}
 
 	/**
@@ -289,10 +304,7 @@ public class Path extends AbstractGeometry implements IGeometry {
 	 *         areas
 	 */
 	public static Path intersect(Path pa, Path pb) {
-		Area a = new Area(Geometry2AWT.toAWTPath(pa));
-		Area b = new Area(Geometry2AWT.toAWTPath(pb));
-		a.intersect(b);
-		return AWT2Geometry.toPath(new Path2D.Double(a));
+		return PolygonClipper.compute(pa, pb, PolygonClipper.INTERSECTION);
 	}
 
 	/**
@@ -305,16 +317,28 @@ public class Path extends AbstractGeometry implements IGeometry {
 	 * @return the area covered by the first but not the second given area
 	 */
 	public static Path subtract(Path pa, Path pb) {
-		Area a = new Area(Geometry2AWT.toAWTPath(pa));
-		Area b = new Area(Geometry2AWT.toAWTPath(pb));
-		a.subtract(b);
-		return AWT2Geometry.toPath(new Path2D.Double(a));
+		return PolygonClipper.compute(pa, pb, PolygonClipper.DIFFERENCE);
 	}
 
 	private int windingRule = WIND_NON_ZERO;
 
 	private List<Segment> segments = new ArrayList<>();
 
+	/**
+	 * The lazily computed bounds of this {@link Path}, which are discarded
+	 * whenever a {@link Segment} is added or the {@link Path} is reset.
+	 */
+	private transient Rectangle bounds;
+
+	/**
+	 * The lazily computed polygonal rings of this {@link Path} and the
+	 * flatness for which they were computed (see {@link #toRings(double)}),
+	 * which are discarded whenever a {@link Segment} is added or the
+	 * {@link Path} is reset.
+	 */
+	private transient List<double[]> rings;
+	private transient double ringsFlatness;
+
 	/**
 	 * Creates a new empty path with a default winding rule of
 	 * {@link #WIND_NON_ZERO}.
@@ -361,27 +385,30 @@ public class Path extends AbstractGeometry implements IGeometry {
 	}
 
 	/**
-	 * Adds the given {@link List} of {@link Segment}s to this {@link Path}.
+	 * Adds copies of the given {@link List} of {@link Segment}s to this
+	 * {@link Path}.
 	 *
 	 * @param segments
 	 *            The {@link Segment}s to add to this {@link Path}.
 	 * @return <code>this</code> for convenience.
 	 */
 	public final Path add(List<Segment> segments) {
-		this.segments.addAll(segments);
+		for (Segment s : segments) {
+			this.segments.add(s.getCopy());
+		}
+		invalidateCaches();
 		return this;
 	}
 
 	/**
-	 * Adds the given {@link Segment}s to this {@link Path}.
+	 * Adds copies of the given {@link Segment}s to this {@link Path}.
 	 *
 	 * @param segments
 	 *            The {@link Segment}s to add to this {@link Path}.
 	 * @return <code>this</code> for convenience.
 	 */
 	public final Path add(Segment... segments) {
-		this.segments.addAll(Arrays.asList(segments));
-		return this;
+		return add(Arrays.asList(segments));
 	}
 
 	/**
@@ -392,13 +419,78 @@ public class Path extends AbstractGeometry implements IGeometry {
 	 */
 	public final Path close() {
 		segments.add(new Segment(Segment.CLOSE));
+		invalidateCaches();
 		return this;
 	}
 
 	@Override
 	public boolean contains(Point p) {
-		return Geometry2AWT.toAWTPath(this)
-				.contains(Geometry2AWT.toAWTPoint(p));
+		// determine the winding number of the point by summing up the signed
+		// crossings of a ray that is cast from the point into positive x
+		// direction; points on the outline are regarded to be contained
+		int winding = 0;
+		double moveToX = 0;
+		double moveToY = 0;
+		double x = 0;
+		double y = 0;
+		boolean open = false;
+		for (Segment s : segments) {
+			Point[] points = s.points;
+			int crossings = 0;
+			switch (s.type) {
+			case Segment.MOVE_TO:
+				if (open) {
+					// implicitly close the previous sub-path
+					crossings = getCrossings(p, x, y, moveToX, moveToY);
+				}
+				moveToX = x = points[0].x;
+				moveToY = y = points[0].y;
+				open = false;
+				break;
+			case Segment.LINE_TO:
+				crossings = getCrossings(p, x, y, points[0].x, points[0].y);
+				x = points[0].x;
+				y = points[0].y;
+				open = true;
+				break;
+			case Segment.QUAD_TO:
+				crossings = getCrossings(p, new double[] { x, y, points[0].x,
+						points[0].y, points[1].x, points[1].y }, 0);
+				x = points[1].x;
+				y = points[1].y;
+				open = true;
+				break;
+			case Segment.CUBIC_TO:
+				crossings = getCrossings(p,
+						new double[] { x, y, points[0].x, points[0].y,
+								points[1].x, points[1].y, points[2].x,
+								points[2].y },
+						0);
+				x = points[2].x;
+				y = points[2].y;
+				open = true;
+				break;
+			case Segment.CLOSE:
+				crossings = getCrossings(p, x, y, moveToX, moveToY);
+				x = moveToX;
+				y = moveToY;
+				open = false;
+				break;
+			}
+			if (crossings == ON_OUTLINE) {
+				return true;
+			}
+			winding += crossings;
+		}
+		if (open) {
+			int crossings = getCrossings(p, x, y, moveToX, moveToY);
+			if (crossings == ON_OUTLINE) {
+				return true;
+			}
+			winding += crossings;
+		}
+		return windingRule == WIND_EVEN_ODD ? (winding & 1) != 0
+				: winding != 0;
 	}
 
 	/**
@@ -441,6 +533,7 @@ public class Path extends AbstractGeometry implements IGeometry {
 		segments.add(
 				new Segment(Segment.CUBIC_TO, new Point(control1X, control1Y),
 						new Point(control2X, control2Y), new Point(x, y)));
+		invalidateCaches();
 		return this;
 	}
 
@@ -459,15 +552,19 @@ public class Path extends AbstractGeometry implements IGeometry {
 
 	@Override
 	public Rectangle getBounds() {
-		List<ICurve> outlines = getOutlines();
-		if (outlines.size() > 0) {
-			Rectangle outlineBounds = outlines.get(0).getBounds();
-			for (int i = 1; i < outlines.size(); i++) {
-				outlineBounds.union(outlines.get(i).getBounds());
+		Rectangle cached = bounds;
+		if (cached == null) {
+			List<ICurve> outlines = getOutlines();
+			cached = new Rectangle();
+			if (outlines.size() > 0) {
+				cached = outlines.get(0).getBounds();
+				for (int i = 1; i < outlines.size(); i++) {
+					cached.union(outlines.get(i).getBounds());
+				}
 			}
-			return outlineBounds;
+			bounds = cached;
 		}
-		return new Rectangle();
+		return cached.getCopy();
 	}
 
 	@Override
@@ -554,6 +651,124 @@ public class Path extends AbstractGeometry implements IGeometry {
 						Geometry2AWT.toAWTAffineTransform(t)));
 	}
 
+	/**
+	 * Returns the signed number of crossings of the given (quadratic or cubic)
+	 * Bézier curve with the ray that is cast from the given {@link Point} into
+	 * positive x direction, or {@link #ON_OUTLINE} if the {@link Point} lies
+	 * on the curve. The curve is only subdivided near the {@link Point}.
+	 */
+	private static int getCrossings(Point p, double[] c, int depth) {
+		int n = c.length;
+		double minX = c[0];
+		double maxX = c[0];
+		double minY = c[1];
+		double maxY = c[1];
+		for (int i = 2; i < n; i += 2) {
+			minX = Math.min(minX, c[i]);
+			maxX = Math.max(maxX, c[i]);
+			minY = Math.min(minY, c[i + 1]);
+			maxY = Math.max(maxY, c[i + 1]);
+		}
+		if (!PrecisionUtils.greaterEqual(maxX, p.x)
+				|| !PrecisionUtils.greaterEqual(maxY, p.y)
+				|| !PrecisionUtils.smallerEqual(minY, p.y)) {
+			return 0;
+		}
+		if (!PrecisionUtils.smallerEqual(minX, p.x)) {
+			// the curve is completely right of the point, so that only its
+			// end points are relevant
+			return getCrossings(c[1], c[n - 1], p.y);
+		}
+		boolean flat = true;
+		for (int i = 2; i < n - 2 && flat; i += 2) {
+			flat = PrecisionUtils.equal(getDistance(c[i], c[i + 1], c[0], c[1],
+					c[n - 2], c[n - 1]), 0);
+		}
+		if (flat || depth == MAX_SUBDIVISIONS) {
+			return getCrossings(p, c[0], c[1], c[n - 2], c[n - 1]);
+		}
+		// subdivide at t = 0.5 (de Casteljau)
+		double[] l = new double[n];
+		double[] r = new double[n];
+		double[] w = c.clone();
+		int degree = n / 2 - 1;
+		for (int k = 0; k <= degree; k++) {
+			l[2 * k] = w[0];
+			l[2 * k + 1] = w[1];
+			r[2 * (degree - k)] = w[2 * (degree - k)];
+			r[2 * (degree - k) + 1] = w[2 * (degree - k) + 1];
+			for (int i = 0; i < 2 * (degree - k); i++) {
+				w[i] = (w[i] + w[i + 2]) / 2;
+			}
+		}
+		int crossings = getCrossings(p, l, depth + 1);
+		if (crossings == ON_OUTLINE) {
+			return ON_OUTLINE;
+		}
+		int other = getCrossings(p, r, depth + 1);
+		return other == ON_OUTLINE ? ON_OUTLINE : crossings + other;
+	}
+
+	/**
+	 * Returns the signed number of crossings of the line from (x0, y0) to (x1,
+	 * y1) with the ray that is cast from the given {@link Point} into positive
+	 * x direction, or {@link #ON_OUTLINE} if the {@link Point} lies on the
+	 * line.
+	 */
+	private static int getCrossings(Point p, double x0, double y0, double x1,
+			double y1) {
+		if (PrecisionUtils.greaterEqual(Math.max(x0, x1), p.x)
+				&& PrecisionUtils.smallerEqual(Math.min(x0, x1), p.x)
+				&& PrecisionUtils.greaterEqual(Math.max(y0, y1), p.y)
+				&& PrecisionUtils.smallerEqual(Math.min(y0, y1), p.y)
+				&& PrecisionUtils.equal(getDistance(p.x, p.y, x0, y0, x1, y1),
+						0)) {
+			return ON_OUTLINE;
+		}
+		if (y0 <= p.y && p.y < y1 || y1 <= p.y && p.y < y0) {
+			double x = x0 + (p.y - y0) * (x1 - x0) / (y1 - y0);
+			if (x > p.x) {
+				return y0 < y1 ? 1 : -1;
+			}
+		}
+		return 0;
+	}
+
+	/**
+	 * Returns the signed number of crossings of a continuous curve from y0 to
+	 * y1, that is located right of a ray, with that ray at y.
+	 */
+	private static int getCrossings(double y0, double y1, double y) {
+		if (y0 <= y && y < y1) {
+			return 1;
+		}
+		if (y1 <= y && y < y0) {
+			return -1;
+		}
+		return 0;
+	}
+
+	/**
+	 * Returns the distance of (x, y) to the line through (x0, y0) and (x1,
+	 * y1), or to (x0, y0) if both coincide.
+	 */
+	private static double getDistance(double x, double y, double x0,
+			double y0, double x1, double y1) {
+		double dx = x1 - x0;
+		double dy = y1 - y0;
+		double length = Math.sqrt(dx * dx + dy * dy);
+		if (length == 0) {
+			return Math.hypot(x - x0, y - y0);
+		}
+		return Math.abs((x - x0) * dy - (y - y0) * dx) / length;
+	}
+
+	private static int getSubdivisions(double deviation, double flatness) {
+		// the deviation decreases quadratically with the number of segments
+		double n = Math.ceil(Math.sqrt(deviation / flatness));
+		return (int) Math.max(1, Math.min(MAX_FLATTENING_SEGMENTS, n));
+	}
+
 	/**
 	 * Returns the winding rule used to determine the interior of this path.
 	 *
@@ -564,6 +779,14 @@ public class Path extends AbstractGeometry implements IGeometry {
 		return windingRule;
 	}
 
+	/**
+	 * Discards the cached bounds and polygonal rings of this {@link Path}.
+	 */
+	private void invalidateCaches() {
+		bounds = null;
+		rings = null;
+	}
+
 	/**
 	 * Adds a straight line segment from the current position to the specified
 	 * end position.
@@ -576,6 +799,7 @@ public class Path extends AbstractGeometry implements IGeometry {
 	 */
 	public final Path lineTo(double x, double y) {
 		segments.add(new Segment(Segment.LINE_TO, new Point(x, y)));
+		invalidateCaches();
 		return this;
 	}
 
@@ -591,6 +815,7 @@ public class Path extends AbstractGeometry implements IGeometry {
 	 */
 	public final Path moveTo(double x, double y) {
 		segments.add(new Segment(Segment.MOVE_TO, new Point(x, y)));
+		invalidateCaches();
 		return this;
 	}
 
@@ -613,6 +838,7 @@ public class Path extends AbstractGeometry implements IGeometry {
 			double y) {
 		segments.add(new Segment(Segment.QUAD_TO, new Point(controlX, controlY),
 				new Point(x, y)));
+		invalidateCaches();
 		return this;
 	}
 
@@ -623,6 +849,7 @@ public class Path extends AbstractGeometry implements IGeometry {
 	 */
 	public final Path reset() {
 		segments.clear();
+		invalidateCaches();
 		return this;
 	}
 
@@ -643,6 +870,108 @@ public class Path extends AbstractGeometry implements IGeometry {
 		return this;
 	}
 
+	/**
+	 * Approximates the (implicitly closed) sub-paths of this {@link Path} by
+	 * polygonal rings. Curved segments are approximated by uniformly sampled
+	 * line segments, whose maximum distance to the curve does not exceed the
+	 * given flatness.
+	 *
+	 * <p>
+	 * The rings are cached for the given flatness until this {@link Path} is
+	 * changed, therefore, they may not be modified by the caller.
+	 *
+	 * @param flatness
+	 *            The maximum distance between a curve and its approximation.
+	 * @return A {@link List} of rings, each given by its alternating x and y
+	 *         coordinates.
+	 */
+	List<double[]> toRings(double flatness) {
+		List<double[]> cached = rings;
+		if (cached == null || ringsFlatness != flatness) {
+			cached = Collections.unmodifiableList(computeRings(flatness));
+			rings = cached;
+			ringsFlatness = flatness;
+		}
+		return cached;
+	}
+
+	private List<double[]> computeRings(double flatness) {
+		List<double[]> rings = new ArrayList<>();
+		double[] ring = new double[16];
+		int size = 0;
+		double moveToX = 0;
+		double moveToY = 0;
+		boolean started = false;
+		for (Segment s : segments) {
+			Point[] points = s.points;
+			if (s.type == Segment.MOVE_TO || s.type == Segment.CLOSE) {
+				if (size > 4) {
+					rings.add(Arrays.copyOf(ring, size));
+				}
+				if (s.type == Segment.MOVE_TO) {
+					moveToX = points[0].x;
+					moveToY = points[0].y;
+					started = true;
+				}
+				// a subsequent segment starts at the last move-to position
+				ring[0] = moveToX;
+				ring[1] = moveToY;
+				size = 2;
+				continue;
+			}
+			if (!started) {
+				throw new IllegalStateException(
+						"This Path does not start with a MOVE_TO, therefore, no start position could be determined.");
+			}
+			double x0 = ring[size - 2];
+			double y0 = ring[size - 1];
+			int n = 1;
+			if (s.type == Segment.QUAD_TO) {
+				// the deviation is at most |p0 - 2c + p1| / (4n^2)
+				double m = Math.hypot(x0 - 2 * points[0].x + points[1].x,
+						y0 - 2 * points[0].y + points[1].y);
+				n = getSubdivisions(m / 4, flatness);
+			} else if (s.type == Segment.CUBIC_TO) {
+				// the deviation is at most 3 max|p(i) - 2p(i+1) + p(i+2)| /
+				// (4n^2)
+				double m = Math.max(
+						Math.hypot(x0 - 2 * points[0].x + points[1].x,
+								y0 - 2 * points[0].y + points[1].y),
+						Math.hypot(points[0].x - 2 * points[1].x + points[2].x,
+								points[0].y - 2 * points[1].y + points[2].y));
+				n = getSubdivisions(3 * m / 4, flatness);
+			}
+			if (ring.length < size + 2 * n) {
+				ring = Arrays.copyOf(ring, Math.max(2 * ring.length,
+						size + 2 * n));
+			}
+			for (int i = 1; i < n; i++) {
+				double t = (double) i / n;
+				double u = 1 - t;
+				if (s.type == Segment.QUAD_TO) {
+					ring[size++] = u * u * x0 + 2 * u * t * points[0].x
+							+ t * t * points[1].x;
+					ring[size++] = u * u * y0 + 2 * u * t * points[0].y
+							+ t * t * points[1].y;
+				} else {
+					ring[size++] = u * u * u * x0 + 3 * u * u * t * points[0].x
+							+ 3 * u * t * t * points[1].x
+							+ t * t * t * points[2].x;
+					ring[size++] = u * u * u * y0 + 3 * u * u * t * points[0].y
+							+ 3 * u * t * t * points[1].y
+							+ t * t * t * points[2].y;
+				}
+			}
+			Point end = points[points.length - 1];
+			ring[size++] = end.x;
+			ring[size++] = end.y;
+		}
+		if (size > 4) {
+			rings.add(Arrays.copyOf(ring, size));
+		}
+		return rings;
+	}
+
 	/**
 	 * @see IGeometry#toPath()
 	 */
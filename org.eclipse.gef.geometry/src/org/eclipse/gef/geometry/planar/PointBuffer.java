@@ -0,0 +1,425 @@
+/*******************************************************************************
+ * Copyright (c) 2026 itemis AG and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     itemis AG - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.geometry.planar;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A {@link PointBuffer} is a growable sequence of {@link Point}s, which stores
+ * the alternating x and y coordinates of the {@link Point}s in a single
+ * <code>double</code> array (instead of referencing individual {@link Point}
+ * objects). Therefore, it requires less than half of the memory of a
+ * {@link Point} array, and its coordinates can be scanned and transformed
+ * without allocations.
+ * <p>
+ * {@link Point}s are only created on demand, i.e. when accessed via
+ * {@link #getPoint(int)}, {@link #toPoints()}, or the {@link #asList()} view.
+ * These {@link Point}s are copies, i.e. changing them does not change the
+ * {@link PointBuffer}.
+ * <p>
+ * {@link Polyline}s and {@link Polygon}s that are constructed from a
+ * {@link PointBuffer} store their coordinates in a {@link PointBuffer} until
+ * an operation requires individual {@link Point} objects.
+ */
+public final class PointBuffer implements Cloneable, Serializable {
+
+	private static final long serialVersionUID = 1L;
+
+	private double[] coordinates;
+	private int size;
+
+	/**
+	 * Constructs a new, empty {@link PointBuffer}.
+	 */
+	public PointBuffer() {
+		this(10);
+	}
+
+	/**
+	 * Constructs a new {@link PointBuffer} from an even-numbered sequence of
+	 * coordinates.
+	 *
+	 * @param coordinates
+	 *            an alternating, even-numbered sequence of x and y coordinates,
+	 *            representing the {@link Point}s of the new
+	 *            {@link PointBuffer}
+	 */
+	public PointBuffer(double... coordinates) {
+		this.size = coordinates.length / 2;
+		this.coordinates = Arrays.copyOf(coordinates, 2 * size);
+	}
+
+	/**
+	 * Constructs a new, empty {@link PointBuffer} with the given initial
+	 * capacity.
+	 *
+	 * @param initialCapacity
+	 *            the number of {@link Point}s that can be added without
+	 *            growing the underlying array
+	 */
+	public PointBuffer(int initialCapacity) {
+		if (initialCapacity < 0) {
+			throw new IllegalArgumentException(
+					"The given capacity may not be negative: "
+							+ initialCapacity);
+		}
+		coordinates = new double[2 * initialCapacity];
+	}
+
+	/**
+	 * Constructs a new {@link PointBuffer} from the given {@link Point}s.
+	 *
+	 * @param points
+	 *            the {@link Point}s of the new {@link PointBuffer}
+	 */
+	public PointBuffer(Point... points) {
+		this(points.length);
+		for (Point p : points) {
+			add(p.x, p.y);
+		}
+	}
+
+	/**
+	 * Appends the {@link Point} specified by the given coordinates to this
+	 * {@link PointBuffer}.
+	 *
+	 * @param x
+	 *            the x coordinate of the {@link Point} to append
+	 * @param y
+	 *            the y coordinate of the {@link Point} to append
+	 * @return <code>this</code> for convenience
+	 */
+	public PointBuffer add(double x, double y) {
+		if (2 * size == coordinates.length) {
+			coordinates = Arrays.copyOf(coordinates,
+					Math.max(4, 2 * coordinates.length));
+		}
+		coordinates[2 * size] = x;
+		coordinates[2 * size + 1] = y;
+		size++;
+		return this;
+	}
+
+	/**
+	 * Appends (the coordinates of) the given {@link Point} to this
+	 * {@link PointBuffer}.
+	 *
+	 * @param point
+	 *            the {@link Point} to append
+	 * @return <code>this</code> for convenience
+	 */
+	public PointBuffer add(Point point) {
+		return add(point.x, point.y);
+	}
+
+	/**
+	 * Returns an unmodifiable {@link List} view of this {@link PointBuffer}.
+	 * The {@link Point}s of the view are created on demand (as copies), and
+	 * changes of this {@link PointBuffer} are reflected by the view.
+	 *
+	 * @return an unmodifiable {@link List} view of this {@link PointBuffer}
+	 */
+	public List<Point> asList() {
+		return new AbstractList<Point>() {
+			@Override
+			public Point get(int index) {
+				return getPoint(index);
+			}
+
+			@Override
+			public int size() {
+				return size;
+			}
+		};
+	}
+
+	private void checkIndex(int i) {
+		if (i < 0 || i >= size) {
+			throw new IllegalArgumentException(
+					"You can only index this PointBuffer's points from 0 to "
+							+ (size - 1) + ": " + i);
+		}
+	}
+
+	/**
+	 * Removes all {@link Point}s from this {@link PointBuffer}.
+	 *
+	 * @return <code>this</code> for convenience
+	 */
+	public PointBuffer clear() {
+		size = 0;
+		return this;
+	}
+
+	@Override
+	public PointBuffer clone() {
+		return getCopy();
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (obj == this) {
+			return true;
+		}
+		if (!(obj instanceof PointBuffer)) {
+			return false;
+		}
+		PointBuffer o = (PointBuffer) obj;
+		if (o.size != size) {
+			return false;
+		}
+		for (int i = 0; i < 2 * size; i++) {
+			// consistent with hashCode()
+			if (Double.compare(coordinates[i], o.coordinates[i]) != 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Returns the smallest {@link Rectangle} that contains all {@link Point}s
+	 * of this {@link PointBuffer}.
+	 *
+	 * @return the bounds of this {@link PointBuffer}
+	 * @see Point#getBounds(Point...)
+	 */
+	public Rectangle getBounds() {
+		if (size == 0) {
+			return new Rectangle();
+		}
+		double minX = coordinates[0];
+		double minY = coordinates[1];
+		double maxX = minX;
+		double maxY = minY;
+		for (int i = 2; i < 2 * size; i += 2) {
+			minX = Math.min(minX, coordinates[i]);
+			maxX = Math.max(maxX, coordinates[i]);
+			minY = Math.min(minY, coordinates[i + 1]);
+			maxY = Math.max(maxY, coordinates[i + 1]);
+		}
+		return new Rectangle(minX, minY, maxX - minX, maxY - minY);
+	}
+
+	/**
+	 * Computes the centroid of the {@link Point}s of this {@link PointBuffer}
+	 * (see {@link Point#getCentroid(Point...)}).
+	 *
+	 * @return the centroid of this {@link PointBuffer}, or <code>null</code>
+	 *         if it is empty
+	 */
+	public Point getCentroid() {
+		return Point.getCentroid(toPoints());
+	}
+
+	/**
+	 * Returns a copy of the alternating x and y coordinates of the
+	 * {@link Point}s of this {@link PointBuffer}.
+	 *
+	 * @return an array that alternately contains the x and y coordinates of
+	 *         the {@link Point}s of this {@link PointBuffer}
+	 */
+	public double[] getCoordinates() {
+		return Arrays.copyOf(coordinates, 2 * size);
+	}
+
+	/**
+	 * Returns a copy of this {@link PointBuffer}.
+	 *
+	 * @return a copy of this {@link PointBuffer}
+	 */
+	public PointBuffer getCopy() {
+		return new PointBuffer(getCoordinates());
+	}
+
+	/**
+	 * Returns a new {@link Point} for the coordinates at the given index.
+	 *
+	 * @param i
+	 *            the index of the {@link Point}
+	 * @return a new {@link Point} with the coordinates at the given index
+	 */
+	public Point getPoint(int i) {
+		checkIndex(i);
+		return new Point(coordinates[2 * i], coordinates[2 * i + 1]);
+	}
+
+	/**
+	 * Returns the x coordinate of the {@link Point} at the given index.
+	 *
+	 * @param i
+	 *            the index of the {@link Point}
+	 * @return the x coordinate of the {@link Point} at the given index
+	 */
+	public double getX(int i) {
+		checkIndex(i);
+		return coordinates[2 * i];
+	}
+
+	/**
+	 * Returns the y coordinate of the {@link Point} at the given index.
+	 *
+	 * @param i
+	 *            the index of the {@link Point}
+	 * @return the y coordinate of the {@link Point} at the given index
+	 */
+	public double getY(int i) {
+		checkIndex(i);
+		return coordinates[2 * i + 1];
+	}
+
+	@Override
+	public int hashCode() {
+		int hash = size;
+		for (int i = 0; i < 2 * size; i++) {
+			hash = 31 * hash + Double.hashCode(coordinates[i]);
+		}
+		return hash;
+	}
+
+	/**
+	 * Returns <code>true</code> if this {@link PointBuffer} does not contain
+	 * any {@link Point}s, otherwise <code>false</code>.
+	 *
+	 * @return <code>true</code> if this {@link PointBuffer} is empty
+	 */
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Scales the {@link Point}s of this {@link PointBuffer} by the given
+	 * factors, relative to the given center.
+	 *
+	 * @param fx
+	 *            the horizontal scale factor
+	 * @param fy
+	 *            the vertical scale factor
+	 * @param cx
+	 *            the x coordinate of the scale center
+	 * @param cy
+	 *            the y coordinate of the scale center
+	 * @return <code>this</code> for convenience
+	 * @see Point#scale(double, double, double, double)
+	 */
+	public PointBuffer scale(double fx, double fy, double cx, double cy) {
+		for (int i = 0; i < 2 * size; i += 2) {
+			coordinates[i] = (coordinates[i] - cx) * fx + cx;
+			coordinates[i + 1] = (coordinates[i + 1] - cy) * fy + cy;
+		}
+		return this;
+	}
+
+	/**
+	 * Sets the coordinates of the {@link Point} at the given index.
+	 *
+	 * @param i
+	 *            the index of the {@link Point}
+	 * @param x
+	 *            the new x coordinate
+	 * @param y
+	 *            the new y coordinate
+	 * @return <code>this</code> for convenience
+	 */
+	public PointBuffer set(int i, double x, double y) {
+		checkIndex(i);
+		coordinates[2 * i] = x;
+		coordinates[2 * i + 1] = y;
+		return this;
+	}
+
+	/**
+	 * Returns the number of {@link Point}s within this {@link PointBuffer}.
+	 *
+	 * @return the number of {@link Point}s
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Returns new {@link Point}s for the coordinates of this
+	 * {@link PointBuffer}.
+	 *
+	 * @return an array of new {@link Point}s
+	 */
+	public Point[] toPoints() {
+		Point[] points = new Point[size];
+		for (int i = 0; i < size; i++) {
+			points[i] = new Point(coordinates[2 * i], coordinates[2 * i + 1]);
+		}
+		return points;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder str = new StringBuilder("PointBuffer[");
+		for (int i = 0; i < size; i++) {
+			if (i > 0) {
+				str.append(", ");
+			}
+			str.append("(" + coordinates[2 * i] + ", " + coordinates[2 * i + 1]
+					+ ")");
+		}
+		return str.append("]").toString();
+	}
+
+	/**
+	 * Transforms the {@link Point}s of this {@link PointBuffer} in-place with
+	 * the given {@link AffineTransform}.
+	 *
+	 * @param t
+	 *            the {@link AffineTransform} to apply
+	 * @return <code>this</code> for convenience
+	 * @see AffineTransform#transform(double[], int, double[], int, int)
+	 */
+	public PointBuffer transform(AffineTransform t) {
+		t.transform(coordinates, 0, coordinates, 0, size);
+		return this;
+	}
+
+	/**
+	 * Translates the {@link Point}s of this {@link PointBuffer} by the given
+	 * offsets.
+	 *
+	 * @param dx
+	 *            the horizontal offset
+	 * @param dy
+	 *            the vertical offset
+	 * @return <code>this</code> for convenience
+	 */
+	public PointBuffer translate(double dx, double dy) {
+		for (int i = 0; i < 2 * size; i += 2) {
+			coordinates[i] += dx;
+			coordinates[i + 1] += dy;
+		}
+		return this;
+	}
+
+	/**
+	 * Reduces the capacity of this {@link PointBuffer} to its size.
+	 *
+	 * @return <code>this</code> for convenience
+	 */
+	public PointBuffer trimToSize() {
+		if (coordinates.length > 2 * size) {
+			coordinates = Arrays.copyOf(coordinates, 2 * size);
+		}
+		return this;
+	}
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2016 itemis AG and others.
+ * Copyright (c) 2012, 2026 itemis AG and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -15,9 +15,9 @@ package org.eclipse.gef.geometry.planar;
 
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.List;
 
 import org.eclipse.gef.geometry.euclidean.Angle;
+import org.eclipse.gef.geometry.euclidean.Vector;
 import org.eclipse.gef.geometry.internal.utils.PointListUtils;
 
 /**
@@ -200,6 +200,28 @@ public class PolyBezier extends AbstractGeometry
 
 	private BezierCurve[] beziers;
 
+	/**
+	 * The lazily computed cumulative arc lengths at the end points of the
+	 * {@link BezierCurve}s, which are discarded whenever this
+	 * {@link PolyBezier} is scaled or transformed (translations and rotations
+	 * preserve the lengths).
+	 */
+	private transient double[] cumulativeLengths;
+
+	/**
+	 * The lazily computed bounds of this {@link PolyBezier}, which are
+	 * discarded whenever this {@link PolyBezier} is changed.
+	 */
+	private transient Rectangle bounds;
+
+	/**
+	 * The lazily computed polygonal approximation of this {@link PolyBezier}
+	 * and the flatness for which it was computed, which are discarded whenever
+	 * this {@link PolyBezier} is changed.
+	 */
+	private transient PointBuffer flattened;
+	private transient double flattenedFlatness;
+
 	/**
 	 * Constructs a new {@link PolyBezier} of the given {@link BezierCurve}s.
 	 * The {@link BezierCurve}s are expected to be connected with each other.
@@ -240,13 +262,16 @@ public class PolyBezier extends AbstractGeometry
 			return new Rectangle();
 		}
 
-		Rectangle bounds = beziers[0].getBounds();
-
-		for (BezierCurve c : beziers) {
-			bounds.union(c.getBounds());
+		Rectangle cached = bounds;
+		if (cached == null) {
+			cached = beziers[0].getBounds();
+			for (BezierCurve c : beziers) {
+				cached.union(c.getBounds());
+			}
+			bounds = cached;
 		}
 
-		return bounds;
+		return cached.getCopy();
 	}
 
 	@Override
@@ -254,11 +279,44 @@ public class PolyBezier extends AbstractGeometry
 		return new PolyBezier(beziers);
 	}
 
+	/**
+	 * Returns the cumulative arc lengths at the end points of the
+	 * {@link BezierCurve}s of this {@link PolyBezier}, which are computed on
+	 * first access and cached until this {@link PolyBezier} is changed.
+	 *
+	 * @return the cumulative arc lengths of the {@link BezierCurve}s
+	 */
+	private double[] getCumulativeLengths() {
+		double[] lengths = cumulativeLengths;
+		if (lengths == null) {
+			lengths = new double[beziers.length];
+			double length = 0;
+			for (int i = 0; i < beziers.length; i++) {
+				length += beziers[i].getLength();
+				lengths[i] = length;
+			}
+			cumulativeLengths = lengths;
+		}
+		return lengths;
+	}
+
 	@Override
 	public Point[] getIntersections(ICurve c) {
 		return CurveUtils.getIntersections(this, c);
 	}
 
+	/**
+	 * Returns the arc length of this {@link PolyBezier}, i.e. the sum of the
+	 * arc lengths of its {@link BezierCurve}s (see
+	 * {@link BezierCurve#getLength()}).
+	 *
+	 * @return the arc length of this {@link PolyBezier}
+	 */
+	public double getLength() {
+		double[] lengths = getCumulativeLengths();
+		return lengths.length == 0 ? 0 : lengths[lengths.length - 1];
+	}
+
 	@Override
 
 	public ICurve[] getOverlaps(ICurve c) {
@@ -275,6 +333,25 @@ public class PolyBezier extends AbstractGeometry
 		return beziers[beziers.length - 1].getP2();
 	}
 
+	/**
+	 * Returns the {@link Point} on this {@link PolyBezier} at the given arc
+	 * length (measured from its start {@link Point}). The given length is
+	 * clamped to <code>[0;{@link #getLength()}]</code>.
+	 *
+	 * @param length
+	 *            the arc length at which to evaluate this {@link PolyBezier}
+	 * @return the {@link Point} on this {@link PolyBezier} at the given arc
+	 *         length, or <code>null</code> if this {@link PolyBezier} does not
+	 *         consist of any {@link BezierCurve}s
+	 */
+	public Point getPointAtLength(double length) {
+		if (beziers.length == 0) {
+			return null;
+		}
+		int i = getSegmentIndex(length);
+		return beziers[i].getPointAtLength(getSegmentLength(i, length));
+	}
+
 	@Override
 	public Point getProjection(Point reference) {
 		double minDistance = 0;
@@ -350,13 +427,62 @@ public class PolyBezier extends AbstractGeometry
 		return getCopy().scale(factor, center);
 	}
 
+	/**
+	 * Returns the index of the {@link BezierCurve} of this {@link PolyBezier}
+	 * at which the given arc length is reached. This {@link PolyBezier} has
+	 * to consist of at least one {@link BezierCurve}.
+	 *
+	 * @param length
+	 *            the arc length
+	 * @return the index of the {@link BezierCurve} at the given arc length
+	 */
+	private int getSegmentIndex(double length) {
+		double[] lengths = getCumulativeLengths();
+		int index = Arrays.binarySearch(lengths, length);
+		if (index < 0) {
+			index = -index - 1;
+		}
+		return Math.min(index, lengths.length - 1);
+	}
+
+	/**
+	 * Returns the given arc length relative to the start of the
+	 * {@link BezierCurve} at the given index.
+	 *
+	 * @param i
+	 *            the index of the {@link BezierCurve}
+	 * @param length
+	 *            the arc length (relative to the start of this
+	 *            {@link PolyBezier})
+	 * @return the arc length relative to the start of the {@link BezierCurve}
+	 */
+	private double getSegmentLength(int i, double length) {
+		return i == 0 ? length : length - getCumulativeLengths()[i - 1];
+	}
+
+	/**
+	 * Returns the unit tangent {@link Vector} of this {@link PolyBezier} at the
+	 * given arc length (measured from its start {@link Point}). The given
+	 * length is clamped to <code>[0;{@link #getLength()}]</code>.
+	 *
+	 * @param length
+	 *            the arc length at which to determine the tangent
+	 * @return the unit tangent {@link Vector} at the given arc length, or
+	 *         <code>null</code> if this {@link PolyBezier} does not consist of
+	 *         any {@link BezierCurve}s
+	 * @see BezierCurve#getTangentAtLength(double)
+	 */
+	public Vector getTangentAtLength(double length) {
+		if (beziers.length == 0) {
+			return null;
+		}
+		int i = getSegmentIndex(length);
+		return beziers[i].getTangentAtLength(getSegmentLength(i, length));
+	}
+
 	@Override
 	public PolyBezier getTransformed(AffineTransform t) {
-		List<BezierCurve> transformedCurves = new ArrayList<>();
-		for (BezierCurve c : beziers) {
-			transformedCurves.add(c.getTransformed(t));
-		}
-		return new PolyBezier(transformedCurves.toArray(new BezierCurve[] {}));
+		return new PolyBezier(beziers).transform(t);
 	}
 
 	@Override
@@ -389,6 +515,16 @@ public class PolyBezier extends AbstractGeometry
 		return getP2().y;
 	}
 
+	/**
+	 * Discards the cached bounds and polygonal approximation of this
+	 * {@link PolyBezier}. In contrast to the cumulative arc lengths, these are
+	 * affected by all transformations.
+	 */
+	private void invalidateShapeCaches() {
+		bounds = null;
+		flattened = null;
+	}
+
 	@Override
 	public boolean intersects(ICurve c) {
 		return CurveUtils.intersect(c, this);
@@ -435,6 +571,7 @@ public class PolyBezier extends AbstractGeometry
 		for (BezierCurve c : beziers) {
 			c.rotateCCW(angle, cx, cy);
 		}
+		invalidateShapeCaches();
 		return this;
 	}
 
@@ -489,6 +626,7 @@ public class PolyBezier extends AbstractGeometry
 		for (BezierCurve c : beziers) {
 			c.rotateCW(angle, cx, cy);
 		}
+		invalidateShapeCaches();
 		return this;
 	}
 
@@ -532,6 +670,8 @@ public class PolyBezier extends AbstractGeometry
 		for (BezierCurve c : beziers) {
 			c.scale(fx, fy, cx, cy);
 		}
+		cumulativeLengths = null;
+		invalidateShapeCaches();
 		return this;
 	}
 
@@ -555,6 +695,28 @@ public class PolyBezier extends AbstractGeometry
 		return CurveUtils.toPath(beziers);
 	}
 
+	/**
+	 * Returns an adaptive polygonal approximation of this {@link PolyBezier},
+	 * whose maximum distance to this {@link PolyBezier} does not exceed the
+	 * given flatness. The approximation is cached, so that subsequent calls
+	 * for the same flatness are cheap until this {@link PolyBezier} is
+	 * changed.
+	 *
+	 * @param flatness
+	 *            the maximum distance between this {@link PolyBezier} and the
+	 *            returned {@link Polyline}, which has to be positive
+	 * @return a {@link Polyline} approximating this {@link PolyBezier}
+	 */
+	public Polyline toPolyline(double flatness) {
+		PointBuffer buffer = flattened;
+		if (buffer == null || flattenedFlatness != flatness) {
+			buffer = CurveUtils.flatten(beziers, flatness, false);
+			flattened = buffer;
+			flattenedFlatness = flatness;
+		}
+		return new Polyline(buffer);
+	}
+
 	@Override
 	public String toString() {
 		StringBuffer str = new StringBuffer();
@@ -568,11 +730,32 @@ public class PolyBezier extends AbstractGeometry
 		return str + ")";
 	}
 
+	/**
+	 * Directly transforms this {@link PolyBezier} with the given
+	 * {@link AffineTransform}, i.e. the {@link BezierCurve}s of this
+	 * {@link PolyBezier} are transformed in-place (see
+	 * {@link BezierCurve#transform(AffineTransform)}).
+	 *
+	 * @param t
+	 *            the {@link AffineTransform} to apply
+	 * @return <code>this</code> for convenience
+	 * @see #getTransformed(AffineTransform)
+	 */
+	public PolyBezier transform(AffineTransform t) {
+		for (BezierCurve c : beziers) {
+			c.transform(t);
+		}
+		cumulativeLengths = null;
+		invalidateShapeCaches();
+		return this;
+	}
+
 	@Override
 	public PolyBezier translate(double dx, double dy) {
 		for (BezierCurve c : beziers) {
 			c.translate(dx, dy);
 		}
+		invalidateShapeCaches();
 		return this;
 	}
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2016 itemis AG and others.
+ * Copyright (c) 2011, 2026 itemis AG and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -20,7 +20,6 @@ import java.util.Comparator;
 import java.util.HashSet;
 import java.util.Set;
 
-import org.eclipse.gef.geometry.internal.utils.PointListUtils;
 import org.eclipse.gef.geometry.internal.utils.PrecisionUtils;
 
 /**
@@ -143,12 +142,12 @@ public class Polygon extends AbstractPointListBasedGeometry<Polygon>
 			throw new IllegalArgumentException(
 					"The given ear-list may not be null.");
 		}
-		if (p.points.length < 3) {
+		if (p.getPointCount() < 3) {
 			throw new IllegalArgumentException(
 					"The given Polygon may not have less than three vertices.");
 		}
 
-		if (p.points.length == 3) {
+		if (p.getPointCount() == 3) {
 			ears.add(p.getCopy());
 			return;
 		}
@@ -190,6 +189,21 @@ public class Polygon extends AbstractPointListBasedGeometry<Polygon>
 		super(points);
 	}
 
+	/**
+	 * Constructs a new {@link Polygon} from the {@link Point}s of the given
+	 * {@link PointBuffer}. The {@link Polygon} stores its coordinates in a
+	 * compact {@link PointBuffer} until an operation requires individual
+	 * {@link Point} objects, which is beneficial for {@link Polygon}s with
+	 * very many points.
+	 *
+	 * @param buffer
+	 *            the {@link PointBuffer} providing the points, from which the
+	 *            {@link Polygon} is to be created
+	 */
+	public Polygon(PointBuffer buffer) {
+		super(buffer);
+	}
+
 	/**
 	 * Assures that this {@link Polygon} is simple, i.e. it does not have any
 	 * self-intersections. We do not need to test for voids as they are not
@@ -198,27 +212,20 @@ public class Polygon extends AbstractPointListBasedGeometry<Polygon>
 	 * If the {@link Polygon} does not have at least three vertices, a
 	 * {@link IllegalStateException} is thrown.
 	 *
-	 * The edges are added to the {@link Polygon} one after the other. If a
-	 * self-intersection is found an {@link IllegalStateException} is thrown.
+	 * The outline segments are tested for intersection by a Shamos-Hoey sweep
+	 * (in <i>O(n log n)</i>). If a self-intersection is found an
+	 * {@link IllegalStateException} is thrown.
 	 */
 	private void assureSimplicity() {
+		Point[] points = points();
 		if (points.length < 3) {
 			throw new IllegalStateException(
 					"A polygon can only be constructed of at least 3 vertices.");
 		}
 
-		for (Line e1 : getOutlineSegments()) {
-			for (Line e2 : getOutlineSegments()) {
-				if (!e1.getP1().equals(e2.getP1())
-						&& !e1.getP2().equals(e2.getP1())
-						&& !e1.getP1().equals(e2.getP2())
-						&& !e1.getP2().equals(e2.getP2())) {
-					if (e1.touches(e2)) {
-						throw new IllegalStateException(
-								"Only simple polygons allowed. A polygon without any self-intersections is considered to be simple. This polygon is not simple.");
-					}
-				}
-			}
+		if (!PolygonTriangulator.isSimple(points)) {
+			throw new IllegalStateException(
+					"Only simple polygons allowed. A polygon without any self-intersections is considered to be simple. This polygon is not simple.");
 		}
 	}
 
@@ -307,6 +314,7 @@ public class Polygon extends AbstractPointListBasedGeometry<Polygon>
 	 */
 	@Override
 	public boolean contains(Point p) {
+		Point[] points = points();
 		if (points.length == 0) {
 			return false;
 		} else if (points.length == 1) {
@@ -485,7 +493,7 @@ public class Polygon extends AbstractPointListBasedGeometry<Polygon>
 	 *         the array of points are regarded to form the same segments.
 	 */
 	public boolean equals(Point[] points) {
-		if (points.length != this.points.length) {
+		if (points.length != getPointCount()) {
 			return false;
 		}
 
@@ -529,12 +537,13 @@ public class Polygon extends AbstractPointListBasedGeometry<Polygon>
 	 */
 	@Override
 	public Polygon getCopy() {
-		return new Polygon(getPoints());
+		PointBuffer buffer = buffer();
+		return buffer != null ? new Polygon(buffer) : new Polygon(points());
 	}
 
 	@Override
 	public Polyline getOutline() {
-		return new Polyline(PointListUtils.toSegmentsArray(points, true));
+		return new Polyline(segments(true));
 	}
 
 	/**
@@ -547,7 +556,7 @@ public class Polygon extends AbstractPointListBasedGeometry<Polygon>
 	 */
 	@Override
 	public Line[] getOutlineSegments() {
-		return PointListUtils.toSegmentsArray(points, true);
+		return segments(true);
 	}
 
 	/**
@@ -558,6 +567,23 @@ public class Polygon extends AbstractPointListBasedGeometry<Polygon>
 	 * @return the signed area of this {@link Polygon}
 	 */
 	public double getSignedArea() {
+		PointBuffer buffer = buffer();
+		if (buffer != null) {
+			// avoid the creation of points
+			int n = buffer.size();
+			if (n < 3) {
+				return 0;
+			}
+			double area = 0;
+			for (int i = 0; i < n; i++) {
+				int j = i + 1 < n ? i + 1 : 0;
+				area += buffer.getX(i) * buffer.getY(j)
+						- buffer.getY(i) * buffer.getX(j);
+			}
+			return area * 0.5;
+		}
+
+		Point[] points = points();
 		if (points.length < 3) {
 			return 0;
 		}
@@ -581,17 +607,25 @@ public class Polygon extends AbstractPointListBasedGeometry<Polygon>
 	@Override
 	public Polygon getTransformed(AffineTransform t) {
 		// shape type should remain polygon (not path)
-		return new Polygon(t.getTransformed(points));
+		return getCopy().transform(t);
 	}
 
 	/**
-	 * Naive, recursive ear-clipping algorithm to triangulate this simple,
-	 * planar {@link Polygon}.
+	 * Triangulates this simple, planar {@link Polygon} by partitioning it into
+	 * y-monotone pieces, which are triangulated separately (in <i>O(n log
+	 * n)</i>). Degenerate {@link Polygon}s (e.g. ones that touch themselves in
+	 * a vertex) are triangulated by a naive, recursive ear-clipping algorithm
+	 * instead.
 	 *
 	 * @return triangulation {@link Polygon}s (triangles)
 	 */
 	public Polygon[] getTriangulation() {
 		assureSimplicity();
+		Point[] points = points();
+		Polygon[] triangles = PolygonTriangulator.triangulate(points);
+		if (triangles != null) {
+			return triangles;
+		}
 		ArrayList<Polygon> ears = new ArrayList<>(points.length - 2);
 		triangulate(this, ears);
 		return ears.toArray(new Polygon[] {});
@@ -603,6 +637,22 @@ public class Polygon extends AbstractPointListBasedGeometry<Polygon>
 	@Override
 	public Path toPath() {
 		Path path = new Path();
+		PointBuffer buffer = buffer();
+		if (buffer != null) {
+			// avoid the creation of points
+			for (int i = 0; i < buffer.size(); i++) {
+				if (i == 0) {
+					path.moveTo(buffer.getX(i), buffer.getY(i));
+				} else {
+					path.lineTo(buffer.getX(i), buffer.getY(i));
+				}
+			}
+			if (!buffer.isEmpty()) {
+				path.close();
+			}
+			return path;
+		}
+		Point[] points = points();
 		if (points.length > 0) {
 			path.moveTo(points[0].x, points[0].y);
 			for (int i = 1; i < points.length; i++) {
@@ -616,6 +666,7 @@ public class Polygon extends AbstractPointListBasedGeometry<Polygon>
 	@Override
 	public String toString() {
 		StringBuffer stringBuffer = new StringBuffer("Polygon: ");
+		Point[] points = getPoints();
 		if (points.length > 0) {
 			for (int i = 0; i < points.length; i++) {
 				stringBuffer
@@ -0,0 +1,926 @@
+/*******************************************************************************
+ * Copyright (c) 2026 itemis AG and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     itemis AG - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.geometry.planar;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The {@link PolygonClipper} computes the boolean operations (union,
+ * intersection, difference, and exclusive-or) of two {@link Path}s, without
+ * delegating to <code>java.awt.geom.Area</code>. It follows the sweep-line
+ * approach of Martinez and Rueda:
+ * <ol>
+ * <li>The {@link Path}s are flattened into polygonal rings (curves are
+ * approximated by line segments, with a tolerance that is relative to the
+ * size of the operands, see {@link #RELATIVE_FLATNESS}).</li>
+ * <li>The edges of both operands are split at their mutual intersections,
+ * which are detected by a sweep over the edges in x-order, pruned by their
+ * bounds.</li>
+ * <li>A second sweep determines the winding numbers of both operands on either
+ * side of each (split) edge. An edge is part of the result if the result of
+ * the boolean operation differs on both of its sides.</li>
+ * <li>The resulting edges are oriented, so that the result lies on their left
+ * side, and are linked into closed rings.</li>
+ * </ol>
+ * The winding rules of both operands are respected. The resulting {@link Path}
+ * only consists of {@link Path.Segment#MOVE_TO}, {@link Path.Segment#LINE_TO},
+ * and {@link Path.Segment#CLOSE} segments. Its outer rings are oriented
+ * counter-clockwise (in a y-up coordinate system), and its holes are oriented
+ * clockwise, so that it can be filled using either winding rule.
+ */
+final class PolygonClipper {
+
+	private interface IntComparator {
+		int compare(int a, int b);
+	}
+
+	/**
+	 * The sweep status, i.e. the edges that intersect the sweep line, ordered
+	 * from bottom to top. It is maintained as a treap (a binary search tree
+	 * that is balanced by random priorities), so that edges are inserted and
+	 * removed in logarithmic (expected) time. The nodes of the treap are the
+	 * edge indices, and edges are removed by index, i.e. without comparisons.
+	 */
+	private final class SweepStatus {
+
+		private final int[] leftChild;
+		private final int[] rightChild;
+		private final int[] parent;
+		private final int[] priority;
+		private int root = -1;
+		private int seed = 0x2545F491;
+
+		private SweepStatus(int capacity) {
+			leftChild = new int[capacity];
+			rightChild = new int[capacity];
+			parent = new int[capacity];
+			priority = new int[capacity];
+		}
+
+		/**
+		 * Inserts the given edge.
+		 *
+		 * @param e
+		 *            The edge to insert.
+		 * @return The edge directly below the inserted edge, or
+		 *         <code>-1</code> if there is none.
+		 */
+		private int insert(int e) {
+			// xorshift
+			seed ^= seed << 13;
+			seed ^= seed >>> 17;
+			seed ^= seed << 5;
+			priority[e] = seed;
+			leftChild[e] = -1;
+			rightChild[e] = -1;
+			int p = -1;
+			int below = -1;
+			boolean isLeft = false;
+			for (int n = root; n >= 0;) {
+				p = n;
+				isLeft = isBelow(e, n);
+				if (isLeft) {
+					n = leftChild[n];
+				} else {
+					below = n;
+					n = rightChild[n];
+				}
+			}
+			parent[e] = p;
+			if (p < 0) {
+				root = e;
+			} else if (isLeft) {
+				leftChild[p] = e;
+			} else {
+				rightChild[p] = e;
+			}
+			while (parent[e] >= 0 && priority[e] < priority[parent[e]]) {
+				rotateUp(e);
+			}
+			return below;
+		}
+
+		/**
+		 * Removes the given edge, which has to be contained.
+		 *
+		 * @param e
+		 *            The edge to remove.
+		 */
+		private void remove(int e) {
+			// rotate the edge down until it is a leaf
+			while (leftChild[e] >= 0 || rightChild[e] >= 0) {
+				int l = leftChild[e];
+				int r = rightChild[e];
+				rotateUp(r < 0 || l >= 0 && priority[l] < priority[r] ? l : r);
+			}
+			int p = parent[e];
+			if (p < 0) {
+				root = -1;
+			} else if (leftChild[p] == e) {
+				leftChild[p] = -1;
+			} else {
+				rightChild[p] = -1;
+			}
+		}
+
+		// rotates the given node above its parent
+		private void rotateUp(int n) {
+			int p = parent[n];
+			int g = parent[p];
+			if (leftChild[p] == n) {
+				int c = rightChild[n];
+				leftChild[p] = c;
+				if (c >= 0) {
+					parent[c] = p;
+				}
+				rightChild[n] = p;
+			} else {
+				int c = leftChild[n];
+				rightChild[p] = c;
+				if (c >= 0) {
+					parent[c] = p;
+				}
+				leftChild[n] = p;
+			}
+			parent[p] = n;
+			parent[n] = g;
+			if (g < 0) {
+				root = n;
+			} else if (leftChild[g] == p) {
+				leftChild[g] = n;
+			} else {
+				rightChild[g] = n;
+			}
+		}
+	}
+
+	/**
+	 * Operation constant for the union of both operands.
+	 */
+	static final int UNION = 0;
+
+	/**
+	 * Operation constant for the intersection of both operands.
+	 */
+	static final int INTERSECTION = 1;
+
+	/**
+	 * Operation constant for the difference of both operands.
+	 */
+	static final int DIFFERENCE = 2;
+
+	/**
+	 * Operation constant for the exclusive-or of both operands.
+	 */
+	static final int EXCLUSIVE_OR = 3;
+
+	/**
+	 * The maximum distance between a curve and the line segments by which it
+	 * is approximated, relative to the size (i.e. the maximum extent of the
+	 * united bounds) of both operands.
+	 */
+	static final double RELATIVE_FLATNESS = 1e-3;
+
+	/**
+	 * The maximum number of passes to split the edges at their intersections.
+	 * Usually, all intersections are resolved by two or three passes, as only
+	 * the pieces of split edges can intersect anew (due to the snapping of
+	 * intersection points). If the intersections are not resolved after the
+	 * maximum number of passes, the vertices are snapped to a coarser grid
+	 * (see {@link #coarsen()}), and the passes are started anew.
+	 */
+	private static final int MAX_SPLIT_PASSES = 64;
+
+	/**
+	 * The maximum number of times the snapping grid is coarsened (by a factor
+	 * of 16 each) when the intersections cannot be resolved. Afterwards, the
+	 * remaining intersections are ignored.
+	 */
+	private static final int MAX_COARSENINGS = 4;
+
+	/**
+	 * Computes the given boolean operation of the given {@link Path}s.
+	 *
+	 * @param pa
+	 *            The first operand.
+	 * @param pb
+	 *            The second operand.
+	 * @param operation
+	 *            One of {@link #UNION}, {@link #INTERSECTION},
+	 *            {@link #DIFFERENCE}, or {@link #EXCLUSIVE_OR}.
+	 * @return A new {@link Path} representing the result of the operation.
+	 */
+	static Path compute(Path pa, Path pb, int operation) {
+		PolygonClipper clipper = new PolygonClipper(operation,
+				pa.getWindingRule(), pb.getWindingRule());
+		double flatness = getFlatness(pa, pb);
+		clipper.addRings(pa.toRings(flatness), 0);
+		clipper.addRings(pb.toRings(flatness), 1);
+		return clipper.compute();
+	}
+
+	private static double getFlatness(Path pa, Path pb) {
+		// (the bounds of an empty path are located at the origin)
+		Rectangle bounds = pa.getSegments().length == 0 ? pb.getBounds()
+				: pb.getSegments().length == 0 ? pa.getBounds()
+						: pa.getBounds().union(pb.getBounds());
+		double size = Math.max(bounds.getWidth(), bounds.getHeight());
+		return size > 0 ? RELATIVE_FLATNESS * size : RELATIVE_FLATNESS;
+	}
+
+	private static int[] grow(int[] array, int size) {
+		if (size < array.length) {
+			return array;
+		}
+		int[] grown = new int[Math.max(16, array.length * 2)];
+		System.arraycopy(array, 0, grown, 0, array.length);
+		return grown;
+	}
+
+	private static double[] grow(double[] array, int size) {
+		if (size < array.length) {
+			return array;
+		}
+		double[] grown = new double[Math.max(16, array.length * 2)];
+		System.arraycopy(array, 0, grown, 0, array.length);
+		return grown;
+	}
+
+	private static int hash(double x, double y) {
+		// (+ 0.0 normalizes -0.0)
+		long bits = Double.doubleToLongBits(x + 0.0) * 31
+				+ Double.doubleToLongBits(y + 0.0);
+		int h = (int) (bits ^ bits >>> 32) * 0x9E3779B9;
+		return h ^ h >>> 16;
+	}
+
+	private static void sort(int[] values, int size, IntComparator comparator) {
+		int[] buffer = new int[size];
+		mergeSort(values, buffer, 0, size, comparator);
+	}
+
+	private static void mergeSort(int[] values, int[] buffer, int from,
+			int to, IntComparator comparator) {
+		if (to - from < 8) {
+			// insertion sort for small ranges
+			for (int i = from + 1; i < to; i++) {
+				int v = values[i];
+				int j = i - 1;
+				while (j >= from && comparator.compare(values[j], v) > 0) {
+					values[j + 1] = values[j];
+					j--;
+				}
+				values[j + 1] = v;
+			}
+			return;
+		}
+		int mid = (from + to) >>> 1;
+		mergeSort(values, buffer, from, mid, comparator);
+		mergeSort(values, buffer, mid, to, comparator);
+		if (comparator.compare(values[mid - 1], values[mid]) <= 0) {
+			return;
+		}
+		System.arraycopy(values, from, buffer, from, to - from);
+		int i = from;
+		int j = mid;
+		for (int k = from; k < to; k++) {
+			if (j >= to || i < mid
+					&& comparator.compare(buffer[i], buffer[j]) <= 0) {
+				values[k] = buffer[i++];
+			} else {
+				values[k] = buffer[j++];
+			}
+		}
+	}
+
+	private static void sort(int[] values, int size, double[] keys) {
+		int[] buffer = new int[size];
+		mergeSort(values, buffer, 0, size, keys);
+	}
+
+	private static void mergeSort(int[] values, int[] buffer, int from,
+			int to, double[] keys) {
+		if (to - from < 8) {
+			// insertion sort for small ranges
+			for (int i = from + 1; i < to; i++) {
+				int v = values[i];
+				double key = keys[v];
+				int j = i - 1;
+				while (j >= from && keys[values[j]] > key) {
+					values[j + 1] = values[j];
+					j--;
+				}
+				values[j + 1] = v;
+			}
+			return;
+		}
+		int mid = (from + to) >>> 1;
+		mergeSort(values, buffer, from, mid, keys);
+		mergeSort(values, buffer, mid, to, keys);
+		if (keys[values[mid - 1]] <= keys[values[mid]]) {
+			return;
+		}
+		System.arraycopy(values, from, buffer, from, to - from);
+		int i = from;
+		int j = mid;
+		for (int k = from; k < to; k++) {
+			if (j >= to
+					|| i < mid && keys[buffer[i]] <= keys[buffer[j]]) {
+				values[k] = buffer[i++];
+			} else {
+				values[k] = buffer[j++];
+			}
+		}
+	}
+
+	private final int operation;
+	private final int[] windingRules;
+
+	// the vertices
+	private double[] vx = new double[64];
+	private double[] vy = new double[64];
+	private int vertexCount;
+	private double maxCoordinate;
+	private double epsilon;
+	private double quantum;
+	// hash table to identify vertices with equal coordinates
+	private int[] vertexTable = new int[128];
+
+	// the edges, given by their lexicographically smaller (left) and greater
+	// (right) vertex, and their winding number contributions per operand
+	private int[] left = new int[64];
+	private int[] right = new int[64];
+	private int[] windA = new int[64];
+	private int[] windB = new int[64];
+	private int edgeCount;
+
+	// the vertices at which the edges are to be split, as linked lists per
+	// edge
+	private int[] splitHead;
+	private int[] splitNext = new int[64];
+	private int[] splitVertex = new int[64];
+	private int splitCount;
+	// the edges that were changed by the last pass (null for the first
+	// pass)
+	private boolean[] changed;
+
+	private PolygonClipper(int operation, int windingRuleA,
+			int windingRuleB) {
+		Arrays.fill(vertexTable, -1);
+		this.operation = operation;
+		this.windingRules = new int[] { windingRuleA, windingRuleB };
+	}
+
+	private int addEdge(int l, int r, int wa, int wb) {
+		left = grow(left, edgeCount);
+		right = grow(right, edgeCount);
+		windA = grow(windA, edgeCount);
+		windB = grow(windB, edgeCount);
+		left[edgeCount] = l;
+		right[edgeCount] = r;
+		windA[edgeCount] = wa;
+		windB[edgeCount] = wb;
+		return edgeCount++;
+	}
+
+	private void addRings(List<double[]> rings, int operand) {
+		for (double[] ring : rings) {
+			int n = ring.length / 2;
+			if (n < 3) {
+				continue;
+			}
+			int[] vertices = new int[n];
+			for (int i = 0; i < n; i++) {
+				vertices[i] = addVertex(ring[2 * i], ring[2 * i + 1]);
+			}
+			for (int i = 0; i < n; i++) {
+				int s = vertices[i];
+				int t = vertices[(i + 1) % n];
+				int w = operand == 0 ? 1 : 0;
+				if (less(s, t)) {
+					addEdge(s, t, w, 1 - w);
+				} else if (less(t, s)) {
+					addEdge(t, s, -w, w - 1);
+				}
+			}
+		}
+	}
+
+	private int addVertex(double x, double y) {
+		if (2 * vertexCount >= vertexTable.length) {
+			vertexTable = new int[2 * vertexTable.length];
+			Arrays.fill(vertexTable, -1);
+			for (int v = 0; v < vertexCount; v++) {
+				int h = hash(vx[v], vy[v]) & (vertexTable.length - 1);
+				while (vertexTable[h] >= 0) {
+					h = (h + 1) & (vertexTable.length - 1);
+				}
+				vertexTable[h] = v;
+			}
+		}
+		int h = hash(x, y) & (vertexTable.length - 1);
+		while (vertexTable[h] >= 0) {
+			int v = vertexTable[h];
+			if (vx[v] == x && vy[v] == y) {
+				return v;
+			}
+			h = (h + 1) & (vertexTable.length - 1);
+		}
+		vx = grow(vx, vertexCount);
+		vy = grow(vy, vertexCount);
+		vx[vertexCount] = x;
+		vy[vertexCount] = y;
+		vertexTable[h] = vertexCount;
+		maxCoordinate = Math.max(maxCoordinate,
+				Math.max(Math.abs(x), Math.abs(y)));
+		return vertexCount++;
+	}
+
+	/**
+	 * Snaps all vertices to a grid that is 16 times coarser than the current
+	 * one, so that close intersection points (that cause the pieces of split
+	 * edges to intersect anew) are merged. Edges that are collapsed to a
+	 * single vertex are removed, and all edges are tested for intersections in
+	 * the next pass.
+	 */
+	private void coarsen() {
+		quantum *= 16;
+		epsilon *= 16;
+		double[] x = Arrays.copyOf(vx, vertexCount);
+		double[] y = Arrays.copyOf(vy, vertexCount);
+		int[] map = new int[vertexCount];
+		Arrays.fill(vertexTable, -1);
+		vertexCount = 0;
+		for (int v = 0; v < map.length; v++) {
+			map[v] = addVertex(snap(x[v]), snap(y[v]));
+		}
+		int count = 0;
+		for (int e = 0; e < edgeCount; e++) {
+			int l = map[left[e]];
+			int r = map[right[e]];
+			if (l == r) {
+				continue;
+			}
+			boolean inverted = less(r, l);
+			left[count] = inverted ? r : l;
+			right[count] = inverted ? l : r;
+			windA[count] = inverted ? -windA[e] : windA[e];
+			windB[count] = inverted ? -windB[e] : windB[e];
+			count++;
+		}
+		edgeCount = count;
+		changed = null;
+	}
+
+	private int compareVertices(int a, int b) {
+		int c = Double.compare(vx[a], vx[b]);
+		return c != 0 ? c : Double.compare(vy[a], vy[b]);
+	}
+
+	private Path compute() {
+		if (edgeCount == 0) {
+			return new Path();
+		}
+		epsilon = 1e-9 * Math.max(1, maxCoordinate);
+		// intersection points are snapped to a grid (with a power of two
+		// spacing), so that nearby intersection points are identified
+		quantum = Math.scalb(1.0, Math.getExponent(epsilon));
+		int pass = 0;
+		int coarsenings = 0;
+		while (splitEdges()) {
+			if (++pass == MAX_SPLIT_PASSES) {
+				if (coarsenings++ == MAX_COARSENINGS) {
+					// the remaining intersections are not resolved
+					break;
+				}
+				coarsen();
+				pass = 0;
+			}
+		}
+		mergeEdges();
+		return toPath(sweep());
+	}
+
+	private boolean contains(int operand, int winding) {
+		return windingRules[operand] == Path.WIND_EVEN_ODD
+				? (winding & 1) != 0 : winding != 0;
+	}
+
+	private boolean isBelow(int s, int t) {
+		// s is inserted into the sweep status, t is contained in it
+		int ls = left[s];
+		int lt = left[t];
+		if (ls == lt) {
+			return orient(lt, right[t], right[s]) < 0;
+		}
+		double o = orient(lt, right[t], ls);
+		if (o == 0) {
+			o = orient(lt, right[t], right[s]);
+		}
+		return o < 0;
+	}
+
+	private boolean isOnInterior(int p, int a, int b) {
+		if (p == a || p == b) {
+			return false;
+		}
+		double dx = vx[b] - vx[a];
+		double dy = vy[b] - vy[a];
+		double px = vx[p] - vx[a];
+		double py = vy[p] - vy[a];
+		double lengthSquared = dx * dx + dy * dy;
+		double cross = px * dy - py * dx;
+		if (cross * cross > epsilon * epsilon * lengthSquared) {
+			return false;
+		}
+		double length = Math.sqrt(lengthSquared);
+		double projection = (px * dx + py * dy) / length;
+		return projection > epsilon && projection < length - epsilon;
+	}
+
+	private boolean isResult(boolean a, boolean b) {
+		switch (operation) {
+		case UNION:
+			return a || b;
+		case INTERSECTION:
+			return a && b;
+		case DIFFERENCE:
+			return a && !b;
+		default:
+			return a != b;
+		}
+	}
+
+	private boolean less(int a, int b) {
+		return compareVertices(a, b) < 0;
+	}
+
+	private void mergeEdges() {
+		// combine coincident edges and drop those that do not contribute
+		Map<Long, Integer> edges = new HashMap<>();
+		int count = 0;
+		for (int e = 0; e < edgeCount; e++) {
+			if (left[e] == right[e]) {
+				continue;
+			}
+			Long key = Long.valueOf((long) left[e] * vertexCount + right[e]);
+			Integer existing = edges.get(key);
+			if (existing == null) {
+				edges.put(key, count);
+				left[count] = left[e];
+				right[count] = right[e];
+				windA[count] = windA[e];
+				windB[count] = windB[e];
+				count++;
+			} else {
+				windA[existing] += windA[e];
+				windB[existing] += windB[e];
+			}
+		}
+		edgeCount = 0;
+		for (int e = 0; e < count; e++) {
+			if (windA[e] != 0 || windB[e] != 0) {
+				left[edgeCount] = left[e];
+				right[edgeCount] = right[e];
+				windA[edgeCount] = windA[e];
+				windB[edgeCount] = windB[e];
+				edgeCount++;
+			}
+		}
+	}
+
+	private double orient(int a, int b, int c) {
+		return (vx[b] - vx[a]) * (vy[c] - vy[a])
+				- (vy[b] - vy[a]) * (vx[c] - vx[a]);
+	}
+
+	private void addSplit(int e, int v) {
+		splitNext = grow(splitNext, splitCount);
+		splitVertex = grow(splitVertex, splitCount);
+		splitVertex[splitCount] = v;
+		splitNext[splitCount] = splitHead[e];
+		splitHead[e] = splitCount++;
+	}
+
+	private boolean intersect(int i, int j) {
+		int a0 = left[i];
+		int a1 = right[i];
+		int b0 = left[j];
+		int b1 = right[j];
+		// end points on the interior of the other edge (also covers
+		// overlapping collinear edges)
+		boolean split = false;
+		if (isOnInterior(b0, a0, a1)) {
+			addSplit(i, b0);
+			split = true;
+		}
+		if (isOnInterior(b1, a0, a1)) {
+			addSplit(i, b1);
+			split = true;
+		}
+		if (isOnInterior(a0, b0, b1)) {
+			addSplit(j, a0);
+			split = true;
+		}
+		if (isOnInterior(a1, b0, b1)) {
+			addSplit(j, a1);
+			split = true;
+		}
+		if (split || a0 == b0 || a0 == b1 || a1 == b0 || a1 == b1) {
+			return split;
+		}
+		// proper crossing
+		double d0 = orient(a0, a1, b0);
+		double d1 = orient(a0, a1, b1);
+		if (d0 > 0 && d1 > 0 || d0 < 0 && d1 < 0 || d0 == 0 || d1 == 0) {
+			return false;
+		}
+		double d2 = orient(b0, b1, a0);
+		double d3 = orient(b0, b1, a1);
+		if (d2 > 0 && d3 > 0 || d2 < 0 && d3 < 0 || d2 == 0 || d3 == 0) {
+			return false;
+		}
+		double t = d2 / (d2 - d3);
+		int v = addVertex(snap(vx[a0] + t * (vx[a1] - vx[a0])),
+				snap(vy[a0] + t * (vy[a1] - vy[a0])));
+		if (v == a0 || v == a1 || v == b0 || v == b1) {
+			return false;
+		}
+		addSplit(i, v);
+		addSplit(j, v);
+		return true;
+	}
+
+	private double snap(double c) {
+		return Math.rint(c / quantum) * quantum;
+	}
+
+	private boolean splitEdges() {
+		// sweep over the edges in x-order, testing each edge against the
+		// active edges, i.e. those that overlap it in x
+		int[] order = new int[edgeCount];
+		for (int e = 0; e < edgeCount; e++) {
+			order[e] = e;
+		}
+		double[] leftX = new double[edgeCount];
+		for (int e = 0; e < edgeCount; e++) {
+			leftX[e] = vx[left[e]];
+		}
+		sort(order, edgeCount, leftX);
+		splitHead = new int[edgeCount];
+		Arrays.fill(splitHead, -1);
+		splitCount = 0;
+		// the active edges and their extents (in contiguous arrays for a fast
+		// rejection)
+		int[] active = new int[16];
+		double[] activeMaxX = new double[16];
+		double[] activeMinY = new double[16];
+		double[] activeMaxY = new double[16];
+		int activeCount = 0;
+		boolean split = false;
+		for (int k = 0; k < edgeCount; k++) {
+			int i = order[k];
+			double minX = vx[left[i]] - epsilon;
+			double minY = Math.min(vy[left[i]], vy[right[i]]) - epsilon;
+			double maxY = Math.max(vy[left[i]], vy[right[i]]) + epsilon;
+			boolean changedI = changed == null || changed[i];
+			int retained = 0;
+			for (int a = 0; a < activeCount; a++) {
+				if (activeMaxX[a] < minX) {
+					continue;
+				}
+				int j = active[a];
+				active[retained] = j;
+				activeMaxX[retained] = activeMaxX[a];
+				activeMinY[retained] = activeMinY[a];
+				activeMaxY[retained] = activeMaxY[a];
+				retained++;
+				if (activeMinY[a] <= maxY && activeMaxY[a] >= minY
+						&& (changedI || changed[j])) {
+					split |= intersect(i, j);
+				}
+			}
+			activeCount = retained;
+			if (activeCount == active.length) {
+				active = grow(active, activeCount);
+				activeMaxX = grow(activeMaxX, activeCount);
+				activeMinY = grow(activeMinY, activeCount);
+				activeMaxY = grow(activeMaxY, activeCount);
+			}
+			active[activeCount] = i;
+			activeMaxX[activeCount] = vx[right[i]];
+			activeMinY[activeCount] = minY + epsilon;
+			activeMaxY[activeCount] = maxY - epsilon;
+			activeCount++;
+		}
+		if (!split) {
+			return false;
+		}
+		// replace the edges by their pieces, which are (only) tested against
+		// each other in the next pass
+		int originalCount = edgeCount;
+		changed = new boolean[edgeCount + splitCount];
+		for (int e = 0; e < originalCount; e++) {
+			if (splitHead[e] < 0) {
+				continue;
+			}
+			changed[e] = true;
+			int l = left[e];
+			int r = right[e];
+			double dx = vx[r] - vx[l];
+			double dy = vy[r] - vy[l];
+			int n = 0;
+			for (int s = splitHead[e]; s >= 0; s = splitNext[s]) {
+				n++;
+			}
+			int[] vertices = new int[n];
+			double[] parameters = new double[n];
+			int[] sorted = new int[n];
+			n = 0;
+			for (int s = splitHead[e]; s >= 0; s = splitNext[s]) {
+				int v = splitVertex[s];
+				vertices[n] = v;
+				parameters[n] = (vx[v] - vx[l]) * dx + (vy[v] - vy[l]) * dy;
+				sorted[n] = n;
+				n++;
+			}
+			sort(sorted, n, parameters);
+			int previous = l;
+			int wa = windA[e];
+			int wb = windB[e];
+			right[e] = vertices[sorted[0]];
+			for (int s = 0; s < n; s++) {
+				int v = vertices[sorted[s]];
+				if (s > 0 && v != previous) {
+					addEdge(previous, v, wa, wb);
+				}
+				previous = v;
+			}
+			addEdge(previous, r, wa, wb);
+		}
+		for (int e = originalCount; e < edgeCount; e++) {
+			changed[e] = true;
+		}
+		// new vertices may invert the orientation of short pieces
+		for (int e = 0; e < edgeCount; e++) {
+			if (less(right[e], left[e])) {
+				int l = left[e];
+				left[e] = right[e];
+				right[e] = l;
+				windA[e] = -windA[e];
+				windB[e] = -windB[e];
+			}
+		}
+		return true;
+	}
+
+	private boolean[] sweep() {
+		// sort the end points of the edges, right before left end points, and
+		// left end points of the same vertex from bottom to top, so that the
+		// winding numbers below an edge are known when it is inserted
+		int[] events = new int[2 * edgeCount];
+		for (int e = 0; e < edgeCount; e++) {
+			events[2 * e] = 2 * e;
+			events[2 * e + 1] = 2 * e + 1;
+		}
+		sort(events, events.length, (a, b) -> {
+			int va = (a & 1) == 0 ? left[a >> 1] : right[a >> 1];
+			int vb = (b & 1) == 0 ? left[b >> 1] : right[b >> 1];
+			int c = compareVertices(va, vb);
+			if (c != 0) {
+				return c;
+			}
+			if ((a & 1) != (b & 1)) {
+				return (b & 1) - (a & 1);
+			}
+			if ((a & 1) == 1) {
+				return 0;
+			}
+			double o = orient(va, right[a >> 1], right[b >> 1]);
+			return o > 0 ? -1 : o < 0 ? 1 : 0;
+		});
+		// the winding numbers below (or right of) each edge
+		int[] belowA = new int[edgeCount];
+		int[] belowB = new int[edgeCount];
+		SweepStatus status = new SweepStatus(edgeCount);
+		for (int event : events) {
+			int e = event >> 1;
+			if ((event & 1) == 1) {
+				status.remove(e);
+				continue;
+			}
+			int below = status.insert(e);
+			if (below >= 0) {
+				belowA[e] = belowA[below] + windA[below];
+				belowB[e] = belowB[below] + windB[below];
+			}
+		}
+		// determine the result edges and their orientation (null if the edge
+		// is not part of the result, true if it is oriented from left to
+		// right)
+		boolean[] result = new boolean[2 * edgeCount];
+		for (int e = 0; e < edgeCount; e++) {
+			boolean below = isResult(contains(0, belowA[e]),
+					contains(1, belowB[e]));
+			boolean above = isResult(contains(0, belowA[e] + windA[e]),
+					contains(1, belowB[e] + windB[e]));
+			result[2 * e] = below != above;
+			result[2 * e + 1] = above;
+		}
+		return result;
+	}
+
+	private Path toPath(boolean[] result) {
+		// index the outgoing result edges per vertex
+		int[] outHead = new int[vertexCount];
+		Arrays.fill(outHead, -1);
+		int[] outNext = new int[edgeCount];
+		for (int e = 0; e < edgeCount; e++) {
+			if (result[2 * e]) {
+				int from = result[2 * e + 1] ? left[e] : right[e];
+				outNext[e] = outHead[from];
+				outHead[from] = e;
+			}
+		}
+		Path path = new Path();
+		double[] ring = new double[32];
+		for (int start = 0; start < vertexCount; start++) {
+			while (outHead[start] >= 0) {
+				// walk along unused edges until the start vertex is reached
+				int size = 0;
+				int v = start;
+				boolean closed = false;
+				while (true) {
+					int e = outHead[v];
+					if (e < 0) {
+						// inconsistent result edges (numerical issues)
+						break;
+					}
+					outHead[v] = outNext[e];
+					ring = grow(ring, size + 1);
+					ring[size++] = vx[v];
+					ring[size++] = vy[v];
+					v = result[2 * e + 1] ? right[e] : left[e];
+					if (v == start) {
+						closed = true;
+						break;
+					}
+				}
+				if (closed) {
+					appendRing(path, ring, size);
+				}
+			}
+		}
+		return path;
+	}
+
+	private void appendRing(Path path, double[] ring, int size) {
+		// drop intermediate points of collinear edges, which result from
+		// splitting
+		int n = size / 2;
+		double[] points = new double[size];
+		int count = 0;
+		for (int i = 0; i < n; i++) {
+			double px = count > 0 ? points[2 * count - 2]
+					: ring[2 * ((i + n - 1) % n)];
+			double py = count > 0 ? points[2 * count - 1]
+					: ring[2 * ((i + n - 1) % n) + 1];
+			double x = ring[2 * i];
+			double y = ring[2 * i + 1];
+			double nx = ring[2 * ((i + 1) % n)];
+			double ny = ring[2 * ((i + 1) % n) + 1];
+			double cross = (x - px) * (ny - py) - (y - py) * (nx - px);
+			double length = Math.hypot(nx - px, ny - py);
+			if (Math.abs(cross) <= epsilon * length
+					&& (x - px) * (nx - x) + (y - py) * (ny - y) > 0) {
+				continue;
+			}
+			points[2 * count] = x;
+			points[2 * count + 1] = y;
+			count++;
+		}
+		if (count < 3) {
+			return;
+		}
+		path.moveTo(points[0], points[1]);
+		for (int i = 1; i < count; i++) {
+			path.lineTo(points[2 * i], points[2 * i + 1]);
+		}
+		path.close();
+	}
+
+}
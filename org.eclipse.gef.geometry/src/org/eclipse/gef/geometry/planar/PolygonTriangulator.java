@@ -0,0 +1,661 @@
+/*******************************************************************************
+ * Copyright (c) 2026 itemis AG and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     itemis AG - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.geometry.planar;
+
+import java.util.Arrays;
+
+/**
+ * The {@link PolygonTriangulator} provides the simplicity test and the
+ * triangulation of {@link Polygon}s, both in <i>O(n log n)</i>:
+ * <ul>
+ * <li>The simplicity test is a Shamos-Hoey sweep over the outline segments,
+ * which only tests segments for intersection that are adjacent within the
+ * sweep status.</li>
+ * <li>The triangulation partitions the {@link Polygon} into y-monotone pieces
+ * (by inserting diagonals at split and merge vertices during a sweep in
+ * y-order), and triangulates each piece by a linear stack based sweep (see de
+ * Berg et al., Computational Geometry, chapter 3).</li>
+ * </ul>
+ */
+final class PolygonTriangulator {
+
+	private static final int START = 0;
+	private static final int END = 1;
+	private static final int SPLIT = 2;
+	private static final int MERGE = 3;
+	private static final int REGULAR = 4;
+
+	private static int[] grow(int[] array, int size) {
+		if (size < array.length) {
+			return array;
+		}
+		int[] grown = new int[Math.max(2 * array.length, size + 1)];
+		System.arraycopy(array, 0, grown, 0, array.length);
+		return grown;
+	}
+
+	/**
+	 * Returns the given {@link Point}s without consecutive duplicates
+	 * (including a duplicate of the first {@link Point} at the end).
+	 *
+	 * @param points
+	 *            The vertices of a {@link Polygon}.
+	 * @return The vertices without consecutive duplicates.
+	 */
+	private static Point[] getDistinctVertices(Point[] points) {
+		Point[] distinct = new Point[points.length];
+		int n = 0;
+		for (Point p : points) {
+			if (n == 0 || !p.equals(distinct[n - 1])) {
+				distinct[n++] = p;
+			}
+		}
+		while (n > 1 && distinct[n - 1].equals(distinct[0])) {
+			n--;
+		}
+		return Arrays.copyOf(distinct, n);
+	}
+
+	/**
+	 * Tests whether the outline of the {@link Polygon} that is specified by
+	 * the given vertices is free of self-intersections, i.e. whether no two
+	 * outline segments that do not share an end point touch each other (as
+	 * determined by {@link Line#touches(Line)}).
+	 *
+	 * @param points
+	 *            The vertices of the {@link Polygon}.
+	 * @return <code>true</code> if the {@link Polygon} is simple, otherwise
+	 *         <code>false</code>.
+	 */
+	static boolean isSimple(Point[] points) {
+		Point[] distinct = getDistinctVertices(points);
+		if (distinct.length == points.length) {
+			PolygonTriangulator triangulator = new PolygonTriangulator(
+					distinct);
+			if (triangulator.isSimple()) {
+				return true;
+			}
+			if (!triangulator.degenerate) {
+				return false;
+			}
+		}
+		// duplicate vertices (i.e. outline segments of zero length) and
+		// overlapping outline segments that share an end point may hide
+		// intersections from the sweep, so test all pairs of segments instead
+		return isSimplePairwise(points);
+	}
+
+	private static boolean isSimplePairwise(Point[] points) {
+		Line[] segments = new Line[points.length];
+		for (int i = 0; i < points.length; i++) {
+			segments[i] = new Line(points[i],
+					points[(i + 1) % points.length]);
+		}
+		for (int i = 0; i < segments.length; i++) {
+			for (int j = i + 1; j < segments.length; j++) {
+				if (!sharesEndPoint(segments[i], segments[j])
+						&& segments[i].touches(segments[j])) {
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+
+	private static boolean sharesEndPoint(Line a, Line b) {
+		return a.getP1().equals(b.getP1()) || a.getP1().equals(b.getP2())
+				|| a.getP2().equals(b.getP1()) || a.getP2().equals(b.getP2());
+	}
+
+	/**
+	 * Triangulates the simple {@link Polygon} that is specified by the given
+	 * vertices. If the monotone partition fails (which can only happen for
+	 * degenerate {@link Polygon}s, e.g. ones that touch themselves in a
+	 * vertex), <code>null</code> is returned.
+	 *
+	 * @param points
+	 *            The vertices of the {@link Polygon}.
+	 * @return The triangles, or <code>null</code> if the {@link Polygon} could
+	 *         not be triangulated.
+	 */
+	static Polygon[] triangulate(Point[] points) {
+		Point[] distinct = getDistinctVertices(points);
+		if (distinct.length < 3) {
+			return null;
+		}
+		return new PolygonTriangulator(distinct).triangulate();
+	}
+
+	private final Point[] points;
+	private final int n;
+
+	// the coordinates of the vertices (in a y-up frame, i.e. y is negated)
+	private final double[] x;
+	private final double[] y;
+
+	// the vertices in counter-clockwise order
+	private final int[] vertex;
+
+	// the diagonals of the monotone partition
+	private int[] diagonalFrom = new int[16];
+	private int[] diagonalTo = new int[16];
+	private int diagonalCount;
+
+	// whether the sweep of isSimple() encountered overlapping segments that
+	// share an end point
+	private boolean degenerate;
+
+	private PolygonTriangulator(Point[] points) {
+		this.points = points;
+		n = points.length;
+		x = new double[n];
+		y = new double[n];
+		double area = 0;
+		for (int i = 0; i < n; i++) {
+			x[i] = points[i].x;
+			y[i] = -points[i].y;
+		}
+		for (int i = 0; i < n; i++) {
+			int j = (i + 1) % n;
+			area += x[i] * y[j] - x[j] * y[i];
+		}
+		vertex = new int[n];
+		for (int i = 0; i < n; i++) {
+			vertex[i] = area >= 0 ? i : n - 1 - i;
+		}
+	}
+
+	/**
+	 * Returns <code>true</code> if vertex <i>a</i> lies above vertex <i>b</i>,
+	 * i.e. if it is processed before <i>b</i> by the sweep from top to bottom
+	 * (ties are broken by the x coordinate).
+	 */
+	private boolean above(int a, int b) {
+		return y[a] > y[b] || y[a] == y[b] && x[a] < x[b];
+	}
+
+	private void addDiagonal(int from, int to) {
+		diagonalFrom = grow(diagonalFrom, diagonalCount);
+		diagonalTo = grow(diagonalTo, diagonalCount);
+		diagonalFrom[diagonalCount] = from;
+		diagonalTo[diagonalCount] = to;
+		diagonalCount++;
+	}
+
+	/**
+	 * Returns the number of edges of the given (left to right ordered) sweep
+	 * status that lie left of the given vertex.
+	 */
+	private int countLeftOf(int[] status, int statusCount, int v) {
+		int low = 0;
+		int high = statusCount;
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (isLeftOf(status[mid], v)) {
+				low = mid + 1;
+			} else {
+				high = mid;
+			}
+		}
+		return low;
+	}
+
+	private boolean isLeftOf(int edge, int v) {
+		// edges of the status are directed downwards (interior to the right)
+		int upper = vertex[edge];
+		int lower = vertex[(edge + 1) % n];
+		double o = orient(upper, lower, v);
+		if (o == 0) {
+			return x[upper] < x[v];
+		}
+		return o > 0;
+	}
+
+	private boolean isSimple() {
+		if (n < 3) {
+			// (degenerate) all segments share their end points
+			return true;
+		}
+		// the outline segments, oriented from left to right
+		Line[] segments = new Line[n];
+		int[] left = new int[n];
+		int[] right = new int[n];
+		Integer[] events = new Integer[2 * n];
+		for (int i = 0; i < n; i++) {
+			int j = (i + 1) % n;
+			segments[i] = new Line(points[i], points[j]);
+			boolean ordered = x[i] < x[j] || x[i] == x[j] && y[i] < y[j];
+			left[i] = ordered ? i : j;
+			right[i] = ordered ? j : i;
+			events[2 * i] = 2 * i;
+			events[2 * i + 1] = 2 * i + 1;
+		}
+		// sort the end points, left before right end points at the same
+		// vertex (so that segments that touch in an end point are adjacent in
+		// the status at some time)
+		Arrays.sort(events, (a, b) -> {
+			int va = (a & 1) == 0 ? left[a >> 1] : right[a >> 1];
+			int vb = (b & 1) == 0 ? left[b >> 1] : right[b >> 1];
+			int c = Double.compare(x[va], x[vb]);
+			if (c == 0) {
+				c = Double.compare(y[va], y[vb]);
+			}
+			return c != 0 ? c : (a & 1) - (b & 1);
+		});
+		int[] status = new int[16];
+		int statusCount = 0;
+		for (int event : events) {
+			int s = event >> 1;
+			if ((event & 1) == 0) {
+				// insert the segment, and test it against its neighbors
+				int low = 0;
+				int high = statusCount;
+				while (low < high) {
+					int mid = (low + high) >>> 1;
+					int t = status[mid];
+					double o = orient(left[t], right[t], left[s]);
+					if (o == 0) {
+						o = orient(left[t], right[t], right[s]);
+					}
+					if (o < 0) {
+						high = mid;
+					} else {
+						low = mid + 1;
+					}
+				}
+				if (low > 0 && touches(segments, s, status[low - 1])
+						|| low < statusCount
+								&& touches(segments, s, status[low])) {
+					return false;
+				}
+				status = grow(status, statusCount);
+				System.arraycopy(status, low, status, low + 1,
+						statusCount - low);
+				status[low] = s;
+				statusCount++;
+			} else {
+				// remove the segment, and test its neighbors against each
+				// other
+				int k = statusCount - 1;
+				while (k >= 0 && status[k] != s) {
+					k--;
+				}
+				if (k > 0 && k < statusCount - 1 && touches(segments,
+						status[k - 1], status[k + 1])) {
+					return false;
+				}
+				System.arraycopy(status, k + 1, status, k,
+						statusCount - k - 1);
+				statusCount--;
+			}
+		}
+		return true;
+	}
+
+	private double orient(int a, int b, int c) {
+		return (x[b] - x[a]) * (y[c] - y[a]) - (y[b] - y[a]) * (x[c] - x[a]);
+	}
+
+	/**
+	 * Inserts the diagonals that partition the {@link Polygon} into y-monotone
+	 * pieces.
+	 */
+	private boolean partition() {
+		Integer[] order = new Integer[n];
+		for (int i = 0; i < n; i++) {
+			order[i] = i;
+		}
+		Arrays.sort(order, (a, b) -> above(vertex[a], vertex[b]) ? -1
+				: above(vertex[b], vertex[a]) ? 1 : 0);
+		int[] type = new int[n];
+		for (int i = 0; i < n; i++) {
+			int prev = vertex[(i + n - 1) % n];
+			int v = vertex[i];
+			int next = vertex[(i + 1) % n];
+			boolean convex = orient(prev, v, next) > 0;
+			if (above(v, prev) && above(v, next)) {
+				type[i] = convex ? START : SPLIT;
+			} else if (above(prev, v) && above(next, v)) {
+				type[i] = convex ? END : MERGE;
+			} else {
+				type[i] = REGULAR;
+			}
+		}
+		// the sweep status contains the edges (indexed by their upper vertex)
+		// that have the interior of the polygon to their right, ordered from
+		// left to right
+		int[] helper = new int[n];
+		int[] status = new int[16];
+		int statusCount = 0;
+		for (int i : order) {
+			int v = vertex[i];
+			int previousEdge = (i + n - 1) % n;
+			int k;
+			switch (type[i]) {
+			case START:
+				k = countLeftOf(status, statusCount, v);
+				status = grow(status, statusCount);
+				System.arraycopy(status, k, status, k + 1, statusCount - k);
+				status[k] = i;
+				statusCount++;
+				helper[i] = i;
+				break;
+			case END:
+				if (type[helper[previousEdge]] == MERGE) {
+					addDiagonal(i, helper[previousEdge]);
+				}
+				statusCount = remove(status, statusCount, previousEdge);
+				if (statusCount < 0) {
+					return false;
+				}
+				break;
+			case SPLIT:
+				k = countLeftOf(status, statusCount, v);
+				if (k == 0) {
+					return false;
+				}
+				addDiagonal(i, helper[status[k - 1]]);
+				helper[status[k - 1]] = i;
+				status = grow(status, statusCount);
+				System.arraycopy(status, k, status, k + 1, statusCount - k);
+				status[k] = i;
+				statusCount++;
+				helper[i] = i;
+				break;
+			case MERGE:
+				if (type[helper[previousEdge]] == MERGE) {
+					addDiagonal(i, helper[previousEdge]);
+				}
+				statusCount = remove(status, statusCount, previousEdge);
+				if (statusCount < 0) {
+					return false;
+				}
+				k = countLeftOf(status, statusCount, v);
+				if (k == 0) {
+					return false;
+				}
+				if (type[helper[status[k - 1]]] == MERGE) {
+					addDiagonal(i, helper[status[k - 1]]);
+				}
+				helper[status[k - 1]] = i;
+				break;
+			default:
+				if (above(vertex[(i + n - 1) % n], v)) {
+					// the interior lies to the right of the vertex
+					if (type[helper[previousEdge]] == MERGE) {
+						addDiagonal(i, helper[previousEdge]);
+					}
+					statusCount = remove(status, statusCount, previousEdge);
+					if (statusCount < 0) {
+						return false;
+					}
+					k = countLeftOf(status, statusCount, v);
+					status = grow(status, statusCount);
+					System.arraycopy(status, k, status, k + 1,
+							statusCount - k);
+					status[k] = i;
+					statusCount++;
+					helper[i] = i;
+				} else {
+					k = countLeftOf(status, statusCount, v);
+					if (k == 0) {
+						return false;
+					}
+					if (type[helper[status[k - 1]]] == MERGE) {
+						addDiagonal(i, helper[status[k - 1]]);
+					}
+					helper[status[k - 1]] = i;
+				}
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Removes the given edge from the given status, returning the new size of
+	 * the status, or <code>-1</code> if the edge is not contained.
+	 */
+	private int remove(int[] status, int statusCount, int edge) {
+		for (int k = statusCount - 1; k >= 0; k--) {
+			if (status[k] == edge) {
+				System.arraycopy(status, k + 1, status, k,
+						statusCount - k - 1);
+				return statusCount - 1;
+			}
+		}
+		return -1;
+	}
+
+	private boolean touches(Line[] segments, int s, int t) {
+		Line a = segments[s];
+		Line b = segments[t];
+		if (sharesEndPoint(a, b)) {
+			if (a.overlaps(b)) {
+				// collinear overlap (e.g. a spike), which may hide other
+				// intersections from the sweep
+				degenerate = true;
+				return true;
+			}
+			return false;
+		}
+		return a.touches(b);
+	}
+
+	private Polygon[] triangulate() {
+		if (!partition()) {
+			return null;
+		}
+		// index the (counter-clockwise) neighbors of each vertex (by position
+		// within the counter-clockwise order)
+		int[] degree = new int[n];
+		for (int i = 0; i < n; i++) {
+			degree[i] = 2;
+		}
+		for (int d = 0; d < diagonalCount; d++) {
+			degree[diagonalFrom[d]]++;
+			degree[diagonalTo[d]]++;
+		}
+		int[] offset = new int[n + 1];
+		for (int i = 0; i < n; i++) {
+			offset[i + 1] = offset[i] + degree[i];
+		}
+		int[] neighbors = new int[offset[n]];
+		int[] fill = Arrays.copyOf(offset, n);
+		for (int i = 0; i < n; i++) {
+			neighbors[fill[i]++] = (i + n - 1) % n;
+			neighbors[fill[i]++] = (i + 1) % n;
+		}
+		for (int d = 0; d < diagonalCount; d++) {
+			neighbors[fill[diagonalFrom[d]]++] = diagonalTo[d];
+			neighbors[fill[diagonalTo[d]]++] = diagonalFrom[d];
+		}
+		for (int i = 0; i < n; i++) {
+			sortByAngle(neighbors, offset[i], offset[i + 1], i);
+		}
+		// walk the faces (the monotone pieces), which lie to the left of
+		// their half-edges; the reversed outline is the outer face
+		boolean[] used = new boolean[neighbors.length];
+		for (int i = 0; i < n; i++) {
+			used[slot(neighbors, offset, i, (i + n - 1) % n)] = true;
+		}
+		Polygon[] triangles = new Polygon[n - 2];
+		int triangleCount = 0;
+		int[] face = new int[16];
+		for (int i = 0; i < n; i++) {
+			for (int s = offset[i]; s < offset[i + 1]; s++) {
+				if (used[s]) {
+					continue;
+				}
+				int size = 0;
+				int from = i;
+				int slot = s;
+				while (!used[slot]) {
+					used[slot] = true;
+					face = grow(face, size);
+					face[size++] = from;
+					int to = neighbors[slot];
+					// continue with the neighbor that precedes the reversed
+					// half-edge in counter-clockwise order
+					int back = slot(neighbors, offset, to, from);
+					int previous = back == offset[to] ? offset[to + 1] - 1
+							: back - 1;
+					from = to;
+					slot = previous;
+				}
+				if (slot != s || size < 3
+						|| triangleCount + size - 2 > triangles.length) {
+					return null;
+				}
+				triangleCount = triangulateMonotone(face, size, triangles,
+						triangleCount);
+				if (triangleCount < 0) {
+					return null;
+				}
+			}
+		}
+		return triangleCount == n - 2 ? triangles : null;
+	}
+
+	/**
+	 * Triangulates the y-monotone face that is given by the positions of its
+	 * vertices (in counter-clockwise order), adding the resulting triangles to
+	 * the given array. Returns the new number of triangles, or <code>-1</code>
+	 * if the face is not y-monotone.
+	 */
+	private int triangulateMonotone(int[] face, int size, Polygon[] triangles,
+			int triangleCount) {
+		if (size == 3) {
+			triangles[triangleCount++] = triangle(face[0], face[1], face[2]);
+			return triangleCount;
+		}
+		int top = 0;
+		int bottom = 0;
+		for (int k = 1; k < size; k++) {
+			if (above(vertex[face[k]], vertex[face[top]])) {
+				top = k;
+			}
+			if (above(vertex[face[bottom]], vertex[face[k]])) {
+				bottom = k;
+			}
+		}
+		// merge the left chain (from top to bottom in counter-clockwise order)
+		// and the right chain (from top to bottom in clockwise order)
+		int[] sorted = new int[size];
+		boolean[] onLeft = new boolean[size];
+		int l = top;
+		int r = (top + size - 1) % size;
+		sorted[0] = face[top];
+		onLeft[0] = true;
+		l = (l + 1) % size;
+		for (int k = 1; k < size; k++) {
+			boolean takeLeft;
+			if (l == (bottom + 1) % size) {
+				takeLeft = false;
+			} else if (r == (bottom + size - 1) % size) {
+				takeLeft = true;
+			} else {
+				takeLeft = !above(vertex[face[r]], vertex[face[l]]);
+			}
+			if (takeLeft) {
+				sorted[k] = face[l];
+				onLeft[k] = true;
+				l = (l + 1) % size;
+			} else {
+				sorted[k] = face[r];
+				onLeft[k] = false;
+				r = (r + size - 1) % size;
+			}
+		}
+		for (int k = 1; k < size; k++) {
+			if (above(vertex[sorted[k]], vertex[sorted[k - 1]])) {
+				return -1;
+			}
+		}
+		// the stack holds (indices into) the vertices that still need
+		// diagonals
+		int[] stack = new int[size];
+		int stackSize = 0;
+		stack[stackSize++] = 0;
+		stack[stackSize++] = 1;
+		for (int k = 2; k < size - 1; k++) {
+			if (onLeft[k] != onLeft[stack[stackSize - 1]]) {
+				// connect to all vertices of the stack
+				for (int s = stackSize - 1; s > 0; s--) {
+					triangles[triangleCount++] = triangle(sorted[k],
+							sorted[stack[s]], sorted[stack[s - 1]]);
+				}
+				stackSize = 0;
+				stack[stackSize++] = k - 1;
+				stack[stackSize++] = k;
+			} else {
+				int last = stack[--stackSize];
+				while (stackSize > 0) {
+					int top2 = stack[stackSize - 1];
+					double o = orient(vertex[sorted[top2]],
+							vertex[sorted[last]], vertex[sorted[k]]);
+					if (onLeft[k] ? o <= 0 : o >= 0) {
+						break;
+					}
+					triangles[triangleCount++] = triangle(sorted[k],
+							sorted[last], sorted[top2]);
+					last = stack[--stackSize];
+				}
+				stack[stackSize++] = last;
+				stack[stackSize++] = k;
+			}
+		}
+		for (int s = stackSize - 1; s > 0; s--) {
+			triangles[triangleCount++] = triangle(sorted[size - 1],
+					sorted[stack[s]], sorted[stack[s - 1]]);
+		}
+		return triangleCount;
+	}
+
+	private int slot(int[] neighbors, int[] offset, int from, int to) {
+		for (int s = offset[from]; s < offset[from + 1]; s++) {
+			if (neighbors[s] == to) {
+				return s;
+			}
+		}
+		throw new IllegalStateException("Missing half-edge.");
+	}
+
+	private void sortByAngle(int[] neighbors, int from, int to, int center) {
+		int c = vertex[center];
+		double[] angles = new double[to - from];
+		for (int s = from; s < to; s++) {
+			int v = vertex[neighbors[s]];
+			angles[s - from] = Math.atan2(y[v] - y[c], x[v] - x[c]);
+		}
+		// insertion sort (the degree is small)
+		for (int s = 1; s < to - from; s++) {
+			int neighbor = neighbors[from + s];
+			double angle = angles[s];
+			int t = s - 1;
+			while (t >= 0 && angles[t] > angle) {
+				neighbors[from + t + 1] = neighbors[from + t];
+				angles[t + 1] = angles[t];
+				t--;
+			}
+			neighbors[from + t + 1] = neighbor;
+			angles[t + 1] = angle;
+		}
+	}
+
+	private Polygon triangle(int a, int b, int c) {
+		return new Polygon(points[vertex[a]], points[vertex[b]],
+				points[vertex[c]]);
+	}
+
+}
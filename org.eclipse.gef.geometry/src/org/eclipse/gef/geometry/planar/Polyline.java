@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2016 itemis AG and others.
+ * Copyright (c) 2011, 2026 itemis AG and others.
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
  * http://www.eclipse.org/legal/epl-2.0.
@@ -76,6 +76,21 @@ public class Polyline extends AbstractPointListBasedGeometry<Polyline>
 		super(points);
 	}
 
+	/**
+	 * Constructs a new {@link Polyline} from the {@link Point}s of the given
+	 * {@link PointBuffer}. The {@link Polyline} stores its coordinates in a
+	 * compact {@link PointBuffer} until an operation requires individual
+	 * {@link Point} objects, which is beneficial for {@link Polyline}s with
+	 * very many points.
+	 *
+	 * @param buffer
+	 *            the {@link PointBuffer} providing the points, from which the
+	 *            {@link Polyline} is to be created
+	 */
+	public Polyline(PointBuffer buffer) {
+		super(buffer);
+	}
+
 	/**
 	 * Checks whether the point that is represented by its x- and y-coordinates
 	 * is contained within this {@link Polyline}.
@@ -94,10 +109,8 @@ public class Polyline extends AbstractPointListBasedGeometry<Polyline>
 
 	@Override
 	public boolean contains(Point p) {
-		for (int i = 0; i + 1 < points.length; i++) {
-			Point p1 = points[i];
-			Point p2 = points[i + 1];
-			if (new Line(p1, p2).contains(p)) {
+		for (Line segment : segments(false)) {
+			if (segment.contains(p)) {
 				return true;
 			}
 		}
@@ -129,16 +142,18 @@ public class Polyline extends AbstractPointListBasedGeometry<Polyline>
 	 *         via the array of points are regarded to form the same segments
 	 */
 	public boolean equals(Point... points) {
-		if (points.length != this.points.length) {
+		Point[] ownPoints = points();
+		if (points.length != ownPoints.length) {
 			return false;
 		}
-		return Arrays.equals(this.points, points)
-				|| Arrays.equals(this.points, Point.getReverseCopy(points));
+		return Arrays.equals(ownPoints, points)
+				|| Arrays.equals(ownPoints, Point.getReverseCopy(points));
 	}
 
 	@Override
 	public Polyline getCopy() {
-		return new Polyline(getPoints());
+		PointBuffer buffer = buffer();
+		return buffer != null ? new Polyline(buffer) : new Polyline(points());
 	}
 
 	/**
@@ -150,7 +165,7 @@ public class Polyline extends AbstractPointListBasedGeometry<Polyline>
 	 *         this {@link Polyline}
 	 */
 	public Line[] getCurves() {
-		return PointListUtils.toSegmentsArray(points, false);
+		return segments(false);
 	}
 
 	@Override
@@ -181,11 +196,17 @@ public class Polyline extends AbstractPointListBasedGeometry<Polyline>
 
 	@Override
 	public Point getP1() {
-		return points[0].getCopy();
+		PointBuffer buffer = buffer();
+		return buffer != null ? buffer.getPoint(0) : points()[0].getCopy();
 	}
 
 	@Override
 	public Point getP2() {
+		PointBuffer buffer = buffer();
+		if (buffer != null) {
+			return buffer.getPoint(buffer.size() - 1);
+		}
+		Point[] points = points();
 		return points[points.length - 1].getCopy();
 	}
 
@@ -206,7 +227,7 @@ public class Polyline extends AbstractPointListBasedGeometry<Polyline>
 
 	@Override
 	public Polyline getTransformed(AffineTransform t) {
-		return new Polyline(t.getTransformed(points));
+		return getCopy().transform(t);
 	}
 
 	@Override
@@ -241,12 +262,25 @@ public class Polyline extends AbstractPointListBasedGeometry<Polyline>
 
 	@Override
 	public Line[] toBezier() {
-		return PointListUtils.toSegmentsArray(points, false);
+		return segments(false);
 	}
 
 	@Override
 	public Path toPath() {
 		Path path = new Path();
+		PointBuffer buffer = buffer();
+		if (buffer != null) {
+			// avoid the creation of points
+			for (int i = 0; i < buffer.size(); i++) {
+				if (i == 0) {
+					path.moveTo(buffer.getX(i), buffer.getY(i));
+				} else {
+					path.lineTo(buffer.getX(i), buffer.getY(i));
+				}
+			}
+			return path;
+		}
+		Point[] points = points();
 		if (points.length > 0) {
 			path.moveTo(points[0].x, points[0].y);
 			for (int i = 1; i < points.length; i++) {
@@ -262,13 +296,14 @@ public class Polyline extends AbstractPointListBasedGeometry<Polyline>
 	 * @return a {@link PolyBezier} representing this {@link Polyline}
 	 */
 	public PolyBezier toPolyBezier() {
-		Line[] segments = PointListUtils.toSegmentsArray(points, false);
+		Line[] segments = segments(false);
 		return new PolyBezier(segments);
 	}
 
 	@Override
 	public String toString() {
 		StringBuffer stringBuffer = new StringBuffer("Polyline: ");
+		Point[] points = getPoints();
 		if (points.length > 0) {
 			for (int i = 0; i < points.length; i++) {
 				stringBuffer
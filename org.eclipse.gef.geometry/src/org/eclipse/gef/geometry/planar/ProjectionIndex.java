@@ -0,0 +1,723 @@
+/*******************************************************************************
+ * Copyright (c) 2026 itemis AG and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     itemis AG - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.geometry.planar;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.gef.geometry.internal.utils.PrecisionUtils;
+
+/**
+ * A {@link ProjectionIndex} accelerates repeated projections of
+ * {@link Point}s onto a fixed set of outline {@link ICurve}s, e.g. the
+ * computation of anchor positions on the outline of a shape.
+ * <p>
+ * Upon construction, the {@link BezierCurve}s of the outlines are flattened
+ * into pieces whose control polygons deviate at most by a given flatness from
+ * their chords, and a bounding volume hierarchy is built over these pieces.
+ * As a piece is contained in the bounds of its control points, a query only
+ * needs to inspect the pieces near the reference {@link Point}. The result is
+ * then refined on the actual curve (using Newton iterations for the nearest
+ * projection, and a root search for the orthogonal projections), so that it
+ * does not depend on the flatness.
+ * <p>
+ * A {@link ProjectionIndex} is immutable, i.e. it has to be recreated when the
+ * outlines change.
+ */
+public class ProjectionIndex {
+
+	// the flatness relative to the size of the outlines, which is used by
+	// default
+	private static final double DEFAULT_RELATIVE_FLATNESS = 1e-3;
+
+	private static final int LEAF_SIZE = 4;
+	private static final int MAX_FLATTENING_DEPTH = 16;
+	private static final int MAX_ITERATIONS = 64;
+	private static final double PARAMETER_TOLERANCE = 1e-14;
+
+	// the layout of a piece within the pieces array
+	private static final int X1 = 0;
+	private static final int Y1 = 1;
+	private static final int X2 = 2;
+	private static final int Y2 = 3;
+	private static final int MIN_X = 4;
+	private static final int MIN_Y = 5;
+	private static final int MAX_X = 6;
+	private static final int MAX_Y = 7;
+	private static final int T1 = 8;
+	private static final int T2 = 9;
+	private static final int STRIDE = 10;
+
+	private static double evaluate(double[] c, double t) {
+		// Horner's scheme for the Bernstein form
+		int n = c.length - 1;
+		if (n < 0) {
+			return 0;
+		} else if (n == 0) {
+			return c[0];
+		}
+		double s = 1 - t;
+		double binomial = 1;
+		double power = 1;
+		double result = c[0] * s;
+		for (int i = 1; i < n; i++) {
+			power *= t;
+			binomial = binomial * (n - i + 1) / i;
+			result = (result + power * binomial * c[i]) * s;
+		}
+		return result + power * t * c[n];
+	}
+
+	private static double getDefaultFlatness(ICurve... outlines) {
+		checkOutlines(outlines);
+		double size = 0;
+		if (outlines.length > 0) {
+			Rectangle bounds = outlines[0].getBounds();
+			for (int i = 1; i < outlines.length; i++) {
+				bounds.union(outlines[i].getBounds());
+			}
+			size = Math.max(bounds.getWidth(), bounds.getHeight());
+		}
+		return size > 0 ? DEFAULT_RELATIVE_FLATNESS * size
+				: DEFAULT_RELATIVE_FLATNESS;
+	}
+
+	private static void checkOutlines(ICurve... outlines) {
+		if (outlines == null) {
+			throw new IllegalArgumentException(
+					"The given outlines may not be null.");
+		}
+		for (ICurve outline : outlines) {
+			if (outline == null) {
+				throw new IllegalArgumentException(
+						"The given outlines may not contain null.");
+			}
+		}
+	}
+
+	private static double getDerivativeRoot(double[] c, double ta, double fa,
+			double tb) {
+		double lo = ta;
+		double hi = tb;
+		for (int i = 0; i < MAX_ITERATIONS
+				&& hi - lo > PARAMETER_TOLERANCE; i++) {
+			double mid = (lo + hi) / 2;
+			double fm = evaluate(c, mid);
+			if (fm == 0) {
+				return mid;
+			} else if ((fm < 0) == (fa < 0)) {
+				lo = mid;
+			} else {
+				hi = mid;
+			}
+		}
+		return (lo + hi) / 2;
+	}
+
+	private static double getSegmentParameter(double x1, double y1, double x2,
+			double y2, double px, double py) {
+		double dx = x2 - x1;
+		double dy = y2 - y1;
+		double lengthSquared = dx * dx + dy * dy;
+		if (lengthSquared == 0) {
+			return 0;
+		}
+		double s = ((px - x1) * dx + (py - y1) * dy) / lengthSquared;
+		return s < 0 ? 0 : s > 1 ? 1 : s;
+	}
+
+	private static double getSquaredDistance(double x, double y, double px,
+			double py) {
+		double dx = x - px;
+		double dy = y - py;
+		return dx * dx + dy * dy;
+	}
+
+	private static double getSquaredSegmentDistance(double x1, double y1,
+			double x2, double y2, double px, double py) {
+		double s = getSegmentParameter(x1, y1, x2, y2, px, py);
+		return getSquaredDistance(x1 + s * (x2 - x1), y1 + s * (y2 - y1), px,
+				py);
+	}
+
+	private final ICurve[] outlines;
+	private final double flatness;
+
+	// control point coordinates of the Bezier curves and of their first and
+	// second derivatives
+	private final double[][] curveX;
+	private final double[][] curveY;
+	private final double[][] derivativeX;
+	private final double[][] derivativeY;
+	private final double[][] secondDerivativeX;
+	private final double[][] secondDerivativeY;
+
+	private double[] pieces = new double[16 * STRIDE];
+	private int[] pieceCurves = new int[16];
+	private int pieceCount;
+
+	// the bounding volume hierarchy, nodes are stored in pre-order, and the
+	// pieces of a leaf are referenced by a range within the order array
+	private final int[] order;
+	private final double[] nodeBounds;
+	private final int[] nodeRight;
+	private final int[] nodeStart;
+	private final int[] nodeCount;
+	private int nodeSize;
+	private int treeDepth;
+
+	/**
+	 * Constructs a new {@link ProjectionIndex} for the given outlines, using a
+	 * flatness of 1/1000 of the size of their bounds.
+	 *
+	 * @param outlines
+	 *            The outline {@link ICurve}s onto which {@link Point}s are
+	 *            projected.
+	 */
+	public ProjectionIndex(ICurve... outlines) {
+		this(getDefaultFlatness(outlines), outlines);
+	}
+
+	/**
+	 * Constructs a new {@link ProjectionIndex} for the given outlines, using
+	 * the given flatness. The flatness does only affect the performance of the
+	 * queries, but not their results.
+	 *
+	 * @param flatness
+	 *            The maximum distance of the control points of a piece of an
+	 *            outline from its chord.
+	 * @param outlines
+	 *            The outline {@link ICurve}s onto which {@link Point}s are
+	 *            projected.
+	 */
+	public ProjectionIndex(double flatness, ICurve... outlines) {
+		checkOutlines(outlines);
+		if (!(flatness > 0)) {
+			throw new IllegalArgumentException(
+					"The given flatness has to be positive: " + flatness);
+		}
+		this.flatness = flatness;
+		this.outlines = new ICurve[outlines.length];
+		List<BezierCurve> curves = new ArrayList<>();
+		for (int i = 0; i < outlines.length; i++) {
+			this.outlines[i] = (ICurve) outlines[i].getCopy();
+			for (BezierCurve curve : outlines[i].toBezier()) {
+				curves.add(curve);
+			}
+		}
+
+		int n = curves.size();
+		curveX = new double[n][];
+		curveY = new double[n][];
+		derivativeX = new double[n][];
+		derivativeY = new double[n][];
+		secondDerivativeX = new double[n][];
+		secondDerivativeY = new double[n][];
+		for (int i = 0; i < n; i++) {
+			Point[] points = curves.get(i).getPoints();
+			curveX[i] = new double[points.length];
+			curveY[i] = new double[points.length];
+			for (int j = 0; j < points.length; j++) {
+				curveX[i][j] = points[j].x;
+				curveY[i][j] = points[j].y;
+			}
+			derivativeX[i] = getHodograph(curveX[i]);
+			derivativeY[i] = getHodograph(curveY[i]);
+			secondDerivativeX[i] = getHodograph(derivativeX[i]);
+			secondDerivativeY[i] = getHodograph(derivativeY[i]);
+			flatten(i, curveX[i], curveY[i], 0, 1, 0);
+		}
+
+		order = new int[pieceCount];
+		for (int i = 0; i < pieceCount; i++) {
+			order[i] = i;
+		}
+		int capacity = Math.max(1, 2 * pieceCount);
+		nodeBounds = new double[4 * capacity];
+		nodeRight = new int[capacity];
+		nodeStart = new int[capacity];
+		nodeCount = new int[capacity];
+		if (pieceCount > 0) {
+			build(0, pieceCount, 0);
+		}
+	}
+
+	private void addPiece(int curve, double[] xs, double[] ys, double t1,
+			double t2) {
+		if (pieceCount == pieceCurves.length) {
+			pieces = Arrays.copyOf(pieces, 2 * pieces.length);
+			pieceCurves = Arrays.copyOf(pieceCurves, 2 * pieceCurves.length);
+		}
+		int base = pieceCount * STRIDE;
+		int n = xs.length - 1;
+		double minX = xs[0];
+		double minY = ys[0];
+		double maxX = xs[0];
+		double maxY = ys[0];
+		for (int i = 1; i <= n; i++) {
+			minX = Math.min(minX, xs[i]);
+			minY = Math.min(minY, ys[i]);
+			maxX = Math.max(maxX, xs[i]);
+			maxY = Math.max(maxY, ys[i]);
+		}
+		pieces[base + X1] = xs[0];
+		pieces[base + Y1] = ys[0];
+		pieces[base + X2] = xs[n];
+		pieces[base + Y2] = ys[n];
+		pieces[base + MIN_X] = minX;
+		pieces[base + MIN_Y] = minY;
+		pieces[base + MAX_X] = maxX;
+		pieces[base + MAX_Y] = maxY;
+		pieces[base + T1] = t1;
+		pieces[base + T2] = t2;
+		pieceCurves[pieceCount++] = curve;
+	}
+
+	private int build(int start, int end, int depth) {
+		int node = nodeSize++;
+		treeDepth = Math.max(treeDepth, depth);
+		double minX = Double.POSITIVE_INFINITY;
+		double minY = Double.POSITIVE_INFINITY;
+		double maxX = Double.NEGATIVE_INFINITY;
+		double maxY = Double.NEGATIVE_INFINITY;
+		for (int i = start; i < end; i++) {
+			int base = order[i] * STRIDE;
+			minX = Math.min(minX, pieces[base + MIN_X]);
+			minY = Math.min(minY, pieces[base + MIN_Y]);
+			maxX = Math.max(maxX, pieces[base + MAX_X]);
+			maxY = Math.max(maxY, pieces[base + MAX_Y]);
+		}
+		nodeBounds[4 * node] = minX;
+		nodeBounds[4 * node + 1] = minY;
+		nodeBounds[4 * node + 2] = maxX;
+		nodeBounds[4 * node + 3] = maxY;
+		nodeStart[node] = start;
+		nodeCount[node] = end - start;
+		nodeRight[node] = -1;
+		if (end - start > LEAF_SIZE) {
+			// split at the median of the centers along the longer axis; the
+			// left child directly follows its parent
+			int axis = maxX - minX >= maxY - minY ? 0 : 1;
+			int mid = (start + end) >>> 1;
+			select(start, end, mid, axis);
+			build(start, mid, depth + 1);
+			nodeRight[node] = build(mid, end, depth + 1);
+		}
+		return node;
+	}
+
+	private double getCenter(int piece, int axis) {
+		int base = piece * STRIDE;
+		return pieces[base + MIN_X + axis] + pieces[base + MAX_X + axis];
+	}
+
+	/**
+	 * Returns the flatness that is used by this {@link ProjectionIndex}.
+	 *
+	 * @return The flatness that is used by this {@link ProjectionIndex}.
+	 */
+	public double getFlatness() {
+		return flatness;
+	}
+
+	private void flatten(int curve, double[] xs, double[] ys, double t1,
+			double t2, int depth) {
+		int n = xs.length - 1;
+		double deviation = 0;
+		for (int i = 1; i < n; i++) {
+			deviation = Math.max(deviation, getSquaredSegmentDistance(xs[0],
+					ys[0], xs[n], ys[n], xs[i], ys[i]));
+		}
+		if (depth >= MAX_FLATTENING_DEPTH
+				|| deviation <= flatness * flatness) {
+			addPiece(curve, xs, ys, t1, t2);
+			return;
+		}
+		// split the piece in halves (de Casteljau)
+		double[] leftX = new double[n + 1];
+		double[] leftY = new double[n + 1];
+		double[] rightX = new double[n + 1];
+		double[] rightY = new double[n + 1];
+		double[] x = xs.clone();
+		double[] y = ys.clone();
+		for (int k = 0; k <= n; k++) {
+			leftX[k] = x[0];
+			leftY[k] = y[0];
+			rightX[n - k] = x[n - k];
+			rightY[n - k] = y[n - k];
+			for (int j = 0; j < n - k; j++) {
+				x[j] = (x[j] + x[j + 1]) / 2;
+				y[j] = (y[j] + y[j + 1]) / 2;
+			}
+		}
+		double tm = (t1 + t2) / 2;
+		flatten(curve, leftX, leftY, t1, tm, depth + 1);
+		flatten(curve, rightX, rightY, tm, t2, depth + 1);
+	}
+
+	private double[] getHodograph(double[] c) {
+		int n = c.length - 1;
+		double[] hodograph = new double[Math.max(n, 0)];
+		for (int i = 0; i < hodograph.length; i++) {
+			hodograph[i] = n * (c[i + 1] - c[i]);
+		}
+		return hodograph;
+	}
+
+	/**
+	 * Returns the point on the outlines that has the same y-coordinate as the
+	 * given reference {@link Point} and is nearest to it. If an outline
+	 * segment is collinear to the horizontal line through the reference
+	 * {@link Point}, its point nearest to the reference {@link Point} is
+	 * considered.
+	 *
+	 * @param reference
+	 *            The reference {@link Point}.
+	 * @return The horizontal projection of the given reference {@link Point}
+	 *         onto the outlines, or <code>null</code> if the horizontal line
+	 *         through the reference {@link Point} does not touch the outlines.
+	 */
+	public Point getHorizontalProjection(Point reference) {
+		return getOrthogonalProjection(reference, 1);
+	}
+
+	private Point getOrthogonalProjection(Point reference, int axis) {
+		// the coordinate along the given axis is fixed, the other one is free
+		int free = 1 - axis;
+		double value = axis == 0 ? reference.x : reference.y;
+		double freeValue = axis == 0 ? reference.y : reference.x;
+		double nearestFree = 0;
+		double nearestDistance = Double.POSITIVE_INFINITY;
+		if (pieceCount == 0) {
+			return null;
+		}
+		int[] stack = new int[treeDepth + 2];
+		int stackSize = 0;
+		stack[stackSize++] = 0;
+		while (stackSize > 0) {
+			int node = stack[--stackSize];
+			if (!PrecisionUtils.smallerEqual(nodeBounds[4 * node + axis],
+					value)
+					|| !PrecisionUtils.greaterEqual(
+							nodeBounds[4 * node + 2 + axis], value)) {
+				continue;
+			}
+			if (nodeRight[node] >= 0) {
+				stack[stackSize++] = nodeRight[node];
+				stack[stackSize++] = node + 1;
+				continue;
+			}
+			for (int i = nodeStart[node]; i < nodeStart[node]
+					+ nodeCount[node]; i++) {
+				int piece = order[i];
+				int base = piece * STRIDE;
+				double[] fixed = axis == 0 ? curveX[pieceCurves[piece]]
+						: curveY[pieceCurves[piece]];
+				double[] other = axis == 0 ? curveY[pieceCurves[piece]]
+						: curveX[pieceCurves[piece]];
+				double[] derivative = axis == 0
+						? derivativeX[pieceCurves[piece]]
+						: derivativeY[pieceCurves[piece]];
+				double min = pieces[base + MIN_X + axis];
+				double max = pieces[base + MAX_X + axis];
+				if (!PrecisionUtils.smallerEqual(min, value)
+						|| !PrecisionUtils.greaterEqual(max, value)) {
+					continue;
+				}
+				double[] candidates;
+				if (PrecisionUtils.equal(min, value)
+						&& PrecisionUtils.equal(max, value)) {
+					// the piece lies on the line, so that its point nearest
+					// to the reference is used
+					double freeMin = pieces[base + MIN_X + free];
+					double freeMax = pieces[base + MAX_X + free];
+					candidates = new double[] { freeValue < freeMin ? freeMin
+							: freeValue > freeMax ? freeMax : freeValue };
+				} else {
+					candidates = getRoots(fixed, other, derivative, value,
+							pieces[base + T1], pieces[base + T2],
+							pieces[base + X1 + axis], pieces[base + X2 + axis],
+							pieces[base + X1 + free], pieces[base + X2 + free]);
+				}
+				for (double candidate : candidates) {
+					double distance = Math.abs(candidate - freeValue);
+					if (distance < nearestDistance) {
+						nearestDistance = distance;
+						nearestFree = candidate;
+					}
+				}
+			}
+		}
+		if (nearestDistance == Double.POSITIVE_INFINITY) {
+			return null;
+		}
+		return axis == 0 ? new Point(value, nearestFree)
+				: new Point(nearestFree, value);
+	}
+
+	/**
+	 * Returns (copies of) the outline {@link ICurve}s of this
+	 * {@link ProjectionIndex}.
+	 *
+	 * @return The outline {@link ICurve}s of this {@link ProjectionIndex}.
+	 */
+	public ICurve[] getOutlines() {
+		ICurve[] copies = new ICurve[outlines.length];
+		for (int i = 0; i < outlines.length; i++) {
+			copies[i] = (ICurve) outlines[i].getCopy();
+		}
+		return copies;
+	}
+
+	/**
+	 * Returns the point on the outlines that is nearest to the given reference
+	 * {@link Point}.
+	 *
+	 * @param reference
+	 *            The reference {@link Point}.
+	 * @return The projection of the given reference {@link Point} onto the
+	 *         outlines, or <code>null</code> if there are no outlines.
+	 */
+	public Point getProjection(Point reference) {
+		if (pieceCount == 0) {
+			return null;
+		}
+		double px = reference.x;
+		double py = reference.y;
+		// the nearest point found so far and its squared distance
+		double[] nearest = { Double.POSITIVE_INFINITY, 0, 0 };
+		int[] stack = new int[treeDepth + 2];
+		int stackSize = 0;
+		stack[stackSize++] = 0;
+		while (stackSize > 0) {
+			int node = stack[--stackSize];
+			if (getSquaredNodeDistance(node, px, py) >= nearest[0]) {
+				continue;
+			}
+			int right = nodeRight[node];
+			if (right >= 0) {
+				// visit the nearer child first
+				int left = node + 1;
+				if (getSquaredNodeDistance(left, px,
+						py) <= getSquaredNodeDistance(right, px, py)) {
+					stack[stackSize++] = right;
+					stack[stackSize++] = left;
+				} else {
+					stack[stackSize++] = left;
+					stack[stackSize++] = right;
+				}
+				continue;
+			}
+			for (int i = nodeStart[node]; i < nodeStart[node]
+					+ nodeCount[node]; i++) {
+				int piece = order[i];
+				int base = piece * STRIDE;
+				double x1 = pieces[base + X1];
+				double y1 = pieces[base + Y1];
+				double x2 = pieces[base + X2];
+				double y2 = pieces[base + Y2];
+				double s = getSegmentParameter(x1, y1, x2, y2, px, py);
+				double x = x1 + s * (x2 - x1);
+				double y = y1 + s * (y2 - y1);
+				int curve = pieceCurves[piece];
+				if (curveX[curve].length <= 2) {
+					// the piece is a line segment
+					update(nearest, x, y, px, py);
+				} else if (Math.sqrt(getSquaredDistance(x, y, px, py))
+						- flatness < Math.sqrt(nearest[0])) {
+					refine(nearest, curve, pieces[base + T1],
+							pieces[base + T2], s, px, py);
+					update(nearest, x1, y1, px, py);
+					update(nearest, x2, y2, px, py);
+				}
+			}
+		}
+		return new Point(nearest[1], nearest[2]);
+	}
+
+	private double[] getRoots(double[] fixed, double[] other,
+			double[] derivative, double value, double t1, double t2,
+			double fixed1, double fixed2, double other1, double other2) {
+		double f1 = fixed1 - value;
+		double f2 = fixed2 - value;
+		boolean zero1 = PrecisionUtils.equal(fixed1, value);
+		boolean zero2 = PrecisionUtils.equal(fixed2, value);
+		if (fixed.length <= 2) {
+			// line segment
+			if (zero1 || zero2) {
+				return zero1 && zero2 ? new double[] { other1, other2 }
+						: new double[] { zero1 ? other1 : other2 };
+			} else if ((f1 < 0) != (f2 < 0)) {
+				return new double[] {
+						other1 + f1 / (f1 - f2) * (other2 - other1) };
+			}
+			return new double[0];
+		}
+		// split the piece into monotone intervals at an extremum
+		double d1 = evaluate(derivative, t1);
+		double d2 = evaluate(derivative, t2);
+		double[] ts;
+		if (d1 != 0 && d2 != 0 && (d1 < 0) != (d2 < 0)) {
+			ts = new double[] { t1, getDerivativeRoot(derivative, t1, d1, t2),
+					t2 };
+		} else {
+			ts = new double[] { t1, t2 };
+		}
+		double[] roots = new double[ts.length + 1];
+		int count = 0;
+		if (zero1) {
+			roots[count++] = other1;
+		}
+		if (zero2) {
+			roots[count++] = other2;
+		}
+		for (int i = 0; i + 1 < ts.length; i++) {
+			double ta = ts[i];
+			double tb = ts[i + 1];
+			double fa = i == 0 ? f1 : evaluate(fixed, ta) - value;
+			double fb = i + 2 == ts.length ? f2 : evaluate(fixed, tb) - value;
+			if (i > 0 && PrecisionUtils.equal(fa + value, value)) {
+				// touching the line at the extremum
+				roots[count++] = evaluate(other, ta);
+			} else if (!(i == 0 && zero1) && !(i + 2 == ts.length && zero2)
+					&& fa != 0 && fb != 0 && (fa < 0) != (fb < 0)) {
+				double t = getRoot(fixed, value, ta, fa, tb);
+				roots[count++] = evaluate(other, t);
+			}
+		}
+		return Arrays.copyOf(roots, count);
+	}
+
+	private double getRoot(double[] c, double value, double ta, double fa,
+			double tb) {
+		double lo = ta;
+		double hi = tb;
+		for (int i = 0; i < MAX_ITERATIONS
+				&& hi - lo > PARAMETER_TOLERANCE; i++) {
+			double mid = (lo + hi) / 2;
+			double fm = evaluate(c, mid) - value;
+			if (fm == 0) {
+				return mid;
+			} else if ((fm < 0) == (fa < 0)) {
+				lo = mid;
+			} else {
+				hi = mid;
+			}
+		}
+		return (lo + hi) / 2;
+	}
+
+	private double getSquaredNodeDistance(int node, double px, double py) {
+		double dx = Math.max(Math.max(nodeBounds[4 * node] - px, 0),
+				px - nodeBounds[4 * node + 2]);
+		double dy = Math.max(Math.max(nodeBounds[4 * node + 1] - py, 0),
+				py - nodeBounds[4 * node + 3]);
+		return dx * dx + dy * dy;
+	}
+
+	/**
+	 * Returns the point on the outlines that has the same x-coordinate as the
+	 * given reference {@link Point} and is nearest to it. If an outline
+	 * segment is collinear to the vertical line through the reference
+	 * {@link Point}, its point nearest to the reference {@link Point} is
+	 * considered.
+	 *
+	 * @param reference
+	 *            The reference {@link Point}.
+	 * @return The vertical projection of the given reference {@link Point}
+	 *         onto the outlines, or <code>null</code> if the vertical line
+	 *         through the reference {@link Point} does not touch the outlines.
+	 */
+	public Point getVerticalProjection(Point reference) {
+		return getOrthogonalProjection(reference, 0);
+	}
+
+	private void refine(double[] nearest, int curve, double t1, double t2,
+			double s, double px, double py) {
+		double[] x = curveX[curve];
+		double[] y = curveY[curve];
+		double[] dx = derivativeX[curve];
+		double[] dy = derivativeY[curve];
+		double[] ddx = secondDerivativeX[curve];
+		double[] ddy = secondDerivativeY[curve];
+		// Newton iterations for a root of the derivative of the squared
+		// distance, starting at the projection onto the chord
+		double t = t1 + s * (t2 - t1);
+		for (int i = 0; i < MAX_ITERATIONS; i++) {
+			double ex = evaluate(x, t) - px;
+			double ey = evaluate(y, t) - py;
+			double tx = evaluate(dx, t);
+			double ty = evaluate(dy, t);
+			double g = ex * tx + ey * ty;
+			double gd = tx * tx + ty * ty + ex * evaluate(ddx, t)
+					+ ey * evaluate(ddy, t);
+			if (gd <= 0) {
+				break;
+			}
+			double next = t - g / gd;
+			next = next < t1 ? t1 : next > t2 ? t2 : next;
+			boolean converged = Math.abs(next - t) <= PARAMETER_TOLERANCE;
+			t = next;
+			if (converged) {
+				break;
+			}
+		}
+		update(nearest, evaluate(x, t), evaluate(y, t), px, py);
+	}
+
+	private void select(int start, int end, int k, int axis) {
+		// quick select, so that the pieces are partitioned at k
+		int lo = start;
+		int hi = end - 1;
+		while (lo < hi) {
+			double pivot = getCenter(order[(lo + hi) >>> 1], axis);
+			int i = lo;
+			int j = hi;
+			while (i <= j) {
+				while (getCenter(order[i], axis) < pivot) {
+					i++;
+				}
+				while (getCenter(order[j], axis) > pivot) {
+					j--;
+				}
+				if (i <= j) {
+					int tmp = order[i];
+					order[i] = order[j];
+					order[j] = tmp;
+					i++;
+					j--;
+				}
+			}
+			if (k <= j) {
+				hi = j;
+			} else if (k >= i) {
+				lo = i;
+			} else {
+				return;
+			}
+		}
+	}
+
+	private void update(double[] nearest, double x, double y, double px,
+			double py) {
+		double distance = getSquaredDistance(x, y, px, py);
+		if (distance < nearest[0]) {
+			nearest[0] = distance;
+			nearest[1] = x;
+			nearest[2] = y;
+		}
+	}
+
+}
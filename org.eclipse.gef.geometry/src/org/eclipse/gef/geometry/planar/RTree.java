@@ -0,0 +1,684 @@
+/*******************************************************************************
+ * Copyright (c) 2026 itemis AG and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     itemis AG - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.geometry.planar;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.function.Function;
+
+/**
+ * An {@link RTree} is a {@link SpatialIndex} that organizes the bounds of its
+ * elements in a balanced tree of nested bounding boxes. Insertions follow the
+ * R*-tree heuristics of Beckmann et al. (choosing the subtree by least overlap
+ * enlargement, forced reinsertion, and margin/overlap minimizing splits).
+ * {@link #insertAll(Collection, Function)} bulk loads an empty {@link RTree}
+ * by the Sort-Tile-Recursive algorithm, which results in fully packed nodes
+ * with little overlap.
+ * <p>
+ * The {@link RTree} is well suited for static or slowly changing sets of
+ * elements with varying sizes. For sets of elements that are frequently
+ * moved, a {@link LooseQuadTree} may be preferable.
+ *
+ * @param <T>
+ *            The type of the indexed elements.
+ */
+public class RTree<T> implements SpatialIndex<T> {
+
+	/**
+	 * Axis aligned bounding box of an entry or node.
+	 */
+	private static class Box {
+		double minX = Double.POSITIVE_INFINITY;
+		double minY = Double.POSITIVE_INFINITY;
+		double maxX = Double.NEGATIVE_INFINITY;
+		double maxY = Double.NEGATIVE_INFINITY;
+
+		double area() {
+			return (maxX - minX) * (maxY - minY);
+		}
+
+		boolean contains(Box o) {
+			return minX <= o.minX && minY <= o.minY && maxX >= o.maxX
+					&& maxY >= o.maxY;
+		}
+
+		double distanceSquared(double x, double y) {
+			double dx = Math.max(Math.max(minX - x, x - maxX), 0);
+			double dy = Math.max(Math.max(minY - y, y - maxY), 0);
+			return dx * dx + dy * dy;
+		}
+
+		double enlargedArea(Box o) {
+			return (Math.max(maxX, o.maxX) - Math.min(minX, o.minX))
+					* (Math.max(maxY, o.maxY) - Math.min(minY, o.minY));
+		}
+
+		void include(Box o) {
+			minX = Math.min(minX, o.minX);
+			minY = Math.min(minY, o.minY);
+			maxX = Math.max(maxX, o.maxX);
+			maxY = Math.max(maxY, o.maxY);
+		}
+
+		double margin() {
+			return maxX - minX + maxY - minY;
+		}
+
+		double overlap(Box o) {
+			double w = Math.min(maxX, o.maxX) - Math.max(minX, o.minX);
+			double h = Math.min(maxY, o.maxY) - Math.max(minY, o.minY);
+			return w > 0 && h > 0 ? w * h : 0;
+		}
+
+		void reset() {
+			minX = Double.POSITIVE_INFINITY;
+			minY = Double.POSITIVE_INFINITY;
+			maxX = Double.NEGATIVE_INFINITY;
+			maxY = Double.NEGATIVE_INFINITY;
+		}
+
+		void set(Rectangle r) {
+			minX = r.getX();
+			minY = r.getY();
+			maxX = r.getX() + r.getWidth();
+			maxY = r.getY() + r.getHeight();
+		}
+
+		boolean touches(double x0, double y0, double x1, double y1) {
+			return minX <= x1 && x0 <= maxX && minY <= y1 && y0 <= maxY;
+		}
+	}
+
+	/**
+	 * A candidate of a nearest neighbor search.
+	 */
+	private static final class Candidate {
+		final double distance;
+		final Box box;
+
+		Candidate(double distance, Box box) {
+			this.distance = distance;
+			this.box = box;
+		}
+	}
+
+	/**
+	 * A leaf entry, i.e. an element and its bounds.
+	 */
+	private static final class Entry<T> extends Box {
+		final T element;
+		Node leaf;
+
+		Entry(T element) {
+			this.element = element;
+		}
+	}
+
+	/**
+	 * An inner or leaf node. The children of leaf nodes (level 0) are
+	 * {@link Entry}s, the children of inner nodes are {@link Node}s of the
+	 * next lower level.
+	 */
+	private static final class Node extends Box {
+		final int level;
+		final Box[] children = new Box[MAX_ENTRIES + 1];
+		int size;
+		Node parent;
+
+		Node(int level) {
+			this.level = level;
+		}
+
+		void recomputeBounds() {
+			reset();
+			for (int i = 0; i < size; i++) {
+				include(children[i]);
+			}
+		}
+	}
+
+	private static final int MAX_ENTRIES = 16;
+	private static final int MIN_ENTRIES = 6;
+	private static final int REINSERT_COUNT = 5;
+
+	private static final Comparator<Box> BY_MIN_X = Comparator
+			.comparingDouble(b -> b.minX);
+	private static final Comparator<Box> BY_MAX_X = Comparator
+			.comparingDouble(b -> b.maxX);
+	private static final Comparator<Box> BY_MIN_Y = Comparator
+			.comparingDouble(b -> b.minY);
+	private static final Comparator<Box> BY_MAX_Y = Comparator
+			.comparingDouble(b -> b.maxY);
+	private static final Comparator<Box> BY_CENTER_X = Comparator
+			.comparingDouble(b -> b.minX + b.maxX);
+	private static final Comparator<Box> BY_CENTER_Y = Comparator
+			.comparingDouble(b -> b.minY + b.maxY);
+
+	private static void checkNotNull(Object element, IGeometry geometry) {
+		if (element == null) {
+			throw new IllegalArgumentException(
+					"The given element may not be null.");
+		}
+		if (geometry == null) {
+			throw new IllegalArgumentException(
+					"The given geometry may not be null.");
+		}
+	}
+
+	private Node root = new Node(0);
+	private final Map<T, Entry<T>> entries = new IdentityHashMap<>();
+	// the levels at which a forced reinsertion was performed (during the
+	// current insertion)
+	private final boolean[] reinserted = new boolean[64];
+
+	/**
+	 * Constructs a new, empty {@link RTree}.
+	 */
+	public RTree() {
+	}
+
+	private void add(Node node, Box child) {
+		node.children[node.size++] = child;
+		if (child instanceof Node) {
+			((Node) child).parent = node;
+		} else {
+			((Entry<?>) child).leaf = node;
+		}
+	}
+
+	/**
+	 * Chooses the node of the given level into which the given box is
+	 * inserted.
+	 */
+	private Node chooseSubtree(Box box, int level) {
+		Node node = root;
+		while (node.level > level) {
+			Node best = null;
+			double bestOverlap = Double.POSITIVE_INFINITY;
+			double bestEnlargement = Double.POSITIVE_INFINITY;
+			double bestArea = Double.POSITIVE_INFINITY;
+			for (int i = 0; i < node.size; i++) {
+				Node child = (Node) node.children[i];
+				double area = child.area();
+				double enlarged = child.enlargedArea(box);
+				double overlap = 0;
+				if (node.level == 1) {
+					// children point to leaves: minimize overlap enlargement
+					Box grown = new Box();
+					grown.include(child);
+					grown.include(box);
+					for (int j = 0; j < node.size; j++) {
+						if (j != i) {
+							overlap += grown.overlap(node.children[j])
+									- child.overlap(node.children[j]);
+						}
+					}
+				}
+				double enlargement = enlarged - area;
+				if (overlap < bestOverlap
+						|| overlap == bestOverlap
+								&& (enlargement < bestEnlargement
+										|| enlargement == bestEnlargement
+												&& area < bestArea)) {
+					best = child;
+					bestOverlap = overlap;
+					bestEnlargement = enlargement;
+					bestArea = area;
+				}
+			}
+			node = best;
+		}
+		return node;
+	}
+
+	/**
+	 * Returns the children of the given (overflowing) node, ordered so that
+	 * the first <code>result[0].length</code> children form the first group of
+	 * the split that minimizes margin and overlap.
+	 */
+	private Box[][] chooseSplit(Node node) {
+		int n = node.size;
+		Box[] children = Arrays.copyOf(node.children, n);
+		// choose the split axis by the minimum sum of margins
+		Box[] bestX = chooseSplitDistribution(children, BY_MIN_X, BY_MAX_X);
+		Box[] bestY = chooseSplitDistribution(children, BY_MIN_Y, BY_MAX_Y);
+		double marginX = marginSum(children, BY_MIN_X)
+				+ marginSum(children, BY_MAX_X);
+		double marginY = marginSum(children, BY_MIN_Y)
+				+ marginSum(children, BY_MAX_Y);
+		Box[] best = marginX <= marginY ? bestX : bestY;
+		int k = (int) best[n].minX;
+		return new Box[][] { Arrays.copyOfRange(best, 0, k),
+				Arrays.copyOfRange(best, k, n) };
+	}
+
+	/**
+	 * Chooses the distribution (along one axis) with minimal overlap (and
+	 * area). The result contains the ordered children, followed by a dummy
+	 * box whose minX specifies the size of the first group.
+	 */
+	private Box[] chooseSplitDistribution(Box[] children,
+			Comparator<Box> byMin, Comparator<Box> byMax) {
+		int n = children.length;
+		Box[] best = null;
+		int bestK = 0;
+		double bestOverlap = Double.POSITIVE_INFINITY;
+		double bestArea = Double.POSITIVE_INFINITY;
+		for (Comparator<Box> comparator : Arrays.asList(byMin, byMax)) {
+			Box[] sorted = children.clone();
+			Arrays.sort(sorted, comparator);
+			Box[] prefix = prefixBounds(sorted);
+			Box[] suffix = suffixBounds(sorted);
+			for (int k = MIN_ENTRIES; k <= n - MIN_ENTRIES; k++) {
+				double overlap = prefix[k - 1].overlap(suffix[k]);
+				double area = prefix[k - 1].area() + suffix[k].area();
+				if (overlap < bestOverlap
+						|| overlap == bestOverlap && area < bestArea) {
+					best = sorted;
+					bestK = k;
+					bestOverlap = overlap;
+					bestArea = area;
+				}
+			}
+		}
+		Box[] result = Arrays.copyOf(best, n + 1);
+		result[n] = new Box();
+		result[n].minX = bestK;
+		return result;
+	}
+
+	@Override
+	public void clear() {
+		root = new Node(0);
+		entries.clear();
+	}
+
+	/**
+	 * Removes underfull nodes on the path from the given node to the root,
+	 * reinserting their entries, and shrinks the bounds along the path.
+	 */
+	private void condense(Node node) {
+		List<Entry<T>> orphans = new ArrayList<>();
+		Node n = node;
+		while (n != root) {
+			Node parent = n.parent;
+			if (n.size < MIN_ENTRIES) {
+				removeChild(parent, n);
+				collectEntries(n, orphans);
+			} else {
+				n.recomputeBounds();
+			}
+			n = parent;
+		}
+		root.recomputeBounds();
+		if (root.size == 0) {
+			root = new Node(0);
+		}
+		while (root.level > 0 && root.size == 1) {
+			root = (Node) root.children[0];
+			root.parent = null;
+		}
+		for (Entry<T> orphan : orphans) {
+			Arrays.fill(reinserted, false);
+			insert(orphan, 0);
+		}
+	}
+
+	@Override
+	public boolean contains(T element) {
+		return entries.containsKey(element);
+	}
+
+	@SuppressWarnings("unchecked")
+	private void collectEntries(Node node, List<Entry<T>> result) {
+		for (int i = 0; i < node.size; i++) {
+			if (node.level == 0) {
+				result.add((Entry<T>) node.children[i]);
+			} else {
+				collectEntries((Node) node.children[i], result);
+			}
+		}
+	}
+
+	private void extendUpward(Node node, Box box) {
+		for (Node n = node; n != null && !n.contains(box); n = n.parent) {
+			n.include(box);
+		}
+	}
+
+	/**
+	 * Returns the height of this {@link RTree}, i.e. the number of levels.
+	 *
+	 * @return The height of this {@link RTree}.
+	 */
+	public int getHeight() {
+		return root.level + 1;
+	}
+
+	private void insert(Box box, int level) {
+		Node node = chooseSubtree(box, level);
+		add(node, box);
+		if (node.size > MAX_ENTRIES) {
+			overflow(node);
+		} else {
+			extendUpward(node, box);
+		}
+	}
+
+	@Override
+	public void insert(T element, IGeometry geometry) {
+		checkNotNull(element, geometry);
+		if (entries.containsKey(element)) {
+			update(element, geometry);
+			return;
+		}
+		Entry<T> entry = new Entry<>(element);
+		entry.set(geometry.getBounds());
+		entries.put(element, entry);
+		Arrays.fill(reinserted, false);
+		insert(entry, 0);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * If this {@link RTree} is empty, it is bulk loaded by the
+	 * Sort-Tile-Recursive algorithm.
+	 */
+	@Override
+	public void insertAll(Collection<? extends T> elements,
+			Function<? super T, ? extends IGeometry> geometries) {
+		if (!entries.isEmpty()) {
+			SpatialIndex.super.insertAll(elements, geometries);
+			return;
+		}
+		List<Box> boxes = new ArrayList<>(elements.size());
+		for (T element : elements) {
+			IGeometry geometry = geometries.apply(element);
+			checkNotNull(element, geometry);
+			Entry<T> entry = entries.get(element);
+			if (entry == null) {
+				entry = new Entry<>(element);
+				entries.put(element, entry);
+				boxes.add(entry);
+			}
+			entry.set(geometry.getBounds());
+		}
+		int level = 0;
+		while (boxes.size() > MAX_ENTRIES) {
+			boxes = pack(boxes, level++);
+		}
+		root = new Node(level);
+		for (Box box : boxes) {
+			add(root, box);
+		}
+		root.recomputeBounds();
+	}
+
+	private double marginSum(Box[] children, Comparator<Box> comparator) {
+		Box[] sorted = children.clone();
+		Arrays.sort(sorted, comparator);
+		Box[] prefix = prefixBounds(sorted);
+		Box[] suffix = suffixBounds(sorted);
+		double sum = 0;
+		for (int k = MIN_ENTRIES; k <= sorted.length - MIN_ENTRIES; k++) {
+			sum += prefix[k - 1].margin() + suffix[k].margin();
+		}
+		return sum;
+	}
+
+	private void overflow(Node node) {
+		if (node != root && !reinserted[node.level]) {
+			reinserted[node.level] = true;
+			reinsert(node);
+		} else {
+			split(node);
+		}
+	}
+
+	/**
+	 * Packs the given boxes into nodes of the given level, by sorting them
+	 * into vertical slices (by x), which are sorted by y and cut into nodes.
+	 */
+	private List<Box> pack(List<Box> boxes, int level) {
+		int n = boxes.size();
+		int nodeCount = (n + MAX_ENTRIES - 1) / MAX_ENTRIES;
+		int sliceCount = (int) Math.ceil(Math.sqrt(nodeCount));
+		boxes.sort(BY_CENTER_X);
+		List<Box> nodes = new ArrayList<>(nodeCount);
+		for (int s = 0; s < sliceCount; s++) {
+			List<Box> slice = new ArrayList<>(boxes.subList(
+					(int) ((long) n * s / sliceCount),
+					(int) ((long) n * (s + 1) / sliceCount)));
+			slice.sort(BY_CENTER_Y);
+			int size = slice.size();
+			int count = (size + MAX_ENTRIES - 1) / MAX_ENTRIES;
+			for (int c = 0; c < count; c++) {
+				Node node = new Node(level);
+				for (int i = size * c / count; i < size * (c + 1)
+						/ count; i++) {
+					add(node, slice.get(i));
+				}
+				node.recomputeBounds();
+				nodes.add(node);
+			}
+		}
+		return nodes;
+	}
+
+	private Box[] prefixBounds(Box[] sorted) {
+		Box[] prefix = new Box[sorted.length];
+		Box bounds = new Box();
+		for (int i = 0; i < sorted.length; i++) {
+			bounds.include(sorted[i]);
+			prefix[i] = new Box();
+			prefix[i].include(bounds);
+		}
+		return prefix;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public List<T> queryNearest(Point point, int k) {
+		List<T> result = new ArrayList<>(Math.max(0, Math.min(k, size())));
+		if (k <= 0 || entries.isEmpty()) {
+			return result;
+		}
+		PriorityQueue<Candidate> queue = new PriorityQueue<>(
+				Comparator.comparingDouble(c -> c.distance));
+		queue.add(new Candidate(0, root));
+		while (!queue.isEmpty()) {
+			Box box = queue.poll().box;
+			if (box instanceof Entry) {
+				result.add(((Entry<T>) box).element);
+				if (result.size() == k) {
+					break;
+				}
+			} else {
+				Node node = (Node) box;
+				for (int i = 0; i < node.size; i++) {
+					Box child = node.children[i];
+					queue.add(new Candidate(
+							child.distanceSquared(point.x, point.y), child));
+				}
+			}
+		}
+		return result;
+	}
+
+	@Override
+	public List<T> queryPoint(Point point) {
+		return query(point.x, point.y, point.x, point.y);
+	}
+
+	@SuppressWarnings("unchecked")
+	private List<T> query(double x0, double y0, double x1, double y1) {
+		List<T> result = new ArrayList<>();
+		Node[] stack = new Node[8 * (root.level + 1) * MAX_ENTRIES];
+		int stackSize = 0;
+		if (root.touches(x0, y0, x1, y1)) {
+			stack[stackSize++] = root;
+		}
+		while (stackSize > 0) {
+			Node node = stack[--stackSize];
+			for (int i = 0; i < node.size; i++) {
+				Box child = node.children[i];
+				if (child.touches(x0, y0, x1, y1)) {
+					if (node.level == 0) {
+						result.add(((Entry<T>) child).element);
+					} else {
+						stack[stackSize++] = (Node) child;
+					}
+				}
+			}
+		}
+		return result;
+	}
+
+	@Override
+	public List<T> queryRange(Rectangle range) {
+		return query(range.getX(), range.getY(),
+				range.getX() + range.getWidth(),
+				range.getY() + range.getHeight());
+	}
+
+	/**
+	 * Removes the children that are farthest from the center of the given
+	 * node, and reinserts them (closest first), so that the tree is
+	 * reorganized before a split becomes necessary.
+	 */
+	private void reinsert(Node node) {
+		double cx = node.minX + node.maxX;
+		double cy = node.minY + node.maxY;
+		Box[] children = Arrays.copyOf(node.children, node.size);
+		Arrays.sort(children, Comparator.comparingDouble(b -> {
+			double dx = b.minX + b.maxX - cx;
+			double dy = b.minY + b.maxY - cy;
+			return -(dx * dx + dy * dy);
+		}));
+		Arrays.fill(node.children, null);
+		node.size = 0;
+		for (int i = REINSERT_COUNT; i < children.length; i++) {
+			add(node, children[i]);
+		}
+		for (Node n = node; n != null; n = n.parent) {
+			n.recomputeBounds();
+		}
+		for (int i = REINSERT_COUNT - 1; i >= 0; i--) {
+			insert(children[i], node.level);
+		}
+	}
+
+	@Override
+	public boolean remove(T element) {
+		Entry<T> entry = entries.remove(element);
+		if (entry == null) {
+			return false;
+		}
+		Node leaf = entry.leaf;
+		removeChild(leaf, entry);
+		condense(leaf);
+		return true;
+	}
+
+	private void removeChild(Node node, Box child) {
+		for (int i = 0; i < node.size; i++) {
+			if (node.children[i] == child) {
+				node.children[i] = node.children[--node.size];
+				node.children[node.size] = null;
+				return;
+			}
+		}
+	}
+
+	@Override
+	public int size() {
+		return entries.size();
+	}
+
+	private void split(Node node) {
+		Box[][] groups = chooseSplit(node);
+		Node sibling = new Node(node.level);
+		Arrays.fill(node.children, null);
+		node.size = 0;
+		for (Box box : groups[0]) {
+			add(node, box);
+		}
+		for (Box box : groups[1]) {
+			add(sibling, box);
+		}
+		node.recomputeBounds();
+		sibling.recomputeBounds();
+		if (node == root) {
+			root = new Node(node.level + 1);
+			add(root, node);
+			add(root, sibling);
+			root.recomputeBounds();
+			return;
+		}
+		Node parent = node.parent;
+		add(parent, sibling);
+		if (parent.size > MAX_ENTRIES) {
+			overflow(parent);
+		} else {
+			for (Node n = parent; n != null; n = n.parent) {
+				n.recomputeBounds();
+			}
+		}
+	}
+
+	private Box[] suffixBounds(Box[] sorted) {
+		Box[] suffix = new Box[sorted.length];
+		Box bounds = new Box();
+		for (int i = sorted.length - 1; i >= 0; i--) {
+			bounds.include(sorted[i]);
+			suffix[i] = new Box();
+			suffix[i].include(bounds);
+		}
+		return suffix;
+	}
+
+	@Override
+	public void update(T element, IGeometry geometry) {
+		checkNotNull(element, geometry);
+		Entry<T> entry = entries.get(element);
+		if (entry == null) {
+			insert(element, geometry);
+			return;
+		}
+		Box bounds = new Box();
+		bounds.set(geometry.getBounds());
+		Node leaf = entry.leaf;
+		if (leaf.contains(bounds)) {
+			// the entry remains within its leaf, only shrink the bounds
+			entry.set(geometry.getBounds());
+			for (Node n = leaf; n != null; n = n.parent) {
+				n.recomputeBounds();
+			}
+			return;
+		}
+		removeChild(leaf, entry);
+		condense(leaf);
+		entry.set(geometry.getBounds());
+		Arrays.fill(reinserted, false);
+		insert(entry, 0);
+	}
+
+}
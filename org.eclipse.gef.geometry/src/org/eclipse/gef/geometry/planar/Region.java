@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2016 itemis AG and others.
+ * Copyright (c) 2011, 2026 itemis AG and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -23,6 +23,7 @@ import java.util.Set;
 import java.util.Stack;
 
 import org.eclipse.gef.geometry.euclidean.Angle;
+import org.eclipse.gef.geometry.internal.utils.PrecisionUtils;
 
 /**
  * A combination of {@link Rectangle}s. The {@link Rectangle}s that build up a
@@ -37,6 +38,14 @@ import org.eclipse.gef.geometry.euclidean.Angle;
  * They are defined to not share any area, so that only their borders can be
  * overlapping.
  *
+ * Point and {@link Rectangle} queries ({@link #contains(Point)},
+ * {@link #contains(IGeometry)}, and {@link #touches(IGeometry)}) are answered
+ * in logarithmic time by a y-banded representation of the covered area (as
+ * used for X11 regions), i.e. a list of horizontal bands, each of which
+ * contains a sorted list of disjoint x-intervals. {@link #addAll(Rectangle...)}
+ * computes this representation by a sweep and uses it as the internal
+ * {@link Rectangle}s.
+ *
  * @author anyssen
  * @author mwienand
  *
@@ -44,6 +53,393 @@ import org.eclipse.gef.geometry.euclidean.Angle;
 public class Region extends AbstractMultiShape
 		implements ITranslatable<Region>, IScalable<Region>, IRotatable<Ring> {
 
+	/**
+	 * The y-banded representation of the area that is covered by a list of
+	 * {@link Rectangle}s. The bands are sorted by y, do not overlap, and
+	 * vertically adjacent bands with identical x-intervals are coalesced, so
+	 * that the representation is canonical. {@link Rectangle}s that do not
+	 * cover any area (i.e. lines and points) cannot be represented by the
+	 * bands, so that those which are not covered by the bands are kept
+	 * separately.
+	 */
+	private static final class Bands {
+
+		private static double[] grow(double[] array, int size) {
+			if (size < array.length) {
+				return array;
+			}
+			return Arrays.copyOf(array, Math.max(2 * array.length, size + 1));
+		}
+
+		private static int[] grow(int[] array, int size) {
+			if (size < array.length) {
+				return array;
+			}
+			return Arrays.copyOf(array, Math.max(2 * array.length, size + 1));
+		}
+
+		// the vertical extent of the bands
+		private double[] top = new double[8];
+		private double[] bottom = new double[8];
+		// the x-intervals of band i are stored (as pairs of left and right
+		// coordinates) from offset[i] (inclusive) to offset[i + 1]
+		// (exclusive)
+		private int[] offset = new int[9];
+		private double[] x = new double[16];
+		private int count;
+		// the rectangles that do not cover any area and that are not covered
+		// by the bands
+		private final List<Rectangle> degenerate = new ArrayList<>();
+
+		/**
+		 * Computes the bands for the given {@link Rectangle}s by a sweep in
+		 * y-direction, which maintains the {@link Rectangle}s that span the
+		 * current band, sorted by x. The bands are computed in <i>O(n log n +
+		 * a)</i>, where <i>a</i> is the sum of the numbers of spanning
+		 * {@link Rectangle}s over all bands.
+		 *
+		 * @param rectangles
+		 *            The {@link Rectangle}s for which to compute the bands.
+		 */
+		Bands(List<Rectangle> rectangles) {
+			// rectangles that do not cover any area are kept separately
+			List<Rectangle> covering = new ArrayList<>(rectangles.size());
+			List<Rectangle> lines = new ArrayList<>();
+			for (Rectangle r : rectangles) {
+				if (r.width > 0 && r.height > 0) {
+					covering.add(r);
+				} else {
+					lines.add(r);
+				}
+			}
+			int n = covering.size();
+			Integer[] byTop = new Integer[n];
+			Integer[] byBottom = new Integer[n];
+			double[] ys = new double[2 * n];
+			for (int i = 0; i < n; i++) {
+				byTop[i] = i;
+				byBottom[i] = i;
+				ys[2 * i] = covering.get(i).y;
+				ys[2 * i + 1] = covering.get(i).y + covering.get(i).height;
+			}
+			Arrays.sort(byTop,
+					(a, b) -> Double.compare(covering.get(a).y,
+							covering.get(b).y));
+			Arrays.sort(byBottom,
+					(a, b) -> Double.compare(
+							covering.get(a).y + covering.get(a).height,
+							covering.get(b).y + covering.get(b).height));
+			Arrays.sort(ys);
+			// the rectangles that span the current band, sorted by x
+			int[] active = new int[16];
+			int activeCount = 0;
+			double[] intervals = new double[16];
+			int nextTop = 0;
+			int nextBottom = 0;
+			for (int k = 0; k + 1 < ys.length; k++) {
+				double y = ys[k];
+				double nextY = ys[k + 1];
+				while (nextBottom < n && covering.get(byBottom[nextBottom]).y
+						+ covering.get(byBottom[nextBottom]).height <= y) {
+					int r = byBottom[nextBottom++];
+					for (int a = 0; a < activeCount; a++) {
+						if (active[a] == r) {
+							System.arraycopy(active, a + 1, active, a,
+									activeCount - a - 1);
+							activeCount--;
+							break;
+						}
+					}
+				}
+				while (nextTop < n && covering.get(byTop[nextTop]).y <= y) {
+					int r = byTop[nextTop++];
+					double left = covering.get(r).x;
+					int low = 0;
+					int high = activeCount;
+					while (low < high) {
+						int mid = (low + high) >>> 1;
+						if (covering.get(active[mid]).x < left) {
+							low = mid + 1;
+						} else {
+							high = mid;
+						}
+					}
+					active = grow(active, activeCount);
+					System.arraycopy(active, low, active, low + 1,
+							activeCount - low);
+					active[low] = r;
+					activeCount++;
+				}
+				if (nextY == y || activeCount == 0) {
+					continue;
+				}
+				// merge the x-intervals of the spanning rectangles
+				int size = 0;
+				for (int a = 0; a < activeCount; a++) {
+					Rectangle r = covering.get(active[a]);
+					if (size > 0 && r.x <= intervals[size - 1]) {
+						intervals[size - 1] = Math.max(intervals[size - 1],
+								r.x + r.width);
+					} else {
+						intervals = grow(intervals, size + 1);
+						intervals[size++] = r.x;
+						intervals[size++] = r.x + r.width;
+					}
+				}
+				addBand(y, nextY, intervals, size);
+			}
+			for (Rectangle r : lines) {
+				if (!contains(r.x, r.y, r.width, r.height)) {
+					degenerate.add(r);
+				}
+			}
+		}
+
+		private void addBand(double y, double nextY, double[] intervals,
+				int size) {
+			if (count > 0 && bottom[count - 1] == y
+					&& offset[count] - offset[count - 1] == size) {
+				boolean identical = true;
+				for (int i = 0; i < size && identical; i++) {
+					identical = x[offset[count - 1] + i] == intervals[i];
+				}
+				if (identical) {
+					// coalesce with the band above
+					bottom[count - 1] = nextY;
+					return;
+				}
+			}
+			top = grow(top, count);
+			bottom = grow(bottom, count);
+			offset = grow(offset, count + 1);
+			x = grow(x, offset[count] + size);
+			top[count] = y;
+			bottom[count] = nextY;
+			System.arraycopy(intervals, 0, x, offset[count], size);
+			offset[count + 1] = offset[count] + size;
+			count++;
+		}
+
+		/**
+		 * Returns whether the given {@link Point} lies (imprecisely) within
+		 * one of the bands.
+		 */
+		boolean contains(double px, double py) {
+			for (int i = findBand(py); i < count
+					&& PrecisionUtils.smallerEqual(top[i], py); i++) {
+				if (covers(i, px, 0)) {
+					return true;
+				}
+			}
+			for (Rectangle r : degenerate) {
+				if (r.contains(px, py)) {
+					return true;
+				}
+			}
+			return false;
+		}
+
+		/**
+		 * Returns whether the given rectangle is (imprecisely) covered by the
+		 * bands (and the rectangles that do not cover any area).
+		 */
+		boolean contains(double rx, double ry, double rw, double rh) {
+			// the rectangle may start within any band that (imprecisely)
+			// contains its top
+			for (int i = findBand(ry); i < count
+					&& PrecisionUtils.smallerEqual(top[i], ry); i++) {
+				double covered = ry;
+				for (int k = i; k < count
+						&& PrecisionUtils.smallerEqual(top[k], covered)
+						&& covers(k, rx, rw); k++) {
+					covered = bottom[k];
+					if (PrecisionUtils.greaterEqual(covered, ry + rh)) {
+						return true;
+					}
+				}
+			}
+			// a rectangle that does not cover any area may lie on the border
+			// between bands (or on rectangles that do not cover any area), so
+			// that it is covered by their union
+			if (PrecisionUtils.equal(rh, 0)) {
+				return containsHorizontal(rx, ry, rw);
+			}
+			if (PrecisionUtils.equal(rw, 0)) {
+				return containsVertical(rx, ry, rh);
+			}
+			return false;
+		}
+
+		/**
+		 * Returns whether the given horizontal line segment is (imprecisely)
+		 * covered by the union of the intervals of all bands and of all
+		 * rectangles that do not cover any area, which (imprecisely) contain
+		 * its y coordinate.
+		 */
+		private boolean containsHorizontal(double rx, double ry, double rw) {
+			double[] intervals = new double[16];
+			int size = 0;
+			for (int i = findBand(ry); i < count
+					&& PrecisionUtils.smallerEqual(top[i], ry); i++) {
+				intervals = grow(intervals, size + offset[i + 1] - offset[i]);
+				System.arraycopy(x, offset[i], intervals, size,
+						offset[i + 1] - offset[i]);
+				size += offset[i + 1] - offset[i];
+			}
+			for (Rectangle r : degenerate) {
+				if (PrecisionUtils.smallerEqual(r.y, ry)
+						&& PrecisionUtils.greaterEqual(r.y + r.height, ry)) {
+					intervals = grow(intervals, size + 1);
+					intervals[size++] = r.x;
+					intervals[size++] = r.x + r.width;
+				}
+			}
+			return coversRange(intervals, size, rx, rx + rw);
+		}
+
+		/**
+		 * Returns whether the given vertical line segment is (imprecisely)
+		 * covered by the union of the vertical extents of all bands and of all
+		 * rectangles that do not cover any area, which (imprecisely) contain
+		 * its x coordinate.
+		 */
+		private boolean containsVertical(double rx, double ry, double rh) {
+			double[] intervals = new double[16];
+			int size = 0;
+			for (int i = findBand(ry); i < count
+					&& PrecisionUtils.smallerEqual(top[i], ry + rh); i++) {
+				if (covers(i, rx, 0)) {
+					intervals = grow(intervals, size + 1);
+					intervals[size++] = top[i];
+					intervals[size++] = bottom[i];
+				}
+			}
+			for (Rectangle r : degenerate) {
+				if (PrecisionUtils.smallerEqual(r.x, rx)
+						&& PrecisionUtils.greaterEqual(r.x + r.width, rx)) {
+					intervals = grow(intervals, size + 1);
+					intervals[size++] = r.y;
+					intervals[size++] = r.y + r.height;
+				}
+			}
+			return coversRange(intervals, size, ry, ry + rh);
+		}
+
+		/**
+		 * Returns whether one of the intervals of the given band
+		 * (imprecisely) covers the given x-range.
+		 */
+		private boolean covers(int band, double rx, double rw) {
+			for (int j = findInterval(band, rx); j < offset[band + 1]
+					&& PrecisionUtils.smallerEqual(x[j], rx); j += 2) {
+				if (PrecisionUtils.greaterEqual(x[j + 1], rx + rw)) {
+					return true;
+				}
+			}
+			return false;
+		}
+
+		/**
+		 * Returns whether the union of the given intervals (stored as pairs of
+		 * start and end coordinates) (imprecisely) covers the given range.
+		 */
+		private static boolean coversRange(double[] intervals, int size,
+				double from, double to) {
+			Integer[] byStart = new Integer[size / 2];
+			for (int i = 0; i < byStart.length; i++) {
+				byStart[i] = 2 * i;
+			}
+			Arrays.sort(byStart,
+					(a, b) -> Double.compare(intervals[a], intervals[b]));
+			double covered = from;
+			for (int i : byStart) {
+				if (!PrecisionUtils.smallerEqual(intervals[i], covered)) {
+					return false;
+				}
+				if (PrecisionUtils.greaterEqual(intervals[i + 1], covered)) {
+					covered = Math.max(covered, intervals[i + 1]);
+					if (PrecisionUtils.greaterEqual(covered, to)) {
+						return true;
+					}
+				}
+			}
+			return false;
+		}
+
+		/**
+		 * Returns the index of the first band whose bottom is not
+		 * (imprecisely) above the given y coordinate.
+		 */
+		private int findBand(double py) {
+			int low = 0;
+			int high = count;
+			while (low < high) {
+				int mid = (low + high) >>> 1;
+				if (PrecisionUtils.greaterEqual(bottom[mid], py)) {
+					high = mid;
+				} else {
+					low = mid + 1;
+				}
+			}
+			return low;
+		}
+
+		/**
+		 * Returns the index (into {@link #x}) of the first interval of the
+		 * given band whose right end is not (imprecisely) left of the given x
+		 * coordinate.
+		 */
+		private int findInterval(int band, double px) {
+			int low = offset[band] / 2;
+			int high = offset[band + 1] / 2;
+			while (low < high) {
+				int mid = (low + high) >>> 1;
+				if (PrecisionUtils.greaterEqual(x[2 * mid + 1], px)) {
+					high = mid;
+				} else {
+					low = mid + 1;
+				}
+			}
+			return 2 * low;
+		}
+
+		/**
+		 * Returns a list of {@link Rectangle}s, one per interval of each band.
+		 */
+		ArrayList<Rectangle> toRectangles() {
+			ArrayList<Rectangle> rectangles = new ArrayList<>(
+					offset[count] / 2);
+			for (int i = 0; i < count; i++) {
+				for (int j = offset[i]; j < offset[i + 1]; j += 2) {
+					rectangles.add(new Rectangle(x[j], top[i], x[j + 1] - x[j],
+							bottom[i] - top[i]));
+				}
+			}
+			return rectangles;
+		}
+
+		/**
+		 * Returns whether the given rectangle (imprecisely) touches one of the
+		 * bands.
+		 */
+		boolean touches(double rx, double ry, double rw, double rh) {
+			for (int i = findBand(ry); i < count
+					&& PrecisionUtils.smallerEqual(top[i], ry + rh); i++) {
+				int j = findInterval(i, rx);
+				if (j < offset[i + 1]
+						&& PrecisionUtils.smallerEqual(x[j], rx + rw)) {
+					return true;
+				}
+			}
+			for (Rectangle r : degenerate) {
+				if (r.touches(new Rectangle(rx, ry, rw, rh))) {
+					return true;
+				}
+			}
+			return false;
+		}
+	}
+
 	/**
 	 * Cuts the given {@link Rectangle}s along the given parallel to the x-axis.
 	 *
@@ -84,6 +480,9 @@ public class Region extends AbstractMultiShape
 
 	private ArrayList<Rectangle> rects;
 
+	// the y-banded representation of rects (lazily computed)
+	private transient Bands bands;
+
 	/**
 	 * Constructs a new {@link Region} not covering any area.
 	 */
@@ -175,15 +574,54 @@ public class Region extends AbstractMultiShape
 		}
 
 		rects.addAll(toAdd);
+		bands = null;
 
 		return this;
 	}
 
+	/**
+	 * Adds the given {@link Rectangle}s to this {@link Region}.
+	 *
+	 * In contrast to {@link #add(Rectangle)}, the internal {@link Rectangle}s
+	 * are recomputed from scratch by a sweep over all (internal and given)
+	 * {@link Rectangle}s in <i>O(n log n)</i> (for non-degenerate inputs). The
+	 * resulting internal {@link Rectangle}s are canonical: The covered area is
+	 * divided into maximal horizontal bands, each of which is divided into
+	 * maximal, disjoint {@link Rectangle}s. {@link Rectangle}s that do not
+	 * cover any area (i.e. lines and points) are appended to these (unless
+	 * they are contained by them), as done by {@link #add(Rectangle)}.
+	 *
+	 * @param rectangles
+	 *            the {@link Rectangle}s to add to this {@link Region}
+	 * @return <code>this</code> for convenience
+	 */
+	public Region addAll(Rectangle... rectangles) {
+		List<Rectangle> all = new ArrayList<>(
+				rects.size() + rectangles.length);
+		all.addAll(rects);
+		for (Rectangle r : rectangles) {
+			all.add(r.getCopy());
+		}
+		bands = new Bands(all);
+		rects = bands.toRectangles();
+		rects.addAll(bands.degenerate);
+		return this;
+	}
+
 	@Override
 	public boolean contains(IGeometry g) {
+		if (g instanceof Rectangle) {
+			Rectangle r = (Rectangle) g;
+			return getBands().contains(r.x, r.y, r.width, r.height);
+		}
 		return ShapeUtils.contains(this, g);
 	}
 
+	@Override
+	public boolean contains(Point p) {
+		return getBands().contains(p.x, p.y);
+	}
+
 	@Override
 	public boolean equals(Object obj) {
 		if (obj instanceof Region) {
@@ -211,6 +649,13 @@ public class Region extends AbstractMultiShape
 		return edges.toArray(new Line[] {});
 	}
 
+	private Bands getBands() {
+		if (bands == null) {
+			bands = new Bands(rects);
+		}
+		return bands;
+	}
+
 	@Override
 	public Rectangle getBounds() {
 		if (rects.size() == 0) {
@@ -364,6 +809,7 @@ public class Region extends AbstractMultiShape
 		for (Rectangle r : rects) {
 			r.scale(fx, fy, cx, cy);
 		}
+		bands = null;
 		return this;
 	}
 
@@ -398,9 +844,19 @@ public class Region extends AbstractMultiShape
 		for (Rectangle r : rects) {
 			r.translate(dx, dy);
 		}
+		bands = null;
 		return this;
 	}
 
+	@Override
+	public boolean touches(IGeometry g) {
+		if (g instanceof Rectangle) {
+			Rectangle r = (Rectangle) g;
+			return getBands().touches(r.x, r.y, r.width, r.height);
+		}
+		return super.touches(g);
+	}
+
 	@Override
 	public Region translate(Point d) {
 		return translate(d.x, d.y);
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2016 itemis AG and others.
+ * Copyright (c) 2011, 2026 itemis AG and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -276,11 +276,20 @@ public class Ring extends AbstractMultiShape
 			}
 		}
 
+		// the triangles of the given polygon do not overlap each other, so
+		// that they only need to be split at the triangles that were already
+		// contained before
+		List<Polygon> trianglesAlreadyThere = new ArrayList<>(triangles);
 		while (!toAdd.empty()) {
 			Polygon triangleToAdd = toAdd.pop();
+			Rectangle bounds = triangleToAdd.getBounds();
 			Stack<Polygon> localAddends = new Stack<>();
 			localAddends.push(triangleToAdd);
-			for (Polygon triangleAlreadyThere : triangles) {
+			for (Polygon triangleAlreadyThere : trianglesAlreadyThere) {
+				// triangles that do not touch cannot split the addends
+				if (!bounds.touches(triangleAlreadyThere.getBounds())) {
+					continue;
+				}
 				for (Line e : triangleAlreadyThere.getOutlineSegments()) {
 					Stack<Polygon> nextAddends = new Stack<>();
 					for (Iterator<Polygon> i = localAddends.iterator(); i
@@ -494,12 +503,18 @@ public class Ring extends AbstractMultiShape
 	private void optimizeTriangles() {
 		for (int i = 0; i < triangles.size(); i++) {
 			Polygon t1 = triangles.get(i);
+			Rectangle bounds = t1.getBounds();
 			for (int j = i + 1; j < triangles.size(); j++) {
 				Polygon t2 = triangles.get(j);
+				// triangles that share an edge have touching bounds
+				if (!bounds.touches(t2.getBounds())) {
+					continue;
+				}
 				Polygon merge = mergeTriangles(t1, t2);
 				if (merge != null) {
 					triangles.set(i, merge);
 					t1 = merge;
+					bounds = t1.getBounds();
 					triangles.remove(j);
 					j = i;
 				}
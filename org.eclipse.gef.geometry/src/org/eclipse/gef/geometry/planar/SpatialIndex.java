@@ -0,0 +1,156 @@
+/*******************************************************************************
+ * Copyright (c) 2026 itemis AG and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     itemis AG - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.geometry.planar;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * A {@link SpatialIndex} manages a set of elements by the bounds of their
+ * associated {@link IGeometry}s (see {@link IGeometry#getBounds()}), so that
+ * the elements whose bounds touch a given {@link Rectangle}, contain a given
+ * {@link Point}, or are nearest to a given {@link Point} can be found without
+ * scanning all elements.
+ * <p>
+ * The bounds are copied when an element is inserted or updated, i.e. an index
+ * has to be {@link #update(Object, IGeometry) updated} explicitly when the
+ * geometry of an element changes. Elements are identified by identity (and
+ * not by {@link Object#equals(Object)}), because {@link IGeometry}s are
+ * compared imprecisely.
+ * <p>
+ * All queries are based on exact (inclusive) comparisons of the bounds, i.e.
+ * their results are candidates that may need to be refined by a precise (and
+ * imprecise) test of the actual geometries.
+ *
+ * @param <T>
+ *            The type of the indexed elements.
+ *
+ * @see RTree
+ * @see LooseQuadTree
+ */
+public interface SpatialIndex<T> {
+
+	/**
+	 * Removes all elements from this {@link SpatialIndex}.
+	 */
+	public void clear();
+
+	/**
+	 * Returns whether the given element is contained in this
+	 * {@link SpatialIndex}.
+	 *
+	 * @param element
+	 *            The element to test.
+	 * @return <code>true</code> if the element is contained, otherwise
+	 *         <code>false</code>.
+	 */
+	public boolean contains(T element);
+
+	/**
+	 * Inserts the given element into this {@link SpatialIndex}, using the
+	 * bounds of the given {@link IGeometry}. If the element is already
+	 * contained, it is {@link #update(Object, IGeometry) updated} instead.
+	 *
+	 * @param element
+	 *            The element to insert.
+	 * @param geometry
+	 *            The {@link IGeometry} whose bounds are associated with the
+	 *            element.
+	 */
+	public void insert(T element, IGeometry geometry);
+
+	/**
+	 * Inserts all given elements into this {@link SpatialIndex}, using the
+	 * bounds of the {@link IGeometry}s that are provided by the given
+	 * function. Implementations may use a bulk loading algorithm, which
+	 * results in a better structured index than individual insertions.
+	 *
+	 * @param elements
+	 *            The elements to insert.
+	 * @param geometries
+	 *            The function that provides the {@link IGeometry} for each
+	 *            element.
+	 */
+	public default void insertAll(Collection<? extends T> elements,
+			Function<? super T, ? extends IGeometry> geometries) {
+		for (T element : elements) {
+			insert(element, geometries.apply(element));
+		}
+	}
+
+	/**
+	 * Returns the (at most) <i>k</i> elements whose bounds are nearest to the
+	 * given {@link Point}, ordered by ascending distance. The distance of the
+	 * bounds that contain the {@link Point} is <code>0</code>.
+	 *
+	 * @param point
+	 *            The {@link Point} for which to find the nearest elements.
+	 * @param k
+	 *            The maximum number of elements to return.
+	 * @return The nearest elements, ordered by ascending distance.
+	 */
+	public List<T> queryNearest(Point point, int k);
+
+	/**
+	 * Returns all elements whose bounds contain the given {@link Point}
+	 * (including their borders).
+	 *
+	 * @param point
+	 *            The {@link Point} to test.
+	 * @return The elements whose bounds contain the given {@link Point}.
+	 */
+	public List<T> queryPoint(Point point);
+
+	/**
+	 * Returns all elements whose bounds touch the given {@link Rectangle},
+	 * i.e. intersect it or share a border with it.
+	 *
+	 * @param range
+	 *            The {@link Rectangle} to test.
+	 * @return The elements whose bounds touch the given {@link Rectangle}.
+	 */
+	public List<T> queryRange(Rectangle range);
+
+	/**
+	 * Removes the given element from this {@link SpatialIndex}.
+	 *
+	 * @param element
+	 *            The element to remove.
+	 * @return <code>true</code> if the element was contained, otherwise
+	 *         <code>false</code>.
+	 */
+	public boolean remove(T element);
+
+	/**
+	 * Returns the number of elements within this {@link SpatialIndex}.
+	 *
+	 * @return The number of elements.
+	 */
+	public int size();
+
+	/**
+	 * Updates the bounds of the given element to the bounds of the given
+	 * {@link IGeometry}. If the element is not yet contained, it is
+	 * {@link #insert(Object, IGeometry) inserted} instead.
+	 *
+	 * @param element
+	 *            The element to update.
+	 * @param geometry
+	 *            The {@link IGeometry} whose bounds are associated with the
+	 *            element.
+	 */
+	public void update(T element, IGeometry geometry);
+
+}
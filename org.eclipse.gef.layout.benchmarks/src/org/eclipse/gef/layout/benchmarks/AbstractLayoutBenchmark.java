@@ -0,0 +1,99 @@
+/*******************************************************************************
+ * Copyright (c) 2026 itemis AG and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     itemis AG - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.layout.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.gef.graph.Graph;
+import org.eclipse.gef.layout.ILayoutAlgorithm;
+import org.eclipse.gef.layout.LayoutContext;
+import org.eclipse.gef.layout.benchmarks.GraphGenerator.Kind;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Abstract base class for layout benchmarks. Subclasses declare the benchmark
+ * parameters (graph kind, number of nodes, and algorithm configuration) and
+ * create the {@link ILayoutAlgorithm} to measure. The graph is generated once
+ * per trial, and each benchmark invocation performs a single, clean layout
+ * pass.
+ * <p>
+ * The default graph sizes are chosen so that a complete run finishes in
+ * reasonable time. Larger graphs (e.g. 100,000 nodes) can be measured by
+ * overriding the parameter on the command line, e.g.
+ * <code>-p nodes=100000</code>.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = { "-Xms2g", "-Xmx2g" })
+public abstract class AbstractLayoutBenchmark {
+
+	private LayoutContext layoutContext;
+
+	/**
+	 * Creates the {@link ILayoutAlgorithm} that is measured.
+	 *
+	 * @return The {@link ILayoutAlgorithm} that is measured.
+	 */
+	protected abstract ILayoutAlgorithm createLayoutAlgorithm();
+
+	/**
+	 * Returns the {@link Kind} of graph that is laid out.
+	 *
+	 * @return The {@link Kind} of graph that is laid out.
+	 */
+	protected abstract Kind getGraphKind();
+
+	/**
+	 * Returns the number of nodes of the graph that is laid out.
+	 *
+	 * @return The number of nodes of the graph that is laid out.
+	 */
+	protected abstract int getNodeCount();
+
+	/**
+	 * Performs a single, clean layout pass.
+	 *
+	 * @return The laid out {@link Graph}, so that the layout is not eliminated
+	 *         as dead code.
+	 */
+	@Benchmark
+	public Graph layout() {
+		layoutContext.applyLayout(true);
+		return layoutContext.getGraph();
+	}
+
+	/**
+	 * Generates the graph and sets up the {@link LayoutContext}.
+	 */
+	@Setup(Level.Trial)
+	public void setUp() {
+		layoutContext = new LayoutContext();
+		layoutContext.setGraph(
+				GraphGenerator.generate(getGraphKind(), getNodeCount()));
+		layoutContext.setLayoutAlgorithm(createLayoutAlgorithm());
+	}
+}
@@ -0,0 +1,203 @@
+/*******************************************************************************
+ * Copyright (c) 2026 itemis AG and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     itemis AG - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.layout.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.eclipse.gef.geometry.planar.Dimension;
+import org.eclipse.gef.geometry.planar.Point;
+import org.eclipse.gef.geometry.planar.Rectangle;
+import org.eclipse.gef.graph.Edge;
+import org.eclipse.gef.graph.Graph;
+import org.eclipse.gef.graph.Node;
+import org.eclipse.gef.layout.LayoutProperties;
+
+/**
+ * The {@link GraphGenerator} creates synthetic, reproducible {@link Graph}s of
+ * a given {@link Kind} and size that are prepared for layout, i.e. all nodes
+ * have a location and size, and the graph has layout bounds that grow with the
+ * number of nodes.
+ */
+public final class GraphGenerator {
+
+	/**
+	 * The kinds of graphs that can be generated.
+	 */
+	public enum Kind {
+		/**
+		 * An Erdos-Renyi style random (directed, possibly cyclic) graph with
+		 * an average degree of {@link GraphGenerator#AVERAGE_DEGREE}.
+		 */
+		RANDOM,
+
+		/**
+		 * A Barabasi-Albert style scale-free graph, in which each new node
+		 * attaches to existing nodes with a probability proportional to their
+		 * degree.
+		 */
+		SCALE_FREE,
+
+		/**
+		 * A random recursive tree, in which each node (except the root) has a
+		 * single, randomly chosen predecessor.
+		 */
+		TREE,
+
+		/**
+		 * A random layered directed acyclic graph with
+		 * {@link GraphGenerator#DAG_LAYERS} layers, in which each node (except
+		 * for those in the first layer) has predecessors in the previous
+		 * layer only.
+		 */
+		DAG
+	}
+
+	/**
+	 * The average (total) degree of {@link Kind#RANDOM}, {@link Kind#DAG}, and
+	 * {@link Kind#SCALE_FREE} graphs.
+	 */
+	public static final int AVERAGE_DEGREE = 4;
+
+	/**
+	 * The number of layers of {@link Kind#DAG} graphs. It is chosen so that
+	 * these graphs can also be laid out using the
+	 * {@code SugiyamaLayoutAlgorithm.SimpleLayerProvider}, which supports a
+	 * limited number of layers only.
+	 */
+	public static final int DAG_LAYERS = 8;
+
+	/**
+	 * The size of each generated node.
+	 */
+	public static final Dimension NODE_SIZE = new Dimension(40, 20);
+
+	private static final long SEED = 0x6EF5EEDL;
+
+	private GraphGenerator() {
+		// utility class
+	}
+
+	/**
+	 * Creates a new {@link Graph} of the given {@link Kind} with the given
+	 * number of nodes. The same parameters always yield the same graph.
+	 *
+	 * @param kind
+	 *            The {@link Kind} of graph to generate.
+	 * @param nodeCount
+	 *            The number of nodes to generate.
+	 * @return A new {@link Graph} that is prepared for layout.
+	 */
+	public static Graph generate(Kind kind, int nodeCount) {
+		Random random = new Random(SEED ^ kind.ordinal() ^ nodeCount);
+		List<Node> nodes = new ArrayList<>(nodeCount);
+		for (int i = 0; i < nodeCount; i++) {
+			Node node = new Node();
+			LayoutProperties.setLocation(node, new Point(0, 0));
+			LayoutProperties.setSize(node, NODE_SIZE.getCopy());
+			nodes.add(node);
+		}
+
+		List<Edge> edges;
+		switch (kind) {
+		case RANDOM:
+			edges = random(nodes, random);
+			break;
+		case SCALE_FREE:
+			edges = scaleFree(nodes, random);
+			break;
+		case TREE:
+			edges = tree(nodes, random);
+			break;
+		case DAG:
+			edges = dag(nodes, random);
+			break;
+		default:
+			throw new IllegalArgumentException(
+					"Unsupported graph kind <" + kind + ">.");
+		}
+
+		Graph graph = new Graph(nodes, edges);
+		// provide roughly 4 times the space that is occupied by the nodes
+		double side = Math.ceil(Math.sqrt(nodeCount)) * 2
+				* Math.max(NODE_SIZE.width, NODE_SIZE.height);
+		LayoutProperties.setBounds(graph, new Rectangle(0, 0, side, side));
+		return graph;
+	}
+
+	private static List<Edge> dag(List<Node> nodes, Random random) {
+		int n = nodes.size();
+		int layerSize = Math.max(1, (n + DAG_LAYERS - 1) / DAG_LAYERS);
+		List<Edge> edges = new ArrayList<>(n * AVERAGE_DEGREE / 2);
+		for (int target = layerSize; target < n; target++) {
+			int layerStart = (target / layerSize - 1) * layerSize;
+			for (int e = 0; e < AVERAGE_DEGREE / 2; e++) {
+				int source = layerStart + random.nextInt(layerSize);
+				edges.add(new Edge(nodes.get(source), nodes.get(target)));
+			}
+		}
+		return edges;
+	}
+
+	private static List<Edge> random(List<Node> nodes, Random random) {
+		int n = nodes.size();
+		int m = n * AVERAGE_DEGREE / 2;
+		List<Edge> edges = new ArrayList<>(m);
+		if (n < 2) {
+			return edges;
+		}
+		for (int i = 0; i < m; i++) {
+			int source = random.nextInt(n);
+			int target = random.nextInt(n - 1);
+			if (target >= source) {
+				// avoid self loops
+				target++;
+			}
+			edges.add(new Edge(nodes.get(source), nodes.get(target)));
+		}
+		return edges;
+	}
+
+	private static List<Edge> scaleFree(List<Node> nodes, Random random) {
+		int n = nodes.size();
+		int m = AVERAGE_DEGREE / 2;
+		List<Edge> edges = new ArrayList<>(n * m);
+		// each edge contributes both of its end points, so that picking a
+		// random entry selects a node proportional to its degree
+		int[] endPoints = new int[2 * n * m];
+		int endPointCount = 0;
+		for (int target = 1; target < n; target++) {
+			int count = Math.min(m, target);
+			for (int e = 0; e < count; e++) {
+				int source = endPointCount == 0 ? 0
+						: endPoints[random.nextInt(endPointCount)];
+				edges.add(new Edge(nodes.get(source), nodes.get(target)));
+				endPoints[endPointCount++] = source;
+				endPoints[endPointCount++] = target;
+			}
+		}
+		return edges;
+	}
+
+	private static List<Edge> tree(List<Node> nodes, Random random) {
+		int n = nodes.size();
+		List<Edge> edges = new ArrayList<>(Math.max(0, n - 1));
+		for (int child = 1; child < n; child++) {
+			int parent = random.nextInt(child);
+			edges.add(new Edge(nodes.get(parent), nodes.get(child)));
+		}
+		return edges;
+	}
+}
@@ -0,0 +1,79 @@
+/*******************************************************************************
+ * Copyright (c) 2026 itemis AG and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     itemis AG - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.layout.benchmarks;
+
+import org.eclipse.gef.layout.ILayoutAlgorithm;
+import org.eclipse.gef.layout.algorithms.BoxLayoutAlgorithm;
+import org.eclipse.gef.layout.algorithms.GridLayoutAlgorithm;
+import org.eclipse.gef.layout.benchmarks.GraphGenerator.Kind;
+import org.openjdk.jmh.annotations.Param;
+
+/**
+ * Measures the {@link GridLayoutAlgorithm} and the {@link BoxLayoutAlgorithm}
+ * (in both orientations). These algorithms ignore edges, so that only random
+ * graphs are laid out by default.
+ */
+public class GridLayoutBenchmark extends AbstractLayoutBenchmark {
+
+	/**
+	 * The measured grid-based layout algorithms.
+	 */
+	public enum Algorithm {
+		/**
+		 * {@link GridLayoutAlgorithm}
+		 */
+		GRID,
+		/**
+		 * {@link BoxLayoutAlgorithm} with {@link BoxLayoutAlgorithm#HORIZONTAL}
+		 * orientation.
+		 */
+		BOX_HORIZONTAL,
+		/**
+		 * {@link BoxLayoutAlgorithm} with {@link BoxLayoutAlgorithm#VERTICAL}
+		 * orientation.
+		 */
+		BOX_VERTICAL
+	}
+
+	@Param({ "GRID", "BOX_HORIZONTAL", "BOX_VERTICAL" })
+	private Algorithm algorithm;
+
+	@Param({ "RANDOM" })
+	private Kind kind;
+
+	@Param({ "100", "1000", "10000" })
+	private int nodes;
+
+	@Override
+	protected ILayoutAlgorithm createLayoutAlgorithm() {
+		switch (algorithm) {
+		case BOX_HORIZONTAL:
+			return new BoxLayoutAlgorithm(BoxLayoutAlgorithm.HORIZONTAL);
+		case BOX_VERTICAL:
+			return new BoxLayoutAlgorithm(BoxLayoutAlgorithm.VERTICAL);
+		default:
+			return new GridLayoutAlgorithm();
+		}
+	}
+
+	@Override
+	protected Kind getGraphKind() {
+		return kind;
+	}
+
+	@Override
+	protected int getNodeCount() {
+		return nodes;
+	}
+}
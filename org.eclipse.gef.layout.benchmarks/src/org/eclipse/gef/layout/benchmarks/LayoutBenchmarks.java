@@ -0,0 +1,58 @@
+/*******************************************************************************
+ * Copyright (c) 2026 itemis AG and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     itemis AG - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.layout.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of the layout benchmarks. In addition to the regular JMH command
+ * line options, the {@link GCProfiler} is always enabled, so that the
+ * normalized allocation rate (bytes per layout pass) is reported next to the
+ * average time per layout pass. If no benchmarks are selected explicitly, all
+ * benchmarks of this package are run.
+ */
+public final class LayoutBenchmarks {
+
+	private LayoutBenchmarks() {
+		// main class
+	}
+
+	/**
+	 * Runs the layout benchmarks.
+	 *
+	 * @param args
+	 *            JMH command line options.
+	 * @throws CommandLineOptionException
+	 *             when the given options cannot be parsed.
+	 * @throws RunnerException
+	 *             when running the benchmarks fails.
+	 */
+	public static void main(String[] args)
+			throws CommandLineOptionException, RunnerException {
+		CommandLineOptions commandLineOptions = new CommandLineOptions(args);
+		OptionsBuilder options = new OptionsBuilder();
+		options.parent(commandLineOptions);
+		if (commandLineOptions.getIncludes().isEmpty()) {
+			options.include(LayoutBenchmarks.class.getPackage().getName()
+					+ ".*Benchmark");
+		}
+		options.addProfiler(GCProfiler.class);
+		new Runner(options.build()).run();
+	}
+}
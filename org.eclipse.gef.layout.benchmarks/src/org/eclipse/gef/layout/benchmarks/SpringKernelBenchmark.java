@@ -0,0 +1,74 @@
+/*******************************************************************************
+ * Copyright (c) 2026 itemis AG and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     itemis AG - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.layout.benchmarks;
+
+import org.eclipse.gef.layout.ILayoutAlgorithm;
+import org.eclipse.gef.layout.algorithms.SpringLayoutAlgorithm;
+import org.eclipse.gef.layout.benchmarks.GraphGenerator.Kind;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+
+/**
+ * Compares the scalar and the vectorized (Vector API) force kernel of the
+ * {@link SpringLayoutAlgorithm}. The forked JVM resolves the
+ * <code>jdk.incubator.vector</code> module, and the kernel is selected via
+ * the <code>org.eclipse.gef.layout.vectorKernel</code> system property. As
+ * the pairwise repulsion dominates the cost of an iteration, a few
+ * {@link #ITERATIONS} on larger graphs are performed per layout pass.
+ */
+@Fork(value = 1, jvmArgsAppend = { "-Xms2g", "-Xmx2g", "--add-modules",
+		"jdk.incubator.vector" })
+public class SpringKernelBenchmark extends AbstractLayoutBenchmark {
+
+	/**
+	 * The number of iterations performed per layout pass.
+	 */
+	public static final int ITERATIONS = 10;
+
+	@Param({ "scalar", "vector" })
+	private String kernel;
+
+	@Param({ "1000", "5000" })
+	private int nodes;
+
+	@Override
+	protected ILayoutAlgorithm createLayoutAlgorithm() {
+		SpringLayoutAlgorithm algorithm = new SpringLayoutAlgorithm();
+		algorithm.setIterations(ITERATIONS);
+		algorithm.setSpringTimeout(0);
+		return algorithm;
+	}
+
+	@Override
+	protected Kind getGraphKind() {
+		return Kind.RANDOM;
+	}
+
+	@Override
+	protected int getNodeCount() {
+		return nodes;
+	}
+
+	/**
+	 * Selects the force kernel that is used by the
+	 * {@link SpringLayoutAlgorithm}.
+	 */
+	@Setup(Level.Trial)
+	public void selectKernel() {
+		System.setProperty("org.eclipse.gef.layout.vectorKernel",
+				Boolean.toString("vector".equals(kernel)));
+	}
+}
@@ -0,0 +1,57 @@
+/*******************************************************************************
+ * Copyright (c) 2026 itemis AG and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     itemis AG - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.layout.benchmarks;
+
+import org.eclipse.gef.layout.ILayoutAlgorithm;
+import org.eclipse.gef.layout.algorithms.SpringLayoutAlgorithm;
+import org.eclipse.gef.layout.benchmarks.GraphGenerator.Kind;
+import org.openjdk.jmh.annotations.Param;
+
+/**
+ * Measures the {@link SpringLayoutAlgorithm}. As the algorithm computes all
+ * pairwise forces, the number of nodes is limited to a few thousand, and a
+ * fixed number of {@link #ITERATIONS} (without a timeout) is performed per
+ * layout pass.
+ */
+public class SpringLayoutBenchmark extends AbstractLayoutBenchmark {
+
+	/**
+	 * The number of iterations performed per layout pass.
+	 */
+	public static final int ITERATIONS = 100;
+
+	@Param({ "RANDOM", "SCALE_FREE", "TREE", "DAG" })
+	private Kind kind;
+
+	@Param({ "100", "1000", "2500" })
+	private int nodes;
+
+	@Override
+	protected ILayoutAlgorithm createLayoutAlgorithm() {
+		SpringLayoutAlgorithm algorithm = new SpringLayoutAlgorithm();
+		algorithm.setIterations(ITERATIONS);
+		algorithm.setSpringTimeout(0);
+		return algorithm;
+	}
+
+	@Override
+	protected Kind getGraphKind() {
+		return kind;
+	}
+
+	@Override
+	protected int getNodeCount() {
+		return nodes;
+	}
+}
@@ -0,0 +1,111 @@
+/*******************************************************************************
+ * Copyright (c) 2026 itemis AG and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     itemis AG - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.layout.benchmarks;
+
+import org.eclipse.gef.layout.ILayoutAlgorithm;
+import org.eclipse.gef.layout.algorithms.SugiyamaLayoutAlgorithm;
+import org.eclipse.gef.layout.algorithms.SugiyamaLayoutAlgorithm.BarycentricCrossingReducer;
+import org.eclipse.gef.layout.algorithms.SugiyamaLayoutAlgorithm.CrossingReducer;
+import org.eclipse.gef.layout.algorithms.SugiyamaLayoutAlgorithm.DFSLayerProvider;
+import org.eclipse.gef.layout.algorithms.SugiyamaLayoutAlgorithm.Direction;
+import org.eclipse.gef.layout.algorithms.SugiyamaLayoutAlgorithm.GreedyCrossingReducer;
+import org.eclipse.gef.layout.algorithms.SugiyamaLayoutAlgorithm.LayerProvider;
+import org.eclipse.gef.layout.algorithms.SugiyamaLayoutAlgorithm.SimpleLayerProvider;
+import org.eclipse.gef.layout.algorithms.SugiyamaLayoutAlgorithm.SplitCrossingReducer;
+import org.eclipse.gef.layout.benchmarks.GraphGenerator.Kind;
+import org.openjdk.jmh.annotations.Param;
+
+/**
+ * Measures the {@link SugiyamaLayoutAlgorithm} for each combination of
+ * {@link LayerProvider} and {@link CrossingReducer}. Only {@link Kind#DAG}
+ * graphs are laid out by default, because the {@link SimpleLayerProvider}
+ * fails for graphs with more than 10 layers. Other kinds of graphs can be
+ * measured in combination with the {@link DFSLayerProvider}, e.g. using
+ * <code>-p kind=RANDOM,TREE -p layerProvider=DFS</code>.
+ */
+public class SugiyamaLayoutBenchmark extends AbstractLayoutBenchmark {
+
+	/**
+	 * The available {@link CrossingReducer} implementations.
+	 */
+	public enum CrossingReducerKind {
+		/**
+		 * {@link BarycentricCrossingReducer}
+		 */
+		BARYCENTRIC,
+		/**
+		 * {@link SplitCrossingReducer}
+		 */
+		SPLIT,
+		/**
+		 * {@link GreedyCrossingReducer}
+		 */
+		GREEDY
+	}
+
+	/**
+	 * The available {@link LayerProvider} implementations.
+	 */
+	public enum LayerProviderKind {
+		/**
+		 * {@link SimpleLayerProvider}
+		 */
+		SIMPLE,
+		/**
+		 * {@link DFSLayerProvider}
+		 */
+		DFS
+	}
+
+	@Param({ "DAG" })
+	private Kind kind;
+
+	@Param({ "100", "1000", "10000" })
+	private int nodes;
+
+	@Param({ "SIMPLE", "DFS" })
+	private LayerProviderKind layerProvider;
+
+	@Param({ "BARYCENTRIC", "SPLIT", "GREEDY" })
+	private CrossingReducerKind crossingReducer;
+
+	@Override
+	protected ILayoutAlgorithm createLayoutAlgorithm() {
+		LayerProvider layering = layerProvider == LayerProviderKind.DFS
+				? new DFSLayerProvider() : new SimpleLayerProvider();
+		CrossingReducer crossing;
+		switch (crossingReducer) {
+		case SPLIT:
+			crossing = new SplitCrossingReducer();
+			break;
+		case GREEDY:
+			crossing = new GreedyCrossingReducer();
+			break;
+		default:
+			crossing = new BarycentricCrossingReducer();
+		}
+		return new SugiyamaLayoutAlgorithm(Direction.VERTICAL, layering,
+				crossing);
+	}
+
+	@Override
+	protected Kind getGraphKind() {
+		return kind;
+	}
+
+	@Override
+	protected int getNodeCount() {
+		return nodes;
+	}
+}
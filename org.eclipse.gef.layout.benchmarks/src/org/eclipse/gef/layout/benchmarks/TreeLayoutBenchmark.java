@@ -0,0 +1,79 @@
+/*******************************************************************************
+ * Copyright (c) 2026 itemis AG and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     itemis AG - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.layout.benchmarks;
+
+import org.eclipse.gef.layout.ILayoutAlgorithm;
+import org.eclipse.gef.layout.algorithms.RadialLayoutAlgorithm;
+import org.eclipse.gef.layout.algorithms.SpaceTreeLayoutAlgorithm;
+import org.eclipse.gef.layout.algorithms.TreeLayoutAlgorithm;
+import org.eclipse.gef.layout.benchmarks.GraphGenerator.Kind;
+import org.openjdk.jmh.annotations.Param;
+
+/**
+ * Measures the tree-based layout algorithms, i.e. the
+ * {@link TreeLayoutAlgorithm}, the {@link SpaceTreeLayoutAlgorithm}, and the
+ * {@link RadialLayoutAlgorithm}. Graphs that are not trees are laid out based
+ * on the spanning tree that is computed by the algorithms.
+ */
+public class TreeLayoutBenchmark extends AbstractLayoutBenchmark {
+
+	/**
+	 * The measured tree-based layout algorithms.
+	 */
+	public enum Algorithm {
+		/**
+		 * {@link TreeLayoutAlgorithm}
+		 */
+		TREE,
+		/**
+		 * {@link SpaceTreeLayoutAlgorithm}
+		 */
+		SPACE_TREE,
+		/**
+		 * {@link RadialLayoutAlgorithm}
+		 */
+		RADIAL
+	}
+
+	@Param({ "TREE", "SPACE_TREE", "RADIAL" })
+	private Algorithm algorithm;
+
+	@Param({ "RANDOM", "SCALE_FREE", "TREE", "DAG" })
+	private Kind kind;
+
+	@Param({ "100", "1000", "10000" })
+	private int nodes;
+
+	@Override
+	protected ILayoutAlgorithm createLayoutAlgorithm() {
+		switch (algorithm) {
+		case SPACE_TREE:
+			return new SpaceTreeLayoutAlgorithm();
+		case RADIAL:
+			return new RadialLayoutAlgorithm();
+		default:
+			return new TreeLayoutAlgorithm();
+		}
+	}
+
+	@Override
+	protected Kind getGraphKind() {
+		return kind;
+	}
+
+	@Override
+	protected int getNodeCount() {
+		return nodes;
+	}
+}
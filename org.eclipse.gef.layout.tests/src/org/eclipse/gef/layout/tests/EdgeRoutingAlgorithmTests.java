@@ -0,0 +1,226 @@
+/*******************************************************************************
+ * Copyright (c) 2026 itemis AG and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     itemis AG - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.layout.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.eclipse.gef.geometry.planar.Dimension;
+import org.eclipse.gef.geometry.planar.Point;
+import org.eclipse.gef.geometry.planar.Rectangle;
+import org.eclipse.gef.graph.Edge;
+import org.eclipse.gef.graph.Graph;
+import org.eclipse.gef.graph.Node;
+import org.eclipse.gef.layout.ILayoutMonitor.Phase;
+import org.eclipse.gef.layout.LayoutContext;
+import org.eclipse.gef.layout.LayoutMonitor;
+import org.eclipse.gef.layout.LayoutProperties;
+import org.eclipse.gef.layout.algorithms.EdgeRoutingAlgorithm;
+import org.junit.Test;
+
+/**
+ * Tests for the {@link EdgeRoutingAlgorithm}.
+ */
+public class EdgeRoutingAlgorithmTests {
+
+	private static Node node(double x, double y, double width, double height) {
+		Node node = new Node();
+		LayoutProperties.setLocation(node, new Point(x, y));
+		LayoutProperties.setSize(node, new Dimension(width, height));
+		return node;
+	}
+
+	private static Rectangle bounds(Node node) {
+		Point location = LayoutProperties.getLocation(node);
+		Dimension size = LayoutProperties.getSize(node);
+		return new Rectangle(location.x - size.width / 2,
+				location.y - size.height / 2, size.width, size.height);
+	}
+
+	private static LayoutContext route(List<Node> nodes, List<Edge> edges,
+			EdgeRoutingAlgorithm algorithm) {
+		Graph graph = new Graph(nodes, edges);
+		LayoutContext context = new LayoutContext();
+		context.setGraph(graph);
+		context.setLayoutAlgorithm(algorithm);
+		context.applyLayout(true);
+		return context;
+	}
+
+	private static List<Point> getRoute(Edge edge) {
+		List<Point> bendPoints = LayoutProperties.getBendPoints(edge);
+		assertNotNull(bendPoints);
+		List<Point> route = new ArrayList<>();
+		route.add(LayoutProperties.getLocation(edge.getSource()));
+		route.addAll(bendPoints);
+		route.add(LayoutProperties.getLocation(edge.getTarget()));
+		return route;
+	}
+
+	private static boolean crossesInterior(Point p, Point q, Rectangle r) {
+		double minX = Math.min(p.x, q.x);
+		double maxX = Math.max(p.x, q.x);
+		double minY = Math.min(p.y, q.y);
+		double maxY = Math.max(p.y, q.y);
+		return minX < r.getRight().x && maxX > r.getX()
+				&& minY < r.getBottom().y && maxY > r.getY();
+	}
+
+	private static void assertValidRoute(Edge edge, List<Node> nodes) {
+		List<Point> route = getRoute(edge);
+		for (int i = 0; i < route.size() - 1; i++) {
+			Point p = route.get(i);
+			Point q = route.get(i + 1);
+			assertTrue("Segment " + p + " - " + q + " is not orthogonal.",
+					p.x == q.x || p.y == q.y);
+			for (Node node : nodes) {
+				// only the first and last segment may cross source and target
+				if (node == edge.getSource() && i == 0
+						|| node == edge.getTarget() && i == route.size() - 2) {
+					continue;
+				}
+				assertFalse(
+						"Segment " + p + " - " + q + " crosses " + bounds(node),
+						crossesInterior(p, q, bounds(node)));
+			}
+		}
+	}
+
+	@Test
+	public void aligned() {
+		Node a = node(0, 0, 40, 20);
+		Node b = node(200, 0, 40, 20);
+		Edge edge = new Edge(a, b);
+		List<Node> nodes = new ArrayList<>();
+		nodes.add(a);
+		nodes.add(b);
+		List<Edge> edges = new ArrayList<>();
+		edges.add(edge);
+		route(nodes, edges, new EdgeRoutingAlgorithm());
+
+		// a straight connection does not need any bend points
+		assertTrue(LayoutProperties.getBendPoints(edge).isEmpty());
+	}
+
+	@Test
+	public void avoidObstacle() {
+		Node a = node(0, 0, 40, 20);
+		Node obstacle = node(100, 0, 40, 100);
+		Node b = node(200, 0, 40, 20);
+		Edge edge = new Edge(a, b);
+		List<Node> nodes = new ArrayList<>();
+		nodes.add(a);
+		nodes.add(obstacle);
+		nodes.add(b);
+		List<Edge> edges = new ArrayList<>();
+		edges.add(edge);
+		route(nodes, edges, new EdgeRoutingAlgorithm());
+
+		assertFalse(LayoutProperties.getBendPoints(edge).isEmpty());
+		assertValidRoute(edge, nodes);
+		// the route keeps the margin to the obstacle
+		for (Point p : LayoutProperties.getBendPoints(edge)) {
+			assertTrue(p.y <= -50 - EdgeRoutingAlgorithm.DEFAULT_MARGIN
+					|| p.y >= 50 + EdgeRoutingAlgorithm.DEFAULT_MARGIN);
+		}
+	}
+
+	@Test
+	public void diagonal() {
+		Node a = node(0, 0, 40, 20);
+		Node b = node(200, 200, 40, 20);
+		Edge edge = new Edge(a, b);
+		List<Node> nodes = new ArrayList<>();
+		nodes.add(a);
+		nodes.add(b);
+		List<Edge> edges = new ArrayList<>();
+		edges.add(edge);
+		route(nodes, edges, new EdgeRoutingAlgorithm());
+
+		// a single bend is sufficient
+		assertEquals(1, LayoutProperties.getBendPoints(edge).size());
+		assertValidRoute(edge, nodes);
+	}
+
+	@Test
+	public void loop() {
+		Node a = node(0, 0, 40, 20);
+		Edge edge = new Edge(a, a);
+		List<Node> nodes = new ArrayList<>();
+		nodes.add(a);
+		List<Edge> edges = new ArrayList<>();
+		edges.add(edge);
+		route(nodes, edges, new EdgeRoutingAlgorithm());
+
+		assertTrue(LayoutProperties.getBendPoints(edge).isEmpty());
+	}
+
+	@Test
+	public void routeAllEdges() {
+		// grid of nodes with random edges between them
+		Random random = new Random(42);
+		List<Node> nodes = new ArrayList<>();
+		for (int row = 0; row < 8; row++) {
+			for (int column = 0; column < 8; column++) {
+				nodes.add(node(column * 120 + random.nextInt(30),
+						row * 90 + random.nextInt(30), 40 + random.nextInt(30),
+						20 + random.nextInt(20)));
+			}
+		}
+		List<Edge> edges = new ArrayList<>();
+		for (int i = 0; i < 100; i++) {
+			Node source = nodes.get(random.nextInt(nodes.size()));
+			Node target = nodes.get(random.nextInt(nodes.size()));
+			if (source != target) {
+				edges.add(new Edge(source, target));
+			}
+		}
+		LayoutContext context = route(nodes, edges,
+				new EdgeRoutingAlgorithm());
+		for (Edge edge : context.getEdges()) {
+			assertValidRoute(edge, nodes);
+		}
+	}
+
+	@Test
+	public void reportProgress() {
+		Node a = node(0, 0, 40, 20);
+		Node b = node(200, 200, 40, 20);
+		List<Node> nodes = new ArrayList<>();
+		nodes.add(a);
+		nodes.add(b);
+		List<Edge> edges = new ArrayList<>();
+		edges.add(new Edge(a, b));
+		edges.add(new Edge(b, a));
+		Graph graph = new Graph(nodes, edges);
+		LayoutContext context = new LayoutContext();
+		context.setGraph(graph);
+		LayoutMonitor monitor = new LayoutMonitor();
+		context.setLayoutMonitor(monitor);
+		context.setLayoutAlgorithm(new EdgeRoutingAlgorithm());
+		context.applyLayout(true);
+
+		assertEquals(2, monitor.getIterations(Phase.EDGE_ROUTING));
+		// the node layout is not changed
+		assertEquals(new Point(0, 0), LayoutProperties.getLocation(a));
+		assertEquals(new Point(200, 200), LayoutProperties.getLocation(b));
+	}
+
+}
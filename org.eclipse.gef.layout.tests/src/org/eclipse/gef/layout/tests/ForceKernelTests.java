@@ -0,0 +1,149 @@
+/*******************************************************************************
+ * Copyright (c) 2026 itemis AG and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     itemis AG - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.layout.tests;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Random;
+
+import org.eclipse.gef.layout.internal.algorithms.ForceKernel;
+import org.junit.Test;
+
+/**
+ * Tests that the {@link ForceKernel} computes the same forces as the pairwise
+ * loop of the spring layout that it replaces.
+ */
+public class ForceKernelTests {
+
+	private static final double SCALE_X = 1 / 100d;
+	private static final double SCALE_Y = 1 / 80d;
+	private static final double STRAIN = 1;
+	private static final double LENGTH = 3;
+	private static final double GRAVITATION = 2;
+	private static final double MIN_DISTANCE_SQUARED = 1;
+
+	/**
+	 * Random nodes and edges, stored as parallel arrays (as used by the
+	 * kernel) and as a weight matrix (as used by the pairwise loop).
+	 */
+	private static final class Input {
+		private final double[] x;
+		private final double[] y;
+		private final double[][] weights;
+		private final int[] sources;
+		private final int[] targets;
+		private final double[] edgeWeights;
+		private int edgeCount;
+
+		private Input(Random random, int n) {
+			x = new double[n];
+			y = new double[n];
+			weights = new double[n][n];
+			sources = new int[n * n];
+			targets = new int[n * n];
+			edgeWeights = new double[n * n];
+			for (int i = 0; i < n; i++) {
+				x[i] = random.nextDouble() * 1000;
+				y[i] = random.nextDouble() * 1000;
+			}
+			// some coincident nodes to exercise the minimum distance
+			if (n > 2) {
+				x[1] = x[0];
+				y[1] = y[0];
+			}
+			for (int i = 0; i < n; i++) {
+				for (int j = i + 1; j < n; j++) {
+					if (random.nextDouble() < 0.1) {
+						double weight = 1 + random.nextInt(3);
+						weights[i][j] = weight;
+						sources[edgeCount] = i;
+						targets[edgeCount] = j;
+						edgeWeights[edgeCount++] = weight;
+					}
+				}
+			}
+		}
+	}
+
+	private static void assertForces(double[] expectedX, double[] expectedY,
+			double[] actualX, double[] actualY) {
+		for (int i = 0; i < expectedX.length; i++) {
+			assertEquals(expectedX[i], actualX[i],
+					1e-9 * Math.max(1, Math.abs(expectedX[i])));
+			assertEquals(expectedY[i], actualY[i],
+					1e-9 * Math.max(1, Math.abs(expectedY[i])));
+		}
+	}
+
+	private static void computeKernelForces(ForceKernel kernel, Input input,
+			double[] fx, double[] fy) {
+		kernel.computeRepulsion(input.x, input.y, input.x.length, SCALE_X,
+				SCALE_Y, GRAVITATION, MIN_DISTANCE_SQUARED, fx, fy);
+		kernel.computeAttraction(input.x, input.y, input.sources,
+				input.targets, input.edgeWeights, input.edgeCount, SCALE_X,
+				SCALE_Y, STRAIN, LENGTH, GRAVITATION, MIN_DISTANCE_SQUARED, fx,
+				fy);
+	}
+
+	// the pairwise loop of the spring layout (before the kernel was extracted)
+	private static void computePairwiseForces(Input input, double[] fx,
+			double[] fy) {
+		for (int i = 0; i < input.x.length; i++) {
+			for (int j = i + 1; j < input.x.length; j++) {
+				double dx = (input.x[i] - input.x[j]) * SCALE_X;
+				double dy = (input.y[i] - input.y[j]) * SCALE_Y;
+				double distanceSquared = Math.max(MIN_DISTANCE_SQUARED,
+						dx * dx + dy * dy);
+				double distance = Math.sqrt(distanceSquared);
+				double f;
+				if (input.weights[i][j] > 0) {
+					f = -STRAIN * Math.log(distance / LENGTH)
+							* input.weights[i][j];
+				} else {
+					f = GRAVITATION / distanceSquared;
+				}
+				double dfx = f * dx / distance;
+				double dfy = f * dy / distance;
+				fx[i] += dfx;
+				fy[i] += dfy;
+				fx[j] -= dfx;
+				fy[j] -= dfy;
+			}
+		}
+	}
+
+	@Test
+	public void kernelsMatchPairwiseLoop() {
+		Random random = new Random(42);
+		for (int n : new int[] { 0, 1, 2, 3, 7, 16, 33, 100, 257 }) {
+			Input input = new Input(random, n);
+			double[] expectedX = new double[n];
+			double[] expectedY = new double[n];
+			computePairwiseForces(input, expectedX, expectedY);
+
+			double[] scalarX = new double[n];
+			double[] scalarY = new double[n];
+			computeKernelForces(new ForceKernel(), input, scalarX, scalarY);
+			assertForces(expectedX, expectedY, scalarX, scalarY);
+
+			// the kernel in use (vectorized if available)
+			double[] actualX = new double[n];
+			double[] actualY = new double[n];
+			computeKernelForces(ForceKernel.getInstance(), input, actualX,
+					actualY);
+			assertForces(scalarX, scalarY, actualX, actualY);
+		}
+	}
+
+}
@@ -0,0 +1,246 @@
+/*******************************************************************************
+ * Copyright (c) 2026 itemis AG and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     itemis AG - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.layout.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.gef.geometry.planar.Dimension;
+import org.eclipse.gef.geometry.planar.Point;
+import org.eclipse.gef.geometry.planar.Rectangle;
+import org.eclipse.gef.graph.Graph;
+import org.eclipse.gef.graph.Node;
+import org.eclipse.gef.layout.ILayoutAlgorithm;
+import org.eclipse.gef.layout.ILayoutMonitor;
+import org.eclipse.gef.layout.ILayoutMonitor.Phase;
+import org.eclipse.gef.layout.LayoutContext;
+import org.eclipse.gef.layout.LayoutMonitor;
+import org.eclipse.gef.layout.LayoutProperties;
+import org.eclipse.gef.layout.algorithms.SpringLayoutAlgorithm;
+import org.eclipse.gef.layout.algorithms.SugiyamaLayoutAlgorithm;
+import org.eclipse.gef.layout.algorithms.TreeLayoutAlgorithm;
+import org.junit.Test;
+
+/**
+ * Tests for the {@link LayoutMonitor} and its integration with the layout
+ * algorithms.
+ */
+public class LayoutMonitorTests {
+
+	private static class RecordingMonitor extends LayoutMonitor {
+		private final List<String> events = new ArrayList<>();
+		private int cancelAfterIterations = -1;
+
+		@Override
+		public void iterationPerformed(Phase phase, int iteration,
+				int totalIterations) {
+			super.iterationPerformed(phase, iteration, totalIterations);
+			if (getIterations(phase) == cancelAfterIterations) {
+				cancel();
+			}
+		}
+
+		@Override
+		public void phaseFinished(Phase phase) {
+			super.phaseFinished(phase);
+			events.add("-" + phase);
+		}
+
+		@Override
+		public void phaseStarted(Phase phase) {
+			super.phaseStarted(phase);
+			events.add("+" + phase);
+		}
+	}
+
+	private static LayoutContext createContext(int nodeCount) {
+		Graph.Builder builder = new Graph.Builder();
+		for (int i = 0; i < nodeCount; i++) {
+			builder.node(i).attr(LayoutProperties.LOCATION_PROPERTY,
+					new Point()).attr(LayoutProperties.SIZE_PROPERTY,
+							new Dimension(10, 10));
+		}
+		for (int i = 1; i < nodeCount; i++) {
+			builder.edge((i - 1) / 2, i);
+		}
+		Graph graph = builder.build();
+		LayoutProperties.setBounds(graph, new Rectangle(0, 0, 500, 500));
+		LayoutContext context = new LayoutContext();
+		context.setGraph(graph);
+		return context;
+	}
+
+	/**
+	 * Creates an {@link ILayoutAlgorithm} that performs a single positioning
+	 * iteration (unless canceled) after sleeping for the given time.
+	 */
+	private static ILayoutAlgorithm createSleepingAlgorithm(long millis) {
+		return (context, clean) -> {
+			ILayoutMonitor monitor = context.getLayoutMonitor();
+			monitor.phaseStarted(Phase.POSITIONING);
+			try {
+				Thread.sleep(millis);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			if (!monitor.isCanceled()) {
+				monitor.iterationPerformed(Phase.POSITIONING, 1, 1);
+			}
+			monitor.phaseFinished(Phase.POSITIONING);
+		};
+	}
+
+	@Test
+	public void cancelBetweenLayoutPasses() {
+		LayoutContext context = createContext(3);
+		LayoutMonitor monitor = new LayoutMonitor();
+		context.setLayoutMonitor(monitor);
+		context.setLayoutAlgorithm(createSleepingAlgorithm(0));
+		context.applyLayout(true);
+		assertFalse(monitor.isCanceled());
+
+		// a cancellation between two passes applies to the next pass only
+		monitor.cancel();
+		context.applyLayout(true);
+		assertTrue(monitor.isCanceled());
+		assertEquals(0, monitor.getIterations(Phase.POSITIONING));
+		context.applyLayout(true);
+		assertFalse(monitor.isCanceled());
+		assertEquals(1, monitor.getIterations(Phase.POSITIONING));
+	}
+
+	@Test
+	public void cancelSpringLayout() {
+		LayoutContext context = createContext(20);
+		SpringLayoutAlgorithm algorithm = new SpringLayoutAlgorithm();
+		algorithm.setSpringTimeout(0);
+		algorithm.setIterations(1000);
+		RecordingMonitor monitor = new RecordingMonitor();
+		monitor.cancelAfterIterations = 5;
+		context.setLayoutMonitor(monitor);
+		context.setLayoutAlgorithm(algorithm);
+		context.applyLayout(true);
+
+		assertTrue(monitor.isCanceled());
+		assertEquals(5, monitor.getIterations(Phase.POSITIONING));
+		// fitting is skipped for a canceled layout pass
+		assertEquals(2, monitor.events.size());
+		assertEquals("+POSITIONING", monitor.events.get(0));
+		assertEquals("-POSITIONING", monitor.events.get(1));
+
+		// the cancellation does not affect the next layout pass
+		monitor.cancelAfterIterations = -1;
+		context.applyLayout(true);
+		assertFalse(monitor.isCanceled());
+		assertEquals(1000, monitor.getIterations(Phase.POSITIONING));
+	}
+
+	@Test
+	public void reportPhasesOfSugiyamaLayout() {
+		LayoutContext context = createContext(15);
+		RecordingMonitor monitor = new RecordingMonitor();
+		context.setLayoutMonitor(monitor);
+		context.setLayoutAlgorithm(new SugiyamaLayoutAlgorithm());
+		context.applyLayout(true);
+
+		assertFalse(monitor.isCanceled());
+		assertEquals(6, monitor.events.size());
+		assertEquals("+LAYERING", monitor.events.get(0));
+		assertEquals("-LAYERING", monitor.events.get(1));
+		assertEquals("+CROSSING_REDUCTION", monitor.events.get(2));
+		assertEquals("-CROSSING_REDUCTION", monitor.events.get(3));
+		assertEquals("+POSITIONING", monitor.events.get(4));
+		assertEquals("-POSITIONING", monitor.events.get(5));
+	}
+
+	@Test
+	public void resetMonitor() {
+		LayoutMonitor monitor = new LayoutMonitor();
+		monitor.phaseStarted(Phase.POSITIONING);
+		monitor.iterationPerformed(Phase.POSITIONING, 1, 1);
+		monitor.phaseFinished(Phase.POSITIONING);
+		monitor.cancel();
+		assertTrue(monitor.isCanceled());
+		assertEquals(1, monitor.getIterations(Phase.POSITIONING));
+
+		monitor.reset();
+		assertFalse(monitor.isCanceled());
+		assertEquals(0, monitor.getIterations(Phase.POSITIONING));
+		assertEquals(0,
+				monitor.getElapsedTime(Phase.POSITIONING, TimeUnit.NANOSECONDS));
+		assertEquals(0, monitor.getTotalElapsedTime(TimeUnit.NANOSECONDS));
+	}
+
+	@Test
+	public void skipPositioningWhenCanceled() {
+		LayoutContext context = createContext(7);
+		Point[] locations = new Point[7];
+		for (int i = 0; i < locations.length; i++) {
+			locations[i] = LayoutProperties
+					.getLocation(context.getGraph().getNodes().get(i));
+		}
+		RecordingMonitor monitor = new RecordingMonitor();
+		monitor.cancel();
+		context.setLayoutMonitor(monitor);
+		context.setLayoutAlgorithm(new TreeLayoutAlgorithm());
+		context.applyLayout(true);
+
+		assertEquals(2, monitor.events.size());
+		assertEquals("+LAYERING", monitor.events.get(0));
+		assertEquals("-LAYERING", monitor.events.get(1));
+		for (int i = 0; i < locations.length; i++) {
+			Node node = context.getGraph().getNodes().get(i);
+			assertTrue(locations[i] == LayoutProperties.getLocation(node));
+		}
+	}
+
+	@Test
+	public void timeLimit() throws InterruptedException {
+		LayoutMonitor monitor = new LayoutMonitor();
+		monitor.setTimeLimit(1);
+		assertEquals(1, monitor.getTimeLimit());
+		// the time limit only applies after the first phase was started
+		Thread.sleep(5);
+		assertFalse(monitor.isCanceled());
+		monitor.phaseStarted(Phase.POSITIONING);
+		Thread.sleep(5);
+		assertTrue(monitor.isCanceled());
+	}
+
+	@Test
+	public void timeLimitPerLayoutPass() {
+		LayoutContext context = createContext(3);
+		LayoutMonitor monitor = new LayoutMonitor();
+		monitor.setTimeLimit(50);
+		context.setLayoutMonitor(monitor);
+		context.setLayoutAlgorithm(createSleepingAlgorithm(100));
+		context.applyLayout(true);
+		assertTrue(monitor.isCanceled());
+		assertEquals(0, monitor.getIterations(Phase.POSITIONING));
+
+		// the time limit is measured from the start of each layout pass
+		context.setLayoutAlgorithm(createSleepingAlgorithm(0));
+		context.applyLayout(true);
+		assertFalse(monitor.isCanceled());
+		assertEquals(1, monitor.getIterations(Phase.POSITIONING));
+		context.applyLayout(true);
+		assertFalse(monitor.isCanceled());
+		assertEquals(1, monitor.getIterations(Phase.POSITIONING));
+	}
+}
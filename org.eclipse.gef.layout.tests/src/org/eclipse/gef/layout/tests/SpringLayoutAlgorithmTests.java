@@ -0,0 +1,184 @@
+/*******************************************************************************
+ * Copyright (c) 2026 itemis AG and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     itemis AG - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.layout.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.gef.geometry.planar.Dimension;
+import org.eclipse.gef.geometry.planar.Point;
+import org.eclipse.gef.geometry.planar.Rectangle;
+import org.eclipse.gef.graph.Edge;
+import org.eclipse.gef.graph.Graph;
+import org.eclipse.gef.graph.Node;
+import org.eclipse.gef.layout.LayoutContext;
+import org.eclipse.gef.layout.LayoutProperties;
+import org.eclipse.gef.layout.algorithms.SpringLayoutAlgorithm;
+import org.junit.Test;
+
+/**
+ * Tests for the pinned nodes and constraints of the
+ * {@link SpringLayoutAlgorithm}.
+ */
+public class SpringLayoutAlgorithmTests {
+
+	private static final double TOLERANCE = 0.1;
+
+	private final List<Node> nodes = new ArrayList<>();
+
+	private LayoutContext createContext(int nodeCount) {
+		List<Edge> edges = new ArrayList<>();
+		for (int i = 0; i < nodeCount; i++) {
+			Node node = new Node();
+			LayoutProperties.setLocation(node,
+					new Point(50 + 40 * (i % 5), 50 + 40 * (i / 5)));
+			LayoutProperties.setSize(node, new Dimension(20, 10));
+			nodes.add(node);
+		}
+		for (int i = 1; i < nodeCount; i++) {
+			edges.add(new Edge(nodes.get((i - 1) / 2), nodes.get(i)));
+		}
+		Graph graph = new Graph(nodes, edges);
+		LayoutProperties.setBounds(graph, new Rectangle(0, 0, 500, 500));
+		LayoutContext context = new LayoutContext();
+		context.setGraph(graph);
+		return context;
+	}
+
+	private static SpringLayoutAlgorithm createAlgorithm() {
+		SpringLayoutAlgorithm algorithm = new SpringLayoutAlgorithm();
+		algorithm.setSpringTimeout(0);
+		algorithm.setIterations(100);
+		return algorithm;
+	}
+
+	@Test
+	public void alignment() {
+		LayoutContext context = createContext(10);
+		SpringLayoutAlgorithm algorithm = createAlgorithm();
+		algorithm.addHorizontalAlignment(nodes.get(1), nodes.get(2),
+				nodes.get(3));
+		algorithm.addVerticalAlignment(nodes.get(4), nodes.get(5));
+		context.setLayoutAlgorithm(algorithm);
+		context.applyLayout(true);
+
+		double y = LayoutProperties.getLocation(nodes.get(1)).y;
+		assertEquals(y, LayoutProperties.getLocation(nodes.get(2)).y,
+				TOLERANCE);
+		assertEquals(y, LayoutProperties.getLocation(nodes.get(3)).y,
+				TOLERANCE);
+		assertEquals(LayoutProperties.getLocation(nodes.get(4)).x,
+				LayoutProperties.getLocation(nodes.get(5)).x, TOLERANCE);
+	}
+
+	@Test
+	public void alignToPinnedNode() {
+		LayoutContext context = createContext(10);
+		LayoutProperties.setMovable(nodes.get(0), false);
+		SpringLayoutAlgorithm algorithm = createAlgorithm();
+		algorithm.setPinnedFrame(true);
+		algorithm.addVerticalAlignment(nodes.get(0), nodes.get(1));
+		context.setLayoutAlgorithm(algorithm);
+		context.applyLayout(true);
+
+		assertEquals(new Point(50, 50),
+				LayoutProperties.getLocation(nodes.get(0)));
+		assertEquals(50, LayoutProperties.getLocation(nodes.get(1)).x,
+				TOLERANCE);
+	}
+
+	@Test
+	public void pinnedNodes() {
+		LayoutContext context = createContext(10);
+		LayoutProperties.setMovable(nodes.get(0), false);
+		LayoutProperties.setMovable(nodes.get(7), false);
+		Point free = LayoutProperties.getLocation(nodes.get(1));
+		SpringLayoutAlgorithm algorithm = createAlgorithm();
+		algorithm.setPinnedFrame(true);
+		context.setLayoutAlgorithm(algorithm);
+		context.applyLayout(true);
+
+		// pinned nodes are neither moved by the iterations, nor by centering
+		// or fitting
+		assertEquals(new Point(50, 50),
+				LayoutProperties.getLocation(nodes.get(0)));
+		assertEquals(new Point(130, 90),
+				LayoutProperties.getLocation(nodes.get(7)));
+		assertNotEquals(free, LayoutProperties.getLocation(nodes.get(1)));
+	}
+
+	@Test
+	public void pinnedNodesWithoutPinnedFrame() {
+		LayoutContext context = createContext(10);
+		LayoutProperties.setMovable(nodes.get(0), false);
+		SpringLayoutAlgorithm algorithm = createAlgorithm();
+		assertFalse(algorithm.isPinnedFrame());
+		context.setLayoutAlgorithm(algorithm);
+		context.applyLayout(true);
+
+		// the free nodes are still fitted into the layout bounds (inset by 4)
+		for (Node node : nodes.subList(1, nodes.size())) {
+			Point location = LayoutProperties.getLocation(node);
+			// locations refer to the centers (width is 20, height is 10)
+			assertTrue(location.x - 10 >= 4 - TOLERANCE);
+			assertTrue(location.y - 5 >= 4 - TOLERANCE);
+			assertTrue(location.x + 10 <= 496 + TOLERANCE);
+			assertTrue(location.y + 5 <= 496 + TOLERANCE);
+		}
+	}
+
+	@Test
+	public void incrementalIterations() {
+		LayoutContext context = createContext(10);
+		SpringLayoutAlgorithm algorithm = createAlgorithm();
+		algorithm.setRandom(false);
+		algorithm.setPinnedFrame(true);
+		context.setLayoutAlgorithm(algorithm);
+		context.applyLayout(true);
+
+		// simulate a drag of a node, which is pinned afterwards
+		Point dragged = new Point(400, 400);
+		LayoutProperties.setLocation(nodes.get(3), dragged);
+		LayoutProperties.setMovable(nodes.get(3), false);
+		algorithm.performNIteration(20);
+
+		assertEquals(dragged, LayoutProperties.getLocation(nodes.get(3)));
+	}
+
+	@Test
+	public void separation() {
+		LayoutContext context = createContext(10);
+		SpringLayoutAlgorithm algorithm = createAlgorithm();
+		algorithm.addHorizontalSeparation(nodes.get(1), nodes.get(2), 30);
+		algorithm.addVerticalSeparation(nodes.get(3), nodes.get(4), 30);
+		// disable fitting, which may shrink separations
+		algorithm.setFitWithinBounds(false);
+		context.setLayoutAlgorithm(algorithm);
+		context.applyLayout(true);
+
+		// borders are at least 30 apart (width is 20, height is 10)
+		assertTrue(LayoutProperties.getLocation(nodes.get(2)).x
+				- LayoutProperties.getLocation(nodes.get(1)).x >= 50
+						- TOLERANCE);
+		assertTrue(LayoutProperties.getLocation(nodes.get(4)).y
+				- LayoutProperties.getLocation(nodes.get(3)).y >= 40
+						- TOLERANCE);
+	}
+
+}
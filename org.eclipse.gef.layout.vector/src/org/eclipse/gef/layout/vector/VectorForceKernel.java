@@ -0,0 +1,94 @@
+/*******************************************************************************
+ * Copyright (c) 2026 itemis AG and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     itemis AG - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.layout.vector;
+
+import org.eclipse.gef.layout.internal.algorithms.ForceKernel;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * The {@link VectorForceKernel} is a {@link ForceKernel} that computes the
+ * repulsion between the nodes using the (incubating) Vector API, processing
+ * as many node pairs per instruction as the preferred vector species allows
+ * (e.g. 4 pairs with AVX2, 8 pairs with AVX-512). The remaining pairs of each
+ * row, as well as the attraction along edges, are computed by the scalar code
+ * of {@link ForceKernel}.
+ * <p>
+ * It is picked up by {@link ForceKernel#getInstance()} when it is on the
+ * class path and the <code>jdk.incubator.vector</code> module is resolved
+ * (e.g. via <code>--add-modules jdk.incubator.vector</code>).
+ */
+public final class VectorForceKernel extends ForceKernel {
+
+	private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+	@Override
+	public void computeRepulsion(double[] x, double[] y, int n, double scaleX,
+			double scaleY, double gravitation, double minDistanceSquared,
+			double[] fx, double[] fy) {
+		DoubleVector minimum = DoubleVector.broadcast(SPECIES,
+				minDistanceSquared);
+		DoubleVector g = DoubleVector.broadcast(SPECIES, gravitation);
+		for (int i = 0; i < n; i++) {
+			double xi = x[i];
+			double yi = y[i];
+			DoubleVector vxi = DoubleVector.broadcast(SPECIES, xi);
+			DoubleVector vyi = DoubleVector.broadcast(SPECIES, yi);
+			DoubleVector sumX = DoubleVector.zero(SPECIES);
+			DoubleVector sumY = DoubleVector.zero(SPECIES);
+			int j = i + 1;
+			int bound = j + SPECIES.loopBound(n - j);
+			for (; j < bound; j += SPECIES.length()) {
+				DoubleVector dx = vxi.sub(DoubleVector.fromArray(SPECIES, x, j))
+						.mul(scaleX);
+				DoubleVector dy = vyi.sub(DoubleVector.fromArray(SPECIES, y, j))
+						.mul(scaleY);
+				DoubleVector distanceSquared = dx.mul(dx).add(dy.mul(dy))
+						.max(minimum);
+				// f * d / |d| with f = gravitation / |d|^2
+				DoubleVector s = g.div(distanceSquared
+						.mul(distanceSquared.lanewise(VectorOperators.SQRT)));
+				DoubleVector dfx = s.mul(dx);
+				DoubleVector dfy = s.mul(dy);
+				sumX = sumX.add(dfx);
+				sumY = sumY.add(dfy);
+				DoubleVector.fromArray(SPECIES, fx, j).sub(dfx).intoArray(fx,
+						j);
+				DoubleVector.fromArray(SPECIES, fy, j).sub(dfy).intoArray(fy,
+						j);
+			}
+			double scalarSumX = sumX.reduceLanes(VectorOperators.ADD);
+			double scalarSumY = sumY.reduceLanes(VectorOperators.ADD);
+			for (; j < n; j++) {
+				double dx = (xi - x[j]) * scaleX;
+				double dy = (yi - y[j]) * scaleY;
+				double distanceSquared = Math.max(minDistanceSquared,
+						dx * dx + dy * dy);
+				double s = gravitation
+						/ (distanceSquared * Math.sqrt(distanceSquared));
+				double dfx = s * dx;
+				double dfy = s * dy;
+				scalarSumX += dfx;
+				scalarSumY += dfy;
+				fx[j] -= dfx;
+				fy[j] -= dfy;
+			}
+			fx[i] += scalarSumX;
+			fy[i] += scalarSumY;
+		}
+	}
+
+}
@@ -0,0 +1,70 @@
+/*******************************************************************************
+ * Copyright (c) 2026 itemis AG and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     itemis AG - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.layout.vector;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+
+import org.eclipse.gef.layout.internal.algorithms.ForceKernel;
+import org.junit.Test;
+
+/**
+ * Tests that the {@link VectorForceKernel} computes the same forces as the
+ * scalar {@link ForceKernel}.
+ */
+public class VectorForceKernelTests {
+
+	@Test
+	public void isPickedUp() {
+		assertTrue(ForceKernel.getInstance() instanceof VectorForceKernel);
+	}
+
+	@Test
+	public void matchesScalarKernel() {
+		Random random = new Random(42);
+		// sizes around multiples of the vector lengths exercise the remainders
+		for (int n : new int[] { 0, 1, 2, 3, 4, 5, 7, 8, 9, 15, 16, 17, 100,
+				1000 }) {
+			double[] x = new double[n];
+			double[] y = new double[n];
+			for (int i = 0; i < n; i++) {
+				x[i] = random.nextDouble() * 1000;
+				y[i] = random.nextDouble() * 1000;
+			}
+			if (n > 2) {
+				// coincident nodes exercise the minimum distance
+				x[2] = x[1];
+				y[2] = y[1];
+			}
+			double[] expectedX = new double[n];
+			double[] expectedY = new double[n];
+			new ForceKernel().computeRepulsion(x, y, n, 0.01, 0.0125, 2, 1,
+					expectedX, expectedY);
+			double[] actualX = new double[n];
+			double[] actualY = new double[n];
+			new VectorForceKernel().computeRepulsion(x, y, n, 0.01, 0.0125, 2,
+					1, actualX, actualY);
+			for (int i = 0; i < n; i++) {
+				// the summation order differs, so allow for rounding errors
+				assertEquals(expectedX[i], actualX[i],
+						1e-9 * Math.max(1, Math.abs(expectedX[i])));
+				assertEquals(expectedY[i], actualY[i],
+						1e-9 * Math.max(1, Math.abs(expectedY[i])));
+			}
+		}
+	}
+
+}
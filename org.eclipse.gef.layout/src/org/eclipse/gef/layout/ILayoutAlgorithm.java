@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2017 The Chisel Group and others.
+ * Copyright (c) 2005, 2026 The Chisel Group and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -23,7 +23,9 @@ public interface ILayoutAlgorithm {
 
 	/**
 	 * Makes this algorithm perform layout computation and apply it to its
-	 * context.
+	 * context. Algorithms report their progress to the
+	 * {@link LayoutContext#getLayoutMonitor() layout monitor} of the context
+	 * (if any), and stop early when it requests cancellation.
 	 * 
 	 * @param layoutContext
 	 *            The {@link LayoutContext} that provides all relevant
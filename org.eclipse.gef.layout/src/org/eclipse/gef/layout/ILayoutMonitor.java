@@ -0,0 +1,127 @@
+/*******************************************************************************
+ * Copyright (c) 2026 itemis AG and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     itemis AG - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.layout;
+
+/**
+ * An {@link ILayoutMonitor} can be set on a {@link LayoutContext} to observe
+ * and bound the cost of a layout pass. {@link ILayoutAlgorithm}s report the
+ * start and end of their {@link Phase phases}, as well as the iterations they
+ * perform, and regularly check whether the layout pass was
+ * {@link #isCanceled() canceled}. The {@link LayoutContext} reports the start
+ * and end of each layout pass. Cancellation is cooperative, i.e. an
+ * algorithm stops at its next cancellation point, leaving the layout context
+ * in a consistent (but not necessarily completely laid out) state.
+ * <p>
+ * All callbacks are invoked on the thread that performs the layout pass,
+ * while {@link #isCanceled()} may be backed by state that is changed from
+ * other threads.
+ *
+ * @see LayoutMonitor
+ */
+public interface ILayoutMonitor {
+
+	/**
+	 * The phases of a layout pass that are reported to an
+	 * {@link ILayoutMonitor}. An {@link ILayoutAlgorithm} reports only those
+	 * phases it actually performs, and it may report a phase multiple times
+	 * within a single layout pass.
+	 */
+	public enum Phase {
+		/**
+		 * Assignment of nodes to layers, or computation of the (spanning) tree
+		 * structure.
+		 */
+		LAYERING,
+
+		/**
+		 * Reordering of nodes within their layers to reduce edge crossings.
+		 */
+		CROSSING_REDUCTION,
+
+		/**
+		 * Computation of node locations, including the iterations of
+		 * force-directed algorithms.
+		 */
+		POSITIONING,
+
+		/**
+		 * Scaling and translation of the computed locations (and sizes) to
+		 * fit the layout bounds.
+		 */
+		FITTING,
+
+		/**
+		 * Computation of the routes (bend points) of the edges, based on the
+		 * computed node locations and sizes.
+		 */
+		EDGE_ROUTING
+	}
+
+	/**
+	 * Returns <code>true</code> if the current layout pass should be stopped
+	 * at the next cancellation point. Otherwise returns <code>false</code>.
+	 *
+	 * @return <code>true</code> if the current layout pass should be stopped,
+	 *         otherwise <code>false</code>.
+	 */
+	public boolean isCanceled();
+
+	/**
+	 * Called by an {@link ILayoutAlgorithm} after it performed an iteration
+	 * within the given {@link Phase}.
+	 *
+	 * @param phase
+	 *            The {@link Phase} in which the iteration was performed.
+	 * @param iteration
+	 *            The number of the iteration that was performed (starting at
+	 *            <code>1</code>).
+	 * @param totalIterations
+	 *            The total number of iterations that is planned for the given
+	 *            {@link Phase}, or <code>-1</code> if unknown.
+	 */
+	public void iterationPerformed(Phase phase, int iteration,
+			int totalIterations);
+
+	/**
+	 * Called by the {@link LayoutContext} after a layout pass was finished
+	 * (also if it was canceled).
+	 */
+	public void layoutFinished();
+
+	/**
+	 * Called by the {@link LayoutContext} before a layout pass is started, so
+	 * that state that refers to a previous layout pass (e.g. its cancellation
+	 * or start time) can be reset.
+	 */
+	public void layoutStarted();
+
+	/**
+	 * Called by an {@link ILayoutAlgorithm} after it finished the given
+	 * {@link Phase}.
+	 *
+	 * @param phase
+	 *            The {@link Phase} that was finished.
+	 */
+	public void phaseFinished(Phase phase);
+
+	/**
+	 * Called by an {@link ILayoutAlgorithm} before it starts the given
+	 * {@link Phase}.
+	 *
+	 * @param phase
+	 *            The {@link Phase} that is started.
+	 */
+	public void phaseStarted(Phase phase);
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2014, 2017 itemis AG and others.
+ * Copyright (c) 2014, 2026 itemis AG and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -27,8 +27,9 @@ import javafx.collections.ObservableList;
 /**
  * The {@link LayoutContext} provides the context in which to layout a
  * {@link Graph}. It maintains an {@link ILayoutAlgorithm} that can be applied,
- * supports the handling and execution of pre and post {@link Runnable}s, and
- * filtering of layout objects using {@link ILayoutFilter}.
+ * supports the handling and execution of pre and post {@link Runnable}s,
+ * filtering of layout objects using {@link ILayoutFilter}, and observation as
+ * well as cancellation of layout passes using an {@link ILayoutMonitor}.
  * 
  * @author mwienand
  *
@@ -41,9 +42,18 @@ public class LayoutContext {
 	 */
 	public static final String LAYOUT_ALGORITHM_PROPERTY = "layoutAlgorithm";
 
+	/**
+	 * An {@link LayoutContext} notifies registered listeners about changes to
+	 * the layout monitor using this property name.
+	 */
+	public static final String LAYOUT_MONITOR_PROPERTY = "layoutMonitor";
+
 	private ObjectProperty<ILayoutAlgorithm> layoutAlgorithmProperty = new SimpleObjectProperty<>(
 			this, LAYOUT_ALGORITHM_PROPERTY);
 
+	private ObjectProperty<ILayoutMonitor> layoutMonitorProperty = new SimpleObjectProperty<>(
+			this, LAYOUT_MONITOR_PROPERTY);
+
 	private Graph graph;
 	private final List<Runnable> postLayoutPass = new ArrayList<>();
 	private final List<Runnable> preLayoutPass = new ArrayList<>();
@@ -62,7 +72,8 @@ public class LayoutContext {
 	/**
 	 * Applies the layout algorithm of this LayoutContext. The clean flag is
 	 * passed-in to the layout algorithm to indicate whether the context changed
-	 * significantly since the last layout pass.
+	 * significantly since the last layout pass. The {@link ILayoutMonitor} (if
+	 * any) is notified about the start and end of the layout pass.
 	 * 
 	 * @param clear
 	 *            <code>true</code> to indicate that the algorithm has to fully
@@ -71,9 +82,19 @@ public class LayoutContext {
 	public void applyLayout(boolean clear) {
 		ILayoutAlgorithm layoutAlgorithm = layoutAlgorithmProperty.get();
 		if (layoutAlgorithm != null) {
-			preLayout();
-			layoutAlgorithm.applyLayout(this, clear);
-			postLayout();
+			ILayoutMonitor monitor = layoutMonitorProperty.get();
+			if (monitor != null) {
+				monitor.layoutStarted();
+			}
+			try {
+				preLayout();
+				layoutAlgorithm.applyLayout(this, clear);
+				postLayout();
+			} finally {
+				if (monitor != null) {
+					monitor.layoutFinished();
+				}
+			}
 		}
 	}
 
@@ -168,6 +189,17 @@ public class LayoutContext {
 		return layoutAlgorithmProperty.get();
 	}
 
+	/**
+	 * Returns the {@link ILayoutMonitor} that is notified about the progress
+	 * of layout passes, and that can be used to cancel them.
+	 * 
+	 * @return The {@link ILayoutMonitor} of this {@link LayoutContext}, or
+	 *         <code>null</code> if no monitor is set.
+	 */
+	public ILayoutMonitor getLayoutMonitor() {
+		return layoutMonitorProperty.get();
+	}
+
 	/**
 	 * Returns <code>true</code> when the given {@link Edge} is not relevant for
 	 * layout according to the configured {@link ILayoutFilter layout filters}.
@@ -221,6 +253,19 @@ public class LayoutContext {
 		return layoutAlgorithmProperty;
 	};
 
+	/**
+	 * A property representing the {@link ILayoutMonitor} used by this
+	 * {@link LayoutContext}.
+	 * 
+	 * @see #getLayoutMonitor()
+	 * @see #setLayoutMonitor(ILayoutMonitor)
+	 * 
+	 * @return A property named {@link #LAYOUT_MONITOR_PROPERTY}.
+	 */
+	public ObjectProperty<ILayoutMonitor> layoutMonitorProperty() {
+		return layoutMonitorProperty;
+	}
+
 	/**
 	 * Removes the given ILayoutFilter from this {@link LayoutContext}.
 	 * 
@@ -278,6 +323,18 @@ public class LayoutContext {
 		layoutAlgorithmProperty.set(algorithm);
 	}
 
+	/**
+	 * Sets the {@link ILayoutMonitor} for this context, which is notified about
+	 * the progress of subsequent layout passes.
+	 * 
+	 * @param monitor
+	 *            The new {@link ILayoutMonitor} for this {@link LayoutContext},
+	 *            or <code>null</code> to disable monitoring.
+	 */
+	public void setLayoutMonitor(ILayoutMonitor monitor) {
+		layoutMonitorProperty.set(monitor);
+	}
+
 	/**
 	 * Removes the given {@link Runnable} from the list of runnables which are
 	 * called when this {@link LayoutContext} is asked to apply all changes made
@@ -0,0 +1,214 @@
+/*******************************************************************************
+ * Copyright (c) 2026 itemis AG and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     itemis AG - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.layout;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The {@link LayoutMonitor} is the default {@link ILayoutMonitor}
+ * implementation. It accumulates the elapsed time and the number of iterations
+ * per {@link ILayoutMonitor.Phase Phase}, supports cancellation from any
+ * thread, and can cancel a layout pass automatically when a time limit is
+ * exceeded. It is {@link #reset() reset} when a layout pass is started, so
+ * that it can be reused for subsequent layout passes, and the statistics refer
+ * to the last (or current) layout pass. A cancellation that is requested
+ * while no layout pass is running applies to the next layout pass.
+ */
+public class LayoutMonitor implements ILayoutMonitor {
+
+	private static final int PHASES = Phase.values().length;
+
+	private volatile boolean canceled = false;
+	private volatile boolean cancelPending = false;
+	private volatile boolean running = false;
+	private volatile long timeLimitNanos = 0;
+	private volatile long startTime = -1;
+
+	private final long[] elapsedNanos = new long[PHASES];
+	private final long[] phaseStartTimes = new long[PHASES];
+	private final int[] iterations = new int[PHASES];
+
+	/**
+	 * Constructs a new {@link LayoutMonitor} without time limit.
+	 */
+	public LayoutMonitor() {
+		reset();
+	}
+
+	/**
+	 * Cancels the current layout pass, i.e. {@link #isCanceled()} will return
+	 * <code>true</code> until this {@link LayoutMonitor} is {@link #reset()
+	 * reset}. If no layout pass is running, the next layout pass is canceled.
+	 * May be called from any thread.
+	 */
+	public void cancel() {
+		canceled = true;
+		if (!running) {
+			cancelPending = true;
+		}
+	}
+
+	/**
+	 * Returns the time that elapsed within the given {@link Phase} (summed up
+	 * over all its occurrences since the last {@link #reset()}), in the given
+	 * {@link TimeUnit}.
+	 *
+	 * @param phase
+	 *            The {@link Phase} for which to return the elapsed time.
+	 * @param unit
+	 *            The {@link TimeUnit} in which to return the elapsed time.
+	 * @return The time that elapsed within the given {@link Phase}.
+	 */
+	public synchronized long getElapsedTime(Phase phase, TimeUnit unit) {
+		return unit.convert(elapsedNanos[phase.ordinal()],
+				TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * Returns the number of iterations that were performed within the given
+	 * {@link Phase} since the last {@link #reset()}.
+	 *
+	 * @param phase
+	 *            The {@link Phase} for which to return the number of
+	 *            iterations.
+	 * @return The number of iterations that were performed within the given
+	 *         {@link Phase}.
+	 */
+	public synchronized int getIterations(Phase phase) {
+		return iterations[phase.ordinal()];
+	}
+
+	/**
+	 * Returns the time limit (in milliseconds) after which the layout pass is
+	 * canceled automatically, or <code>0</code> if no time limit is set.
+	 *
+	 * @return The time limit (in milliseconds).
+	 */
+	public long getTimeLimit() {
+		return TimeUnit.NANOSECONDS.toMillis(timeLimitNanos);
+	}
+
+	/**
+	 * Returns the time (in the given {@link TimeUnit}) that elapsed since the
+	 * first {@link Phase} was started after the last {@link #reset()}.
+	 *
+	 * @param unit
+	 *            The {@link TimeUnit} in which to return the elapsed time.
+	 * @return The total time that elapsed since the first {@link Phase} was
+	 *         started, or <code>0</code> if no {@link Phase} was started yet.
+	 */
+	public long getTotalElapsedTime(TimeUnit unit) {
+		long start = startTime;
+		return start < 0 ? 0
+				: unit.convert(System.nanoTime() - start,
+						TimeUnit.NANOSECONDS);
+	}
+
+	@Override
+	public boolean isCanceled() {
+		if (canceled) {
+			return true;
+		}
+		long limit = timeLimitNanos;
+		long start = startTime;
+		if (limit > 0 && start >= 0 && System.nanoTime() - start > limit) {
+			canceled = true;
+		}
+		return canceled;
+	}
+
+	@Override
+	public synchronized void iterationPerformed(Phase phase, int iteration,
+			int totalIterations) {
+		iterations[phase.ordinal()]++;
+	}
+
+	@Override
+	public void layoutFinished() {
+		running = false;
+	}
+
+	@Override
+	public synchronized void layoutStarted() {
+		boolean pending = cancelPending;
+		reset();
+		canceled = pending;
+		running = true;
+	}
+
+	@Override
+	public synchronized void phaseFinished(Phase phase) {
+		int index = phase.ordinal();
+		if (phaseStartTimes[index] >= 0) {
+			elapsedNanos[index] += System.nanoTime() - phaseStartTimes[index];
+			phaseStartTimes[index] = -1;
+		}
+	}
+
+	@Override
+	public synchronized void phaseStarted(Phase phase) {
+		long now = System.nanoTime();
+		if (startTime < 0) {
+			startTime = now;
+		}
+		phaseStartTimes[phase.ordinal()] = now;
+	}
+
+	/**
+	 * Resets this {@link LayoutMonitor}, i.e. clears the cancellation state
+	 * (including a pending cancellation), the elapsed times, and the iteration
+	 * counts. The time limit is preserved.
+	 */
+	public synchronized void reset() {
+		canceled = false;
+		cancelPending = false;
+		startTime = -1;
+		for (int i = 0; i < PHASES; i++) {
+			elapsedNanos[i] = 0;
+			phaseStartTimes[i] = -1;
+			iterations[i] = 0;
+		}
+	}
+
+	/**
+	 * Sets the time limit (in milliseconds) after which a layout pass is
+	 * canceled automatically. The time is measured from the start of the first
+	 * {@link Phase} of the layout pass. A value of
+	 * <code>0</code> disables the time limit.
+	 *
+	 * @param timeLimit
+	 *            The time limit in milliseconds, or <code>0</code> to disable
+	 *            the time limit.
+	 */
+	public void setTimeLimit(long timeLimit) {
+		if (timeLimit < 0) {
+			throw new IllegalArgumentException(
+					"The time limit may not be negative.");
+		}
+		timeLimitNanos = TimeUnit.MILLISECONDS.toNanos(timeLimit);
+	}
+
+	@Override
+	public synchronized String toString() {
+		StringBuilder sb = new StringBuilder("LayoutMonitor {");
+		for (Phase phase : Phase.values()) {
+			sb.append(" ").append(phase).append(": ")
+					.append(getElapsedTime(phase, TimeUnit.MILLISECONDS))
+					.append("ms/").append(iterations[phase.ordinal()])
+					.append(" iterations,");
+		}
+		sb.append(" canceled: ").append(canceled).append(" }");
+		return sb.toString();
+	}
+}
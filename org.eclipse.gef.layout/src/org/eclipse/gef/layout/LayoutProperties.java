@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2013, 2016 itemis AG and others.
+ * Copyright (c) 2013, 2026 itemis AG and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -13,6 +13,8 @@
  *******************************************************************************/
 package org.eclipse.gef.layout;
 
+import java.util.List;
+
 import org.eclipse.gef.geometry.planar.Dimension;
 import org.eclipse.gef.geometry.planar.Point;
 import org.eclipse.gef.geometry.planar.Rectangle;
@@ -83,6 +85,13 @@ public class LayoutProperties {
 	 */
 	public static final Double DEFAULT_WEIGHT = 0d;
 
+	/**
+	 * Stores the bend points of this connection, as computed by an edge
+	 * routing layout algorithm. The bend points do not include the start and
+	 * end point of the connection.
+	 */
+	public static final String BEND_POINTS_PROPERTY = "layout_bend-points";
+
 	/**
 	 * Constant for top-down direction (default).
 	 */
@@ -259,6 +268,21 @@ public class LayoutProperties {
 		node.getAttributes().put(RESIZABLE_PROPERTY, resizable);
 	}
 
+	/**
+	 * Sets the value of the {@link #MOVABLE_PROPERTY} of the given {@link Node}
+	 * to the given value. A node that is not movable is pinned at its current
+	 * location, i.e. it is not moved by layout algorithms.
+	 * 
+	 * @param node
+	 *            The {@link Node} whose {@link #MOVABLE_PROPERTY} is changed.
+	 * @param movable
+	 *            The new value for the {@link #MOVABLE_PROPERTY} of the given
+	 *            {@link Node}.
+	 */
+	public static void setMovable(Node node, boolean movable) {
+		node.getAttributes().put(MOVABLE_PROPERTY, movable);
+	}
+
 	/**
 	 * Returns the value of the {@link #WEIGHT_PROPERTY} of the given
 	 * {@link Edge}.
@@ -290,4 +314,38 @@ public class LayoutProperties {
 		edge.getAttributes().put(WEIGHT_PROPERTY, weight);
 	}
 
+	/**
+	 * Returns the value of the {@link #BEND_POINTS_PROPERTY} of the given
+	 * {@link Edge}.
+	 * 
+	 * @param edge
+	 *            The {@link Edge} whose {@link #BEND_POINTS_PROPERTY} is read.
+	 * @return The value of the {@link #BEND_POINTS_PROPERTY} of the given
+	 *         {@link Edge}, or <code>null</code> if no bend points were
+	 *         computed.
+	 */
+	@SuppressWarnings("unchecked")
+	public static List<Point> getBendPoints(Edge edge) {
+		return (List<Point>) edge.getAttributes().get(BEND_POINTS_PROPERTY);
+	}
+
+	/**
+	 * Sets the value of the {@link #BEND_POINTS_PROPERTY} of the given
+	 * {@link Edge} to the given value.
+	 * 
+	 * @param edge
+	 *            The {@link Edge} whose {@link #BEND_POINTS_PROPERTY} is
+	 *            changed.
+	 * @param bendPoints
+	 *            The new value for the {@link #BEND_POINTS_PROPERTY} of the
+	 *            given {@link Edge}, or <code>null</code> to remove it.
+	 */
+	public static void setBendPoints(Edge edge, List<Point> bendPoints) {
+		if (bendPoints == null) {
+			edge.getAttributes().remove(BEND_POINTS_PROPERTY);
+		} else {
+			edge.getAttributes().put(BEND_POINTS_PROPERTY, bendPoints);
+		}
+	}
+
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2016 The Chisel Group and others.
+ * Copyright (c) 2005, 2026 The Chisel Group and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -17,11 +17,15 @@ import org.eclipse.gef.geometry.planar.Dimension;
 import org.eclipse.gef.geometry.planar.Point;
 import org.eclipse.gef.geometry.planar.Rectangle;
 import org.eclipse.gef.graph.Node;
+import org.eclipse.gef.layout.ILayoutMonitor;
+import org.eclipse.gef.layout.ILayoutMonitor.Phase;
+import org.eclipse.gef.layout.LayoutContext;
 import org.eclipse.gef.layout.LayoutProperties;
 
 /**
  * The {@link AlgorithmHelper} class contains utility methods for the laying out
- * of entities within bounds.
+ * of entities within bounds, as well as for reporting progress to the
+ * {@link ILayoutMonitor} of a {@link LayoutContext}.
  * 
  * @author Ian Bull
  * @author Mateusz Matela
@@ -260,4 +264,77 @@ class AlgorithmHelper {
 		}
 		return horAndVertdistance;
 	}
+
+	/**
+	 * Returns <code>true</code> if the {@link ILayoutMonitor} of the given
+	 * {@link LayoutContext} requests the current layout pass to be canceled.
+	 * Returns <code>false</code> if no monitor is set.
+	 * 
+	 * @param context
+	 *            The {@link LayoutContext} whose {@link ILayoutMonitor} is
+	 *            queried.
+	 * @return <code>true</code> if the layout pass should be canceled,
+	 *         otherwise <code>false</code>.
+	 */
+	public static boolean isCanceled(LayoutContext context) {
+		ILayoutMonitor monitor = context.getLayoutMonitor();
+		return monitor != null && monitor.isCanceled();
+	}
+
+	/**
+	 * Reports an iteration within the given {@link Phase} to the
+	 * {@link ILayoutMonitor} of the given {@link LayoutContext}, if any.
+	 * 
+	 * @param context
+	 *            The {@link LayoutContext} whose {@link ILayoutMonitor} is
+	 *            notified.
+	 * @param phase
+	 *            The {@link Phase} in which the iteration was performed.
+	 * @param iteration
+	 *            The number of the iteration (starting at <code>1</code>).
+	 * @param totalIterations
+	 *            The planned total number of iterations, or <code>-1</code>
+	 *            if unknown.
+	 */
+	public static void iterationPerformed(LayoutContext context, Phase phase,
+			int iteration, int totalIterations) {
+		ILayoutMonitor monitor = context.getLayoutMonitor();
+		if (monitor != null) {
+			monitor.iterationPerformed(phase, iteration, totalIterations);
+		}
+	}
+
+	/**
+	 * Reports the end of the given {@link Phase} to the {@link ILayoutMonitor}
+	 * of the given {@link LayoutContext}, if any.
+	 * 
+	 * @param context
+	 *            The {@link LayoutContext} whose {@link ILayoutMonitor} is
+	 *            notified.
+	 * @param phase
+	 *            The {@link Phase} that was finished.
+	 */
+	public static void phaseFinished(LayoutContext context, Phase phase) {
+		ILayoutMonitor monitor = context.getLayoutMonitor();
+		if (monitor != null) {
+			monitor.phaseFinished(phase);
+		}
+	}
+
+	/**
+	 * Reports the start of the given {@link Phase} to the
+	 * {@link ILayoutMonitor} of the given {@link LayoutContext}, if any.
+	 * 
+	 * @param context
+	 *            The {@link LayoutContext} whose {@link ILayoutMonitor} is
+	 *            notified.
+	 * @param phase
+	 *            The {@link Phase} that is started.
+	 */
+	public static void phaseStarted(LayoutContext context, Phase phase) {
+		ILayoutMonitor monitor = context.getLayoutMonitor();
+		if (monitor != null) {
+			monitor.phaseStarted(phase);
+		}
+	}
 }
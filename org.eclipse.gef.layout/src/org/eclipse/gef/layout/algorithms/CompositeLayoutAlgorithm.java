@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2017 The Chisel Group and others.
+ * Copyright (c) 2005, 2026 The Chisel Group and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -14,12 +14,14 @@
 package org.eclipse.gef.layout.algorithms;
 
 import org.eclipse.gef.layout.ILayoutAlgorithm;
+import org.eclipse.gef.layout.ILayoutMonitor;
 import org.eclipse.gef.layout.LayoutContext;
 
 /**
  * The {@link CompositeLayoutAlgorithm} combines multiple
  * {@link ILayoutAlgorithm}s. When doing a layout-pass, all the algorithms are
- * applied in sequence.
+ * applied in sequence. The remaining algorithms are skipped when the layout
+ * pass is canceled via the {@link ILayoutMonitor} of the {@link LayoutContext}.
  * 
  * @author Ian Bull
  * @author Mateusz Matela
@@ -42,7 +44,8 @@ public class CompositeLayoutAlgorithm implements ILayoutAlgorithm {
 	}
 
 	public void applyLayout(LayoutContext context, boolean clean) {
-		for (int i = 0; i < algorithms.length; i++) {
+		for (int i = 0; i < algorithms.length
+				&& !AlgorithmHelper.isCanceled(context); i++) {
 			algorithms[i].applyLayout(context, clean);
 		}
 	}
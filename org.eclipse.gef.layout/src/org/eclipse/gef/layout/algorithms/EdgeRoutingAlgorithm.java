@@ -0,0 +1,169 @@
+/*******************************************************************************
+ * Copyright (c) 2026 itemis AG and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     itemis AG - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.layout.algorithms;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.gef.geometry.internal.utils.OrthogonalSegmentGraph;
+import org.eclipse.gef.geometry.planar.Dimension;
+import org.eclipse.gef.geometry.planar.Point;
+import org.eclipse.gef.graph.Edge;
+import org.eclipse.gef.graph.Node;
+import org.eclipse.gef.layout.ILayoutAlgorithm;
+import org.eclipse.gef.layout.ILayoutMonitor.Phase;
+import org.eclipse.gef.layout.LayoutContext;
+import org.eclipse.gef.layout.LayoutProperties;
+
+/**
+ * The {@link EdgeRoutingAlgorithm} computes obstacle-avoiding orthogonal
+ * routes for all edges of a {@link LayoutContext}, based on the locations and
+ * sizes of its nodes. It does not move or resize any nodes, and is therefore
+ * intended to be applied after a node placing {@link ILayoutAlgorithm}, e.g.
+ * by means of a {@link CompositeLayoutAlgorithm}.
+ * <p>
+ * The nodes, enlarged by a {@link #setMargin(double) margin}, are used as
+ * obstacles, from which a single orthogonal visibility graph is built. The
+ * route of each edge is then searched within that graph, minimizing its length
+ * plus a {@link #setBendPenalty(double) penalty} for each bend. Routes leave
+ * and enter the nodes perpendicular to one of their sides. The bend points of
+ * a route are stored in the {@link LayoutProperties#BEND_POINTS_PROPERTY} of
+ * the respective edge. Edges for which no route can be computed (e.g. loops,
+ * or edges whose nodes overlap) get an empty list of bend points.
+ */
+public class EdgeRoutingAlgorithm implements ILayoutAlgorithm {
+
+	/**
+	 * The default value for the {@link #setMargin(double) margin}.
+	 */
+	public static final double DEFAULT_MARGIN = 10;
+
+	/**
+	 * The default value for the {@link #setBendPenalty(double) bend penalty}.
+	 */
+	public static final double DEFAULT_BEND_PENALTY = 50;
+
+	private double margin = DEFAULT_MARGIN;
+
+	private double bendPenalty = DEFAULT_BEND_PENALTY;
+
+	public void applyLayout(LayoutContext context, boolean clean) {
+		AlgorithmHelper.phaseStarted(context, Phase.EDGE_ROUTING);
+		Node[] nodes = context.getNodes();
+		Map<Node, Integer> obstacles = new HashMap<>();
+		double[] left = new double[nodes.length];
+		double[] top = new double[nodes.length];
+		double[] right = new double[nodes.length];
+		double[] bottom = new double[nodes.length];
+		int count = 0;
+		for (Node node : nodes) {
+			Point location = LayoutProperties.getLocation(node);
+			Dimension size = LayoutProperties.getSize(node);
+			if (location == null || size == null) {
+				continue;
+			}
+			// the layout location is the center of the node
+			left[count] = location.x - size.width / 2 - margin;
+			top[count] = location.y - size.height / 2 - margin;
+			right[count] = location.x + size.width / 2 + margin;
+			bottom[count] = location.y + size.height / 2 + margin;
+			obstacles.put(node, count);
+			count++;
+		}
+		if (count < nodes.length) {
+			left = Arrays.copyOf(left, count);
+			top = Arrays.copyOf(top, count);
+			right = Arrays.copyOf(right, count);
+			bottom = Arrays.copyOf(bottom, count);
+		}
+		OrthogonalSegmentGraph graph = new OrthogonalSegmentGraph(left,
+				top, right, bottom, margin);
+
+		Edge[] edges = context.getEdges();
+		for (int i = 0; i < edges.length; i++) {
+			if (AlgorithmHelper.isCanceled(context)) {
+				break;
+			}
+			Edge edge = edges[i];
+			Integer source = obstacles.get(edge.getSource());
+			Integer target = obstacles.get(edge.getTarget());
+			if (source == null || target == null) {
+				continue;
+			}
+			List<Point> bendPoints = null;
+			if (source.intValue() != target.intValue()) {
+				bendPoints = graph.route(source, target, bendPenalty);
+			}
+			LayoutProperties.setBendPoints(edge, bendPoints == null
+					? new ArrayList<Point>() : bendPoints);
+			AlgorithmHelper.iterationPerformed(context, Phase.EDGE_ROUTING,
+					i + 1, edges.length);
+		}
+		AlgorithmHelper.phaseFinished(context, Phase.EDGE_ROUTING);
+	}
+
+	/**
+	 * Returns the penalty that is added to the cost of a route per bend.
+	 *
+	 * @return The penalty that is added to the cost of a route per bend.
+	 */
+	public double getBendPenalty() {
+		return bendPenalty;
+	}
+
+	/**
+	 * Returns the minimum distance between a route and the nodes that it
+	 * passes.
+	 *
+	 * @return The minimum distance between a route and the nodes.
+	 */
+	public double getMargin() {
+		return margin;
+	}
+
+	/**
+	 * Sets the penalty that is added to the cost of a route per bend, in units
+	 * of length. The higher the penalty, the more detours are accepted to
+	 * save a bend. Defaults to {@link #DEFAULT_BEND_PENALTY}.
+	 *
+	 * @param bendPenalty
+	 *            The new bend penalty.
+	 */
+	public void setBendPenalty(double bendPenalty) {
+		if (bendPenalty < 0) {
+			throw new IllegalArgumentException(
+					"The bend penalty may not be negative.");
+		}
+		this.bendPenalty = bendPenalty;
+	}
+
+	/**
+	 * Sets the minimum distance between a route and the nodes that it passes.
+	 * Defaults to {@link #DEFAULT_MARGIN}.
+	 *
+	 * @param margin
+	 *            The new margin.
+	 */
+	public void setMargin(double margin) {
+		if (margin < 0) {
+			throw new IllegalArgumentException(
+					"The margin may not be negative.");
+		}
+		this.margin = margin;
+	}
+
+}
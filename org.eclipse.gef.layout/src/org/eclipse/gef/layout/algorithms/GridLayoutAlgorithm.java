@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2017 The Chisel Group and others. 
+ * Copyright (c) 2005, 2026 The Chisel Group and others. 
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -18,6 +18,7 @@ import org.eclipse.gef.geometry.planar.Point;
 import org.eclipse.gef.geometry.planar.Rectangle;
 import org.eclipse.gef.graph.Node;
 import org.eclipse.gef.layout.ILayoutAlgorithm;
+import org.eclipse.gef.layout.ILayoutMonitor.Phase;
 import org.eclipse.gef.layout.LayoutContext;
 import org.eclipse.gef.layout.LayoutProperties;
 
@@ -92,15 +93,19 @@ public class GridLayoutAlgorithm implements ILayoutAlgorithm {
 	public void applyLayout(LayoutContext context, boolean clean) {
 		if (!clean)
 			return;
-		numChildren = context.getNodes().length;
+		AlgorithmHelper.phaseStarted(context, Phase.POSITIONING);
+		Node[] nodes = context.getNodes();
+		numChildren = nodes.length;
 		Rectangle bounds = LayoutProperties.getBounds(context.getGraph());
 		calculateGrid(bounds);
 
 		int index = 0;
 		for (int i = 0; i < rows; i++) {
+			if (AlgorithmHelper.isCanceled(context))
+				break;
 			for (int j = 0; j < cols; j++) {
 				if ((i * cols + j) < numChildren) {
-					Node node = context.getNodes()[index++];
+					Node node = nodes[index++];
 					if (resize && LayoutProperties.isResizable(node))
 						LayoutProperties.setSize(node, new Dimension(
 								Math.max(childrenWidth, MIN_ENTITY_SIZE),
@@ -116,6 +121,7 @@ public class GridLayoutAlgorithm implements ILayoutAlgorithm {
 				}
 			}
 		}
+		AlgorithmHelper.phaseFinished(context, Phase.POSITIONING);
 	}
 
 	/**
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2017 The Chisel Group and others.
+ * Copyright (c) 2005, 2026 The Chisel Group and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -24,6 +24,7 @@ import org.eclipse.gef.geometry.planar.Point;
 import org.eclipse.gef.geometry.planar.Rectangle;
 import org.eclipse.gef.graph.Node;
 import org.eclipse.gef.layout.ILayoutAlgorithm;
+import org.eclipse.gef.layout.ILayoutMonitor.Phase;
 import org.eclipse.gef.layout.LayoutContext;
 import org.eclipse.gef.layout.LayoutProperties;
 
@@ -43,6 +44,7 @@ public class HorizontalShiftAlgorithm implements ILayoutAlgorithm {
 	public void applyLayout(LayoutContext context, boolean clean) {
 		if (!clean)
 			return;
+		AlgorithmHelper.phaseStarted(context, Phase.POSITIONING);
 		ArrayList<List<Node>> rowsList = new ArrayList<>();
 		Node[] entities = context.getNodes();
 
@@ -88,6 +90,7 @@ public class HorizontalShiftAlgorithm implements ILayoutAlgorithm {
 				width += size.width;
 			}
 		}
+		AlgorithmHelper.phaseFinished(context, Phase.POSITIONING);
 	}
 
 	private void addToRowList(Node entity, ArrayList<List<Node>> rowsList) {
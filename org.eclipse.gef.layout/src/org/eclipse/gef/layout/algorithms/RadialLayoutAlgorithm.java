@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2017 The Chisel Group and others.
+ * Copyright (c) 2005, 2026 The Chisel Group and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -17,6 +17,7 @@ import org.eclipse.gef.geometry.planar.Point;
 import org.eclipse.gef.geometry.planar.Rectangle;
 import org.eclipse.gef.graph.Node;
 import org.eclipse.gef.layout.ILayoutAlgorithm;
+import org.eclipse.gef.layout.ILayoutMonitor.Phase;
 import org.eclipse.gef.layout.LayoutContext;
 import org.eclipse.gef.layout.LayoutProperties;
 
@@ -48,10 +49,18 @@ public class RadialLayoutAlgorithm implements ILayoutAlgorithm {
 		if (!clean)
 			return;
 		treeLayout.internalApplyLayout(layoutContext);
+		if (AlgorithmHelper.isCanceled(layoutContext))
+			return;
 		Node[] entities = layoutContext.getNodes();
 		Rectangle bounds = LayoutProperties.getBounds(layoutContext.getGraph())
 				.getCopy();
+		AlgorithmHelper.phaseStarted(layoutContext, Phase.POSITIONING);
 		computeRadialPositions(entities, bounds);
+		AlgorithmHelper.phaseFinished(layoutContext, Phase.POSITIONING);
+		if (AlgorithmHelper.isCanceled(layoutContext))
+			return;
+
+		AlgorithmHelper.phaseStarted(layoutContext, Phase.FITTING);
 		if (resize)
 			AlgorithmHelper.maximizeSizes(entities);
 		int insets = 4;
@@ -60,6 +69,7 @@ public class RadialLayoutAlgorithm implements ILayoutAlgorithm {
 		bounds.setWidth(bounds.getWidth() - 2 * insets);
 		bounds.setHeight(bounds.getHeight() - 2 * insets);
 		AlgorithmHelper.fitWithinBounds(entities, bounds, resize);
+		AlgorithmHelper.phaseFinished(layoutContext, Phase.FITTING);
 	}
 
 	private void computeRadialPositions(Node[] entities, Rectangle bounds) {
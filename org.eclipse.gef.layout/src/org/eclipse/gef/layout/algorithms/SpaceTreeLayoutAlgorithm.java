@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2017 The Chisel Group and others.
+ * Copyright (c) 2005, 2026 The Chisel Group and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -27,6 +27,7 @@ import org.eclipse.gef.geometry.planar.Point;
 import org.eclipse.gef.geometry.planar.Rectangle;
 import org.eclipse.gef.graph.Node;
 import org.eclipse.gef.layout.ILayoutAlgorithm;
+import org.eclipse.gef.layout.ILayoutMonitor.Phase;
 import org.eclipse.gef.layout.LayoutContext;
 import org.eclipse.gef.layout.LayoutProperties;
 import org.eclipse.gef.layout.algorithms.TreeLayoutHelper.TreeNode;
@@ -936,9 +937,15 @@ public class SpaceTreeLayoutAlgorithm implements ILayoutAlgorithm {
 			return;
 		}
 
+		AlgorithmHelper.phaseStarted(layoutContext, Phase.LAYERING);
 		treeObserver = new TreeLayoutHelper(spaceTreeNodeFactory);
 		treeObserver.computeTree(layoutContext.getNodes());
+		AlgorithmHelper.phaseFinished(layoutContext, Phase.LAYERING);
+		if (AlgorithmHelper.isCanceled(layoutContext)) {
+			return;
+		}
 
+		AlgorithmHelper.phaseStarted(layoutContext, Phase.POSITIONING);
 		if (clean) {
 			maximizeExpansion((SpaceTreeNode) treeObserver.getSuperRoot());
 		}
@@ -946,6 +953,7 @@ public class SpaceTreeLayoutAlgorithm implements ILayoutAlgorithm {
 		SpaceTreeNode superRoot = ((SpaceTreeNode) treeObserver.getSuperRoot());
 		superRoot.flushExpansionChanges();
 		superRoot.flushLocationChanges(0);
+		AlgorithmHelper.phaseFinished(layoutContext, Phase.POSITIONING);
 	}
 
 	private void maximizeExpansion(SpaceTreeNode nodeToExpand) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2017 The Chisel Group and others.
+ * Copyright (c) 2005, 2026 The Chisel Group and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -15,7 +15,12 @@
  ******************************************************************************/
 package org.eclipse.gef.layout.algorithms;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 import org.eclipse.gef.geometry.planar.Dimension;
 import org.eclipse.gef.geometry.planar.Point;
@@ -23,13 +28,40 @@ import org.eclipse.gef.geometry.planar.Rectangle;
 import org.eclipse.gef.graph.Edge;
 import org.eclipse.gef.graph.Node;
 import org.eclipse.gef.layout.ILayoutAlgorithm;
+import org.eclipse.gef.layout.ILayoutMonitor;
+import org.eclipse.gef.layout.ILayoutMonitor.Phase;
 import org.eclipse.gef.layout.LayoutContext;
 import org.eclipse.gef.layout.LayoutProperties;
+import org.eclipse.gef.layout.internal.algorithms.ForceKernel;
 
 /**
  * The SpringLayoutAlgorithm has its own data repository and relation
  * repository. A user can populate the repository, specify the layout
  * conditions, do the computation and query the computed results.
+ * <p>
+ * The iterations are reported to the {@link ILayoutMonitor} of the
+ * {@link LayoutContext} (within {@link Phase#POSITIONING}). When the layout
+ * pass is canceled, the locations computed so far are applied and no fitting
+ * is performed.
+ * <p>
+ * Nodes that are not {@link LayoutProperties#isMovable(Node) movable} are
+ * pinned: they exert forces on the other nodes, but are not moved by the
+ * iterations. Per default, the layout is still centered and fitted into the
+ * layout bounds afterwards. When {@link #setPinnedFrame(boolean) pinned frame}
+ * is enabled, the pinned nodes determine the frame of the layout instead: they
+ * keep their locations exactly, and centering and fitting are skipped when
+ * pinned nodes are present. This allows for an incremental layout after a user
+ * interaction, e.g. by pinning the dragged node and performing some
+ * iterations, which then only moves the free nodes.
+ * <p>
+ * In addition, simple alignment and separation constraints can be specified
+ * (see {@link #addHorizontalAlignment(Node...)},
+ * {@link #addVerticalAlignment(Node...)},
+ * {@link #addHorizontalSeparation(Node, Node, double)},
+ * {@link #addVerticalSeparation(Node, Node, double)}). The constraints are
+ * resolved by a projection step after each iteration, which moves only free
+ * nodes. Fitting the layout into the layout bounds preserves alignments, but
+ * may reduce separations when the layout needs to be shrunk.
  * 
  * @author Jingwei Wu
  * @author Rob Lintern
@@ -80,6 +112,39 @@ public class SpringLayoutAlgorithm implements ILayoutAlgorithm {
 	 */
 	private static final double MIN_DISTANCE = 1.0d;
 
+	/**
+	 * The maximum number of passes over all constraints per iteration.
+	 */
+	private static final int PROJECTION_PASSES = 10;
+
+	/**
+	 * The distance below which a constraint is considered to be satisfied.
+	 */
+	private static final double PROJECTION_TOLERANCE = 0.01d;
+
+	/**
+	 * An alignment or separation constraint between nodes.
+	 */
+	private static final class Constraint {
+		// whether x (or y) coordinates are constrained
+		private final boolean horizontal;
+		private final Node[] nodes;
+		// minimum distance for separations, NaN for alignments
+		private final double gap;
+		// indices of the nodes within the current layout pass
+		private int[] indices;
+
+		private Constraint(boolean horizontal, Node[] nodes, double gap) {
+			this.horizontal = horizontal;
+			this.nodes = nodes;
+			this.gap = gap;
+		}
+
+		private boolean isAlignment() {
+			return Double.isNaN(gap);
+		}
+	}
+
 	/**
 	 * The variable can be customized to set the number of iterations used.
 	 */
@@ -124,11 +189,19 @@ public class SpringLayoutAlgorithm implements ILayoutAlgorithm {
 	private boolean resize = false;
 
 	private int iteration;
-	private double[][] srcDestToSumOfWeights;
+	// connected pairs of nodes (with the sum of their edge weights)
+	private int[] pairSources;
+	private int[] pairTargets;
+	private double[] pairWeights;
+	private int pairCount;
 	private Node[] entities;
 	private double[] forcesX, forcesY;
 	private double[] locationsX, locationsY;
 	private double[] sizeW, sizeH;
+	private int[] free;
+	private boolean[] pinned;
+	private boolean hasPinned;
+	private final List<Constraint> constraints = new ArrayList<>();
 	private Rectangle bounds;
 	private double boundsScaleX = 0.2;
 	private double boundsScaleY = 0.2;
@@ -136,8 +209,8 @@ public class SpringLayoutAlgorithm implements ILayoutAlgorithm {
 	// XXX: Needed by performNIteration(int), see below.
 	private LayoutContext layoutContext;
 
-	// TODO: expose field
 	private boolean fitWithinBounds = true;
+	private boolean pinnedFrame = false;
 
 	public void applyLayout(LayoutContext layoutContext, boolean clean) {
 		this.layoutContext = layoutContext;
@@ -146,15 +219,25 @@ public class SpringLayoutAlgorithm implements ILayoutAlgorithm {
 			return;
 		}
 
-		while (performAnotherNonContinuousIteration()) {
+		AlgorithmHelper.phaseStarted(layoutContext, Phase.POSITIONING);
+		while (performAnotherNonContinuousIteration()
+				&& !AlgorithmHelper.isCanceled(layoutContext)) {
 			computeOneIteration();
+			AlgorithmHelper.iterationPerformed(layoutContext,
+					Phase.POSITIONING, iteration - 1, sprIterations);
 		}
+		AlgorithmHelper.phaseFinished(layoutContext, Phase.POSITIONING);
 
 		saveLocations();
+		if (AlgorithmHelper.isCanceled(layoutContext)) {
+			return;
+		}
+
+		AlgorithmHelper.phaseStarted(layoutContext, Phase.FITTING);
 		if (resize)
 			AlgorithmHelper.maximizeSizes(entities);
 
-		if (fitWithinBounds) {
+		if (fitWithinBounds && !isFramedByPinnedNodes()) {
 			Rectangle bounds2 = new Rectangle(bounds);
 			int insets = 4;
 			bounds2.setX(bounds2.getX() + insets);
@@ -163,6 +246,7 @@ public class SpringLayoutAlgorithm implements ILayoutAlgorithm {
 			bounds2.setHeight(bounds2.getHeight() - 2 * insets);
 			AlgorithmHelper.fitWithinBounds(entities, bounds2, resize);
 		}
+		AlgorithmHelper.phaseFinished(layoutContext, Phase.FITTING);
 	}
 
 	/**
@@ -177,6 +261,9 @@ public class SpringLayoutAlgorithm implements ILayoutAlgorithm {
 			entities = layoutContext.getNodes();
 			loadLocations();
 			initLayout(layoutContext);
+		} else {
+			// pick up locations and pinned states changed by the user
+			loadLocations();
 		}
 		bounds = LayoutProperties.getBounds(layoutContext.getGraph());
 		for (int i = 0; i < n; i++) {
@@ -196,6 +283,9 @@ public class SpringLayoutAlgorithm implements ILayoutAlgorithm {
 			entities = layoutContext.getNodes();
 			loadLocations();
 			initLayout(layoutContext);
+		} else {
+			// pick up locations and pinned states changed by the user
+			loadLocations();
 		}
 		bounds = LayoutProperties.getBounds(layoutContext.getGraph());
 		computeOneIteration();
@@ -203,6 +293,33 @@ public class SpringLayoutAlgorithm implements ILayoutAlgorithm {
 		layoutContext.postLayout();
 	}
 
+	/**
+	 * Returns whether or not the layout is fitted into the layout bounds after
+	 * the iterations are performed.
+	 * 
+	 * @return <code>true</code> if the layout is fitted into the layout
+	 *         bounds, otherwise <code>false</code>.
+	 */
+	public boolean isFitWithinBounds() {
+		return fitWithinBounds;
+	}
+
+	/**
+	 * Returns whether or not the pinned nodes determine the frame of the
+	 * layout.
+	 * 
+	 * @return <code>true</code> if the pinned nodes determine the frame of the
+	 *         layout, otherwise <code>false</code>.
+	 * @see #setPinnedFrame(boolean)
+	 */
+	public boolean isPinnedFrame() {
+		return pinnedFrame;
+	}
+
+	private boolean isFramedByPinnedNodes() {
+		return pinnedFrame && hasPinned;
+	}
+
 	/**
 	 * 
 	 * @return true if this algorithm is set to resize elements
@@ -221,6 +338,36 @@ public class SpringLayoutAlgorithm implements ILayoutAlgorithm {
 		resize = resizing;
 	}
 
+	/**
+	 * Specifies whether or not the layout is fitted into the layout bounds
+	 * after the iterations are performed. Fitting is enabled per default.
+	 *
+	 * @param fitWithinBounds
+	 *            <code>true</code> to fit the layout into the layout bounds,
+	 *            otherwise <code>false</code>.
+	 */
+	public void setFitWithinBounds(boolean fitWithinBounds) {
+		this.fitWithinBounds = fitWithinBounds;
+	}
+
+	/**
+	 * Specifies whether or not the pinned nodes, i.e. the nodes that are not
+	 * {@link LayoutProperties#isMovable(Node) movable}, determine the frame of
+	 * the layout. If enabled, the pinned nodes keep their locations exactly,
+	 * i.e. they are not placed randomly, and the layout is neither centered
+	 * nor fitted into the layout bounds when pinned nodes are present.
+	 * Otherwise, the pinned nodes are only excluded from the iterations, and
+	 * the layout is centered and fitted as usual. The pinned frame is disabled
+	 * per default.
+	 *
+	 * @param pinnedFrame
+	 *            <code>true</code> if the pinned nodes should determine the
+	 *            frame of the layout, otherwise <code>false</code>.
+	 */
+	public void setPinnedFrame(boolean pinnedFrame) {
+		this.pinnedFrame = pinnedFrame;
+	}
+
 	/**
 	 * Sets the spring layout move-control.
 	 * 
@@ -361,6 +508,70 @@ public class SpringLayoutAlgorithm implements ILayoutAlgorithm {
 		return sprRandom;
 	}
 
+	/**
+	 * Adds a constraint that aligns the given nodes horizontally, i.e. assigns
+	 * the same y coordinate to their centers. If one of the nodes is pinned,
+	 * the others are aligned to it.
+	 * 
+	 * @param nodes
+	 *            The {@link Node}s to align.
+	 */
+	public void addHorizontalAlignment(Node... nodes) {
+		constraints.add(new Constraint(false, nodes.clone(), Double.NaN));
+	}
+
+	/**
+	 * Adds a constraint that separates the given nodes horizontally, i.e.
+	 * ensures that the left border of the <i>right</i> node lies at least
+	 * <i>gap</i> to the right of the right border of the <i>left</i> node.
+	 * 
+	 * @param left
+	 *            The {@link Node} to place on the left side.
+	 * @param right
+	 *            The {@link Node} to place on the right side.
+	 * @param gap
+	 *            The minimum horizontal distance between the nodes.
+	 */
+	public void addHorizontalSeparation(Node left, Node right, double gap) {
+		constraints.add(new Constraint(true, new Node[] { left, right }, gap));
+	}
+
+	/**
+	 * Adds a constraint that aligns the given nodes vertically, i.e. assigns
+	 * the same x coordinate to their centers. If one of the nodes is pinned,
+	 * the others are aligned to it.
+	 * 
+	 * @param nodes
+	 *            The {@link Node}s to align.
+	 */
+	public void addVerticalAlignment(Node... nodes) {
+		constraints.add(new Constraint(true, nodes.clone(), Double.NaN));
+	}
+
+	/**
+	 * Adds a constraint that separates the given nodes vertically, i.e.
+	 * ensures that the top border of the <i>bottom</i> node lies at least
+	 * <i>gap</i> below the bottom border of the <i>top</i> node.
+	 * 
+	 * @param top
+	 *            The {@link Node} to place at the top.
+	 * @param bottom
+	 *            The {@link Node} to place at the bottom.
+	 * @param gap
+	 *            The minimum vertical distance between the nodes.
+	 */
+	public void addVerticalSeparation(Node top, Node bottom, double gap) {
+		constraints
+				.add(new Constraint(false, new Node[] { top, bottom }, gap));
+	}
+
+	/**
+	 * Removes all alignment and separation constraints.
+	 */
+	public void clearConstraints() {
+		constraints.clear();
+	}
+
 	private long startTime = 0;
 
 	private void initLayout(LayoutContext context) {
@@ -368,25 +579,46 @@ public class SpringLayoutAlgorithm implements ILayoutAlgorithm {
 		bounds = LayoutProperties.getBounds(context.getGraph());
 		loadLocations();
 
-		srcDestToSumOfWeights = new double[entities.length][entities.length];
 		HashMap<Node, Integer> entityToPosition = new HashMap<>();
 		for (int i = 0; i < entities.length; i++) {
 			entityToPosition.put(entities[i], new Integer(i));
 		}
 
+		// sum up the weights per (unordered) pair of connected nodes
+		Map<Long, Double> pairsToSumOfWeights = new LinkedHashMap<>();
 		Edge[] connections = context.getEdges();
 		for (int i = 0; i < connections.length; i++) {
 			Edge connection = connections[i];
 			Integer source = entityToPosition.get(connection.getSource());
 			Integer target = entityToPosition.get(connection.getTarget());
-			if (source == null || target == null)
+			if (source == null || target == null
+					|| source.intValue() == target.intValue())
 				continue;
 			double weight = LayoutProperties.getWeight(connection);
 			weight = (weight <= 0 ? 0.1 : weight);
-			srcDestToSumOfWeights[source.intValue()][target
-					.intValue()] += weight;
-			srcDestToSumOfWeights[target.intValue()][source
-					.intValue()] += weight;
+			long pair = (long) Math.min(source, target) * entities.length
+					+ Math.max(source, target);
+			Double sum = pairsToSumOfWeights.get(pair);
+			pairsToSumOfWeights.put(pair, sum == null ? weight : sum + weight);
+		}
+		pairCount = pairsToSumOfWeights.size();
+		pairSources = new int[pairCount];
+		pairTargets = new int[pairCount];
+		pairWeights = new double[pairCount];
+		int p = 0;
+		for (Map.Entry<Long, Double> entry : pairsToSumOfWeights.entrySet()) {
+			pairSources[p] = (int) (entry.getKey() / entities.length);
+			pairTargets[p] = (int) (entry.getKey() % entities.length);
+			pairWeights[p] = entry.getValue();
+			p++;
+		}
+
+		for (Constraint constraint : constraints) {
+			constraint.indices = new int[constraint.nodes.length];
+			for (int i = 0; i < constraint.nodes.length; i++) {
+				Integer index = entityToPosition.get(constraint.nodes[i]);
+				constraint.indices[i] = index == null ? -1 : index.intValue();
+			}
 		}
 
 		if (sprRandom)
@@ -406,8 +638,15 @@ public class SpringLayoutAlgorithm implements ILayoutAlgorithm {
 			sizeH = new double[length];
 			forcesX = new double[length];
 			forcesY = new double[length];
+			pinned = new boolean[length];
 		}
+		int freeCount = 0;
+		int[] freeIndices = new int[entities.length];
 		for (int i = 0; i < entities.length; i++) {
+			pinned[i] = !LayoutProperties.isMovable(entities[i]);
+			if (!pinned[i]) {
+				freeIndices[freeCount++] = i;
+			}
 			Point location = LayoutProperties.getLocation(entities[i]);
 			locationsX[i] = location.x;
 			locationsY[i] = location.y;
@@ -415,12 +654,19 @@ public class SpringLayoutAlgorithm implements ILayoutAlgorithm {
 			sizeW[i] = size.width;
 			sizeH[i] = size.height;
 		}
+		hasPinned = freeCount < entities.length;
+		free = freeCount < entities.length
+				? Arrays.copyOf(freeIndices, freeCount) : freeIndices;
 	}
 
 	private void saveLocations() {
 		if (entities == null)
 			return;
 		for (int i = 0; i < entities.length; i++) {
+			if (pinned[i] && pinnedFrame) {
+				// pinned nodes are not changed
+				continue;
+			}
 			// TODO ensure no dynamic layout passes are triggered as a result of
 			// storing the positions
 			// TODO: check where NaN values originate from
@@ -487,13 +733,102 @@ public class SpringLayoutAlgorithm implements ILayoutAlgorithm {
 	protected void computeOneIteration() {
 		computeForces();
 		computePositions();
+		projectConstraints();
 		Rectangle currentBounds = getLayoutBounds();
 		improveBoundScaleX(currentBounds);
 		improveBoundScaleY(currentBounds);
-		moveToCenter(currentBounds);
+		if (!isFramedByPinnedNodes()) {
+			moveToCenter(currentBounds);
+		}
 		iteration++;
 	}
 
+	/**
+	 * Moves the free nodes so that the alignment and separation constraints
+	 * are satisfied. The constraints are projected one after the other,
+	 * repeatedly, until all are satisfied or the maximum number of passes is
+	 * reached.
+	 */
+	protected void projectConstraints() {
+		for (int pass = 0; pass < PROJECTION_PASSES; pass++) {
+			boolean satisfied = true;
+			for (Constraint constraint : constraints) {
+				if (constraint.indices == null) {
+					continue;
+				}
+				double[] locations = constraint.horizontal ? locationsX
+						: locationsY;
+				if (constraint.isAlignment()) {
+					satisfied &= projectAlignment(constraint.indices,
+							locations);
+				} else {
+					satisfied &= projectSeparation(constraint.indices,
+							locations, constraint.horizontal ? sizeW : sizeH,
+							constraint.gap);
+				}
+			}
+			if (satisfied) {
+				return;
+			}
+		}
+	}
+
+	private boolean projectAlignment(int[] indices, double[] locations) {
+		// align to a pinned node, or to the mean of the free nodes
+		double target = 0;
+		int count = 0;
+		for (int i : indices) {
+			if (i < 0) {
+				continue;
+			}
+			if (pinned[i]) {
+				target = locations[i];
+				count = -1;
+				break;
+			}
+			target += locations[i];
+			count++;
+		}
+		if (count == 0) {
+			return true;
+		} else if (count > 0) {
+			target /= count;
+		}
+		boolean satisfied = true;
+		for (int i : indices) {
+			if (i >= 0 && !pinned[i]) {
+				if (Math.abs(locations[i] - target) > PROJECTION_TOLERANCE) {
+					satisfied = false;
+				}
+				locations[i] = target;
+			}
+		}
+		return satisfied;
+	}
+
+	private boolean projectSeparation(int[] indices, double[] locations,
+			double[] sizes, double gap) {
+		int a = indices[0];
+		int b = indices[1];
+		if (a < 0 || b < 0) {
+			return true;
+		}
+		double violation = gap + (sizes[a] + sizes[b]) / 2
+				- (locations[b] - locations[a]);
+		if (violation <= PROJECTION_TOLERANCE) {
+			return true;
+		}
+		if (!pinned[a] && !pinned[b]) {
+			locations[a] -= violation / 2;
+			locations[b] += violation / 2;
+		} else if (!pinned[a]) {
+			locations[a] -= violation;
+		} else if (!pinned[b]) {
+			locations[b] += violation;
+		}
+		return false;
+	}
+
 	/**
 	 * Puts vertices in random places, all between (0,0) and (1,1).
 	 */
@@ -502,6 +837,17 @@ public class SpringLayoutAlgorithm implements ILayoutAlgorithm {
 			return;
 		}
 
+		if (isFramedByPinnedNodes()) {
+			// only place the free nodes, the pinned nodes stay in place
+			for (int i : free) {
+				locationsX[i] = bounds.getX()
+						+ Math.random() * bounds.getWidth();
+				locationsY[i] = bounds.getY()
+						+ Math.random() * bounds.getHeight();
+			}
+			return;
+		}
+
 		// If only one node in the data repository, put it in the middle
 		if (locationsX.length == 1) {
 			// If only one node in the data repository, put it in the middle
@@ -541,67 +887,37 @@ public class SpringLayoutAlgorithm implements ILayoutAlgorithm {
 				locationsY[i] = this.locationsY[i];
 			}
 		}
-		// TODO: Again really really slow!
-
+		// repulsion between all pairs (dense), attraction along edges (sparse)
+		ForceKernel kernel = ForceKernel.getInstance();
+		double scaleX = 1 / (bounds.getWidth() * boundsScaleX);
+		double scaleY = 1 / (bounds.getHeight() * boundsScaleY);
+		double minDistanceSquared = MIN_DISTANCE * MIN_DISTANCE;
 		for (int k = 0; k < 2; k++) {
-			for (int i = 0; i < this.locationsX.length; i++) {
-
-				for (int j = i + 1; j < locationsX.length; j++) {
-					double dx = (locationsX[i] - locationsX[j])
-							/ bounds.getWidth() / boundsScaleX;
-					double dy = (locationsY[i] - locationsY[j])
-							/ bounds.getHeight() / boundsScaleY;
-					double distance_sq = dx * dx + dy * dy;
-					// make sure distance and distance squared not too small
-					distance_sq = Math.max(MIN_DISTANCE * MIN_DISTANCE,
-							distance_sq);
-					double distance = Math.sqrt(distance_sq);
-
-					// If there are relationships between srcObj and destObj
-					// then decrease force on srcObj (a pull) in direction of
-					// destObj
-					// If no relation between srcObj and destObj then increase
-					// force on srcObj (a push) from direction of destObj.
-					double sumOfWeights = srcDestToSumOfWeights[i][j];
-
-					double f;
-					if (sumOfWeights > 0) {
-						// nodes are pulled towards each other
-						f = -sprStrain * Math.log(distance / sprLength)
-								* sumOfWeights;
-					} else {
-						// nodes are repelled from each other
-						f = sprGravitation / (distance_sq);
-					}
-					double dfx = f * dx / distance;
-					double dfy = f * dy / distance;
-
-					forcesX[k][i] += dfx;
-					forcesY[k][i] += dfy;
-
-					forcesX[k][j] -= dfx;
-					forcesY[k][j] -= dfy;
+			kernel.computeRepulsion(locationsX, locationsY, locationsX.length,
+					scaleX, scaleY, sprGravitation, minDistanceSquared,
+					forcesX[k], forcesY[k]);
+			kernel.computeAttraction(locationsX, locationsY, pairSources,
+					pairTargets, pairWeights, pairCount, scaleX, scaleY,
+					sprStrain, sprLength, sprGravitation, minDistanceSquared,
+					forcesX[k], forcesY[k]);
+
+			// pinned nodes are not integrated
+			for (int i : free) {
+				double deltaX = sprMove * forcesX[k][i];
+				double deltaY = sprMove * forcesY[k][i];
+
+				// constrain movement, so that nodes don't shoot way off to
+				// the
+				// edge
+				double dist = Math.sqrt(deltaX * deltaX + deltaY * deltaY);
+				double maxMovement = 0.2d * sprMove;
+				if (dist > maxMovement) {
+					deltaX *= maxMovement / dist;
+					deltaY *= maxMovement / dist;
 				}
-			}
 
-			for (int i = 0; i < entities.length; i++) {
-				if (LayoutProperties.isMovable(entities[i])) {
-					double deltaX = sprMove * forcesX[k][i];
-					double deltaY = sprMove * forcesY[k][i];
-
-					// constrain movement, so that nodes don't shoot way off to
-					// the
-					// edge
-					double dist = Math.sqrt(deltaX * deltaX + deltaY * deltaY);
-					double maxMovement = 0.2d * sprMove;
-					if (dist > maxMovement) {
-						deltaX *= maxMovement / dist;
-						deltaY *= maxMovement / dist;
-					}
-
-					locationsX[i] += deltaX * bounds.getWidth() * boundsScaleX;
-					locationsY[i] += deltaY * bounds.getHeight() * boundsScaleY;
-				}
+				locationsX[i] += deltaX * bounds.getWidth() * boundsScaleX;
+				locationsY[i] += deltaY * bounds.getHeight() * boundsScaleY;
 			}
 
 		}
@@ -626,26 +942,25 @@ public class SpringLayoutAlgorithm implements ILayoutAlgorithm {
 	/**
 	 * Computes the position for each node in this SpringLayoutAlgorithm. The
 	 * computed position will be stored in the data repository. position =
-	 * position + sprMove * force
+	 * position + sprMove * force. Only the positions of free (i.e. not
+	 * pinned) nodes are computed.
 	 */
 	protected void computePositions() {
-		for (int i = 0; i < entities.length; i++) {
-			if (LayoutProperties.isMovable(entities[i])) {
-				double deltaX = sprMove * forcesX[i];
-				double deltaY = sprMove * forcesY[i];
-
-				// constrain movement, so that nodes don't shoot way off to the
-				// edge
-				double dist = Math.sqrt(deltaX * deltaX + deltaY * deltaY);
-				double maxMovement = 0.2d * sprMove;
-				if (dist > maxMovement) {
-					deltaX *= maxMovement / dist;
-					deltaY *= maxMovement / dist;
-				}
-
-				locationsX[i] += deltaX * bounds.getWidth() * boundsScaleX;
-				locationsY[i] += deltaY * bounds.getHeight() * boundsScaleY;
+		for (int i : free) {
+			double deltaX = sprMove * forcesX[i];
+			double deltaY = sprMove * forcesY[i];
+
+			// constrain movement, so that nodes don't shoot way off to the
+			// edge
+			double dist = Math.sqrt(deltaX * deltaX + deltaY * deltaY);
+			double maxMovement = 0.2d * sprMove;
+			if (dist > maxMovement) {
+				deltaX *= maxMovement / dist;
+				deltaY *= maxMovement / dist;
 			}
+
+			locationsX[i] += deltaX * bounds.getWidth() * boundsScaleX;
+			locationsY[i] += deltaY * bounds.getHeight() * boundsScaleY;
 		}
 	}
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2017 itemis AG and others.
+ * Copyright (c) 2012, 2026 itemis AG and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -37,6 +37,8 @@ import org.eclipse.gef.geometry.planar.Rectangle;
 import org.eclipse.gef.graph.Edge;
 import org.eclipse.gef.graph.Node;
 import org.eclipse.gef.layout.ILayoutAlgorithm;
+import org.eclipse.gef.layout.ILayoutMonitor;
+import org.eclipse.gef.layout.ILayoutMonitor.Phase;
 import org.eclipse.gef.layout.LayoutContext;
 import org.eclipse.gef.layout.LayoutProperties;
 
@@ -55,6 +57,11 @@ import org.eclipse.gef.layout.LayoutProperties;
  * This layout algorithm works only with - directed graphs (otherwise an
  * appropriate RuntimeException is thrown)
  * 
+ * The {@link Phase#LAYERING}, {@link Phase#CROSSING_REDUCTION}, and
+ * {@link Phase#POSITIONING} phases are reported to the {@link ILayoutMonitor}
+ * of the {@link LayoutContext}. When the layout pass is canceled, the
+ * remaining phases are skipped, i.e. node locations are left unchanged.
+ * 
  * @author Rene Kuhlemann
  * @author Adam Kovacs
  * @author mwienand
@@ -1343,9 +1350,19 @@ public class SugiyamaLayoutAlgorithm implements ILayoutAlgorithm {
 			nodes.add(node);
 			nodes2.add(node);
 		}
+		AlgorithmHelper.phaseStarted(layoutContext, Phase.LAYERING);
 		layers = layerProvider.calculateLayers(nodes);
+		AlgorithmHelper.phaseFinished(layoutContext, Phase.LAYERING);
+		if (AlgorithmHelper.isCanceled(layoutContext))
+			return;
+
+		AlgorithmHelper.phaseStarted(layoutContext, Phase.CROSSING_REDUCTION);
 		crossingReducer.crossReduction(layers);
+		AlgorithmHelper.phaseFinished(layoutContext, Phase.CROSSING_REDUCTION);
+		if (AlgorithmHelper.isCanceled(layoutContext))
+			return;
 
+		AlgorithmHelper.phaseStarted(layoutContext, Phase.POSITIONING);
 		for (List<NodeWrapper> layer : layers) {
 			if (layer.size() > last)
 				last = layer.size();
@@ -1354,6 +1371,7 @@ public class SugiyamaLayoutAlgorithm implements ILayoutAlgorithm {
 			}
 		}
 		calculatePositions(layoutContext);
+		AlgorithmHelper.phaseFinished(layoutContext, Phase.POSITIONING);
 	}
 
 	private void calculatePositions(LayoutContext context) {
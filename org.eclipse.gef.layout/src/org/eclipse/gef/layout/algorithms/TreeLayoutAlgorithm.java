@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2017 The Chisel Group and others.
+ * Copyright (c) 2005, 2026 The Chisel Group and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -22,6 +22,7 @@ import org.eclipse.gef.geometry.planar.Point;
 import org.eclipse.gef.geometry.planar.Rectangle;
 import org.eclipse.gef.graph.Node;
 import org.eclipse.gef.layout.ILayoutAlgorithm;
+import org.eclipse.gef.layout.ILayoutMonitor.Phase;
 import org.eclipse.gef.layout.LayoutContext;
 import org.eclipse.gef.layout.LayoutProperties;
 import org.eclipse.gef.layout.algorithms.TreeLayoutHelper.TreeNode;
@@ -171,12 +172,16 @@ public class TreeLayoutAlgorithm implements ILayoutAlgorithm {
 			return;
 
 		internalApplyLayout(layoutContext);
+		if (AlgorithmHelper.isCanceled(layoutContext))
+			return;
 
+		AlgorithmHelper.phaseStarted(layoutContext, Phase.FITTING);
 		Node[] entities = layoutContext.getNodes();
 		if (resize) {
 			AlgorithmHelper.maximizeSizes(entities);
 		}
 		scaleEntities(entities);
+		AlgorithmHelper.phaseFinished(layoutContext, Phase.FITTING);
 	}
 
 	private void scaleEntities(Node[] entities) {
@@ -193,15 +198,23 @@ public class TreeLayoutAlgorithm implements ILayoutAlgorithm {
 
 	/**
 	 * Performs a layout pass for the tree without scaling the entities to
-	 * maximum size / use the whole bounds.
+	 * maximum size / use the whole bounds. The computation of the tree is
+	 * reported as {@link Phase#LAYERING}, the computation of the locations as
+	 * {@link Phase#POSITIONING}, which is skipped when the layout pass is
+	 * canceled in between.
 	 * 
 	 * @param context
 	 *            The {@link LayoutContext} to use.
 	 */
 	void internalApplyLayout(LayoutContext context) {
+		AlgorithmHelper.phaseStarted(context, Phase.LAYERING);
 		treeObserver = new TreeLayoutHelper(null);
 		treeObserver.computeTree(context.getNodes());
+		AlgorithmHelper.phaseFinished(context, Phase.LAYERING);
+		if (AlgorithmHelper.isCanceled(context))
+			return;
 
+		AlgorithmHelper.phaseStarted(context, Phase.POSITIONING);
 		TreeNode superRoot = treeObserver.getSuperRoot();
 		bounds = LayoutProperties.getBounds(context.getGraph());
 		updateLeafAndLayerSizes();
@@ -212,6 +225,7 @@ public class TreeLayoutAlgorithm implements ILayoutAlgorithm {
 			computePositionRecursively(rootInfo, leafCountSoFar);
 			leafCountSoFar = leafCountSoFar + rootInfo.numOfLeaves;
 		}
+		AlgorithmHelper.phaseFinished(context, Phase.POSITIONING);
 	}
 
 	private void updateLeafAndLayerSizes() {
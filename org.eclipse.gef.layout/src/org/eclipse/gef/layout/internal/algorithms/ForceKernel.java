@@ -0,0 +1,187 @@
+/*******************************************************************************
+ * Copyright (c) 2026 itemis AG and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     itemis AG - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.layout.internal.algorithms;
+
+import org.eclipse.gef.layout.algorithms.SpringLayoutAlgorithm;
+
+/**
+ * The {@link ForceKernel} computes the pairwise forces of the
+ * {@link SpringLayoutAlgorithm} on parallel coordinate and force arrays. The
+ * repulsion between all pairs of nodes is computed by a dense, branch-free
+ * kernel over the contiguous arrays, while the attraction along edges is
+ * computed by a sparse correction that replaces the repulsion of the
+ * connected pairs.
+ * <p>
+ * This class provides the scalar implementation. A vectorized implementation
+ * (based on the incubating Vector API of JDK 16+) is used instead if the class
+ * <code>org.eclipse.gef.layout.vector.VectorForceKernel</code> and the
+ * <code>jdk.incubator.vector</code> module are available at runtime. Its use
+ * can be prevented by setting the system property
+ * <code>org.eclipse.gef.layout.vectorKernel</code> to <code>false</code>.
+ */
+public class ForceKernel {
+
+	/**
+	 * The system property that controls whether the vectorized kernel is used
+	 * (if available).
+	 */
+	public static final String VECTOR_KERNEL_PROPERTY = "org.eclipse.gef.layout.vectorKernel";
+
+	private static final String VECTOR_KERNEL_CLASS = "org.eclipse.gef.layout.vector.VectorForceKernel";
+
+	private static final ForceKernel SCALAR_KERNEL = new ForceKernel();
+
+	private static final class VectorKernelHolder {
+		private static final ForceKernel INSTANCE = loadVectorKernel();
+
+		private static ForceKernel loadVectorKernel() {
+			try {
+				return (ForceKernel) Class
+						.forName(VECTOR_KERNEL_CLASS, true,
+								ForceKernel.class.getClassLoader())
+						.getDeclaredConstructor().newInstance();
+			} catch (Exception | LinkageError e) {
+				// not available, fall back to the scalar kernel
+				return null;
+			}
+		}
+	}
+
+	/**
+	 * Returns the {@link ForceKernel} to use, i.e. the vectorized kernel if it
+	 * is available and not disabled, and the scalar kernel otherwise.
+	 *
+	 * @return The {@link ForceKernel} to use.
+	 */
+	public static ForceKernel getInstance() {
+		String vector = System.getProperty(VECTOR_KERNEL_PROPERTY);
+		if (vector == null || Boolean.parseBoolean(vector)) {
+			ForceKernel kernel = VectorKernelHolder.INSTANCE;
+			if (kernel != null) {
+				return kernel;
+			}
+		}
+		return SCALAR_KERNEL;
+	}
+
+	/**
+	 * Computes the attraction along the given (undirected) edges and adds it
+	 * to the given forces, replacing the repulsion that was computed for the
+	 * connected pairs by
+	 * {@link #computeRepulsion(double[], double[], int, double, double, double, double, double[], double[])}.
+	 *
+	 * @param x
+	 *            The x coordinates of the nodes.
+	 * @param y
+	 *            The y coordinates of the nodes.
+	 * @param sources
+	 *            The source node indices of the edges.
+	 * @param targets
+	 *            The target node indices of the edges.
+	 * @param weights
+	 *            The (summed) weights of the edges.
+	 * @param edgeCount
+	 *            The number of edges.
+	 * @param scaleX
+	 *            The factor by which x distances are scaled.
+	 * @param scaleY
+	 *            The factor by which y distances are scaled.
+	 * @param strain
+	 *            The spring strain.
+	 * @param length
+	 *            The spring length.
+	 * @param gravitation
+	 *            The gravitation (i.e. repulsion) constant.
+	 * @param minDistanceSquared
+	 *            The minimum squared distance between two nodes.
+	 * @param fx
+	 *            The x components of the forces.
+	 * @param fy
+	 *            The y components of the forces.
+	 */
+	public final void computeAttraction(double[] x, double[] y, int[] sources,
+			int[] targets, double[] weights, int edgeCount, double scaleX,
+			double scaleY, double strain, double length, double gravitation,
+			double minDistanceSquared, double[] fx, double[] fy) {
+		for (int e = 0; e < edgeCount; e++) {
+			int i = sources[e];
+			int j = targets[e];
+			double dx = (x[i] - x[j]) * scaleX;
+			double dy = (y[i] - y[j]) * scaleY;
+			double distanceSquared = Math.max(minDistanceSquared,
+					dx * dx + dy * dy);
+			double distance = Math.sqrt(distanceSquared);
+			double f = -strain * Math.log(distance / length) * weights[e]
+					- gravitation / distanceSquared;
+			double dfx = f * dx / distance;
+			double dfy = f * dy / distance;
+			fx[i] += dfx;
+			fy[i] += dfy;
+			fx[j] -= dfx;
+			fy[j] -= dfy;
+		}
+	}
+
+	/**
+	 * Computes the repulsion between all pairs of the first <i>n</i> nodes
+	 * and adds it to the given forces.
+	 *
+	 * @param x
+	 *            The x coordinates of the nodes.
+	 * @param y
+	 *            The y coordinates of the nodes.
+	 * @param n
+	 *            The number of nodes.
+	 * @param scaleX
+	 *            The factor by which x distances are scaled.
+	 * @param scaleY
+	 *            The factor by which y distances are scaled.
+	 * @param gravitation
+	 *            The gravitation (i.e. repulsion) constant.
+	 * @param minDistanceSquared
+	 *            The minimum squared distance between two nodes.
+	 * @param fx
+	 *            The x components of the forces.
+	 * @param fy
+	 *            The y components of the forces.
+	 */
+	public void computeRepulsion(double[] x, double[] y, int n, double scaleX,
+			double scaleY, double gravitation, double minDistanceSquared,
+			double[] fx, double[] fy) {
+		for (int i = 0; i < n; i++) {
+			double xi = x[i];
+			double yi = y[i];
+			double sumX = 0;
+			double sumY = 0;
+			for (int j = i + 1; j < n; j++) {
+				double dx = (xi - x[j]) * scaleX;
+				double dy = (yi - y[j]) * scaleY;
+				double distanceSquared = Math.max(minDistanceSquared,
+						dx * dx + dy * dy);
+				// f * d / |d| with f = gravitation / |d|^2
+				double s = gravitation
+						/ (distanceSquared * Math.sqrt(distanceSquared));
+				double dfx = s * dx;
+				double dfy = s * dy;
+				sumX += dfx;
+				sumY += dfy;
+				fx[j] -= dfx;
+				fy[j] -= dfy;
+			}
+			fx[i] += sumX;
+			fy[i] += sumY;
+		}
+	}
+
+}
@@ -21,7 +21,8 @@ import org.junit.runners.Suite.SuiteClasses;
 @SuiteClasses({ AbstractVisualPartTests.class, BendableTests.class, ContentSynchronizationTests.class,
 		FocusTraversalPolicyTests.class, SelectionModelTests.class, AbstractHandlePartTests.class,
 		BendConnectionPolicyTests.class, ClickDragGestureTests.class, TypeStrokeGestureTests.class, TransformPolicyTests.class,
-		FocusTraversalPolicyTests.class, ResizePolicyTests.class })
+		FocusTraversalPolicyTests.class, ResizePolicyTests.class, DeferredUpdateModeTests.class,
+		InfiniteCanvasTests.class })
 public class AllTests {
 
 }
@@ -0,0 +1,217 @@
+/*******************************************************************************
+ * Copyright (c) 2026 itemis AG and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     itemis AG - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.mvc.tests.fx;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.gef.fx.anchors.AbstractAnchor.UpdateMode;
+import org.eclipse.gef.fx.anchors.AnchorKey;
+import org.eclipse.gef.fx.anchors.ChopBoxStrategy;
+import org.eclipse.gef.fx.anchors.DynamicAnchor;
+import org.eclipse.gef.fx.anchors.DynamicAnchor.AnchorageReferenceGeometry;
+import org.eclipse.gef.fx.anchors.DynamicAnchor.AnchoredReferencePoint;
+import org.eclipse.gef.fx.anchors.OrthogonalProjectionStrategy;
+import org.eclipse.gef.fx.anchors.ProjectionStrategy;
+import org.eclipse.gef.geometry.planar.Point;
+import org.eclipse.gef.geometry.planar.ProjectionIndex;
+import org.eclipse.gef.geometry.planar.Rectangle;
+import org.eclipse.gef.mvc.tests.fx.rules.FXNonApplicationThreadRule;
+import org.junit.Rule;
+import org.junit.Test;
+
+import javafx.collections.MapChangeListener;
+
+/**
+ * Tests that the positions of {@link DynamicAnchor}s that use a deferred
+ * {@link UpdateMode} are recomputed within the next pulse.
+ */
+public class DeferredUpdateModeTests {
+
+	/**
+	 * A {@link ProjectionStrategy} that opts in to concurrent computations
+	 * and counts the computed positions.
+	 */
+	private static class CountingProjectionStrategy
+			extends ProjectionStrategy {
+		private final AtomicInteger computations = new AtomicInteger();
+
+		@Override
+		protected Point computeProjectionInScene(
+				ProjectionIndex anchorageOutlinesInScene,
+				Point anchoredReferencePointInScene,
+				Set<Parameter<?>> parameters) {
+			computations.incrementAndGet();
+			return super.computeProjectionInScene(anchorageOutlinesInScene,
+					anchoredReferencePointInScene, parameters);
+		}
+
+		@Override
+		public boolean isConcurrentComputationSupported() {
+			return true;
+		}
+	}
+
+	// more keys than are needed for a concurrent computation
+	private static final int KEYS = 200;
+
+	private static final long TIMEOUT_MILLIS = 10000;
+
+	/**
+	 * The tests are executed on a different thread, so that the JavaFX
+	 * application thread can process pulses in between.
+	 */
+	@Rule
+	public FXNonApplicationThreadRule ctx = new FXNonApplicationThreadRule();
+
+	private DynamicAnchor createAnchor(ProjectionStrategy strategy,
+			List<AnchorKey> keys) {
+		javafx.scene.shape.Rectangle anchorage = new javafx.scene.shape.Rectangle(
+				0, 0, 50, 50);
+		DynamicAnchor anchor = new DynamicAnchor(anchorage, strategy);
+		AnchorageReferenceGeometry geometry = anchor
+				.getComputationParameter(AnchorageReferenceGeometry.class);
+		geometry.unbind();
+		geometry.set(new Rectangle(0, 0, 50, 50));
+		anchor.setUpdateMode(UpdateMode.DEFERRED_PARALLEL);
+		for (int i = 0; i < KEYS; i++) {
+			AnchorKey key = new AnchorKey(
+					new javafx.scene.shape.Rectangle(100, 0, 50, 50),
+					"role" + i);
+			anchor.attach(key);
+			keys.add(key);
+		}
+		return anchor;
+	}
+
+	private boolean hasInvalidPositions(DynamicAnchor anchor,
+			List<AnchorKey> keys) {
+		for (AnchorKey key : keys) {
+			if (anchor.isPositionInvalid(key)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	@Test
+	public void concurrentComputationInherited() {
+		assertTrue(new ProjectionStrategy().isConcurrentComputationSupported());
+		assertTrue(new OrthogonalProjectionStrategy()
+				.isConcurrentComputationSupported());
+		assertTrue(new ProjectionStrategy() {
+		}.isConcurrentComputationSupported());
+		assertTrue(new OrthogonalProjectionStrategy() {
+		}.isConcurrentComputationSupported());
+		// the deprecated list based projection is not known to be thread-safe
+		assertFalse(new ProjectionStrategy(true) {
+		}.isConcurrentComputationSupported());
+		assertFalse(new ChopBoxStrategy().isConcurrentComputationSupported());
+	}
+
+	@Test
+	public void deferredUpdate() throws Throwable {
+		ctx.runAndWait(() -> {
+			List<AnchorKey> keys = new ArrayList<>();
+			DynamicAnchor anchor = createAnchor(new ProjectionStrategy(),
+					keys);
+			anchor.setUpdateMode(UpdateMode.DEFERRED);
+			AnchorKey key = keys.get(0);
+			Point initialPosition = anchor.getPosition(key);
+
+			// changes only invalidate the position
+			AtomicInteger changes = new AtomicInteger();
+			anchor.getPositionsUnmodifiable().addListener(
+					(MapChangeListener<AnchorKey, Point>) change -> changes
+							.incrementAndGet());
+			AnchoredReferencePoint referencePoint = anchor
+					.getComputationParameter(key,
+							AnchoredReferencePoint.class);
+			referencePoint.set(new Point(125, 10));
+			referencePoint.set(new Point(125, 20));
+			referencePoint.set(new Point(125, 25));
+			assertTrue(anchor.isPositionInvalid(key));
+			assertEquals(initialPosition, anchor.getPosition(key));
+			assertEquals(0, changes.get());
+
+			// validation recomputes the position once
+			anchor.validatePositions();
+			assertFalse(anchor.isPositionInvalid(key));
+			assertEquals(new Point(50, 25), anchor.getPosition(key));
+			assertEquals(1, changes.get());
+
+			// switching back to the immediate mode validates all positions
+			referencePoint.set(new Point(125, 40));
+			assertTrue(anchor.isPositionInvalid(key));
+			anchor.setUpdateMode(UpdateMode.IMMEDIATE);
+			assertFalse(anchor.isPositionInvalid(key));
+			assertEquals(new Point(50, 40), anchor.getPosition(key));
+
+			// detaching discards the invalid position
+			anchor.setUpdateMode(UpdateMode.DEFERRED);
+			referencePoint.set(new Point(125, 30));
+			assertTrue(anchor.isPositionInvalid(key));
+			anchor.detach(key);
+			assertFalse(anchor.isPositionInvalid(key));
+		});
+	}
+
+	@Test
+	public void parallelUpdateWithinPulse() throws Throwable {
+		CountingProjectionStrategy strategy = new CountingProjectionStrategy();
+		List<AnchorKey> keys = new ArrayList<>();
+		DynamicAnchor anchor = ctx.runAndWait(() -> {
+			return createAnchor(strategy, keys);
+		});
+
+		// invalidate all positions (on the JavaFX application thread), so
+		// that they are recomputed within the next pulse
+		ctx.runAndWait(() -> {
+			strategy.computations.set(0);
+			for (int i = 0; i < KEYS; i++) {
+				anchor.getComputationParameter(keys.get(i),
+						AnchoredReferencePoint.class)
+						.set(new Point(125, i % 50));
+			}
+			assertTrue(hasInvalidPositions(anchor, keys));
+			assertEquals(0, strategy.computations.get());
+		});
+
+		// wait for the pulse
+		long startMillis = System.currentTimeMillis();
+		while (ctx.runAndWait(() -> {
+			return hasInvalidPositions(anchor, keys);
+		})) {
+			assertTrue(System.currentTimeMillis()
+					- startMillis < TIMEOUT_MILLIS);
+			Thread.sleep(10);
+		}
+
+		// each position is computed once
+		ctx.runAndWait(() -> {
+			assertEquals(KEYS, strategy.computations.get());
+			for (int i = 0; i < KEYS; i++) {
+				assertEquals(new Point(50, i % 50),
+						anchor.getPosition(keys.get(i)));
+			}
+		});
+	}
+
+}
@@ -0,0 +1,321 @@
+/*******************************************************************************
+ * Copyright (c) 2026 itemis AG and others.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     itemis AG - initial API and implementation
+ *
+ *******************************************************************************/
+package org.eclipse.gef.mvc.tests.fx;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+
+import org.eclipse.gef.fx.nodes.CanvasLayer;
+import org.eclipse.gef.fx.nodes.CanvasLayer.Item;
+import org.eclipse.gef.fx.nodes.InfiniteCanvas;
+import org.eclipse.gef.geometry.planar.Line;
+import org.eclipse.gef.geometry.planar.Point;
+import org.eclipse.gef.mvc.tests.fx.rules.FXApplicationThreadRule;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import javafx.geometry.BoundingBox;
+import javafx.scene.Group;
+import javafx.scene.Node;
+import javafx.scene.paint.Color;
+import javafx.scene.shape.Rectangle;
+
+/**
+ * Tests the content culling, the (incrementally computed) content bounds, and
+ * the {@link CanvasLayer} of the {@link InfiniteCanvas}.
+ */
+public class InfiniteCanvasTests {
+
+	@Rule
+	public FXApplicationThreadRule fxApplicationThreadRule = new FXApplicationThreadRule();
+
+	private InfiniteCanvas canvas;
+	private Rectangle inside;
+	private Rectangle outside;
+
+	private static Item createItem(double x, double y, double width,
+			double height) {
+		return new Item(new org.eclipse.gef.geometry.planar.Rectangle(x, y,
+				width, height), Color.RED, null, 0);
+	}
+
+	@Before
+	public void createCanvas() {
+		canvas = new InfiniteCanvas();
+		canvas.setCullingMargin(0);
+		canvas.resize(200, 200);
+		inside = new Rectangle(10, 10, 50, 50);
+		outside = new Rectangle(1000, 1000, 50, 50);
+		canvas.getContentGroup().getChildren().addAll(inside, outside);
+	}
+
+	/**
+	 * Moves the given child into the visible area of the canvas and culls.
+	 */
+	private void moveInside(Rectangle child) {
+		child.setTranslateX(10 - child.getX());
+		child.setTranslateY(10 - child.getY());
+		canvas.layout();
+	}
+
+	@Test
+	public void applicationHidesCulledChild() {
+		canvas.setCullContent(true);
+		canvas.layout();
+		assertTrue(canvas.isCulled(outside));
+
+		// showing and hiding the culled child hands it over to the application
+		outside.setVisible(true);
+		outside.setVisible(false);
+		assertFalse(canvas.isCulled(outside));
+		moveInside(outside);
+		assertFalse(outside.isVisible());
+	}
+
+	@Test
+	public void applicationHiddenChildNotShown() {
+		outside.setVisible(false);
+		canvas.setCullContent(true);
+		canvas.layout();
+		assertFalse(canvas.isCulled(outside));
+		moveInside(outside);
+		assertFalse(outside.isVisible());
+	}
+
+	@Test
+	public void applicationShowsCulledChild() {
+		canvas.setCullContent(true);
+		canvas.layout();
+		assertTrue(canvas.isCulled(outside));
+
+		// the child is no longer culled, but hidden again during the next pass
+		outside.setVisible(true);
+		assertFalse(canvas.isCulled(outside));
+		canvas.layout();
+		assertTrue(canvas.isCulled(outside));
+		assertFalse(outside.isVisible());
+	}
+
+	@Test
+	public void canvasLayerHitTesting() {
+		CanvasLayer layer = canvas.getCanvasLayer();
+		Item fill = createItem(0, 0, 100, 100);
+		Item line = new Item(new Line(300, 0, 300, 500), null, Color.BLACK,
+				2);
+		layer.addItems(Arrays.asList(fill, line));
+		assertSame(fill, layer.getItemAt(new Point(25, 25)));
+		assertNull(layer.getItemAt(new Point(200, 25)));
+
+		// the stroke is extended by a single pixel
+		assertSame(line, layer.getItemAt(new Point(301.5, 25)));
+		assertNull(layer.getItemAt(new Point(303, 25)));
+
+		// removed items are no longer hit
+		layer.removeItem(fill);
+		assertNull(layer.getItemAt(new Point(25, 25)));
+	}
+
+	@Test
+	public void canvasLayerItemsIncludedInContentBounds() {
+		CanvasLayer layer = canvas.getCanvasLayer();
+		Item item = createItem(-100, -100, 50, 50);
+		layer.addItem(item);
+		assertEquals(new BoundingBox(-100, -100, 1150, 1150),
+				canvas.getContentBounds());
+		layer.removeItem(item);
+		assertEquals(new BoundingBox(10, 10, 1040, 1040),
+				canvas.getContentBounds());
+
+		// the items are included even if there are no children
+		canvas.getContentGroup().getChildren().clear();
+		layer.addItem(item);
+		assertEquals(new BoundingBox(-100, -100, 50, 50),
+				canvas.getContentBounds());
+	}
+
+	@Test
+	public void canvasLayerPaintOrder() {
+		CanvasLayer layer = canvas.getCanvasLayer();
+		Item lower = createItem(0, 0, 100, 100);
+		Item upper = createItem(50, 50, 100, 100);
+		layer.addItem(lower);
+		layer.addItem(upper);
+		// adding an item twice does not change the paint order
+		layer.addItem(lower);
+		assertEquals(Arrays.asList(lower, upper), layer.getItems());
+
+		// the topmost item is selected where the items overlap
+		assertSame(upper, layer.getItemAt(new Point(75, 75)));
+		assertSame(lower, layer.getItemAt(new Point(25, 25)));
+
+		// promoting an item does not change the paint order
+		layer.promote(lower);
+		assertSame(upper, layer.getItemAt(new Point(75, 75)));
+		assertEquals(Arrays.asList(lower, upper), layer.getItems());
+	}
+
+	@Test
+	public void canvasLayerPromoteAndDemote() {
+		CanvasLayer layer = canvas.getCanvasLayer();
+		Item item = createItem(0, 0, 100, 100);
+		layer.addItem(item);
+		assertFalse(layer.isPromoted(item));
+		assertNull(layer.getPromotedNode(item));
+
+		Node node = layer.promote(item);
+		assertTrue(layer.isPromoted(item));
+		assertSame(node, layer.getPromotedNode(item));
+		assertSame(node, layer.promote(item));
+		assertNotNull(node.getParent());
+
+		layer.demote(item);
+		assertFalse(layer.isPromoted(item));
+		assertNull(layer.getPromotedNode(item));
+		assertNull(node.getParent());
+
+		// removing a promoted item removes its node as well
+		node = layer.promote(item);
+		layer.removeItem(item);
+		assertNull(node.getParent());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void canvasLayerPromoteUnknownItem() {
+		canvas.getCanvasLayer().promote(createItem(0, 0, 100, 100));
+	}
+
+	@Test
+	public void contentBoundsIncludeCulledChildren() {
+		canvas.setCullContent(true);
+		canvas.layout();
+		assertTrue(canvas.isCulled(outside));
+		assertEquals(new BoundingBox(10, 10, 1040, 1040),
+				canvas.getContentBounds());
+
+		// the culled child is no longer included when the application hides it
+		outside.setVisible(true);
+		outside.setVisible(false);
+		assertEquals(new BoundingBox(10, 10, 50, 50),
+				canvas.getContentBounds());
+	}
+
+	@Test
+	public void contentBoundsOfNestedCulledGroup() {
+		Rectangle nestedInside = new Rectangle(10, 10, 50, 50);
+		Rectangle nestedOutside = new Rectangle(2000, 2000, 50, 50);
+		Group nested = new Group(nestedInside, nestedOutside);
+		InfiniteCanvas nestedCanvas = new InfiniteCanvas() {
+			@Override
+			protected Group getCulledGroup() {
+				return nested;
+			}
+		};
+		nestedCanvas.setCullingMargin(0);
+		nestedCanvas.resize(200, 200);
+		nestedCanvas.getContentGroup().getChildren().add(nested);
+		nestedCanvas.setCullContent(true);
+		nestedCanvas.layout();
+		assertTrue(nestedCanvas.isCulled(nestedOutside));
+		assertFalse(nestedCanvas.isCulled(nestedInside));
+		assertEquals(new BoundingBox(10, 10, 2040, 2040),
+				nestedCanvas.getContentBounds());
+
+		// changes of the culled child are reflected
+		nestedOutside.setWidth(10);
+		assertEquals(new BoundingBox(10, 10, 2000, 2040),
+				nestedCanvas.getContentBounds());
+		nested.getChildren().remove(nestedOutside);
+		assertEquals(new BoundingBox(10, 10, 50, 50),
+				nestedCanvas.getContentBounds());
+
+		// without culling, only the visible children are included
+		nested.getChildren().add(nestedOutside);
+		nestedCanvas.setCullContent(false);
+		assertEquals(new BoundingBox(10, 10, 2000, 2040),
+				nestedCanvas.getContentBounds());
+		nestedOutside.setVisible(false);
+		assertEquals(new BoundingBox(10, 10, 50, 50),
+				nestedCanvas.getContentBounds());
+	}
+
+	@Test
+	public void contentBoundsShrinkWhenBoundaryChildRemoved() {
+		assertEquals(new BoundingBox(10, 10, 1040, 1040),
+				canvas.getContentBounds());
+		canvas.getContentGroup().getChildren().remove(outside);
+		assertEquals(new BoundingBox(10, 10, 50, 50),
+				canvas.getContentBounds());
+		canvas.getContentGroup().getChildren().add(outside);
+		assertEquals(new BoundingBox(10, 10, 1040, 1040),
+				canvas.getContentBounds());
+	}
+
+	@Test
+	public void contentBoundsShrinkWhenBoundaryChildShrinks() {
+		assertEquals(new BoundingBox(10, 10, 1040, 1040),
+				canvas.getContentBounds());
+		outside.setWidth(10);
+		assertEquals(new BoundingBox(10, 10, 1000, 1040),
+				canvas.getContentBounds());
+		// the union still starts at the (shrunken) inner child
+		inside.setHeight(10);
+		assertEquals(new BoundingBox(10, 10, 1000, 1040),
+				canvas.getContentBounds());
+	}
+
+	@Test
+	public void contentBoundsWhenVisibilityChanges() {
+		outside.setVisible(false);
+		assertEquals(new BoundingBox(10, 10, 50, 50),
+				canvas.getContentBounds());
+		outside.setVisible(true);
+		assertEquals(new BoundingBox(10, 10, 1040, 1040),
+				canvas.getContentBounds());
+		inside.setVisible(false);
+		assertEquals(new BoundingBox(1000, 1000, 50, 50),
+				canvas.getContentBounds());
+	}
+
+	@Test
+	public void cullChildrenOutsideOfViewport() {
+		canvas.setCullContent(true);
+		canvas.layout();
+		assertFalse(canvas.isCulled(inside));
+		assertTrue(inside.isVisible());
+		assertTrue(canvas.isCulled(outside));
+		assertFalse(outside.isVisible());
+
+		// the child is shown when it enters the visible area
+		moveInside(outside);
+		assertFalse(canvas.isCulled(outside));
+		assertTrue(outside.isVisible());
+	}
+
+	@Test
+	public void uncullContent() {
+		canvas.setCullContent(true);
+		canvas.layout();
+		canvas.setCullContent(false);
+		assertFalse(canvas.isCulled(outside));
+		assertTrue(outside.isVisible());
+	}
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2014, 2017 itemis AG and others.
+ * Copyright (c) 2014, 2026 itemis AG and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which is available at
@@ -13,8 +13,14 @@
  *******************************************************************************/
 package org.eclipse.gef.zest.fx.behaviors;
 
+import java.util.List;
+
+import org.eclipse.gef.geometry.planar.Point;
+import org.eclipse.gef.graph.Edge;
 import org.eclipse.gef.layout.LayoutContext;
+import org.eclipse.gef.layout.LayoutProperties;
 import org.eclipse.gef.mvc.fx.parts.IContentPart;
+import org.eclipse.gef.zest.fx.ZestProperties;
 import org.eclipse.gef.zest.fx.parts.EdgePart;
 
 import javafx.scene.Node;
@@ -29,6 +35,9 @@ import javafx.scene.Node;
 // only applicable for EdgePart (see #getHost())
 public class EdgeLayoutBehavior extends AbstractLayoutBehavior {
 
+	// the control points that were transferred from the bend points
+	private List<Point> routedControlPoints;
+
 	@Override
 	public EdgePart getHost() {
 		return (EdgePart) super.getHost();
@@ -43,6 +52,21 @@ public class EdgeLayoutBehavior extends AbstractLayoutBehavior {
 
 	@Override
 	protected void postLayout() {
+		// transfer bend points computed by an edge routing layout algorithm
+		Edge edge = getHost().getContent();
+		List<Point> bendPoints = LayoutProperties.getBendPoints(edge);
+		if (bendPoints != null) {
+			ZestProperties.setControlPoints(edge, bendPoints);
+			routedControlPoints = bendPoints;
+		} else if (routedControlPoints != null) {
+			// remove the control points of a previous layout pass if the edge
+			// is no longer routed, unless they were changed in the meantime
+			if (ZestProperties.getControlPoints(edge) == routedControlPoints) {
+				ZestProperties.setControlPoints(edge, (List<Point>) null);
+			}
+			routedControlPoints = null;
+		}
+
 		// refresh visual
 		getHost().refreshVisual();
 
@@ -52,5 +76,8 @@ public class EdgeLayoutBehavior extends AbstractLayoutBehavior {
 
 	@Override
 	protected void preLayout() {
+		// remove stale bend points, so that only those bend points are
+		// transferred that were computed within this layout pass
+		LayoutProperties.setBendPoints(getHost().getContent(), null);
 	}
 }